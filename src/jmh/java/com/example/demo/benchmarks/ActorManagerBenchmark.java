@@ -0,0 +1,66 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.actors.GameEntity;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one {@link ActorManager#update()}: updating every active actor and applying the scene changes.
+ * <p>
+ * The scene root is a detached {@link Group}, so the benchmark runs without the JavaFX toolkit. The actors keep
+ * moving across iterations; none of them leaves the game, so the population stays the same size.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActorManagerBenchmark {
+
+    /**
+     * The number of active actors.
+     */
+    @Param({"10", "100", "1000", "5000"})
+    public int actorCount;
+
+    /**
+     * The actor manager under test.
+     */
+    private ActorManager actorManager;
+
+    /**
+     * Fills the actor manager with the population and applies it to the scene once.
+     */
+    @Setup
+    public void setUp() {
+        actorManager = ActorManager.getInstance();
+        actorManager.clearLevel();
+        actorManager.setRoot(new Group());
+        for (GameEntity actor : BenchmarkActors.createPopulation(actorCount)) {
+            actorManager.addActor(actor);
+        }
+        actorManager.update();
+    }
+
+    /**
+     * Runs one update of every actor.
+     *
+     * @return The number of active actors, so the work cannot be eliminated.
+     */
+    @Benchmark
+    public int update() {
+        actorManager.update();
+        return actorManager.getActiveActors().size();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.activityManagers.ImageCache;
+import com.example.demo.actors.GameEntity;
+import com.example.demo.actors.Planes.enemyPlanes.EnemyPlane;
+import com.example.demo.actors.Projectiles.enemyProjectiles.EnemyProjectile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds reproducible populations of actors for the benchmarks.
+ * <p>
+ * Actors are created with the {@link ImageCache} in headless mode, so the benchmarks that only need the simulation do
+ * not have to start the JavaFX toolkit. The population is a mix of enemy planes and enemy projectiles scattered over a
+ * 1600 by 900 screen. These categories never respond to each other, so collision benchmarks measure finding and
+ * filtering candidate pairs without the responses changing the population between invocations.
+ * </p>
+ */
+final class BenchmarkActors {
+
+    /**
+     * The width of the screen the actors are scattered over.
+     */
+    static final double SCREEN_WIDTH = 1600;
+
+    /**
+     * The height of the screen the actors are scattered over.
+     */
+    static final double SCREEN_HEIGHT = 900;
+
+    /**
+     * The seed used for every population, so each run measures the same layout.
+     */
+    private static final long SEED = 2024;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private BenchmarkActors() {}
+
+    /**
+     * Creates a population of the given size, one enemy plane for every three enemy projectiles.
+     *
+     * @param count The number of actors to create.
+     * @return The actors, in creation order.
+     */
+    static List<GameEntity> createPopulation(int count) {
+        ImageCache.getInstance().setHeadless(true);
+        return createPopulation(count, 0, SCREEN_HEIGHT);
+    }
+
+    /**
+     * Creates a population of the given size within a horizontal band of the screen, using whatever image mode the
+     * {@link ImageCache} is in.
+     *
+     * @param count The number of actors to create.
+     * @param minY  The top of the band.
+     * @param maxY  The bottom of the band.
+     * @return The actors, in creation order.
+     */
+    static List<GameEntity> createPopulation(int count, double minY, double maxY) {
+        Random random = new Random(SEED);
+        List<GameEntity> actors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * SCREEN_WIDTH;
+            double y = minY + random.nextDouble() * (maxY - minY);
+            actors.add(i % 4 == 0 ? new EnemyPlane(x, y) : new EnemyProjectile(x, y));
+        }
+        return actors;
+    }
+}
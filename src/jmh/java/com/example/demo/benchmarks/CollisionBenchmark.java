@@ -0,0 +1,88 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.activityManagers.CollisionHandler;
+import com.example.demo.activityManagers.collision.BroadPhase;
+import com.example.demo.activityManagers.collision.BruteForceBroadPhase;
+import com.example.demo.activityManagers.collision.SweepAndPruneBroadPhase;
+import com.example.demo.activityManagers.collision.UniformGridBroadPhase;
+import com.example.demo.activityManagers.events.GameEventBus;
+import com.example.demo.actors.GameEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+/**
+ * Measures {@link CollisionHandler#checkCollisions(List)} for each broad phase at increasing actor counts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    /**
+     * The number of active actors.
+     */
+    @Param({"10", "100", "1000", "5000"})
+    public int actorCount;
+
+    /**
+     * The broad phase used to find candidate pairs.
+     */
+    @Param({"sweepAndPrune", "uniformGrid", "bruteForce"})
+    public String broadPhase;
+
+    /**
+     * The collision handler under test.
+     */
+    private CollisionHandler collisionHandler;
+
+    /**
+     * The actors checked on every invocation.
+     */
+    private List<GameEntity> actors;
+
+    /**
+     * Builds the population and a collision handler using the selected broad phase.
+     */
+    @Setup
+    public void setUp() {
+        actors = BenchmarkActors.createPopulation(actorCount);
+        collisionHandler = new CollisionHandler(new GameEventBus()); // No pair in this population publishes events
+        collisionHandler.setBroadPhase(createBroadPhase());
+    }
+
+    /**
+     * Creates the broad phase named by the {@code broadPhase} parameter.
+     *
+     * @return The broad phase.
+     */
+    private BroadPhase createBroadPhase() {
+        return switch (broadPhase) {
+            case "uniformGrid" -> new UniformGridBroadPhase();
+            case "bruteForce" -> new BruteForceBroadPhase();
+            default -> new SweepAndPruneBroadPhase();
+        };
+    }
+
+    /**
+     * Checks every actor against every other once.
+     *
+     * @return The number of candidate pairs, so the work cannot be eliminated.
+     */
+    @Benchmark
+    public int checkCollisions() {
+        collisionHandler.checkCollisions(actors);
+        return collisionHandler.getLastCandidatePairCount();
+    }
+}
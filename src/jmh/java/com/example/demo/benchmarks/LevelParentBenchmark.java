@@ -0,0 +1,161 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.actors.GameEntity;
+import com.example.demo.controller.AppStage;
+import com.example.demo.displays.RenderLayer;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelView;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Measures {@link LevelParent#update()}: collision checks, coin and magnet spawning, the game-over checks and the
+ * defence-penetration sweep, with a given number of actors on screen.
+ * <p>
+ * A level still builds a {@code Scene}, its {@link LevelView} and the audio players when it is constructed, so this
+ * benchmark starts the JavaFX toolkit and needs a display (or a headless Glass platform such as Monocle).
+ * The level under test is a minimal subclass that never ends and never spawns enemies, so only the shared
+ * {@link LevelParent} work is measured. The population is placed below the user so the level is not lost mid-run.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelParentBenchmark {
+
+    /**
+     * The number of actors on screen besides the user.
+     */
+    @Param({"10", "100", "1000", "5000"})
+    public int actorCount;
+
+    /**
+     * The level under test.
+     */
+    private BenchmarkLevel level;
+
+    /**
+     * The actors on screen besides the user.
+     */
+    private List<GameEntity> population;
+
+    /**
+     * Starts the toolkit, then builds the stage and the level on the JavaFX application thread.
+     *
+     * @throws Exception If the level could not be built.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException alreadyStarted) {
+            // The toolkit is already running in this fork
+        }
+        CompletableFuture<BenchmarkLevel> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                Stage stage = new Stage();
+                stage.setWidth(BenchmarkActors.SCREEN_WIDTH);
+                stage.setHeight(BenchmarkActors.SCREEN_HEIGHT);
+                AppStage.getInstance().setPrimaryStage(stage);
+                future.complete(new BenchmarkLevel());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        level = future.get();
+        population = BenchmarkActors.createPopulation(actorCount,
+                level.getUser().getMaxY() + 50, BenchmarkActors.SCREEN_HEIGHT);
+    }
+
+    /**
+     * Puts the user and the population on screen and drops the coins and magnets queued during the previous iteration.
+     */
+    @Setup(Level.Iteration)
+    public void resetActors() {
+        level.actorManager.clearLevel();
+        level.actorManager.addActor(level.getUser());
+        population.forEach(level.actorManager::addActor);
+        level.actorManager.update(); // Commit the actors so the manager's registries include them
+        level.currentNumberOfCoins = 0;
+        level.currentNumberOfMagnets = 0;
+    }
+
+    /**
+     * Runs one level update.
+     *
+     * @return The number of coins spawned so far, so the work cannot be eliminated.
+     */
+    @Benchmark
+    public int update() {
+        level.update();
+        return level.currentNumberOfCoins;
+    }
+
+    /**
+     * A level that does nothing beyond what {@link LevelParent} itself does each tick.
+     */
+    private static class BenchmarkLevel extends LevelParent {
+
+        /**
+         * Constructs the level with the benchmark screen size and the first level's definition.
+         */
+        BenchmarkLevel() {
+            super("/com/example/demo/images/level1Background.jpg", BenchmarkActors.SCREEN_HEIGHT,
+                    BenchmarkActors.SCREEN_WIDTH, LevelDefinition.load("/com/example/demo/levels/level1.properties"));
+        }
+
+        /**
+         * Enemies are placed by the benchmark rather than spawned.
+         */
+        @Override
+        protected void spawnEnemyUnits() {}
+
+        /**
+         * Creates the standard level view.
+         *
+         * @return The level view.
+         */
+        @Override
+        protected LevelView instantiateLevelView() {
+            return new LevelView(getLayer(RenderLayer.HUD), 5, 100, 0);
+        }
+
+        /**
+         * The benchmark level is never lost.
+         *
+         * @return Always {@code false}.
+         */
+        @Override
+        protected boolean hasLevelBeenLost() {
+            return false;
+        }
+
+        /**
+         * The benchmark level is never won.
+         *
+         * @return Always {@code false}.
+         */
+        @Override
+        protected boolean hasLevelBeenWon() {
+            return false;
+        }
+    }
+}
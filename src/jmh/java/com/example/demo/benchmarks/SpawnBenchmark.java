@@ -0,0 +1,124 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.activityManagers.RandomStreams;
+import com.example.demo.activityManagers.SpawnArea;
+import com.example.demo.activityManagers.SpawnHandler;
+import com.example.demo.actors.GameEntity;
+import com.example.demo.actors.Planes.enemyPlanes.EnemyPlane;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Measures {@link SpawnHandler#spawnActors(SpawnHandler.ActorFactory, SpawnArea, int, double, int, int)} placing a
+ * wave of enemies into a screen that already holds a given number of actors.
+ * <p>
+ * The factory repositions a single enemy plane rather than creating one, so the numbers cover placement (indexing the
+ * occupied regions and testing candidates) and not actor construction, which the pools already avoid in the game.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchmark {
+
+    /**
+     * The number of actors already on screen.
+     */
+    @Param({"10", "100", "1000", "5000"})
+    public int actorCount;
+
+    /**
+     * The number of enemies each spawn pass tries to place.
+     */
+    private static final int WAVE_SIZE = 5;
+
+    /**
+     * The seed of the random streams, fixed so every run draws the same candidate positions.
+     */
+    private static final long SEED = 1;
+
+    /**
+     * The actor manager whose active actors are indexed on every pass.
+     */
+    private ActorManager actorManager;
+
+    /**
+     * The spawn handler under test.
+     */
+    private SpawnHandler spawnHandler;
+
+    /**
+     * The area enemies are spawned in: the right-hand edge of the screen, as in the first level.
+     */
+    private SpawnArea spawnArea;
+
+    /**
+     * The enemy repositioned by the factory.
+     */
+    private EnemyPlane enemy;
+
+    /**
+     * The random stream the spawn handler and the enemy draw from.
+     */
+    private RandomGenerator random;
+
+    /**
+     * The actors on screen.
+     */
+    private List<GameEntity> population;
+
+    /**
+     * Builds the population and the spawn handler.
+     */
+    @Setup
+    public void setUp() {
+        population = BenchmarkActors.createPopulation(actorCount);
+        actorManager = ActorManager.getInstance();
+        actorManager.setRoot(new Group());
+        random = new RandomStreams(SEED).spawning();
+        spawnHandler = new SpawnHandler(actorManager, BenchmarkActors.SCREEN_WIDTH, BenchmarkActors.SCREEN_HEIGHT,
+                random);
+        spawnArea = new SpawnArea(0, BenchmarkActors.SCREEN_WIDTH, 0, BenchmarkActors.SCREEN_HEIGHT);
+        enemy = new EnemyPlane(0, 0);
+    }
+
+    /**
+     * Puts the population back on screen and drops the actors spawned during the previous iteration,
+     * which are otherwise only queued for addition.
+     */
+    @Setup(Level.Iteration)
+    public void resetActors() {
+        actorManager.clearLevel();
+        population.forEach(actorManager::addActor);
+        actorManager.update(); // Commit the population
+    }
+
+    /**
+     * Runs one spawn pass.
+     *
+     * @return The number of enemies placed.
+     */
+    @Benchmark
+    public int spawnActors() {
+        return spawnHandler.spawnActors((x, y) -> {
+            enemy.reset(x, y, random);
+            return enemy;
+        }, spawnArea, WAVE_SIZE, 1, 0, WAVE_SIZE);
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.demo.activityManagers;
 
+import com.example.demo.activityManagers.profiling.FrameProfiler;
+import com.example.demo.actors.ActorPools;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
+import com.example.demo.actors.Interpolatable;
 import com.example.demo.actors.Planes.friendlyPlanes.UserParent;
 import com.example.demo.actors.Updatable;
+import com.example.demo.displays.RenderLayer;
+import com.example.demo.displays.SceneLayers;
 import javafx.scene.Group;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Manages all actors in the game, including adding, removing, and updating them.
@@ -16,18 +25,40 @@ import java.util.ArrayList;
  * This implementation improves memory efficiency and performance by consolidating actors into a single list,
  * properly removing them from the scene when destroyed or off-screen, and streamlining the update process.
  * </p>
+ * <p>
+ * Active actors are indexed by identity, so adding, finding and removing an actor takes constant time no matter how many
+ * are on screen. Removals swap the last actor into the freed slot, so the order of the active list is not preserved.
+ * Actors are drawn in the {@link RenderLayer} of their collision category: obstacles, actors or projectiles. Each update
+ * commits the frame's additions and removals to each of those layer groups with one bulk change each, and only to the
+ * layers that changed, instead of changing the scene graph once per actor. The other layers of the scene are never
+ * touched here.
+ * </p>
+ * <p>
+ * Pooled actors (see {@link ActorPools}) are returned to their pool once their removal has been committed.
+ * </p>
+ * <p>
+ * Besides the active list, active actors are kept in one registry per {@link CollisionCategory} and one for all
+ * collectibles, updated as actors are committed and removed. Code that only cares about one kind of actor (the enemies
+ * that fire, the coins a magnet pulls in) walks that registry instead of filtering every actor, and the user's vehicle
+ * is held in a field.
+ * </p>
+ * <p>
+ * Kinematic actors (see {@link GameEntity#isKinematic()}) are not updated one by one. Their bodies are registered with a
+ * {@link MovementSystem}, which moves them all in one batch after the other actors have been updated.
+ * </p>
  */
-public class ActorManager implements Updatable {
+public class ActorManager implements Updatable, Interpolatable {
 
     /**
      * Singleton instance of the ActorManager. Ensures only one instance exists globally.
+     * Volatile so the double-checked locking in {@link #getInstance()} publishes it safely to every thread.
      */
-    private static ActorManager instance;
+    private static volatile ActorManager instance;
 
     /**
-     * The root {@link Group} node for the JavaFX scene. This node contains all visual elements.
+     * The layer groups of the current level's scene. Actors are drawn in the layers that hold actors.
      */
-    private static Group root;
+    private SceneLayers sceneLayers;
 
     /**
      * A thread-safe list of actors to be added during the next update cycle.
@@ -53,13 +84,71 @@ public class ActorManager implements Updatable {
      */
     public final List<GameEntity> activeActors = Collections.synchronizedList(new ArrayList<>());
 
+    /**
+     * The position of every active actor in {@link #activeActors}, keyed by identity.
+     * <p>
+     * This gives constant-time membership checks and lets a removed actor be swapped out of its slot directly.
+     * </p>
+     */
+    private final Map<GameEntity, Integer> activeIndex = new IdentityHashMap<>();
+
+    /**
+     * The additions and removals of the current scene update for each layer, indexed by {@link RenderLayer#ordinal()}.
+     * Only the layers that hold actors have a batch.
+     */
+    private final LayerBatch[] layerBatches = new LayerBatch[RenderLayer.values().length];
+
+    /**
+     * The active actors of each collision category, indexed by {@link CollisionCategory#ordinal()}.
+     */
+    private final ActorRegistry[] categoryRegistries = new ActorRegistry[CollisionCategory.values().length];
+
+    /**
+     * The active actors that can be collected by the user: coins, fuel tokens and magnets.
+     */
+    private final ActorRegistry collectibles = new ActorRegistry();
+
+    /**
+     * The active actors that are not kinematic and so update themselves.
+     */
+    private final ActorRegistry updatedActors = new ActorRegistry();
+
+    /**
+     * Moves the bodies of all active kinematic actors in one batch every update.
+     */
+    private final MovementSystem movementSystem = new MovementSystem();
+
+    /**
+     * The user's vehicle, if it is active.
+     */
+    private UserParent userVehicle;
+
+    /**
+     * The pools that removed projectiles, coins and enemies are returned to.
+     */
+    private final ActorPools actorPools = ActorPools.getInstance();
+
+    /**
+     * The profiler timing the actor and scene updates.
+     */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
     /**
      * Private constructor to prevent direct instantiation.
      * <p>
      * This ensures the Singleton pattern is upheld and only one {@link ActorManager} instance is created.
      * </p>
      */
-    private ActorManager() {}
+    private ActorManager() {
+        for (int i = 0; i < categoryRegistries.length; i++) {
+            categoryRegistries[i] = new ActorRegistry();
+        }
+        for (RenderLayer layer : RenderLayer.values()) {
+            if (layer.holdsActors()) {
+                layerBatches[layer.ordinal()] = new LayerBatch(layer);
+            }
+        }
+    }
 
     /**
      * Retrieves the Singleton instance of {@link ActorManager}.
@@ -110,45 +199,249 @@ public class ActorManager implements Updatable {
         }
     }
 
+    /**
+     * Checks whether the given actor is currently active.
+     *
+     * @param actor The actor to look up.
+     * @return {@code true} if the actor is in the active list, {@code false} otherwise.
+     */
+    public boolean isActive(GameEntity actor) {
+        return activeIndex.containsKey(actor);
+    }
+
     /**
      * Updates the scene by adding and removing actors based on their status.
      * <p>
-     * Actors flagged for removal are removed from the {@link Group} root and the active list.
-     * New actors are added to the root and marked as active.
+     * Actors flagged for removal are removed from the active list and new actors are marked as active.
+     * The resulting changes are then applied to each actor layer that changed with a single bulk removal and a single
+     * bulk addition, so the scene graph is only invalidated once per changed layer and update rather than once per actor.
      * </p>
-     *
-     * @param root The root {@link Group} node of the scene, which manages all visual elements.
      */
-    public void updateScene(Group root) {
+    public void updateScene() {
         synchronized (actorsToRemove) {
             for (GameEntity actor : actorsToRemove) {
-                root.getChildren().remove(actor);
-                activeActors.remove(actor);
+                if (removeFromIndex(actor)) {
+                    batchFor(actor).removed.add(actor);
+                }
             }
             actorsToRemove.clear(); // Clears the removal list after processing
         }
 
         synchronized (actorsToAdd) {
             for (GameEntity actor : actorsToAdd) {
-                if (!root.getChildren().contains(actor)) {
+                if (!activeIndex.containsKey(actor)) {
+                    activeIndex.put(actor, activeActors.size());
                     activeActors.add(actor);
-                    root.getChildren().add(actor);
+                    register(actor);
+                    // An actor removed and re-added in the same update simply stays on the layer
+                    LayerBatch batch = batchFor(actor);
+                    if (!batch.removed.remove(actor)) {
+                        batch.added.add(actor);
+                    }
                 }
             }
             actorsToAdd.clear(); // Clears the addition list after processing
         }
+
+        for (LayerBatch batch : layerBatches) {
+            if (batch != null) {
+                commit(batch);
+            }
+        }
+    }
+
+    /**
+     * Applies a layer's additions and removals of the current update to its group, if it has any.
+     *
+     * @param batch The layer's batch.
+     */
+    private void commit(LayerBatch batch) {
+        if (batch.removed.isEmpty() && batch.added.isEmpty()) {
+            return;
+        }
+        Group layer = sceneLayers.getLayer(batch.layer);
+        if (!batch.removed.isEmpty()) {
+            layer.getChildren().removeAll(batch.removed);
+            // Only actors that have really left the game are handed back for reuse
+            for (GameEntity actor : batch.removed) {
+                actorPools.release(actor);
+            }
+            batch.removed.clear();
+        }
+        if (!batch.added.isEmpty()) {
+            layer.getChildren().addAll(batch.added);
+            batch.added.clear();
+        }
+    }
+
+    /**
+     * Returns the batch of the layer the given actor is drawn in.
+     *
+     * @param actor The actor.
+     * @return The batch of the actor's layer.
+     */
+    private LayerBatch batchFor(GameEntity actor) {
+        return layerBatches[RenderLayer.forCategory(actor.getCollisionCategory()).ordinal()];
+    }
+
+    /**
+     * Removes an actor from the active list by moving the last active actor into its slot.
+     *
+     * @param actor The actor to remove.
+     * @return {@code true} if the actor was active, {@code false} if it was not.
+     */
+    private boolean removeFromIndex(GameEntity actor) {
+        Integer index = activeIndex.remove(actor);
+        if (index == null) {
+            return false;
+        }
+        synchronized (activeActors) {
+            int lastIndex = activeActors.size() - 1;
+            GameEntity last = activeActors.remove(lastIndex);
+            if (last != actor) {
+                activeActors.set(index, last);
+                activeIndex.put(last, index);
+            }
+        }
+        unregister(actor);
+        return true;
+    }
+
+    /**
+     * Adds a newly active actor to the registries for its kind.
+     *
+     * @param actor The actor that has become active.
+     */
+    private void register(GameEntity actor) {
+        categoryRegistries[actor.getCollisionCategory().ordinal()].add(actor);
+        if (actor.isCollectible()) {
+            collectibles.add(actor);
+        }
+        if (actor instanceof UserParent user) {
+            userVehicle = user;
+        }
+        if (actor.isKinematic()) {
+            movementSystem.add(actor.getBody());
+        } else {
+            updatedActors.add(actor);
+        }
+    }
+
+    /**
+     * Removes an actor that is no longer active from the registries for its kind.
+     *
+     * @param actor The actor that has left the game.
+     */
+    private void unregister(GameEntity actor) {
+        categoryRegistries[actor.getCollisionCategory().ordinal()].remove(actor);
+        collectibles.remove(actor);
+        if (actor == userVehicle) {
+            userVehicle = null;
+        }
+        if (actor.isKinematic()) {
+            movementSystem.remove(actor.getBody());
+        } else {
+            updatedActors.remove(actor);
+        }
+    }
+
+    /**
+     * Returns the active actors of the given collision category.
+     * <p>
+     * The list is a live, read-only view that changes as actors are committed and removed, so it should not be kept
+     * across updates. Its order is not meaningful.
+     * </p>
+     *
+     * @param category The collision category.
+     * @return The active actors of that category.
+     */
+    public List<GameEntity> getActors(CollisionCategory category) {
+        return categoryRegistries[category.ordinal()].view();
+    }
+
+    /**
+     * Returns the active enemies: enemy planes, rockets and the boss.
+     *
+     * @return A live, read-only view of the active enemies.
+     */
+    public List<GameEntity> getEnemies() {
+        return getActors(CollisionCategory.ENEMY);
+    }
+
+    /**
+     * Returns the active projectiles fired by enemies.
+     *
+     * @return A live, read-only view of the active enemy projectiles.
+     */
+    public List<GameEntity> getEnemyProjectiles() {
+        return getActors(CollisionCategory.ENEMY_PROJECTILE);
+    }
+
+    /**
+     * Returns the active projectiles fired by the user.
+     *
+     * @return A live, read-only view of the active user projectiles.
+     */
+    public List<GameEntity> getUserProjectiles() {
+        return getActors(CollisionCategory.USER_PROJECTILE);
+    }
+
+    /**
+     * Returns the active obstacles.
+     *
+     * @return A live, read-only view of the active obstacles.
+     */
+    public List<GameEntity> getObstacles() {
+        return getActors(CollisionCategory.OBSTACLE);
+    }
+
+    /**
+     * Returns the active actors the user can collect: coins, fuel tokens and magnets.
+     *
+     * @return A live, read-only view of the active collectibles.
+     */
+    public List<GameEntity> getCollectibles() {
+        return collectibles.view();
     }
 
     /**
      * Updates all currently active actors by calling their respective {@code update} methods.
      * <p>
      * Ensures each actor is refreshed and their state is updated for the current game frame.
+     * Only actors that are not kinematic are updated one by one; kinematic actors are then moved together by the
+     * {@link MovementSystem}.
      * </p>
      */
     public void updateActors() {
+        List<GameEntity> actors = updatedActors.view();
+        for (int i = 0, size = actors.size(); i < size; i++) {
+            actors.get(i).update();
+        }
+        movementSystem.update();
+    }
+
+    /**
+     * Records the position of every active actor at the start of a simulation tick.
+     */
+    @Override
+    public void savePreviousState() {
+        synchronized (activeActors) {
+            for (int i = 0, size = activeActors.size(); i < size; i++) {
+                activeActors.get(i).savePreviousPosition();
+            }
+        }
+    }
+
+    /**
+     * Draws every active actor between its position at the start of the last tick and its current position.
+     *
+     * @param alpha How far into the next tick the frame is drawn, from 0 to 1.
+     */
+    @Override
+    public void interpolate(double alpha) {
         synchronized (activeActors) {
-            for (GameEntity actor : activeActors) {
-                actor.update();
+            for (int i = 0, size = activeActors.size(); i < size; i++) {
+                activeActors.get(i).interpolate(alpha);
             }
         }
     }
@@ -159,24 +452,43 @@ public class ActorManager implements Updatable {
      * @return The {@link UserParent} object if it exists in the active actors list, or {@code null} if not found.
      */
     public UserParent getUserVehicle() {
-        return activeActors.stream()
-                .filter(actor -> actor instanceof UserParent)
-                .map(actor -> (UserParent) actor) // Cast to UserParent
-                .findFirst() // Returns the first found UserParent
-                .orElse(null); // Returns null if no UserParent is found
+        return userVehicle;
     }
 
     /**
-     * Sets the root {@link Group} node for the scene.
-     * <p>
-     * This root node manages all visual elements and is used by the {@code updateScene} method.
-     * </p>
+     * Sets the root {@link Group} node for the scene, creating the scene's layer groups in it.
      *
      * @param rootToSet The {@link Group} node to be used as the root of the scene.
      *                  Must not be null and should be initialized before use.
+     * @see #setSceneLayers(SceneLayers)
      */
     public void setRoot(Group rootToSet) {
-        root = rootToSet;
+        setSceneLayers(new SceneLayers(rootToSet));
+    }
+
+    /**
+     * Sets the layer groups actors are drawn in. The actor layers of the previous scene, if any, are emptied.
+     *
+     * @param layers The layer groups of the level's scene.
+     */
+    public void setSceneLayers(SceneLayers layers) {
+        if (sceneLayers != null && sceneLayers != layers) {
+            clearActorLayers();
+        }
+        sceneLayers = layers;
+    }
+
+    /**
+     * Removes every node from the layers that hold actors. The level's other layers are left alone.
+     */
+    private void clearActorLayers() {
+        for (LayerBatch batch : layerBatches) {
+            if (batch != null) {
+                sceneLayers.getLayer(batch.layer).getChildren().clear();
+                batch.added.clear();
+                batch.removed.clear();
+            }
+        }
     }
 
     /**
@@ -195,6 +507,17 @@ public class ActorManager implements Updatable {
         synchronized (activeActors) {
             activeActors.clear(); // Clears all active actors
         }
+        activeIndex.clear();
+        for (ActorRegistry registry : categoryRegistries) {
+            registry.clear();
+        }
+        collectibles.clear();
+        movementSystem.clear();
+        updatedActors.clear();
+        userVehicle = null;
+        if (sceneLayers != null) {
+            clearActorLayers();
+        }
         System.out.println("Level cleared: All actors removed.");
     }
 
@@ -202,11 +525,47 @@ public class ActorManager implements Updatable {
      * Updates the state of the game by updating both actors and the scene.
      * <p>
      * This method is called during each game loop iteration to ensure all visual and logical components are synchronized.
+     * The two steps are timed as separate phases by the {@link FrameProfiler}.
      * </p>
      */
     @Override
     public void update() {
+        long start = profiler.start();
         updateActors();
-        updateScene(root);
+        profiler.stop(FrameProfiler.Phase.ACTORS, start);
+
+        start = profiler.start();
+        updateScene();
+        profiler.stop(FrameProfiler.Phase.SCENE, start);
+    }
+
+    /**
+     * The additions and removals of one actor layer during the current scene update.
+     */
+    private static final class LayerBatch {
+
+        /**
+         * The layer the batch is for.
+         */
+        private final RenderLayer layer;
+
+        /**
+         * The actors added to the active list during the current scene update.
+         */
+        private final List<GameEntity> added = new ArrayList<>();
+
+        /**
+         * The actors removed from the active list during the current scene update.
+         */
+        private final Set<GameEntity> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * Creates an empty batch for a layer.
+         *
+         * @param layer The layer.
+         */
+        LayerBatch(RenderLayer layer) {
+            this.layer = layer;
+        }
     }
 }
@@ -0,0 +1,82 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.GameEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A live set of actors of one kind, kept by the {@link ActorManager} as actors enter and leave the game.
+ * <p>
+ * Actors are held in a list so callers can walk them with an index loop, and indexed by identity so adding and removing
+ * take constant time. A removed actor's slot is filled by the last actor, so the order is not preserved.
+ * </p>
+ */
+class ActorRegistry {
+
+    /**
+     * The actors in the registry.
+     */
+    private final List<GameEntity> actors = new ArrayList<>();
+
+    /**
+     * A read-only view of {@link #actors}, created once and handed to every caller.
+     */
+    private final List<GameEntity> view = Collections.unmodifiableList(actors);
+
+    /**
+     * The position of every actor in {@link #actors}, keyed by identity.
+     */
+    private final Map<GameEntity, Integer> index = new IdentityHashMap<>();
+
+    /**
+     * Adds an actor to the registry. Does nothing if it is already there.
+     *
+     * @param actor The actor to add.
+     */
+    void add(GameEntity actor) {
+        if (!index.containsKey(actor)) {
+            index.put(actor, actors.size());
+            actors.add(actor);
+        }
+    }
+
+    /**
+     * Removes an actor from the registry by moving the last actor into its slot.
+     *
+     * @param actor The actor to remove.
+     * @return {@code true} if the actor was in the registry, {@code false} otherwise.
+     */
+    boolean remove(GameEntity actor) {
+        Integer slot = index.remove(actor);
+        if (slot == null) {
+            return false;
+        }
+        GameEntity last = actors.remove(actors.size() - 1);
+        if (last != actor) {
+            actors.set(slot, last);
+            index.put(last, slot);
+        }
+        return true;
+    }
+
+    /**
+     * Removes every actor from the registry.
+     */
+    void clear() {
+        actors.clear();
+        index.clear();
+    }
+
+    /**
+     * Returns a live, read-only view of the actors in the registry.
+     *
+     * @return The actors, in no particular order.
+     */
+    List<GameEntity> view() {
+        return view;
+    }
+}
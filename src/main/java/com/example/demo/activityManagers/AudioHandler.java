@@ -1,51 +1,31 @@
 package com.example.demo.activityManagers;
 
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
+import com.example.demo.activityManagers.audio.AudioClipOutput;
+import com.example.demo.activityManagers.audio.SoundEffect;
+import com.example.demo.activityManagers.audio.SoundMixer;
+import com.example.demo.activityManagers.events.GameEventBus;
+import com.example.demo.activityManagers.events.GameEventType;
+import com.example.demo.controller.GameLoop;
 
 /**
  * The AudioHandler class is responsible for managing the audio in the game, including playing various sound effects
  * and managing the mute functionality.
  * It follows the Singleton design pattern to ensure there is only one instance of this class used throughout the application.
+ * <p>
+ * Sound effects are preloaded as {@link javafx.scene.media.AudioClip}s and scheduled by a {@link SoundMixer} with a fixed
+ * number of voices. Playing a sound returns straight away and never stops another sound, so rapid fire and streams of
+ * coins overlap instead of cutting each other off. Identical sounds triggered in the same game tick are played once,
+ * and each effect can be rate limited through {@link #getMixer()}.
+ * </p>
  */
 public class AudioHandler {
 
     /** Singleton instance of AudioHandler */
     private static AudioHandler instance;
 
-    // Paths to the audio files
-    /** Path to the sound when the projectile is fired */
-    private final String PROJECTILE_FIRED_SOUND_PATH = "/com/example/demo/audios/fireProjectile1.wav";
+    /** The mixer scheduling the sound effects on a fixed number of voices */
+    private final SoundMixer mixer;
 
-    /** Path to the sound when a life is lost */
-    private final String LIFE_LOST_SOUND_PATH = "/com/example/demo/audios/loseLife.mp3";
-
-    /** Path to the sound when the level is won */
-    private final String LEVEL_WON_SOUND_PATH = "/com/example/demo/audios/winGame.mp3";
-
-    /** Path to the sound when the level is lost */
-    private final String LEVEL_LOST_SOUND_PATH = "/com/example/demo/audios/loseGame1.wav";
-
-    /** Path to the sound when the level is lost */
-    private final String COIN_COLLECTED_SOUND_PATH = "/com/example/demo/audios/collectCoins.wav";
-
-    // MediaPlayers for playing the sounds
-    /** MediaPlayer for the projectile fired sound */
-    private MediaPlayer projectileFiredPlayer;
-
-    /** MediaPlayer for the life lost sound */
-    private MediaPlayer lifeLostMediaPlayer;
-
-    /** MediaPlayer for the level won sound */
-    private MediaPlayer levelWonPlayer;
-
-    /** MediaPlayer for the level lost sound */
-    private MediaPlayer levelLostPlayer;
-
-    /** MediaPlayer for the coin collected sound */
-    private MediaPlayer coinCollectedPlayer;
-
-    // Variable to track whether the audio is muted or not
     /** Boolean flag indicating if the audio is muted */
     private boolean isMuted = false;
 
@@ -54,24 +34,11 @@ public class AudioHandler {
 
     /**
      * Private constructor for the AudioHandler class, following the Singleton pattern.
-     * Initializes the media players for all sounds.
+     * Preloads the clips of all sounds and creates the mixer that plays them.
      */
     private AudioHandler() {
-        // Initialize media players for each sound
-        Media collisionMedia = new Media(getClass().getResource(PROJECTILE_FIRED_SOUND_PATH).toExternalForm());
-        projectileFiredPlayer = new MediaPlayer(collisionMedia);
-
-        Media lifeLostMedia = new Media(getClass().getResource(LIFE_LOST_SOUND_PATH).toExternalForm());
-        lifeLostMediaPlayer = new MediaPlayer(lifeLostMedia);
-
-        Media levelWonMedia = new Media(getClass().getResource(LEVEL_WON_SOUND_PATH).toExternalForm());
-        levelWonPlayer = new MediaPlayer(levelWonMedia);
-
-        Media levelLostMedia = new Media(getClass().getResource(LEVEL_LOST_SOUND_PATH).toExternalForm());
-        levelLostPlayer = new MediaPlayer(levelLostMedia);
-
-        Media coinCollectedMedia = new Media(getClass().getResource(COIN_COLLECTED_SOUND_PATH).toExternalForm());
-        coinCollectedPlayer = new MediaPlayer(coinCollectedMedia);
+        GameLoop gameLoop = GameLoop.getInstance();
+        mixer = new SoundMixer(new AudioClipOutput(), SoundMixer.DEFAULT_VOICE_COUNT, System::nanoTime, gameLoop::getTickCount);
 
         // Set initial volume for all sounds
         setVolumeForAllSounds(volumeLevel);
@@ -92,73 +59,56 @@ public class AudioHandler {
 
     /**
      * Stops all currently playing sounds.
-     * This method ensures that when a new sound is triggered, all previous sounds are stopped.
+     * Used when the game changes state, e.g. when it is paused, restarted or left.
      */
     public void stopAllSounds() {
-        projectileFiredPlayer.stop();
-        lifeLostMediaPlayer.stop();
-        levelWonPlayer.stop();
-        levelLostPlayer.stop();
+        mixer.stopAll();
     }
 
     /**
-     * Plays the sound for when a projectile is fired.
-     * If the audio is not muted, it will stop any currently playing sounds and start the new sound.
+     * Plays the sound for when a projectile is fired, if the audio is not muted.
      */
     public void playProjectileFiredSound() {
-        if (!isMuted) {
-            stopAllSounds(); // Stop any currently playing sound
-            projectileFiredPlayer.seek(projectileFiredPlayer.getStartTime()); // Rewind to start
-            projectileFiredPlayer.play();
-        }
+        mixer.trigger(SoundEffect.PROJECTILE_FIRED);
     }
 
     /**
-     * Plays the sound for when a life is lost.
-     * If the audio is not muted, it will stop any currently playing sounds and start the new sound.
+     * Plays the sound for when a life is lost, if the audio is not muted.
      */
     public void playLifeLostSound() {
-        if (!isMuted) {
-            stopAllSounds(); // Stop any currently playing sound
-            lifeLostMediaPlayer.seek(lifeLostMediaPlayer.getStartTime()); // Rewind to start
-            lifeLostMediaPlayer.play();
-        }
+        mixer.trigger(SoundEffect.LIFE_LOST);
     }
 
     /**
-     * Plays the sound for when the level is won.
-     * If the audio is not muted, it will stop any currently playing sounds and start the new sound.
+     * Plays the sound for when the level is won, if the audio is not muted.
      */
     public void playLevelWonSound() {
-        if (!isMuted) {
-            stopAllSounds(); // Stop any currently playing sound
-            levelWonPlayer.seek(levelWonPlayer.getStartTime()); // Rewind to start
-            levelWonPlayer.play();
-        }
+        mixer.trigger(SoundEffect.LEVEL_WON);
     }
 
     /**
-     * Plays the sound for when the level is lost.
-     * If the audio is not muted, it will stop any currently playing sounds and start the new sound.
+     * Plays the sound for when the level is lost, if the audio is not muted.
      */
     public void playLevelLostSound() {
-        if (!isMuted) {
-            stopAllSounds(); // Stop any currently playing sound
-            levelLostPlayer.seek(levelLostPlayer.getStartTime()); // Rewind to start
-            levelLostPlayer.play();
-        }
+        mixer.trigger(SoundEffect.LEVEL_LOST);
     }
 
     /**
-     * Plays the sound for when the level is lost.
-     * If the audio is not muted, it will stop any currently playing sounds and start the new sound.
+     * Plays the sound for when a coin is collected, if the audio is not muted.
      */
     public void playCoinCollectedSound() {
-        if (!isMuted) {
-            stopAllSounds(); // Stop any currently playing sound
-            coinCollectedPlayer.seek(coinCollectedPlayer.getStartTime()); // Rewind to start
-            coinCollectedPlayer.play();
-        }
+        mixer.trigger(SoundEffect.COIN_COLLECTED);
+    }
+
+    /**
+     * Plays the sounds of gameplay events, such as a life lost or a coin collected, when they are drained from the
+     * given level's event bus.
+     *
+     * @param eventBus The event bus of the level.
+     */
+    public void subscribeTo(GameEventBus eventBus) {
+        eventBus.subscribe((type, source) -> playLifeLostSound(), GameEventType.LIFE_LOST);
+        eventBus.subscribe((type, source) -> playCoinCollectedSound(), GameEventType.COIN_COLLECTED);
     }
 
     /**
@@ -167,9 +117,7 @@ public class AudioHandler {
      */
     public void toggleAudio() {
         isMuted = !isMuted; // Toggle mute state
-        if (isMuted) {
-            stopAllSounds(); // Stop all sounds when muted
-        }
+        mixer.setMuted(isMuted); // Muting stops all sounds
     }
 
     /**
@@ -184,12 +132,7 @@ public class AudioHandler {
         if (volume > 1.0) volume = 1.0;
 
         volumeLevel = volume;
-
-        // Set volume for each sound
-        projectileFiredPlayer.setVolume(volume);
-        lifeLostMediaPlayer.setVolume(volume);
-        levelWonPlayer.setVolume(volume);
-        levelLostPlayer.setVolume(volume);
+        mixer.setVolume(volume);
     }
 
     /**
@@ -200,4 +143,13 @@ public class AudioHandler {
     public double getVolume() {
         return volumeLevel;
     }
+
+    /**
+     * Returns the mixer playing the sound effects, e.g. to change the rate limit of an effect.
+     *
+     * @return The sound mixer.
+     */
+    public SoundMixer getMixer() {
+        return mixer;
+    }
 }
@@ -1,17 +1,19 @@
 package com.example.demo.activityManagers;
 
+import com.example.demo.activityManagers.collision.BroadPhase;
+import com.example.demo.activityManagers.collision.BruteForceBroadPhase;
+import com.example.demo.activityManagers.collision.CollisionResponse;
+import com.example.demo.activityManagers.collision.SweepAndPruneBroadPhase;
+import com.example.demo.activityManagers.events.GameEventBus;
+import com.example.demo.activityManagers.events.GameEventType;
+import com.example.demo.activityManagers.profiling.FrameProfiler;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
-import com.example.demo.actors.Planes.FighterPlane;
-import com.example.demo.actors.Planes.friendlyPlanes.UserParent;
 import com.example.demo.actors.Planes.friendlyPlanes.UserPlane;
-import com.example.demo.actors.Projectiles.Projectile;
-import com.example.demo.actors.Projectiles.userProjectiles.UserProjectile;
-import com.example.demo.actors.additionalUnits.Coins;
-import com.example.demo.actors.additionalUnits.FuelToken;
-import com.example.demo.actors.additionalUnits.Magnet;
-import com.example.demo.levels.LevelParent;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * The {@code CollisionHandler} class is responsible for detecting and handling collisions between game actors.
@@ -19,154 +21,352 @@ import java.util.List;
  * The collision system has been refactored to handle all types of collisions (between friendly/enemy planes, projectiles, and collectibles)
  * in a unified manner. This reduces redundancy and makes the code more maintainable and extensible.
  * </p>
+ * <p>
+ * Candidate pairs are found by a pluggable {@link BroadPhase} chosen per level, so the exact intersection test
+ * only runs on actors that are close to each other. The number of candidate and intersecting pairs of the last
+ * frame is recorded so the saving over a brute-force check can be measured.
+ * </p>
+ * <p>
+ * Every actor carries a {@link CollisionCategory}. Pairs whose categories never interact are rejected with a
+ * single bitwise AND, and the response for the remaining pairs is looked up in a table indexed by both categories.
+ * </p>
+ * <p>
+ * Responses only change the actors involved. Everything else a collision causes, such as kill counts, coin counts,
+ * sounds and the magnet effect, is published on a {@link GameEventBus} and handled once the level drains the bus,
+ * outside the pair loop.
+ * </p>
  */
 public class CollisionHandler {
 
-    /** The parent level object representing the current game level. */
-    private LevelParent levelParent;
+    /** The bus the side effects of collisions are published on. */
+    private final GameEventBus eventBus;
+
+    /** The collision responses, indexed by the category ordinals of the two actors of a pair. */
+    private final CollisionResponse[][] responses;
+
+    /** The broad phase used to find candidate pairs. Sweep-and-prune unless the level chooses otherwise. */
+    private BroadPhase broadPhase = new SweepAndPruneBroadPhase();
+
+    /** Callback passed to the broad phase, kept in a field so no lambda is allocated per frame. */
+    private final BroadPhase.PairConsumer candidatePairConsumer = this::handleCandidatePair;
+
+    /** The profiler timing collision checks. */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+    /** The actors of the current frame, indexed like the bounding box arrays. */
+    private GameEntity[] actors = new GameEntity[64];
+
+    /** The collision category index of each actor for the current frame. */
+    private int[] categoryIndex = new int[64];
+
+    /** The collision category bit of each actor for the current frame. */
+    private int[] categoryBits = new int[64];
+
+    /** The collide-with mask of each actor for the current frame. */
+    private int[] collisionMasks = new int[64];
+
+    /** The left edge of each actor's bounding box for the current frame. */
+    private double[] minX = new double[64];
+
+    /** The top edge of each actor's bounding box for the current frame. */
+    private double[] minY = new double[64];
+
+    /** The right edge of each actor's bounding box for the current frame. */
+    private double[] maxX = new double[64];
+
+    /** The bottom edge of each actor's bounding box for the current frame. */
+    private double[] maxY = new double[64];
+
+    /** The number of actors checked in the last frame. */
+    private int lastActorCount;
+
+    /** The number of candidate pairs reported by the broad phase in the last frame. */
+    private int lastCandidatePairCount;
+
+    /** The number of candidate pairs that intersected in the last frame. */
+    private int lastIntersectingPairCount;
 
     /**
      * Constructor for the {@code CollisionHandler} class.
-     * Initializes the collision handler with the provided level parent, which contains the current game level.
+     * Initializes the collision handler with the event bus of the current game level.
      *
-     * @param levelParent The parent object representing the current level of the game.
-     *                    This parameter is used to access and manage the game state and entities in the level.
+     * @param eventBus The bus the level drains once per tick. Kills, collected items and lost lives are published on
+     *                 it for the level, the player's stats and the audio to react to.
      */
-    public CollisionHandler(LevelParent levelParent) {
-        this.levelParent = levelParent;
+    public CollisionHandler(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+        int categoryCount = CollisionCategory.values().length;
+        this.responses = new CollisionResponse[categoryCount][categoryCount];
+        registerResponses();
     }
 
     /**
-     * Handles collision detection between all active actors in the game.
+     * Fills the dispatch table with the response for every pair of categories that can interact.
      * <p>
-     * This method iterates through all active actors and checks if any of them intersect.
-     * It checks for both collectible interactions and non-collectible collisions between entities such as planes and projectiles.
+     * The set of registered pairs must match the collide-with masks of {@link CollisionCategory}; a missing
+     * response is a programming error and is reported straight away rather than on the first collision.
      * </p>
-     *
-     * @param activeActors The list of all currently active actors in the game, including planes, projectiles, and collectibles.
-     *                     The method checks each pair of actors in this list to detect and handle collisions.
      */
-    public void checkCollisions(List<GameEntity> activeActors) {
-        // Iterate over all active actors
-        for (int i = 0; i < activeActors.size(); i++) {
-            GameEntity actor1 = activeActors.get(i);
-
-            for (int j = i + 1; j < activeActors.size(); j++) {
-                GameEntity actor2 = activeActors.get(j);
-
-                // Check if the actors intersect
-                if (actor1.getBoundsInParent().intersects(actor2.getBoundsInParent())) {
-                    // Handle collectible interactions
-                    if (actor1.isCollectible() ^ actor2.isCollectible()) {
-                        handleCollectibleInteraction(actor1, actor2);
-                    }
-                    // Handle collisions between non-collectible actors
-                    else if (!actor1.isCollectible() && !actor2.isCollectible()) {
-                        if ((actor1.isFriendly() ^ actor2.isFriendly())) {
-                            handleNonCollectibleCollision(actor1, actor2);
-                        }
-                    }
+    private void registerResponses() {
+        register(CollisionCategory.USER, CollisionCategory.ENEMY, this::handleUserRammedEnemy);
+        register(CollisionCategory.USER, CollisionCategory.ENEMY_PROJECTILE, this::handleUserHit);
+        register(CollisionCategory.USER, CollisionCategory.OBSTACLE, this::handleUserHit);
+        register(CollisionCategory.USER_PROJECTILE, CollisionCategory.ENEMY, this::handleEnemyShotDown);
+        register(CollisionCategory.USER_PROJECTILE, CollisionCategory.OBSTACLE, this::damageBoth);
+        register(CollisionCategory.FINISH_LINE, CollisionCategory.ENEMY, this::damageBoth);
+        register(CollisionCategory.FINISH_LINE, CollisionCategory.ENEMY_PROJECTILE, this::damageBoth);
+        register(CollisionCategory.USER, CollisionCategory.COIN, this::handleCoinCollected);
+        register(CollisionCategory.USER, CollisionCategory.FUEL, this::handleFuelCollected);
+        register(CollisionCategory.USER, CollisionCategory.MAGNET, this::handleMagnetCollected);
+
+        for (CollisionCategory first : CollisionCategory.values()) {
+            for (CollisionCategory second : CollisionCategory.values()) {
+                if (first.collidesWith(second) && responses[first.ordinal()][second.ordinal()] == null) {
+                    throw new IllegalStateException("No collision response registered for " + first + " and " + second);
                 }
             }
         }
     }
 
     /**
-     * Handles the interaction between a collectible and a non-collectible actor.
+     * Registers a response for a pair of categories, in both argument orders.
+     *
+     * @param first    The category of the first argument passed to the response.
+     * @param second   The category of the second argument passed to the response.
+     * @param response The response to apply when actors of the two categories intersect.
+     */
+    private void register(CollisionCategory first, CollisionCategory second, CollisionResponse response) {
+        responses[first.ordinal()][second.ordinal()] = response;
+        responses[second.ordinal()][first.ordinal()] = (actor1, actor2) -> response.respond(actor2, actor1);
+    }
+
+    /**
+     * Handles collision detection between all active actors in the game.
      * <p>
-     * This method processes the effect of a collectible item when it collides with a non-collectible actor.
-     * Collectible items are typically consumed upon collision, and their effects are applied to the player's state (e.g., coins, fuel, magnets).
+     * The bounding box of every actor is read once into primitive arrays, then the current {@link BroadPhase}
+     * reports the candidate pairs that may overlap. Only those pairs go through the exact intersection test and
+     * on to the collectible and non-collectible handling, instead of every possible pair of actors.
      * </p>
      *
-     * @param actor1 The first actor involved in the interaction.
-     *               This can be a collectible item (e.g., a coin, fuel token, or magnet).
-     * @param actor2 The second actor involved in the interaction.
-     *               This can be a non-collectible actor (e.g., a user plane).
+     * @param activeActors The list of all currently active actors in the game, including planes, projectiles, and collectibles.
+     *                     The method checks each candidate pair of actors in this list to detect and handle collisions.
      */
-    protected void handleCollectibleInteraction(GameEntity actor1, GameEntity actor2) {
-        // Check if actor1 is a collectible and actor2 is non-collectible
-        if (actor1.isCollectible() && !actor2.isCollectible() && actor2 instanceof UserParent) {
-            actor1.takeDamage(); // Consume the collectible
-            handleCollectibleEffect(actor1); // Apply the effect of the collectible
-        }
-        // Check if actor2 is a collectible and actor1 is non-collectible
-        else if (!actor1.isCollectible() && actor1 instanceof UserParent && actor2.isCollectible()) {
-            actor2.takeDamage(); // Consume the collectible
-            handleCollectibleEffect(actor2); // Apply the effect of the collectible
+    public void checkCollisions(List<GameEntity> activeActors) {
+        long start = profiler.start();
+        int count = activeActors.size();
+        ensureCapacity(count);
+
+        // Snapshot the cached bounds of every actor once per frame instead of once per pair
+        for (int i = 0; i < count; i++) {
+            GameEntity actor = activeActors.get(i);
+            CollisionCategory category = actor.getCollisionCategory();
+            actors[i] = actor;
+            categoryIndex[i] = category.ordinal();
+            categoryBits[i] = category.getBit();
+            collisionMasks[i] = category.getMask();
+            minX[i] = actor.getMinX();
+            minY[i] = actor.getMinY();
+            maxX[i] = actor.getMaxX();
+            maxY[i] = actor.getMaxY();
         }
+
+        lastActorCount = count;
+        lastCandidatePairCount = 0;
+        lastIntersectingPairCount = 0;
+        broadPhase.findCandidatePairs(minX, minY, maxX, maxY, count, candidatePairConsumer);
+
+        // Release references so removed actors are not kept alive by the snapshot
+        Arrays.fill(actors, 0, count, null);
+        profiler.stop(FrameProfiler.Phase.COLLISIONS, start);
     }
 
     /**
-     * Handles collisions between two non-collectible actors, such as projectiles and planes.
+     * Filters a candidate pair reported by the broad phase by category, runs the exact intersection test and,
+     * if the actors intersect, dispatches the pair to the response registered for their two categories.
      * <p>
-     * This method processes the interaction when two non-collectible actors collide, such as when a projectile hits a plane.
-     * It handles damage, updating the player's kill count, and managing cooldowns for friendly planes.
+     * Pairs that can never interact (projectile and projectile, coin and coin, ...) are rejected by a single
+     * bitwise AND before the bounds are even compared.
      * </p>
      *
-     * @param actor1 The first actor involved in the collision.
-     *               This can be a projectile, friendly plane, or enemy plane.
-     * @param actor2 The second actor involved in the collision.
-     *               This can be a projectile, friendly plane, or enemy plane.
+     * @param first  The index of the first actor in the current snapshot.
+     * @param second The index of the second actor in the current snapshot.
      */
-    protected void handleNonCollectibleCollision(GameEntity actor1, GameEntity actor2) {
-        // Ignore collisions between projectiles
-        if (actor1 instanceof Projectile && actor2 instanceof Projectile) {
+    private void handleCandidatePair(int first, int second) {
+        lastCandidatePairCount++;
+
+        // Reject pairs whose categories never interact
+        if ((collisionMasks[first] & categoryBits[second]) == 0) {
             return;
         }
 
-        // Handle friendly/enemy plane collisions or projectile hits
-        if ((actor1 instanceof FighterPlane && actor2 instanceof FighterPlane) ||
-                (actor1 instanceof UserProjectile && actor2 instanceof FighterPlane) ||
-                (actor1 instanceof FighterPlane && actor2 instanceof UserProjectile)) {
-            levelParent.actorManager.getUserVehicle().incrementKillCount();
-            // Decrease the number of enemies if applicable
-            if (levelParent.currentNumberOfEnemies > 0) {
-                levelParent.currentNumberOfEnemies--;
-            }
+        // Check if the actors intersect (touching edges count, as with Bounds#intersects)
+        if (minX[first] > maxX[second] || minX[second] > maxX[first]
+                || minY[first] > maxY[second] || minY[second] > maxY[first]) {
+            return;
         }
+        lastIntersectingPairCount++;
 
-        // Apply damage to both actors involved in the collision
-        actor1.takeDamage();
-        actor2.takeDamage();
+        responses[categoryIndex[first]][categoryIndex[second]].respond(actors[first], actors[second]);
+    }
 
-        // Start cooldown for the UserPlane involved in the collision
-        if (actor1 instanceof UserPlane) {
-            ((UserPlane) actor1).startCooldown();
-            levelParent.audioHandler.playLifeLostSound();  // Life lost sound effect played
-        } else if (actor2 instanceof UserPlane) {
-            ((UserPlane) actor2).startCooldown();
-            levelParent.audioHandler.playLifeLostSound();
+    /**
+     * Grows the per-frame snapshot arrays so they can hold the given number of actors.
+     *
+     * @param count The number of actors in the current frame.
+     */
+    private void ensureCapacity(int count) {
+        if (actors.length < count) {
+            int capacity = Math.max(count, actors.length * 2);
+            actors = new GameEntity[capacity];
+            categoryIndex = new int[capacity];
+            categoryBits = new int[capacity];
+            collisionMasks = new int[capacity];
+            minX = new double[capacity];
+            minY = new double[capacity];
+            maxX = new double[capacity];
+            maxY = new double[capacity];
         }
+    }
 
+    /**
+     * Sets the broad phase used to find candidate pairs. Levels choose the broad phase that suits their
+     * movement patterns; {@link BruteForceBroadPhase} can be used as a reference when checking correctness.
+     *
+     * @param broadPhase The broad phase to use from the next frame on. Must not be null.
+     */
+    public void setBroadPhase(BroadPhase broadPhase) {
+        this.broadPhase = Objects.requireNonNull(broadPhase, "broadPhase");
     }
 
     /**
-     * Applies the effect of a collectible item, such as coins, fuel tokens, or magnets.
-     * <p>
-     * This method handles the logic for what happens when the player collects a specific item, such as updating their coin count,
-     * refilling their fuel, or activating a magnet to attract items.
-     * </p>
+     * Returns the broad phase currently used to find candidate pairs.
      *
-     * @param actor The actor representing the collectible item.
-     *              This can be a coin, fuel token, or magnet.
+     * @return The current {@link BroadPhase}.
      */
-    protected void handleCollectibleEffect(GameEntity actor) {
-        // Handle the effect of a coin collectible
-        if (actor instanceof Coins) {
-            levelParent.actorManager.getUserVehicle().incrementCoinsCollected();
-            if (levelParent.currentNumberOfCoins > 0) {
-                levelParent.currentNumberOfCoins--;
-                levelParent.audioHandler.playCoinCollectedSound();
-            }
-        }
-        // Handle the effect of a fuel token collectible
-        else if (actor instanceof FuelToken) {
-            levelParent.actorManager.getUserVehicle().incrementFuelLeft();
-        }
-        // Handle the effect of a magnet collectible
-        else if (actor instanceof Magnet) {
-            levelParent.activateMagnet();
+    public BroadPhase getBroadPhase() {
+        return broadPhase;
+    }
+
+    /**
+     * Returns the number of actors checked during the last call to {@link #checkCollisions(List)}.
+     *
+     * @return The actor count of the last frame.
+     */
+    public int getLastActorCount() {
+        return lastActorCount;
+    }
+
+    /**
+     * Returns the number of candidate pairs the broad phase reported during the last frame.
+     *
+     * @return The number of pairs that went through the exact intersection test.
+     */
+    public int getLastCandidatePairCount() {
+        return lastCandidatePairCount;
+    }
+
+    /**
+     * Returns the number of candidate pairs that actually intersected during the last frame.
+     *
+     * @return The number of pairs passed on to the collision handling.
+     */
+    public int getLastIntersectingPairCount() {
+        return lastIntersectingPairCount;
+    }
+
+    /**
+     * Returns the number of pairs a brute-force check would have tested during the last frame.
+     * Comparing this with {@link #getLastCandidatePairCount()} shows how much work the broad phase saved.
+     *
+     * @return {@code n * (n - 1) / 2} for the last frame's actor count {@code n}.
+     */
+    public long getLastBruteForcePairCount() {
+        return (long) lastActorCount * (lastActorCount - 1) / 2;
+    }
+
+    /**
+     * Handles the user vehicle ramming an enemy plane, rocket or the boss.
+     * The enemy counts as a kill, both actors take damage and the user's collision cooldown starts.
+     *
+     * @param user  The user vehicle.
+     * @param enemy The enemy it collided with.
+     */
+    private void handleUserRammedEnemy(GameEntity user, GameEntity enemy) {
+        eventBus.publish(GameEventType.KILL, enemy);
+        handleUserHit(user, enemy);
+    }
+
+    /**
+     * Handles the user vehicle being hit by an enemy projectile or running into an obstacle.
+     * Both actors take damage and the user's collision cooldown starts.
+     *
+     * @param user  The user vehicle.
+     * @param other The projectile or obstacle it collided with.
+     */
+    private void handleUserHit(GameEntity user, GameEntity other) {
+        damageBoth(user, other);
+
+        // Start cooldown for the UserPlane involved in the collision
+        if (user instanceof UserPlane) {
+            ((UserPlane) user).startCooldown();
+            eventBus.publish(GameEventType.LIFE_LOST, user);  // Life lost sound effect played when the bus is drained
         }
     }
 
+    /**
+     * Handles a user projectile hitting an enemy plane, rocket or the boss.
+     * The enemy counts as a kill and both actors take damage.
+     *
+     * @param projectile The user projectile.
+     * @param enemy      The enemy it hit.
+     */
+    private void handleEnemyShotDown(GameEntity projectile, GameEntity enemy) {
+        eventBus.publish(GameEventType.KILL, enemy);
+        damageBoth(projectile, enemy);
+    }
+
+    /**
+     * Applies damage to both actors involved in a collision.
+     *
+     * @param actor1 The first actor involved in the collision.
+     * @param actor2 The second actor involved in the collision.
+     */
+    private void damageBoth(GameEntity actor1, GameEntity actor2) {
+        actor1.takeDamage();
+        actor2.takeDamage();
+    }
+
+    /**
+     * Handles the user vehicle collecting a coin: the coin is consumed and the collection published.
+     *
+     * @param user The user vehicle.
+     * @param coin The coin collected.
+     */
+    private void handleCoinCollected(GameEntity user, GameEntity coin) {
+        coin.takeDamage(); // Consume the collectible
+        eventBus.publish(GameEventType.COIN_COLLECTED, user);
+    }
+
+    /**
+     * Handles the user vehicle collecting a fuel token: the token is consumed and the pickup published.
+     *
+     * @param user      The user vehicle.
+     * @param fuelToken The fuel token collected.
+     */
+    private void handleFuelCollected(GameEntity user, GameEntity fuelToken) {
+        fuelToken.takeDamage(); // Consume the collectible
+        eventBus.publish(GameEventType.FUEL_PICKED, user);
+    }
+
+    /**
+     * Handles the user vehicle collecting a magnet: the magnet is consumed and the pickup published.
+     *
+     * @param user   The user vehicle.
+     * @param magnet The magnet collected.
+     */
+    private void handleMagnetCollected(GameEntity user, GameEntity magnet) {
+        magnet.takeDamage(); // Consume the collectible
+        eventBus.publish(GameEventType.MAGNET_PICKED, user);
+    }
+
 }
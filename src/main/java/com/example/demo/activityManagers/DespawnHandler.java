@@ -0,0 +1,157 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.ActorBody;
+import com.example.demo.actors.CollisionCategory;
+import com.example.demo.actors.GameEntity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code DespawnHandler} removes actors that have left the world, so actors that fly off screen in any direction
+ * stop costing updates and collision checks.
+ *
+ * <p>The world is the rectangle of the screen. An actor is outside it once its whole bounding box lies beyond one of
+ * the edges by more than the margin of its {@link CollisionCategory}. The bounding box is the actor's real position on
+ * both axes (where it was placed plus how far it has moved), so actors leaving through the top or bottom are caught as
+ * well as those leaving to the left or right.</p>
+ *
+ * <p>Margins let actors that are spawned outside the screen fly in before they count as gone. The user's vehicle has
+ * an infinite margin and is never despawned. The number of actors despawned is counted per category.</p>
+ */
+public class DespawnHandler {
+
+    /**
+     * The default distance an actor may be beyond the edge of the world before it is despawned.
+     */
+    public static final double DEFAULT_MARGIN = 50;
+
+    /**
+     * The collision categories, cached to avoid copying the values array.
+     */
+    private static final CollisionCategory[] CATEGORIES = CollisionCategory.values();
+
+    /**
+     * The actor manager despawned actors are removed from.
+     */
+    private final ActorManager actorManager;
+
+    /**
+     * The width of the world.
+     */
+    private final double worldWidth;
+
+    /**
+     * The height of the world.
+     */
+    private final double worldHeight;
+
+    /**
+     * The margin of each collision category, indexed by ordinal.
+     */
+    private final double[] margins = new double[CATEGORIES.length];
+
+    /**
+     * The number of actors despawned in each collision category, indexed by ordinal.
+     */
+    private final long[] despawnCounts = new long[CATEGORIES.length];
+
+    /**
+     * Constructs a despawn handler for a world the size of the screen, with the default margin for every category.
+     *
+     * @param actorManager The actor manager despawned actors are removed from.
+     * @param worldWidth The width of the world.
+     * @param worldHeight The height of the world.
+     */
+    public DespawnHandler(ActorManager actorManager, double worldWidth, double worldHeight) {
+        this.actorManager = actorManager;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        Arrays.fill(margins, DEFAULT_MARGIN);
+        margins[CollisionCategory.USER.ordinal()] = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Removes every actor in the list that is outside the world.
+     * The callback runs before each actor is removed, so the level can update its own counts.
+     *
+     * @param actors The actors to check.
+     * @param onDespawn Called with each actor that is despawned.
+     * @return The number of actors despawned.
+     */
+    public int despawnOutsideWorld(List<GameEntity> actors, Consumer<GameEntity> onDespawn) {
+        int despawned = 0;
+        synchronized (actors) {
+            for (int i = 0, size = actors.size(); i < size; i++) {
+                GameEntity actor = actors.get(i);
+                if (isOutsideWorld(actor)) {
+                    onDespawn.accept(actor);
+                    actorManager.removeActor(actor);
+                    despawnCounts[actor.getCollisionCategory().ordinal()]++;
+                    despawned++;
+                }
+            }
+        }
+        return despawned;
+    }
+
+    /**
+     * Checks whether an actor's bounding box lies beyond an edge of the world by more than its category's margin.
+     *
+     * @param actor The actor to check.
+     * @return {@code true} if the actor is outside the world, {@code false} otherwise.
+     */
+    public boolean isOutsideWorld(GameEntity actor) {
+        ActorBody body = actor.getBody();
+        double margin = margins[actor.getCollisionCategory().ordinal()];
+        return body.getMaxX() < -margin || body.getMinX() > worldWidth + margin
+                || body.getMaxY() < -margin || body.getMinY() > worldHeight + margin;
+    }
+
+    /**
+     * Sets how far actors of a category may be beyond the edge of the world before they are despawned.
+     *
+     * @param category The collision category.
+     * @param margin The margin, in pixels. Must not be negative; {@link Double#POSITIVE_INFINITY} keeps them forever.
+     */
+    public void setMargin(CollisionCategory category, double margin) {
+        if (!(margin >= 0)) {
+            throw new IllegalArgumentException("Margin must not be negative: " + margin);
+        }
+        margins[category.ordinal()] = margin;
+    }
+
+    /**
+     * Returns how far actors of a category may be beyond the edge of the world before they are despawned.
+     *
+     * @param category The collision category.
+     * @return The margin, in pixels.
+     */
+    public double getMargin(CollisionCategory category) {
+        return margins[category.ordinal()];
+    }
+
+    /**
+     * Returns the number of actors of a category despawned so far.
+     *
+     * @param category The collision category.
+     * @return The number of despawned actors.
+     */
+    public long getDespawnCount(CollisionCategory category) {
+        return despawnCounts[category.ordinal()];
+    }
+
+    /**
+     * Returns the number of actors of every category despawned so far.
+     *
+     * @return The total number of despawned actors.
+     */
+    public long getTotalDespawnCount() {
+        long total = 0;
+        for (long count : despawnCounts) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,416 @@
+package com.example.demo.activityManagers;
+
+import javafx.scene.image.Image;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The ImageCache class loads and shares every {@link Image} used by the game, so each asset is decoded once
+ * instead of every time an actor, heart or button is created.
+ * It follows the Singleton design pattern to ensure there is only one cache used throughout the application.
+ *
+ * <p>Images are keyed by resource path and requested size. Asking for the same path at the same size returns the same
+ * {@link Image} instance, which JavaFX allows to be shown by any number of image views at once. Decoding an image at
+ * the size it is displayed at also keeps large source files from taking more memory than they need.</p>
+ *
+ * <p>The cache keeps a running total of decoded bytes (four bytes per pixel). When the total goes over the budget, the
+ * least recently used large images, such as level backgrounds, are dropped from the cache. Small sprites are never
+ * evicted, as they are cheap to keep and used constantly.</p>
+ *
+ * <p>In headless mode, used to simulate levels without the JavaFX toolkit, no image is decoded at all. Actors ask for
+ * the aspect ratio of their sprite instead, which is read from the PNG header.</p>
+ *
+ * <p>Images are decoded outside the cache's lock, so a long decode on the level preloader's thread never blocks
+ * lookups on the JavaFX application thread. A request for an image another thread is already decoding waits for that
+ * decode instead of starting its own.</p>
+ */
+public class ImageCache {
+
+    /** The default memory budget for decoded images, in bytes */
+    public static final long DEFAULT_BUDGET_BYTES = 128L * 1024 * 1024;
+
+    /** Images at least this large, in decoded bytes, may be evicted when the cache is over budget */
+    public static final long LARGE_IMAGE_BYTES = 1024L * 1024;
+
+    /** Singleton instance of ImageCache, volatile so it is safely published to the level preloader's thread */
+    private static volatile ImageCache instance;
+
+    /** The cached images by key, in least-recently-used order */
+    private final LinkedHashMap<String, Image> images = new LinkedHashMap<>(32, 0.75f, true);
+
+    /** The decodes in progress, by key, so each image is only decoded by one thread at a time */
+    private final Map<String, CompletableFuture<Image>> decoding = new HashMap<>();
+
+    /** The decoded size of every cached image, by key */
+    private final Map<String, Long> imageBytes = new HashMap<>();
+
+    /** The memory budget for decoded images, in bytes */
+    private long budgetBytes = DEFAULT_BUDGET_BYTES;
+
+    /** The total decoded size of all cached images, in bytes */
+    private long decodedBytes;
+
+    /** The number of requests served from the cache */
+    private long hits;
+
+    /** The number of requests that had to decode an image */
+    private long misses;
+
+    /** The number of images evicted to stay within the budget */
+    private long evictions;
+
+    /** The aspect ratio (width over height) of every image read in headless mode, by path */
+    private final Map<String, Double> aspectRatios = new HashMap<>();
+
+    /** Whether images are left undecoded so the game can run without the JavaFX toolkit */
+    private boolean headless;
+
+    /** Decodes the images the cache does not hold yet */
+    private final ImageDecoder decoder;
+
+    /**
+     * Private constructor for the ImageCache class, following the Singleton pattern.
+     * Images are decoded from the game's resources.
+     */
+    private ImageCache() {
+        this(ImageCache::decodeResource);
+    }
+
+    /**
+     * Constructs a cache that decodes images with the given decoder, so the cache can be tested without loading files.
+     *
+     * @param decoder Decodes the images the cache does not hold yet.
+     */
+    ImageCache(ImageDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * Retrieves the Singleton instance of {@link ImageCache}.
+     *
+     * @return The Singleton instance of {@link ImageCache}.
+     */
+    public static ImageCache getInstance() {
+        if (instance == null) {
+            synchronized (ImageCache.class) {
+                if (instance == null) {
+                    instance = new ImageCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the image at the given resource path, decoded at its natural size.
+     *
+     * @param path The resource path of the image (e.g. "/com/example/demo/images/heart.png").
+     * @return The shared image.
+     */
+    public Image getImage(String path) {
+        return getImage(path, 0, 0);
+    }
+
+    /**
+     * Returns the image at the given resource path, decoded to fit the requested size with its aspect ratio preserved.
+     * A requested dimension of zero leaves that dimension unconstrained.
+     *
+     * @param path            The resource path of the image.
+     * @param requestedWidth  The width to decode the image at, or zero.
+     * @param requestedHeight The height to decode the image at, or zero.
+     * @return The shared image.
+     */
+    public Image getImage(String path, double requestedWidth, double requestedHeight) {
+        String key = path + '@' + requestedWidth + 'x' + requestedHeight;
+        CompletableFuture<Image> decode;
+        synchronized (this) {
+            Image image = images.get(key);
+            if (image != null) {
+                hits++;
+                return image;
+            }
+            decode = decoding.get(key);
+            if (decode != null) {
+                hits++; // Decoded once, by the thread already decoding it
+            } else {
+                misses++;
+                decoding.put(key, new CompletableFuture<>());
+            }
+        }
+        if (decode != null) {
+            return awaitDecode(decode);
+        }
+
+        Image image;
+        try {
+            image = decoder.decode(path, requestedWidth, requestedHeight);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                decoding.remove(key).completeExceptionally(e);
+            }
+            throw e;
+        }
+        return publish(key, image);
+    }
+
+    /**
+     * Waits for another thread to finish decoding an image.
+     *
+     * @param decode The decode in progress.
+     * @return The decoded image.
+     */
+    private static Image awaitDecode(CompletableFuture<Image> decode) {
+        try {
+            return decode.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a freshly decoded image to the cache, unless it was added meanwhile, and evicts large images if the cache is
+     * now over budget. Completes the decode so every thread waiting for it gets the cached image.
+     *
+     * @param key   The key of the image.
+     * @param image The decoded image.
+     * @return The cached image.
+     */
+    private synchronized Image publish(String key, Image image) {
+        Image cached = images.putIfAbsent(key, image);
+        if (cached == null) {
+            long bytes = (long) image.getWidth() * (long) image.getHeight() * 4;
+            imageBytes.put(key, bytes);
+            decodedBytes += bytes;
+            evictOverBudget(key);
+            cached = image;
+        }
+        decoding.remove(key).complete(cached);
+        return cached;
+    }
+
+    /**
+     * Decodes the image at the given resource path, fitted to the requested size with its aspect ratio preserved.
+     *
+     * @param path            The resource path of the image.
+     * @param requestedWidth  The width to decode the image at, or zero.
+     * @param requestedHeight The height to decode the image at, or zero.
+     * @return The decoded image.
+     */
+    private static Image decodeResource(String path, double requestedWidth, double requestedHeight) {
+        URL resource = Objects.requireNonNull(ImageCache.class.getResource(path), "Image not found: " + path);
+        return new Image(resource.toExternalForm(), requestedWidth, requestedHeight, true, true);
+    }
+
+    /**
+     * Decodes the images at the given resource paths ahead of time, so the first frames of a level do not stall on
+     * image loading. Does nothing in headless mode. Safe to call from a background thread.
+     *
+     * @param paths The resource paths of the images to load at their natural size.
+     */
+    public void preload(String... paths) {
+        for (String path : paths) {
+            preload(path, 0, 0);
+        }
+    }
+
+    /**
+     * Decodes the image at the given resource path at the given size ahead of time, so a later request for the same
+     * size is served from the cache. Does nothing in headless mode. Safe to call from a background thread.
+     *
+     * @param path            The resource path of the image.
+     * @param requestedWidth  The width to decode the image at, or zero.
+     * @param requestedHeight The height to decode the image at, or zero.
+     */
+    public void preload(String path, double requestedWidth, double requestedHeight) {
+        if (!isHeadless()) {
+            getImage(path, requestedWidth, requestedHeight);
+        }
+    }
+
+    /**
+     * Returns the aspect ratio (width over height) of the image at the given resource path without decoding it.
+     * The size is read from the header of PNG files; any other file, or one that cannot be read, is treated as square.
+     *
+     * @param path The resource path of the image.
+     * @return The aspect ratio of the image.
+     */
+    public synchronized double getAspectRatio(String path) {
+        Double aspectRatio = aspectRatios.get(path);
+        if (aspectRatio == null) {
+            aspectRatio = readPngAspectRatio(path);
+            aspectRatios.put(path, aspectRatio);
+        }
+        return aspectRatio;
+    }
+
+    /**
+     * Reads the width and height from the IHDR chunk of a PNG file, which always directly follows the 8-byte signature.
+     *
+     * @param path The resource path of the image.
+     * @return The aspect ratio of the image, or 1 if it is not a readable PNG file.
+     */
+    private static double readPngAspectRatio(String path) {
+        try (InputStream stream = ImageCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                return 1;
+            }
+            DataInputStream data = new DataInputStream(stream);
+            long signature = data.readLong();
+            data.readInt(); // IHDR chunk length
+            int chunkType = data.readInt();
+            if (signature != 0x89504E470D0A1A0AL || chunkType != 0x49484452) {
+                return 1;
+            }
+            int width = data.readInt();
+            int height = data.readInt();
+            return height > 0 ? (double) width / height : 1;
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Evicts least recently used large images until the cache is within its budget.
+     *
+     * @param keep The key of the image just loaded, which is never evicted.
+     */
+    private void evictOverBudget(String keep) {
+        Iterator<Map.Entry<String, Image>> iterator = images.entrySet().iterator();
+        while (decodedBytes > budgetBytes && iterator.hasNext()) {
+            String key = iterator.next().getKey();
+            long bytes = imageBytes.get(key);
+            if (bytes >= LARGE_IMAGE_BYTES && !key.equals(keep)) {
+                iterator.remove();
+                imageBytes.remove(key);
+                decodedBytes -= bytes;
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Switches headless mode on or off. While it is on, actors are created without images, so levels can be simulated
+     * in tests, balancing runs and benchmarks where the JavaFX toolkit is not started.
+     *
+     * @param headless {@code true} to stop decoding images, {@code false} to decode them as usual.
+     */
+    public synchronized void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
+    /**
+     * Checks whether the cache is in headless mode.
+     *
+     * @return {@code true} if images are not being decoded, {@code false} otherwise.
+     */
+    public synchronized boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Sets the memory budget for decoded images and evicts large images if the cache is now over it.
+     *
+     * @param budgetBytes The budget, in bytes.
+     */
+    public synchronized void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        evictOverBudget(null);
+    }
+
+    /**
+     * Returns the memory budget for decoded images.
+     *
+     * @return The budget, in bytes.
+     */
+    public synchronized long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Returns the total decoded size of all cached images.
+     *
+     * @return The decoded size, in bytes.
+     */
+    public synchronized long getDecodedBytes() {
+        return decodedBytes;
+    }
+
+    /**
+     * Returns the number of images currently cached.
+     *
+     * @return The number of cached images.
+     */
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests that had to decode an image.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of images evicted to stay within the budget.
+     *
+     * @return The eviction count.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Drops every cached image and resets the hit, miss and eviction counters. Images already shown on screen are
+     * unaffected.
+     */
+    public synchronized void clear() {
+        images.clear();
+        imageBytes.clear();
+        decodedBytes = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /**
+     * Decodes an image the cache does not hold yet.
+     */
+    @FunctionalInterface
+    interface ImageDecoder {
+
+        /**
+         * Decodes the image at the given resource path, fitted to the requested size.
+         *
+         * @param path            The resource path of the image.
+         * @param requestedWidth  The width to decode the image at, or zero.
+         * @param requestedHeight The height to decode the image at, or zero.
+         * @return The decoded image.
+         */
+        Image decode(String path, double requestedWidth, double requestedHeight);
+    }
+}
@@ -11,15 +11,40 @@ import java.util.function.Consumer;
 /**
  * Class responsible for handling key input actions, separating key press and key release functionality.
  * This refactor replaces the direct key event handling from LevelParent to provide more modular and maintainable input handling.
+ *
+ * <p>Live key events can be observed by an {@link InputListener}, which is how a session is recorded, and turned off
+ * so that {@link #press(KeyCode, GameEntity)} and {@link #release(KeyCode, GameEntity)} can feed in a recorded session
+ * instead.</p>
  */
 public class InputHandler {
 
+    /**
+     * Observes the live key events that trigger an action.
+     */
+    @FunctionalInterface
+    public interface InputListener {
+
+        /**
+         * Called when a key with an action is pressed or released, before the action runs.
+         *
+         * @param keyCode The key.
+         * @param pressed {@code true} if the key was pressed, {@code false} if it was released.
+         */
+        void keyChanged(KeyCode keyCode, boolean pressed);
+    }
+
     /** Map to store key press actions associated with each KeyCode */
     private final EnumMap<KeyCode, Consumer<GameEntity>> keyPressActions = new EnumMap<>(KeyCode.class);
 
     /** Map to store key release actions associated with each KeyCode */
     private final EnumMap<KeyCode, Consumer<GameEntity>> keyReleaseActions = new EnumMap<>(KeyCode.class);
 
+    /** The listener told about live key events, or {@code null} if there is none */
+    private InputListener inputListener;
+
+    /** Whether live key events trigger actions; turned off while a recorded session is replayed */
+    private boolean liveInputEnabled = true;
+
     /**
      * Default constructor for InputHandler.
      * Initializes the key action maps for key press and release actions.
@@ -56,12 +81,7 @@ public class InputHandler {
      * @return EventHandler that responds to key press events.
      */
     public EventHandler<KeyEvent> getKeyPressHandler(GameEntity entity) {
-        return event -> {
-            Consumer<GameEntity> action = keyPressActions.get(event.getCode());  // Get the action for the pressed key
-            if (action != null) {
-                action.accept(entity);  // Trigger the action if it exists
-            }
-        };
+        return event -> handleLiveInput(event.getCode(), true, entity);
     }
 
     /**
@@ -72,12 +92,74 @@ public class InputHandler {
      * @return EventHandler that responds to key release events.
      */
     public EventHandler<KeyEvent> getKeyReleaseHandler(GameEntity entity) {
-        return event -> {
-            Consumer<GameEntity> action = keyReleaseActions.get(event.getCode());  // Get the action for the released key
-            if (action != null) {
-                action.accept(entity);  // Trigger the action if it exists
-            }
-        };
+        return event -> handleLiveInput(event.getCode(), false, entity);
+    }
+
+    /**
+     * Triggers the action for a key press, as if the key had been pressed.
+     *
+     * @param keyCode The key pressed.
+     * @param entity The GameEntity to apply the action to.
+     */
+    public void press(KeyCode keyCode, GameEntity entity) {
+        Consumer<GameEntity> action = keyPressActions.get(keyCode);  // Get the action for the pressed key
+        if (action != null) {
+            action.accept(entity);  // Trigger the action if it exists
+        }
+    }
+
+    /**
+     * Triggers the action for a key release, as if the key had been released.
+     *
+     * @param keyCode The key released.
+     * @param entity The GameEntity to apply the action to.
+     */
+    public void release(KeyCode keyCode, GameEntity entity) {
+        Consumer<GameEntity> action = keyReleaseActions.get(keyCode);  // Get the action for the released key
+        if (action != null) {
+            action.accept(entity);  // Trigger the action if it exists
+        }
+    }
+
+    /**
+     * Sets the listener told about live key events that trigger an action.
+     *
+     * @param inputListener The listener, or {@code null} to remove it.
+     */
+    public void setInputListener(InputListener inputListener) {
+        this.inputListener = inputListener;
+    }
+
+    /**
+     * Sets whether live key events trigger actions. Actions triggered through {@link #press(KeyCode, GameEntity)} and
+     * {@link #release(KeyCode, GameEntity)} are not affected.
+     *
+     * @param liveInputEnabled {@code false} to ignore the keyboard.
+     */
+    public void setLiveInputEnabled(boolean liveInputEnabled) {
+        this.liveInputEnabled = liveInputEnabled;
+    }
+
+    /**
+     * Handles a key event from the keyboard: tells the listener about it if the key has an action, then triggers the
+     * action. Does nothing while live input is disabled.
+     *
+     * @param keyCode The key.
+     * @param pressed {@code true} if the key was pressed, {@code false} if it was released.
+     * @param entity The GameEntity to apply the action to.
+     */
+    private void handleLiveInput(KeyCode keyCode, boolean pressed, GameEntity entity) {
+        if (!liveInputEnabled) {
+            return;
+        }
+        if (inputListener != null && (pressed ? keyPressActions : keyReleaseActions).containsKey(keyCode)) {
+            inputListener.keyChanged(keyCode, pressed);
+        }
+        if (pressed) {
+            press(keyCode, entity);
+        } else {
+            release(keyCode, entity);
+        }
     }
 
     /**
@@ -0,0 +1,335 @@
+package com.example.demo.activityManagers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The tunable numbers of a level: the player's starting stats, its win conditions and timers, and a {@link SpawnRule}
+ * for every kind of actor it spawns.
+ *
+ * <p>Definitions are read from properties files, one per level, so the load and difficulty of a level can be changed
+ * without recompiling:</p>
+ * <pre>
+ * player.health = 5
+ * win.kills = 10
+ * # maximum spawn count, spawn probability, maximum total ("unlimited" for no cap)
+ * spawn.enemy = 5, 0.20, 10
+ * </pre>
+ * <p>Keys starting with {@code spawn.} are spawn rules, named by the rest of the key; every other key is a number.
+ * The keys the game knows have a type: counts such as {@code player.health} must be non-negative whole numbers, and
+ * the {@code seed} may be any whole number that fits in a {@code long}. Other
+ * keys may hold any whole or decimal number, and are checked against the type they are read as
+ * ({@link #getInt}, {@link #getLong} or {@link #getDouble}). The whole file is checked when it is parsed, and the result
+ * is immutable, so levels can read it freely. The {@link LevelManager} parses every level's definition once at
+ * startup.</p>
+ *
+ * <p>By default the files are the resources named by each {@link com.example.demo.levels.LevelProvider}. When the
+ * {@value #DIRECTORY_PROPERTY} system property names a directory, a file of the same name in that directory is used
+ * instead, which lets stress variants and benchmark configurations run against the same build.</p>
+ */
+public final class LevelDefinition {
+
+    /**
+     * The system property naming a directory whose definition files take precedence over the built-in ones.
+     */
+    public static final String DIRECTORY_PROPERTY = "levelDefinitions.dir";
+
+    /**
+     * The prefix of the keys that hold spawn rules.
+     */
+    private static final String SPAWN_PREFIX = "spawn.";
+
+    /**
+     * The word used in place of a maximum total for a rule without one.
+     */
+    private static final String UNLIMITED = "unlimited";
+
+    /**
+     * The type of every value the game knows, by key. Values of other keys are typed by how they are written.
+     */
+    private static final Map<String, ValueType> VALUE_TYPES = Map.of(
+            "player.health", ValueType.COUNT,
+            "player.bullets", ValueType.COUNT,
+            "player.fuel", ValueType.COUNT,
+            "win.kills", ValueType.COUNT,
+            "win.survivalSeconds", ValueType.COUNT,
+            "finishLine.secondsLeft", ValueType.COUNT,
+            RandomStreams.SEED_KEY, ValueType.WHOLE_NUMBER);
+
+    /**
+     * The name of the definition, used in error messages.
+     */
+    private final String name;
+
+    /**
+     * The values, by key: a {@link Long} for a whole number and a {@link Double} for a decimal one.
+     */
+    private final Map<String, Number> values;
+
+    /**
+     * The spawn rules, by name.
+     */
+    private final Map<String, SpawnRule> spawnRules;
+
+    /**
+     * Constructs a definition from already checked values.
+     *
+     * @param name       The name of the definition.
+     * @param values     The values, by key.
+     * @param spawnRules The spawn rules, by name.
+     */
+    private LevelDefinition(String name, Map<String, Number> values, Map<String, SpawnRule> spawnRules) {
+        this.name = name;
+        this.values = Map.copyOf(values);
+        this.spawnRules = Map.copyOf(spawnRules);
+    }
+
+    /**
+     * Loads the definition at the given resource path, or from the directory named by {@value #DIRECTORY_PROPERTY}
+     * if it holds a file of the same name.
+     *
+     * @param resourcePath The resource path of the definition file.
+     * @return The parsed definition.
+     * @throws IllegalArgumentException If the file cannot be found or holds an invalid entry.
+     * @throws UncheckedIOException     If the file cannot be read.
+     */
+    public static LevelDefinition load(String resourcePath) {
+        String fileName = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        Properties properties = new Properties();
+        try {
+            Path override = directory != null ? Path.of(directory, fileName) : null;
+            if (override != null && Files.isRegularFile(override)) {
+                try (Reader reader = Files.newBufferedReader(override, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            } else {
+                try (InputStream stream = LevelDefinition.class.getResourceAsStream(resourcePath)) {
+                    if (stream == null) {
+                        throw new IllegalArgumentException("Level definition not found: " + resourcePath);
+                    }
+                    properties.load(stream);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read level definition " + resourcePath, e);
+        }
+        return parse(fileName, properties);
+    }
+
+    /**
+     * Parses and checks a definition.
+     *
+     * @param name       The name of the definition, used in error messages.
+     * @param properties The entries of the definition.
+     * @return The parsed definition.
+     * @throws IllegalArgumentException If an entry is not a valid value or spawn rule.
+     */
+    public static LevelDefinition parse(String name, Properties properties) {
+        Map<String, Number> values = new HashMap<>();
+        Map<String, SpawnRule> spawnRules = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key).trim();
+            try {
+                if (key.startsWith(SPAWN_PREFIX)) {
+                    spawnRules.put(key.substring(SPAWN_PREFIX.length()), parseSpawnRule(value));
+                } else {
+                    values.put(key, VALUE_TYPES.getOrDefault(key, ValueType.NUMBER).parse(value));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(name + ": invalid " + key + " '" + value + "': " + e.getMessage(), e);
+            }
+        }
+        return new LevelDefinition(name, values, spawnRules);
+    }
+
+    /**
+     * Parses a spawn rule written as "maximum spawn count, spawn probability, maximum total".
+     *
+     * @param value The text of the rule.
+     * @return The spawn rule.
+     * @throws IllegalArgumentException If the text is not a valid rule.
+     */
+    private static SpawnRule parseSpawnRule(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("expected maximum spawn count, spawn probability and maximum total");
+        }
+        String maxTotal = parts[2].trim();
+        return new SpawnRule(
+                parseCount(parts[0].trim()),
+                Double.parseDouble(parts[1].trim()),
+                UNLIMITED.equals(maxTotal) ? SpawnRule.UNLIMITED : parseCount(maxTotal));
+    }
+
+    /**
+     * Parses a non-negative whole number.
+     *
+     * @param value The text of the number.
+     * @return The number.
+     * @throws IllegalArgumentException If the text is not a non-negative whole number.
+     */
+    private static int parseCount(String value) {
+        int count = Integer.parseInt(value);
+        if (count < 0) {
+            throw new IllegalArgumentException("must not be negative");
+        }
+        return count;
+    }
+
+    /**
+     * Parses a number, keeping whole numbers exact.
+     *
+     * @param value The text of the number.
+     * @return A {@link Long} if the text is a whole number, or a {@link Double} otherwise.
+     * @throws IllegalArgumentException If the text is not a number.
+     */
+    private static Number parseNumber(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            double number = Double.parseDouble(value);
+            if (!Double.isFinite(number)) {
+                throw new IllegalArgumentException("must be a finite number");
+            }
+            return number;
+        }
+    }
+
+    /**
+     * Returns the name of the definition.
+     *
+     * @return The name, normally the file name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether the definition has a value for the given key, for values that are optional.
+     *
+     * @param key The key of the value.
+     * @return {@code true} if the value is defined, {@code false} otherwise.
+     */
+    public boolean hasValue(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Returns a whole-number value of the level that fits in an {@code int}, such as a count.
+     *
+     * @param key The key of the value, e.g. {@code "player.health"}.
+     * @return The value.
+     * @throws IllegalArgumentException If the definition has no such value, or it is not a whole number in range.
+     */
+    public int getInt(String key) {
+        long value = getLong(key);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(name + ": " + key + " is out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns a whole-number value of the level, such as a seed.
+     *
+     * @param key The key of the value.
+     * @return The value.
+     * @throws IllegalArgumentException If the definition has no such value, or it is not a whole number.
+     */
+    public long getLong(String key) {
+        Number value = getValue(key);
+        if (!(value instanceof Long)) {
+            throw new IllegalArgumentException(name + ": " + key + " is not a whole number: " + value);
+        }
+        return value.longValue();
+    }
+
+    /**
+     * Returns a numeric value of the level, whether it is written as a whole or a decimal number.
+     *
+     * @param key The key of the value.
+     * @return The value.
+     * @throws IllegalArgumentException If the definition has no such value.
+     */
+    public double getDouble(String key) {
+        return getValue(key).doubleValue();
+    }
+
+    /**
+     * Returns a value of the level as it was parsed.
+     *
+     * @param key The key of the value.
+     * @return The value.
+     * @throws IllegalArgumentException If the definition has no such value.
+     */
+    private Number getValue(String key) {
+        Number value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException(name + ": missing " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the rule for spawning one kind of actor.
+     *
+     * @param actorName The name of the actor in the rule's key, e.g. {@code "enemy"} for {@code spawn.enemy}.
+     * @return The spawn rule.
+     * @throws IllegalArgumentException If the definition has no such rule.
+     */
+    public SpawnRule getSpawnRule(String actorName) {
+        SpawnRule rule = spawnRules.get(actorName);
+        if (rule == null) {
+            throw new IllegalArgumentException(name + ": missing " + SPAWN_PREFIX + actorName);
+        }
+        return rule;
+    }
+
+    /**
+     * The types a value of a definition can have.
+     */
+    private enum ValueType {
+
+        /** A non-negative whole number, such as a count, a health or a number of seconds. */
+        COUNT {
+            @Override
+            Number parse(String value) {
+                return (long) parseCount(value);
+            }
+        },
+
+        /** Any whole number that fits in a {@code long}, such as a seed. */
+        WHOLE_NUMBER {
+            @Override
+            Number parse(String value) {
+                return Long.parseLong(value);
+            }
+        },
+
+        /** Any whole or decimal number. */
+        NUMBER {
+            @Override
+            Number parse(String value) {
+                return parseNumber(value);
+            }
+        };
+
+        /**
+         * Parses a value of this type.
+         *
+         * @param value The text of the value.
+         * @return The value: a {@link Long} for a whole number and a {@link Double} for a decimal one.
+         * @throws IllegalArgumentException If the text is not a value of this type.
+         */
+        abstract Number parse(String value);
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.demo.activityManagers;
 
 import com.example.demo.displays.LevelStartScreen;
+import com.example.demo.levels.LevelProvider;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
 
 /**
  * The LevelManager class is responsible for managing the progression of levels in the game.
@@ -11,6 +17,10 @@ import java.beans.PropertyChangeSupport;
  * This class uses the Singleton design pattern to ensure a single instance is created,
  * providing a consistent way of managing levels.
  *
+ * <p>The levels themselves are {@link LevelProvider} services, discovered once when the manager is created, so adding
+ * a level does not require changes to this class. Each level's {@link LevelDefinition} is parsed and validated at the
+ * same time, so a broken definition file is reported at startup rather than when the level is reached.</p>
+ *
  * <p>Original Source: This class is newly introduced to centralize level management and avoid mixing level logic
  *  * with gameplay logic previously found in LevelParent.</p>
  */
@@ -21,17 +31,44 @@ public class LevelManager extends PropertyChangeSupport {
     /** Tracks the current level number. */
     private int currentLevelNumber;
 
-    /** The total number of levels in the game plus one for boundary tracking. */
-    public static final int TOTAL_LEVELS_PLUS1 = 4 + 1;
+    /** Every level discovered at startup, by level number. Transient, as the levels are rediscovered at startup. */
+    private final transient NavigableMap<Integer, LevelProvider> levels;
+
+    /** The definition of every level, keyed by level number. Transient, as they are parsed again with the levels. */
+    private final transient Map<Integer, LevelDefinition> definitions;
 
 
     /**
-     * Private constructor initializes currentLevelNumber to 1.
-     * This ensures the LevelManager starts at level 1 when instantiated.
+     * Private constructor discovers the levels and initializes currentLevelNumber to the first of them.
+     * This ensures the LevelManager starts at level 1 when instantiated with the built-in levels.
      */
     private LevelManager() {
+        this(ServiceLoader.load(LevelProvider.class));
+    }
+
+    /**
+     * Constructs a level manager over the given levels, starting at the lowest level number (normally 1).
+     * Level numbers need not be consecutive; the game moves from each level to the next higher number.
+     *
+     * @param providers The providers of the levels. Two levels may not share a number.
+     * @throws IllegalStateException If two providers declare the same level number.
+     * @throws IllegalArgumentException If a level's definition file is missing or invalid.
+     */
+    LevelManager(Iterable<LevelProvider> providers) {
         super(LevelManager.class);
-        this.currentLevelNumber = 1;
+        this.levels = new TreeMap<>();
+        for (LevelProvider provider : providers) {
+            LevelProvider previous = levels.putIfAbsent(provider.getLevelNumber(), provider);
+            if (previous != null) {
+                throw new IllegalStateException("Level " + provider.getLevelNumber() + " is provided by both "
+                        + previous.getClass().getName() + " and " + provider.getClass().getName());
+            }
+        }
+        this.currentLevelNumber = levels.isEmpty() ? 1 : levels.firstKey();
+        this.definitions = new HashMap<>();
+        for (LevelProvider provider : levels.values()) {
+            definitions.put(provider.getLevelNumber(), LevelDefinition.load(provider.getDefinitionName()));
+        }
     }
 
     /**
@@ -49,8 +86,6 @@ public class LevelManager extends PropertyChangeSupport {
 
 
     /**
-     * Increments the current level number by 1, ensuring it does not exceed the total number of levels.
-     * This method is typically called when a level is completed.
      * Shows the level start screen for the given level number.
      * Displays the level's name and objective to the player.
      *
@@ -62,38 +97,74 @@ public class LevelManager extends PropertyChangeSupport {
     }
 
     /**
-     * Increments the current level number, ensuring that it doesn't exceed the total number of levels.
+     * Advances the current level number to the next higher level that exists, ensuring that it doesn't exceed the
+     * last level. Gaps in the level numbers are skipped.
      * This method is called when a level is completed, advancing to the next level.
      */
     public void incrementCurrentLevelNumber() {
-        if (currentLevelNumber < TOTAL_LEVELS_PLUS1 - 1) {
-            currentLevelNumber++;
+        Integer nextLevelNumber = levels.higherKey(currentLevelNumber);
+        if (nextLevelNumber != null) {
+            currentLevelNumber = nextLevelNumber;
         } else {
             System.out.println("No more levels to increment.");
         }
     }
 
     /**
-     * Retrieves the name of the next level.
+     * Retrieves the provider of the current level, which is the next one to be played.
      *
-     * @return The name of the next level, or null if there are no more levels.
+     * @return The provider of the next level, or null if there is no level with the current number.
      */
-    public String getNextLevelName() {
-        if (currentLevelNumber < TOTAL_LEVELS_PLUS1) {
-            return "com.example.demo.levels.Level" + (currentLevelNumber) + ".Level" + (currentLevelNumber);
-        } else {
-            return null;
-        }
+    public LevelProvider getNextLevel() {
+        return getLevel(currentLevelNumber);
+    }
+
+    /**
+     * Retrieves the provider of a level.
+     *
+     * @param levelNumber The level number.
+     * @return The provider of the level, or null if there is no such level.
+     */
+    public LevelProvider getLevel(int levelNumber) {
+        return levels.get(levelNumber);
+    }
+
+    /**
+     * Retrieves the definition of a level, parsed when the manager was created.
+     *
+     * @param levelNumber The number of the level.
+     * @return The level's definition, or {@code null} if there is no such level.
+     */
+    public LevelDefinition getDefinition(int levelNumber) {
+        return definitions.get(levelNumber);
+    }
+
+    /**
+     * Retrieves the number of levels discovered.
+     *
+     * @return The number of levels.
+     */
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * Retrieves the number of the last level of the game.
+     *
+     * @return The highest level number, or 0 if no level was discovered.
+     */
+    public int getLastLevelNumber() {
+        return levels.isEmpty() ? 0 : levels.lastKey();
     }
 
     /**
      * Transitions to the next level by notifying all registered listeners of the level change event.
-     * This method fires a property change event with the next level's name.
+     * This method fires a property change event with the next level's provider.
      */
     public void goToNextLevel() {
-        String levelName = getNextLevelName();
-        if (levelName != null) {
-            firePropertyChange("nextLevel", null, levelName);
+        LevelProvider level = getNextLevel();
+        if (level != null) {
+            firePropertyChange("nextLevel", null, level);
         } else {
             System.out.println("No more levels to transition to.");
         }
@@ -105,7 +176,7 @@ public class LevelManager extends PropertyChangeSupport {
      * @return {@code true} if the current level is the last level, {@code false} otherwise.
      */
     public boolean isLastLevel() {
-        return currentLevelNumber == TOTAL_LEVELS_PLUS1 - 1;
+        return currentLevelNumber == getLastLevelNumber();
     }
 
     /**
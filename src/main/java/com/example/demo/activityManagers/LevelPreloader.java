@@ -0,0 +1,157 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.ActorPools;
+import com.example.demo.actors.GameEntity;
+import com.example.demo.levels.LevelProvider;
+import com.example.demo.levels.LevelView;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The LevelPreloader prepares the next level on a background thread while its {@link com.example.demo.displays.LevelStartScreen}
+ * is on screen, so that starting the level does not stall on loading.
+ * It follows the Singleton design pattern, like the other managers.
+ *
+ * <p>Preloading decodes the level's full-size background and every heads-up display image into the
+ * {@link ImageCache}, and, the first time, builds spare actors for the {@link ActorPools}, which decodes their
+ * sprites. None of this touches a live scene, so it is safe off the JavaFX application thread.
+ * The level itself, with its {@code Scene}, is still constructed on the application thread when the player starts it,
+ * but by then every image it asks for is already in the cache.</p>
+ *
+ * <p>{@link #awaitPreload(int)} is called on the application thread when the level is started. It waits for the
+ * preload to finish if it is still running, and hands the spare actors to their pools there, so the pools are only
+ * ever touched by one thread.</p>
+ */
+public class LevelPreloader {
+
+    /** The number of spare actors built for each actor pool */
+    public static final int SPARES_PER_POOL = 8;
+
+    /** Singleton instance of LevelPreloader, volatile so the double-checked locking publishes it safely */
+    private static volatile LevelPreloader instance;
+
+    /** The single background thread that preloads levels, one at a time */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "level-preloader");
+        thread.setDaemon(true); // Never keeps the application alive on exit
+        return thread;
+    });
+
+    /** The number of the level being preloaded, or {@code 0} if none is */
+    private int pendingLevelNumber;
+
+    /** The preload in progress or finished for {@link #pendingLevelNumber} */
+    private CompletableFuture<PreloadedLevel> pending;
+
+    /** Whether spare actors have already been handed to the pools */
+    private boolean sparesCreated;
+
+    /** How long the last preload that was used took on the background thread, or {@code -1} if none has been used */
+    private long lastPreloadNanos = -1;
+
+    /**
+     * What a preload produced: the spare actors still to be handed to their pools.
+     *
+     * @param spares       The spare actors built for the pools.
+     * @param preloadNanos How long the preload took.
+     */
+    private record PreloadedLevel(List<GameEntity> spares, long preloadNanos) {}
+
+    /**
+     * Private constructor for the LevelPreloader class, following the Singleton pattern.
+     */
+    private LevelPreloader() {}
+
+    /**
+     * Retrieves the Singleton instance of {@link LevelPreloader}.
+     *
+     * @return The Singleton instance of {@link LevelPreloader}.
+     */
+    public static LevelPreloader getInstance() {
+        if (instance == null) {
+            synchronized (LevelPreloader.class) {
+                if (instance == null) {
+                    instance = new LevelPreloader();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Starts preloading a level on the background thread and returns immediately.
+     * A level that is already being preloaded is not preloaded again, and an unknown level is ignored.
+     *
+     * @param levelNumber The number of the level the player is about to start.
+     */
+    public void preload(int levelNumber) {
+        LevelProvider level = LevelManager.getInstance().getLevel(levelNumber);
+        if (level == null || levelNumber == pendingLevelNumber) {
+            return;
+        }
+        String backgroundImageName = level.getBackgroundImageName();
+        boolean createSpares = !sparesCreated; // Set once the spares reach the pools, as a preload may go unused
+        pendingLevelNumber = levelNumber;
+        pending = CompletableFuture.supplyAsync(() -> load(backgroundImageName, createSpares), executor);
+    }
+
+    /**
+     * Finishes the preload of the given level, if there is one: waits for it if it is still running, then hands its
+     * spare actors to their pools. A failed preload is reported and otherwise ignored, as the level can still be built
+     * without it. Must be called on the JavaFX application thread before the level is built.
+     *
+     * @param levelNumber The number of the level being started.
+     */
+    public void awaitPreload(int levelNumber) {
+        CompletableFuture<PreloadedLevel> future = levelNumber == pendingLevelNumber ? pending : null;
+        pendingLevelNumber = 0;
+        pending = null;
+        if (future == null) {
+            return;
+        }
+
+        PreloadedLevel preloaded;
+        try {
+            preloaded = future.join();
+        } catch (CompletionException e) {
+            System.out.println("Preloading level " + levelNumber + " failed: " + e.getCause());
+            return;
+        }
+        ActorPools actorPools = ActorPools.getInstance();
+        for (GameEntity spare : preloaded.spares()) {
+            actorPools.release(spare);
+        }
+        sparesCreated |= !preloaded.spares().isEmpty();
+        lastPreloadNanos = preloaded.preloadNanos();
+    }
+
+    /**
+     * Returns how long the last preload that was used took on the background thread.
+     *
+     * @return The time, in nanoseconds, or {@code -1} if no preload has been used yet.
+     */
+    public long getLastPreloadNanos() {
+        return lastPreloadNanos;
+    }
+
+    /**
+     * Loads a level's assets. Runs on the background thread.
+     *
+     * @param backgroundImageName The resource path of the level's background image.
+     * @param createSpares        Whether to build spare actors for the pools.
+     * @return What the preload produced.
+     */
+    private static PreloadedLevel load(String backgroundImageName, boolean createSpares) {
+        long start = System.nanoTime();
+        ImageCache.getInstance().preload(backgroundImageName);
+        LevelView.preloadImages();
+        List<GameEntity> spares = createSpares
+                ? ActorPools.getInstance().createSpares(SPARES_PER_POOL)
+                : List.of();
+        return new PreloadedLevel(spares, System.nanoTime() - start);
+    }
+}
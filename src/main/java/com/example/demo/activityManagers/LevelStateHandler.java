@@ -4,7 +4,6 @@ import com.example.demo.actors.Planes.friendlyPlanes.UserParent;
 import com.example.demo.controller.AppStage;
 import com.example.demo.controller.GameLoop;
 import com.example.demo.displays.*;
-import javafx.animation.Timeline;
 import javafx.scene.Group;
 
 /**
@@ -19,8 +18,8 @@ public class LevelStateHandler {
     /** Singleton instance of LevelStateHandler. */
     private static LevelStateHandler instance;
 
-    /** The timeline that controls the flow of the game. */
-    private final Timeline timeline;
+    /** The game loop that controls the flow of the game. */
+    private final GameLoop gameLoop;
 
     /** Singleton instance of LevelManager to manage levels. */
     private final LevelManager levelManager;
@@ -32,10 +31,10 @@ public class LevelStateHandler {
     private AudioHandler audioHandler;
 
     /**
-     * Constructor for LevelStateHandler. Initializes the Timeline and LevelManager for managing the game state.
+     * Constructor for LevelStateHandler. Initializes the game loop and LevelManager for managing the game state.
      */
     public LevelStateHandler() {
-        this.timeline = GameLoop.getInstance().getTimeline(); // Initialize the game timeline
+        this.gameLoop = GameLoop.getInstance(); // Access the game loop
         this.levelManager = LevelManager.getInstance(); // Access LevelManager instance
         this.audioHandler = AudioHandler.getInstance();
     }
@@ -65,10 +64,10 @@ public class LevelStateHandler {
     }
 
     /**
-     * Starts the game timeline to resume the game's activity.
+     * Starts the game loop to resume the game's activity.
      */
     private void playTimeline() {
-        timeline.play(); // Start the game timeline
+        gameLoop.play(); // Start the game loop
     }
 
     /**
@@ -140,7 +139,7 @@ public class LevelStateHandler {
     }
 
     /**
-     * Resumes the level after pausing. It stops the redeem life timer (if running) and restarts the timeline.
+     * Resumes the level after pausing. It stops the redeem life timer (if running) and restarts the game loop.
      */
     public void resumeLevel() {
         audioHandler.stopAllSounds();
@@ -0,0 +1,94 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.ActorBody;
+import com.example.demo.actors.BodyBatch;
+import com.example.demo.actors.kernels.MotionKernel;
+import com.example.demo.actors.kernels.MotionKernels;
+
+/**
+ * The MovementSystem moves the bodies of all kinematic actors (those whose update is only a constant-velocity move, see
+ * {@link com.example.demo.actors.GameEntity#isKinematic()}) in one batch per tick.
+ *
+ * <p>Projectiles and enemy planes make up most of the actors on screen. Updating them one at a time means a virtual
+ * {@code update()} call on a different subclass for nearly every actor, which the JIT cannot inline. Here their bodies
+ * are attached to a {@link BodyBatch}, which keeps their positions and bounds in packed arrays, and all advanced by
+ * the same {@link MotionKernel}, whatever kind of actor they belong to.</p>
+ *
+ * <p>The kernel is chosen by {@link MotionKernels#select()}: the scalar kernel by default, or the SIMD kernel when it
+ * has been switched on.</p>
+ *
+ * <p>Bodies are added and removed by the {@link ActorManager} as kinematic actors enter and leave the game.</p>
+ */
+public class MovementSystem {
+
+    /**
+     * The packed state of the bodies moved every tick.
+     */
+    private final BodyBatch batch;
+
+    /**
+     * Constructs a movement system using the kernel selected for this JVM.
+     */
+    public MovementSystem() {
+        this(MotionKernels.select());
+    }
+
+    /**
+     * Constructs a movement system using the given kernel.
+     *
+     * @param kernel The kernel that advances the bodies.
+     */
+    public MovementSystem(MotionKernel kernel) {
+        this.batch = new BodyBatch(kernel);
+    }
+
+    /**
+     * Adds a body to the system. Does nothing if it is already there.
+     *
+     * @param body The body of a kinematic actor that has become active.
+     */
+    public void add(ActorBody body) {
+        batch.attach(body);
+    }
+
+    /**
+     * Removes a body from the system.
+     *
+     * @param body The body of an actor that has left the game.
+     */
+    public void remove(ActorBody body) {
+        batch.detach(body);
+    }
+
+    /**
+     * Moves every body by its velocity for one tick.
+     */
+    public void update() {
+        batch.advance();
+    }
+
+    /**
+     * Removes every body from the system.
+     */
+    public void clear() {
+        batch.clear();
+    }
+
+    /**
+     * Returns the number of bodies moved every tick.
+     *
+     * @return The number of bodies.
+     */
+    public int size() {
+        return batch.size();
+    }
+
+    /**
+     * Returns the packed state of the bodies, so it can be tested many bodies at a time.
+     *
+     * @return The batch of bodies.
+     */
+    public BodyBatch getBatch() {
+        return batch;
+    }
+}
@@ -26,8 +26,8 @@ public class OverlayHandler {
     /** Singleton instance of the OverlayHandler. */
     private static OverlayHandler instance;
 
-    /** Timeline object used for controlling the game loop and animation. */
-    private Timeline timeline;
+    /** The game loop, paused and stopped while overlays are shown. */
+    private GameLoop gameLoop;
 
     /** Factory class used for creating overlays with dynamic content. */
     private OverlayFactory overlayFactory;
@@ -75,7 +75,7 @@ public class OverlayHandler {
      * Constructor for OverlayHandler, initializes various components and button configurations for overlays.
      */
     public OverlayHandler() {
-        this.timeline = GameLoop.getInstance().getTimeline();
+        this.gameLoop = GameLoop.getInstance();
         this.levelScoreGenerator = new LevelScoreGenerator();
         this.overlayFactory = OverlayFactory.getInstance();
         this.userStatsManager = UserStatsManager.getInstance();
@@ -254,7 +254,7 @@ public class OverlayHandler {
     }
 
     /**
-     * Handles the pause state of the game by displaying the pause overlay and stopping the game timeline.
+     * Handles the pause state of the game by displaying the pause overlay and stopping the game loop.
      *
      * @param root The root node of the game scene.
      * @param user The user who paused the game.
@@ -272,16 +272,16 @@ public class OverlayHandler {
     }
 
     /**
-     * Stops the game timeline.
+     * Stops the game loop.
      */
     private void stopTimeline() {
-        timeline.stop();
+        gameLoop.stop();
     }
 
     /**
-     * Pauses the game timeline.
+     * Pauses the game loop.
      */
     private void pauseTimeline() {
-        timeline.pause();
+        gameLoop.pause();
     }
 }
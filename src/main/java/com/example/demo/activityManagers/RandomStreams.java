@@ -0,0 +1,122 @@
+package com.example.demo.activityManagers;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The random number streams of one level, all derived from a single seed.
+ *
+ * <p>Every random decision in a level (where and whether actors spawn, when enemies fire, how the boss moves and
+ * shields, which edge a rocket comes from) is drawn from one of these streams rather than from {@code Math.random()}.
+ * Each subsystem has its own stream, split from the seed, so a change in how often one of them draws does not shift
+ * the numbers seen by the others. Given the same seed and the same input, a level therefore plays out the same way
+ * tick for tick, and benchmark runs of one configuration are comparable.</p>
+ *
+ * <p>The seed is taken from the {@value #SEED_PROPERTY} system property if it is set, then from the {@code seed}
+ * entry of the level's {@link LevelDefinition}, and is otherwise chosen at random. A random seed is printed as the
+ * {@code seed} entry to add to the level's definition file, so that level alone can be repeated.</p>
+ *
+ * <p>The streams are not thread-safe; like the rest of the level, they are only used on the game loop's thread.</p>
+ */
+public final class RandomStreams {
+
+    /**
+     * The system property that fixes the seed of every level.
+     */
+    public static final String SEED_PROPERTY = "game.seed";
+
+    /**
+     * The key of the optional seed in a level's definition.
+     */
+    public static final String SEED_KEY = "seed";
+
+    /**
+     * The seed all the streams were derived from.
+     */
+    private final long seed;
+
+    /**
+     * The stream used to decide where and whether actors spawn.
+     */
+    private final SplittableRandom spawning;
+
+    /**
+     * The stream used by enemies to decide when they fire, move and shield.
+     */
+    private final SplittableRandom enemies;
+
+    /**
+     * The stream used by level-specific rules.
+     */
+    private final SplittableRandom level;
+
+    /**
+     * Constructs the streams for the given seed.
+     *
+     * @param seed The seed to derive the streams from.
+     */
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.spawning = root.split();
+        this.enemies = root.split();
+        this.level = root.split();
+    }
+
+    /**
+     * Constructs the streams for a level, seeded as described in the class documentation.
+     *
+     * @param definition The definition of the level.
+     * @return The level's random streams.
+     * @throws NumberFormatException If the {@value #SEED_PROPERTY} system property is not a whole number.
+     */
+    public static RandomStreams forLevel(LevelDefinition definition) {
+        String configuredSeed = System.getProperty(SEED_PROPERTY);
+        if (configuredSeed != null) {
+            return new RandomStreams(Long.parseLong(configuredSeed.trim()));
+        }
+        if (definition.hasValue(SEED_KEY)) {
+            return new RandomStreams(definition.getLong(SEED_KEY));
+        }
+        long seed = new SplittableRandom().nextLong();
+        System.out.println(definition.getName() + ": random seed, add '" + SEED_KEY + " = " + seed + "' to "
+                + definition.getName() + " to repeat this level");
+        return new RandomStreams(seed);
+    }
+
+    /**
+     * Returns the seed the streams were derived from, so the run can be repeated.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the stream used to decide where and whether actors spawn.
+     *
+     * @return The spawning stream.
+     */
+    public RandomGenerator spawning() {
+        return spawning;
+    }
+
+    /**
+     * Returns the stream used by enemies to decide when they fire, move and shield.
+     *
+     * @return The enemy stream.
+     */
+    public RandomGenerator enemies() {
+        return enemies;
+    }
+
+    /**
+     * Returns the stream used by level-specific rules.
+     *
+     * @return The level stream.
+     */
+    public RandomGenerator level() {
+        return level;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.GameEntity;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The SpawnArea class describes where a kind of actor may be spawned, and how much room it takes up once it is there.
+ *
+ * <p>Candidate positions are drawn uniformly from the rectangle between the minimum and maximum coordinates.
+ * The footprint of the actor (its bounding box relative to the position it was created at) is learned from the first
+ * actor built for the area. From then on {@link SpawnHandler} can test a candidate position for overlap before it builds
+ * the actor, so rejected positions never pay for creating an actor and loading its image.</p>
+ *
+ * <p>An area is meant to be kept by the level and reused for every spawn of the same kind of actor.</p>
+ */
+public class SpawnArea {
+
+    /**
+     * The smallest X position a candidate can take.
+     */
+    private final double minX;
+
+    /**
+     * The largest X position a candidate can take.
+     */
+    private final double maxX;
+
+    /**
+     * The smallest Y position a candidate can take.
+     */
+    private final double minY;
+
+    /**
+     * The largest Y position a candidate can take.
+     */
+    private final double maxY;
+
+    /**
+     * Whether the footprint has been learned from a spawned actor.
+     */
+    private boolean footprintKnown;
+
+    /**
+     * The offset of the left edge of the actor's bounding box from its spawn X position.
+     */
+    private double footprintOffsetX;
+
+    /**
+     * The offset of the top edge of the actor's bounding box from its spawn Y position.
+     */
+    private double footprintOffsetY;
+
+    /**
+     * The width of the actor's bounding box.
+     */
+    private double footprintWidth;
+
+    /**
+     * The height of the actor's bounding box.
+     */
+    private double footprintHeight;
+
+    /**
+     * Constructs a spawn area covering the given range of positions.
+     * Passing the same value as minimum and maximum fixes that coordinate.
+     *
+     * @param minX The smallest X position.
+     * @param maxX The largest X position.
+     * @param minY The smallest Y position.
+     * @param maxY The largest Y position.
+     */
+    public SpawnArea(double minX, double maxX, double minY, double maxY) {
+        if (maxX < minX || maxY < minY) {
+            throw new IllegalArgumentException("Spawn area maximum must not be below its minimum.");
+        }
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Draws a random X position from the area.
+     *
+     * @param random The random stream to draw from.
+     * @return A candidate X position.
+     */
+    public double nextX(RandomGenerator random) {
+        return minX + random.nextDouble() * (maxX - minX);
+    }
+
+    /**
+     * Draws a random Y position from the area.
+     *
+     * @param random The random stream to draw from.
+     * @return A candidate Y position.
+     */
+    public double nextY(RandomGenerator random) {
+        return minY + random.nextDouble() * (maxY - minY);
+    }
+
+    /**
+     * Checks whether the footprint of the actors spawned in this area is known yet.
+     *
+     * @return {@code true} once an actor has been spawned in this area, {@code false} before.
+     */
+    public boolean isFootprintKnown() {
+        return footprintKnown;
+    }
+
+    /**
+     * Records the footprint of an actor created at the given position.
+     *
+     * @param actor The actor that was created.
+     * @param x     The X position it was created at.
+     * @param y     The Y position it was created at.
+     */
+    public void learnFootprint(GameEntity actor, double x, double y) {
+        footprintOffsetX = actor.getMinX() - x;
+        footprintOffsetY = actor.getMinY() - y;
+        footprintWidth = actor.getMaxX() - actor.getMinX();
+        footprintHeight = actor.getMaxY() - actor.getMinY();
+        footprintKnown = true;
+    }
+
+    /**
+     * Returns the left edge an actor spawned at the given X position would have.
+     *
+     * @param x The spawn X position.
+     * @return The left edge of the actor's bounding box.
+     */
+    public double footprintMinX(double x) {
+        return x + footprintOffsetX;
+    }
+
+    /**
+     * Returns the top edge an actor spawned at the given Y position would have.
+     *
+     * @param y The spawn Y position.
+     * @return The top edge of the actor's bounding box.
+     */
+    public double footprintMinY(double y) {
+        return y + footprintOffsetY;
+    }
+
+    /**
+     * Returns the width of the actors spawned in this area.
+     *
+     * @return The footprint width.
+     */
+    public double getFootprintWidth() {
+        return footprintWidth;
+    }
+
+    /**
+     * Returns the height of the actors spawned in this area.
+     *
+     * @return The footprint height.
+     */
+    public double getFootprintHeight() {
+        return footprintHeight;
+    }
+}
@@ -0,0 +1,444 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.Updatable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * The SpawnDirector decides when actors spawn. Spawn events are kept on a priority queue ordered by the tick they are
+ * due, so each tick only the events that are due are looked at, instead of every spawn rule rolling for every free
+ * slot on every tick.
+ *
+ * <p>Levels hand their steady spawning to the director as {@link Spawner}s, one per spawn rule, and can add scripted
+ * {@link Wave}s on top. Events due on the same tick run in the order they were scheduled, so a level plays out the same
+ * way for the same seed.</p>
+ *
+ * <p>Each slot of a spawner has a timer that goes off after a number of ticks drawn from the geometric distribution of
+ * the rule's spawn probability. That is the same as rolling the probability on every tick, but only one random number
+ * is drawn per spawn. When a timer goes off while its slot is taken, it is simply set again; because the distribution
+ * is memoryless, the next spawn after a slot frees up is exactly as likely on each tick as before.</p>
+ */
+public class SpawnDirector implements Updatable {
+
+    /**
+     * The longest delay a timer is set for, so very small probabilities cannot overflow the tick.
+     */
+    private static final long MAX_DELAY = Integer.MAX_VALUE;
+
+    /**
+     * Orders events by the tick they are due, then by the order they were scheduled in.
+     */
+    private static final Comparator<ScheduledEvent> EVENT_ORDER =
+            Comparator.comparingLong(ScheduledEvent::getTick).thenComparingLong(ScheduledEvent::getSequence);
+
+    /**
+     * The scheduled events, the next one due first.
+     */
+    private final PriorityQueue<ScheduledEvent> events = new PriorityQueue<>(EVENT_ORDER);
+
+    /**
+     * The spawners that had timers go off during the current tick, spawned together once the due events have run.
+     */
+    private final List<Spawner> dueSpawners = new ArrayList<>();
+
+    /**
+     * The random stream the spawn timers are drawn from.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * The number of ticks run so far.
+     */
+    private long tick;
+
+    /**
+     * The number of events scheduled so far, used to keep events due on the same tick in order.
+     */
+    private long sequence;
+
+    /**
+     * The number of events run so far.
+     */
+    private long firedEvents;
+
+    /**
+     * Constructs a spawn director drawing its timers from the given random stream.
+     *
+     * @param random The random stream the spawn timers are drawn from.
+     * @see RandomStreams#spawning()
+     */
+    public SpawnDirector(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Adds a spawner that keeps up to the rule's number of actors alive, spawning into each free slot with the rule's
+     * probability per tick.
+     *
+     * @param spawnRule The maximum spawn count, spawn probability and total limit, from the level's definition.
+     * @param liveCount The number of actors of this kind currently alive, read whenever a timer goes off.
+     * @param action    Spawns the given number of actors.
+     * @return The spawner, so it can be adjusted or paused.
+     */
+    public Spawner addSpawner(SpawnRule spawnRule, IntSupplier liveCount, SpawnAction action) {
+        Spawner spawner = new Spawner(Math.min(spawnRule.maxSpawnCount(), spawnRule.maxTotal()),
+                spawnRule.spawnProbability(), liveCount, action);
+        spawner.armIdleTimers();
+        return spawner;
+    }
+
+    /**
+     * Schedules a wave to start after the given number of ticks.
+     *
+     * @param wave       The wave.
+     * @param delayTicks The number of ticks from now the wave starts at; {@code 0} starts it at the end of this tick.
+     */
+    public void play(Wave wave, long delayTicks) {
+        wave.schedule(this, tick + delayTicks);
+    }
+
+    /**
+     * Schedules an action to run at the given tick. An action due at a tick already run runs on the next update.
+     *
+     * @param dueTick The tick the action is due.
+     * @param action  The action.
+     */
+    public void scheduleAt(long dueTick, Runnable action) {
+        schedule(new OneShotEvent(action), dueTick);
+    }
+
+    /**
+     * Counts a tick and runs every event due by it. Spawners whose timers went off spawn once all events have run,
+     * so a spawner places all of its actors for the tick together.
+     */
+    @Override
+    public void update() {
+        tick++;
+        ScheduledEvent event;
+        while ((event = events.peek()) != null && event.getTick() <= tick) {
+            events.poll();
+            firedEvents++;
+            event.fire();
+        }
+        for (int i = 0, size = dueSpawners.size(); i < size; i++) {
+            dueSpawners.get(i).spawnDue();
+        }
+        dueSpawners.clear();
+    }
+
+    /**
+     * Returns the number of ticks run so far.
+     *
+     * @return The current tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of events waiting to run.
+     *
+     * @return The number of scheduled events.
+     */
+    public int getScheduledEventCount() {
+        return events.size();
+    }
+
+    /**
+     * Returns the number of events run so far, which is the work the director has done.
+     *
+     * @return The number of events run.
+     */
+    public long getFiredEventCount() {
+        return firedEvents;
+    }
+
+    /**
+     * Puts an event on the queue at the given tick.
+     *
+     * @param event   The event.
+     * @param dueTick The tick the event is due.
+     */
+    private void schedule(ScheduledEvent event, long dueTick) {
+        event.tick = dueTick;
+        event.sequence = sequence++;
+        events.add(event);
+    }
+
+    /**
+     * Draws the number of ticks until the next success of a per-tick roll with the given probability.
+     *
+     * @param probability The probability of success on each tick, greater than {@code 0}.
+     * @return The number of ticks, at least {@code 1}.
+     */
+    private long nextDelay(double probability) {
+        if (probability >= 1) {
+            return 1;
+        }
+        double delay = Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - probability));
+        return 1 + (long) Math.min(delay, MAX_DELAY);
+    }
+
+    /**
+     * Spawns a number of actors.
+     */
+    @FunctionalInterface
+    public interface SpawnAction {
+
+        /**
+         * Spawns up to the given number of actors.
+         *
+         * @param count The number of actors to spawn.
+         */
+        void spawn(int count);
+    }
+
+    /**
+     * An event on the director's queue.
+     */
+    private abstract static class ScheduledEvent {
+
+        /**
+         * The tick the event is due.
+         */
+        private long tick;
+
+        /**
+         * The order the event was scheduled in.
+         */
+        private long sequence;
+
+        /**
+         * Returns the tick the event is due.
+         *
+         * @return The due tick.
+         */
+        long getTick() {
+            return tick;
+        }
+
+        /**
+         * Returns the order the event was scheduled in.
+         *
+         * @return The sequence number.
+         */
+        long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * Runs the event.
+         */
+        abstract void fire();
+    }
+
+    /**
+     * An event that runs an action once.
+     */
+    private static final class OneShotEvent extends ScheduledEvent {
+
+        /**
+         * The action to run.
+         */
+        private final Runnable action;
+
+        /**
+         * Constructs an event running the given action.
+         *
+         * @param action The action to run.
+         */
+        OneShotEvent(Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * Runs the action.
+         */
+        @Override
+        void fire() {
+            action.run();
+        }
+    }
+
+    /**
+     * Keeps up to a number of actors of one kind alive, spawning into each free slot with a probability per tick.
+     *
+     * <p>Every slot has a timer on the director's queue. Slot {@code i} counts as taken while more than {@code i}
+     * actors are alive, so with {@code n} actors alive only the timers of the last {@code slots - n} slots spawn, just
+     * as only the free slots were rolled for before.</p>
+     */
+    public final class Spawner {
+
+        /**
+         * The timers of the slots.
+         */
+        private final SlotTimer[] timers;
+
+        /**
+         * The number of actors of this kind currently alive.
+         */
+        private final IntSupplier liveCount;
+
+        /**
+         * Spawns the actors.
+         */
+        private final SpawnAction action;
+
+        /**
+         * The probability per tick of spawning into a free slot.
+         */
+        private double spawnProbability;
+
+        /**
+         * The condition the spawner spawns under, or {@code null} if it always does.
+         */
+        private BooleanSupplier condition;
+
+        /**
+         * The number of actors due to spawn at the end of the current tick.
+         */
+        private int dueCount;
+
+        /**
+         * Constructs a spawner.
+         *
+         * @param slots            The number of actors that may be alive at once.
+         * @param spawnProbability The probability per tick of spawning into a free slot.
+         * @param liveCount        The number of actors of this kind currently alive.
+         * @param action           Spawns the actors.
+         */
+        private Spawner(int slots, double spawnProbability, IntSupplier liveCount, SpawnAction action) {
+            this.timers = new SlotTimer[Math.max(slots, 0)];
+            for (int i = 0; i < timers.length; i++) {
+                timers[i] = new SlotTimer(this, i);
+            }
+            this.spawnProbability = spawnProbability;
+            this.liveCount = liveCount;
+            this.action = action;
+        }
+
+        /**
+         * Makes the spawner spawn only while the given condition holds. Timers that go off while it does not are set
+         * again as if their slot were taken.
+         *
+         * @param condition The condition.
+         * @return This spawner.
+         */
+        public Spawner onlyWhile(BooleanSupplier condition) {
+            this.condition = condition;
+            return this;
+        }
+
+        /**
+         * Changes the probability per tick of spawning into a free slot. Timers already set keep their delay, except
+         * that a spawner that could not spawn at all starts its timers now.
+         *
+         * @param spawnProbability The new probability.
+         */
+        public void setSpawnProbability(double spawnProbability) {
+            this.spawnProbability = spawnProbability;
+            armIdleTimers();
+        }
+
+        /**
+         * Returns the probability per tick of spawning into a free slot.
+         *
+         * @return The spawn probability.
+         */
+        public double getSpawnProbability() {
+            return spawnProbability;
+        }
+
+        /**
+         * Sets the timers of the slots that are not on the queue, if the spawner can spawn at all.
+         */
+        private void armIdleTimers() {
+            for (SlotTimer timer : timers) {
+                if (!timer.armed) {
+                    timer.arm();
+                }
+            }
+        }
+
+        /**
+         * Called when a slot's timer goes off. Counts a spawn if the slot is free, then sets the timer again.
+         *
+         * @param slot The slot.
+         */
+        private void timerFired(int slot) {
+            if ((condition == null || condition.getAsBoolean()) && slot >= liveCount.getAsInt()) {
+                if (dueCount++ == 0) {
+                    dueSpawners.add(this);
+                }
+            }
+            timers[slot].arm();
+        }
+
+        /**
+         * Spawns the actors that became due during the tick.
+         */
+        private void spawnDue() {
+            int count = dueCount;
+            dueCount = 0;
+            action.spawn(count);
+        }
+    }
+
+    /**
+     * The timer of one slot of a {@link Spawner}. It is put back on the queue every time it goes off, so a running
+     * spawner does not allocate.
+     */
+    private final class SlotTimer extends ScheduledEvent {
+
+        /**
+         * The spawner the slot belongs to.
+         */
+        private final Spawner spawner;
+
+        /**
+         * The index of the slot.
+         */
+        private final int slot;
+
+        /**
+         * Whether the timer is on the queue.
+         */
+        private boolean armed;
+
+        /**
+         * Constructs the timer of a slot.
+         *
+         * @param spawner The spawner the slot belongs to.
+         * @param slot    The index of the slot.
+         */
+        SlotTimer(Spawner spawner, int slot) {
+            this.spawner = spawner;
+            this.slot = slot;
+        }
+
+        /**
+         * Puts the timer on the queue, unless the spawner's probability is zero.
+         */
+        void arm() {
+            armed = spawner.spawnProbability > 0;
+            if (armed) {
+                schedule(this, SpawnDirector.this.tick + nextDelay(spawner.spawnProbability));
+            }
+        }
+
+        /**
+         * Tells the spawner the timer went off.
+         */
+        @Override
+        void fire() {
+            armed = false;
+            spawner.timerFired(slot);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.demo.activityManagers;
 
+import com.example.demo.activityManagers.collision.OccupancyGrid;
+import com.example.demo.activityManagers.profiling.FrameProfiler;
+import com.example.demo.actors.ActorPools;
 import com.example.demo.actors.GameEntity;
 
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 /**
  * The SpawnHandler class is responsible for managing the spawning of game actors, such as enemies or items,
@@ -18,6 +23,11 @@ import java.util.function.Supplier;
  */
 public class SpawnHandler {
 
+    /**
+     * The default number of positions tried for each actor before the slot is given up.
+     */
+    public static final int DEFAULT_MAX_PLACEMENT_ATTEMPTS = 5;
+
     /**
      * The actor manager responsible for handling the game actors.
      */
@@ -34,16 +44,55 @@ public class SpawnHandler {
     private final double screenHeight;
 
     /**
-     * Constructs a new SpawnHandler instance.
+     * The random stream that decides whether each actor spawns, and where.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * The regions taken up by actors on screen and by actors placed during the current spawn pass.
+     */
+    private final OccupancyGrid occupiedRegions = new OccupancyGrid();
+
+    /**
+     * The profiler timing spawn passes.
+     */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+    /**
+     * The number of positions tried for each actor before the slot is given up.
+     */
+    private int maxPlacementAttempts = DEFAULT_MAX_PLACEMENT_ATTEMPTS;
+
+    /**
+     * The number of candidate positions rejected because they overlapped an occupied region.
+     */
+    private long rejectedPlacements;
+
+    /**
+     * Constructs a new SpawnHandler instance drawing from an unseeded random stream.
      *
      * @param actorManager The ActorManager responsible for managing game actors.
      * @param screenWidth The width of the game screen.
      * @param screenHeight The height of the game screen.
      */
     public SpawnHandler(ActorManager actorManager, double screenWidth, double screenHeight) {
+        this(actorManager, screenWidth, screenHeight, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new SpawnHandler instance drawing from the given random stream, so its spawns can be reproduced.
+     *
+     * @param actorManager The ActorManager responsible for managing game actors.
+     * @param screenWidth The width of the game screen.
+     * @param screenHeight The height of the game screen.
+     * @param random The random stream that decides whether each actor spawns, and where.
+     * @see RandomStreams#spawning()
+     */
+    public SpawnHandler(ActorManager actorManager, double screenWidth, double screenHeight, RandomGenerator random) {
         this.actorManager = actorManager;
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
+        this.random = random;
     }
 
     /**
@@ -54,8 +103,124 @@ public class SpawnHandler {
      * {spawnEnemyUnits} method, which simply spawned enemies based on a fixed probability and did not consider
      * potential overlaps with other actors.</p>
      *
-     * <p>By using this method, you can adjust spawn behavior dynamically for various levels by specifying parameters such
-     * as the maximum number of actors to spawn, spawn probability, and the current count of active actors.</p>
+     * <p>Positions are drawn from the spawn area and tested against the occupied regions before the actor is built.
+     * Each slot makes at most {@link #getMaxPlacementAttempts()} attempts; a slot with no free position is skipped
+     * rather than retried forever.</p>
+     *
+     * @param actorFactory A factory that creates a new actor at an accepted position.
+     * @param spawnArea The area to draw candidate positions from.
+     * @param maxSpawnCount The maximum number of actors to spawn.
+     * @param spawnProbability The probability of spawning each actor.
+     * @param currentCount The current number of actors of this type already spawned.
+     * @param maxTotal The total limit for this type of actor.
+     * @return The number of actors successfully spawned.
+     */
+    public int spawnActors(ActorFactory actorFactory, SpawnArea spawnArea, int maxSpawnCount, double spawnProbability,
+                           int currentCount, int maxTotal) {
+        long start = profiler.start();
+        int spawnedCount = 0;
+        boolean indexed = false;
+
+        // Calculate the maximum number of actors that can still be spawned
+        int actorsToSpawn = Math.min(maxSpawnCount - currentCount, maxTotal - currentCount);
+        for (int i = 0; i < actorsToSpawn; i++) {
+            if (random.nextDouble() < spawnProbability) {
+                if (!indexed) {
+                    indexOccupiedRegions();
+                    indexed = true;
+                }
+                GameEntity newActor = placeActor(actorFactory, spawnArea);
+                if (newActor != null) {
+                    claim(newActor);
+                    spawnedCount++;
+                }
+            }
+        }
+
+        profiler.stop(FrameProfiler.Phase.SPAWNING, start);
+        return spawnedCount;
+    }
+
+    /**
+     * Spawns actors of the specified type in the spawn area, as often and as many as the rule allows.
+     *
+     * @param actorFactory A factory that creates a new actor at an accepted position.
+     * @param spawnArea The area to draw candidate positions from.
+     * @param spawnRule The maximum spawn count, spawn probability and total limit, from the level's definition.
+     * @param currentCount The current number of actors of this type already spawned.
+     * @return The number of actors successfully spawned.
+     * @see #spawnActors(ActorFactory, SpawnArea, int, double, int, int)
+     */
+    public int spawnActors(ActorFactory actorFactory, SpawnArea spawnArea, SpawnRule spawnRule, int currentCount) {
+        return spawnActors(actorFactory, spawnArea, spawnRule.maxSpawnCount(), spawnRule.spawnProbability(),
+                currentCount, spawnRule.maxTotal());
+    }
+
+    /**
+     * Spawns a number of actors in the spawn area straight away, for spawns already decided by a
+     * {@link SpawnDirector}. Placement works as in
+     * {@link #spawnActors(ActorFactory, SpawnArea, int, double, int, int)}, but nothing is rolled for.
+     *
+     * @param actorFactory A factory that creates a new actor at an accepted position.
+     * @param spawnArea The area to draw candidate positions from.
+     * @param count The number of actors to spawn.
+     * @return The number of actors successfully spawned.
+     */
+    public int spawnActors(ActorFactory actorFactory, SpawnArea spawnArea, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        long start = profiler.start();
+        int spawnedCount = 0;
+
+        indexOccupiedRegions();
+        for (int i = 0; i < count; i++) {
+            GameEntity newActor = placeActor(actorFactory, spawnArea);
+            if (newActor != null) {
+                claim(newActor);
+                spawnedCount++;
+            }
+        }
+
+        profiler.stop(FrameProfiler.Phase.SPAWNING, start);
+        return spawnedCount;
+    }
+
+    /**
+     * Spawns actors at fixed offsets from an anchor, such as the members of a formation. A member whose position
+     * overlaps an actor already on screen, or an earlier member, is left out.
+     *
+     * @param actorFactory A factory that creates a new actor at each position.
+     * @param anchorX The X position of the anchor.
+     * @param anchorY The Y position of the anchor.
+     * @param offsets The offsets of the members from the anchor, as X and Y pairs.
+     * @return The number of actors successfully spawned.
+     */
+    public int spawnFormation(ActorFactory actorFactory, double anchorX, double anchorY, double... offsets) {
+        long start = profiler.start();
+        int spawnedCount = 0;
+
+        indexOccupiedRegions();
+        for (int i = 0; i + 1 < offsets.length; i += 2) {
+            GameEntity newActor = actorFactory.create(anchorX + offsets[i], anchorY + offsets[i + 1]);
+            if (!isOverlapping(newActor)) {
+                claim(newActor);
+                spawnedCount++;
+            } else {
+                reject(newActor);
+            }
+        }
+
+        profiler.stop(FrameProfiler.Phase.SPAWNING, start);
+        return spawnedCount;
+    }
+
+    /**
+     * Spawns actors created by a supplier that picks its own position.
+     *
+     * <p>Because the position is only known once the actor exists, each attempt builds an actor before it can be
+     * checked for overlap. Prefer {@link #spawnActors(ActorFactory, SpawnArea, int, double, int, int)}, which rejects
+     * positions before building anything. Attempts are bounded in the same way.</p>
      *
      * @param actorSupplier A supplier that creates new instances of the actor.
      * @param maxSpawnCount The maximum number of actors to spawn.
@@ -66,40 +231,160 @@ public class SpawnHandler {
      */
     public int spawnActors(Supplier<GameEntity> actorSupplier, int maxSpawnCount, double spawnProbability,
                            int currentCount, int maxTotal) {
+        long start = profiler.start();
         int spawnedCount = 0;
+        boolean indexed = false;
 
         // Calculate the maximum number of actors that can still be spawned
         int actorsToSpawn = Math.min(maxSpawnCount - currentCount, maxTotal - currentCount);
         for (int i = 0; i < actorsToSpawn; i++) {
-            if (Math.random() < spawnProbability) {
-                GameEntity newActor = actorSupplier.get();
-
-                // Check for overlap with existing actors
-                if (!isOverlapping(newActor, actorManager.getActiveActors())) {
-                    actorManager.addActor(newActor);
-                    spawnedCount++;
-                } else {
-                    i--; // Retry spawning if overlapping
+            if (random.nextDouble() < spawnProbability) {
+                if (!indexed) {
+                    indexOccupiedRegions();
+                    indexed = true;
+                }
+                for (int attempt = 0; attempt < maxPlacementAttempts; attempt++) {
+                    GameEntity newActor = actorSupplier.get();
+                    if (!isOverlapping(newActor)) {
+                        claim(newActor);
+                        spawnedCount++;
+                        break;
+                    }
+                    reject(newActor);
                 }
             }
         }
 
+        profiler.stop(FrameProfiler.Phase.SPAWNING, start);
         return spawnedCount;
     }
 
     /**
-     * Checks if the given actor overlaps with any existing actors.
+     * Finds a free position in the spawn area and creates an actor there.
+     *
+     * <p>Once the area knows the footprint of its actors, candidates are rejected using the footprint alone. The first
+     * actor of an area has to be built to learn the footprint, and is then checked like any other.</p>
+     *
+     * @param actorFactory The factory creating the actor.
+     * @param spawnArea The area to draw candidate positions from.
+     * @return The new actor, or {@code null} if no free position was found within the attempt limit.
+     */
+    private GameEntity placeActor(ActorFactory actorFactory, SpawnArea spawnArea) {
+        for (int attempt = 0; attempt < maxPlacementAttempts; attempt++) {
+            double x = spawnArea.nextX(random);
+            double y = spawnArea.nextY(random);
+
+            if (spawnArea.isFootprintKnown()) {
+                double minX = spawnArea.footprintMinX(x);
+                double minY = spawnArea.footprintMinY(y);
+                if (occupiedRegions.overlaps(minX, minY,
+                        minX + spawnArea.getFootprintWidth(), minY + spawnArea.getFootprintHeight())) {
+                    rejectedPlacements++;
+                    continue;
+                }
+                return actorFactory.create(x, y);
+            }
+
+            GameEntity newActor = actorFactory.create(x, y);
+            spawnArea.learnFootprint(newActor, x, y);
+            if (!isOverlapping(newActor)) {
+                return newActor;
+            }
+            reject(newActor);
+        }
+        return null;
+    }
+
+    /**
+     * Rebuilds the index of occupied regions from the actors currently on screen.
+     */
+    private void indexOccupiedRegions() {
+        occupiedRegions.clear();
+        List<GameEntity> existingActors = actorManager.getActiveActors();
+        for (int i = 0, size = existingActors.size(); i < size; i++) {
+            GameEntity existing = existingActors.get(i);
+            occupiedRegions.insert(existing.getMinX(), existing.getMinY(), existing.getMaxX(), existing.getMaxY());
+        }
+    }
+
+    /**
+     * Hands a placed actor to the actor manager and marks its region as occupied for the rest of the spawn pass.
+     *
+     * @param actor The actor that was placed.
+     */
+    private void claim(GameEntity actor) {
+        actorManager.addActor(actor);
+        occupiedRegions.insert(actor.getMinX(), actor.getMinY(), actor.getMaxX(), actor.getMaxY());
+    }
+
+    /**
+     * Counts a rejected placement and hands the actor built for it back to its pool, since factories acquire their
+     * actors from {@link ActorPools} and the actor never entered the game.
+     *
+     * @param actor The actor that could not be placed.
+     */
+    private void reject(GameEntity actor) {
+        rejectedPlacements++;
+        ActorPools.getInstance().release(actor);
+    }
+
+    /**
+     * Checks if the given actor overlaps with any occupied region.
      *
      * <p>In the older LevelOne class's {@code spawnEnemyUnits} method, no check was made for actor overlap,
      * meaning actors could spawn on top of each other. The new approach here ensures that no two actors spawn in the
      * same position, preventing issues such as actors colliding immediately upon spawn or occupying the same space.</p>
      *
      * @param actor The new actor to check.
-     * @param existingActors The list of existing actors.
      * @return True if there is an overlap; false otherwise.
      */
-    private boolean isOverlapping(GameEntity actor, List<GameEntity> existingActors) {
-        return existingActors.stream()
-                .anyMatch(existing -> actor.getBoundsInParent().intersects(existing.getBoundsInParent()));
+    private boolean isOverlapping(GameEntity actor) {
+        return occupiedRegions.overlaps(actor.getMinX(), actor.getMinY(), actor.getMaxX(), actor.getMaxY());
+    }
+
+    /**
+     * Sets how many positions are tried for each actor before the slot is given up.
+     *
+     * @param maxPlacementAttempts The number of attempts per actor. Must be at least 1.
+     */
+    public void setMaxPlacementAttempts(int maxPlacementAttempts) {
+        if (maxPlacementAttempts < 1) {
+            throw new IllegalArgumentException("At least one placement attempt is required: " + maxPlacementAttempts);
+        }
+        this.maxPlacementAttempts = maxPlacementAttempts;
+    }
+
+    /**
+     * Returns how many positions are tried for each actor before the slot is given up.
+     *
+     * @return The number of attempts per actor.
+     */
+    public int getMaxPlacementAttempts() {
+        return maxPlacementAttempts;
+    }
+
+    /**
+     * Returns the number of candidate positions rejected because they overlapped an occupied region.
+     *
+     * @return The total number of rejected placements.
+     */
+    public long getRejectedPlacements() {
+        return rejectedPlacements;
+    }
+
+    /**
+     * Creates an actor at a position chosen by the {@link SpawnHandler}.
+     */
+    @FunctionalInterface
+    public interface ActorFactory {
+
+        /**
+         * Creates a new actor at the given position.
+         *
+         * @param x The X position of the actor.
+         * @param y The Y position of the actor.
+         * @return The new actor.
+         */
+        GameEntity create(double x, double y);
     }
 }
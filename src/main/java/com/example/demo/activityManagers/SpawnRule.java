@@ -0,0 +1,37 @@
+package com.example.demo.activityManagers;
+
+/**
+ * How often and how many of one kind of actor a level spawns, as read from its {@link LevelDefinition}.
+ *
+ * <p>On every spawn pass, each free slot up to {@code maxSpawnCount} is filled with the given probability, as long as
+ * the level holds fewer than {@code maxTotal} of the actor. Rules are immutable and checked when they are created, so a
+ * level never runs with a probability outside 0 to 1 or a negative cap.</p>
+ *
+ * @param maxSpawnCount    The maximum number of actors on screen that a spawn pass fills up to.
+ * @param spawnProbability The probability of filling each free slot, from 0 to 1.
+ * @param maxTotal         The total limit for this kind of actor, or {@link #UNLIMITED}.
+ */
+public record SpawnRule(int maxSpawnCount, double spawnProbability, int maxTotal) {
+
+    /**
+     * The total limit of a rule that does not cap the number of actors.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * Checks the values of a new rule.
+     *
+     * @throws IllegalArgumentException If a count is negative or the probability is outside 0 to 1.
+     */
+    public SpawnRule {
+        if (maxSpawnCount < 0) {
+            throw new IllegalArgumentException("Maximum spawn count must not be negative: " + maxSpawnCount);
+        }
+        if (!(spawnProbability >= 0 && spawnProbability <= 1)) {
+            throw new IllegalArgumentException("Spawn probability must be between 0 and 1: " + spawnProbability);
+        }
+        if (maxTotal < 0) {
+            throw new IllegalArgumentException("Maximum total must not be negative: " + maxTotal);
+        }
+    }
+}
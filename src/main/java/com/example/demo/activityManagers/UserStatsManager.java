@@ -40,7 +40,7 @@ public class UserStatsManager {
     private UserStatsManager() {
         this.totalCoinsCollected = 0;
         this.totalKillCount = 0;
-        levelScores = new int[LevelManager.TOTAL_LEVELS_PLUS1 - 1]; // Adjust size according to the number of levels
+        levelScores = new int[levelManager.getLastLevelNumber()]; // Adjust size according to the number of levels
     }
 
     /**
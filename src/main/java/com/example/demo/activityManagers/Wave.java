@@ -0,0 +1,134 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.activityManagers.SpawnDirector.SpawnAction;
+import com.example.demo.activityManagers.SpawnDirector.Spawner;
+import com.example.demo.activityManagers.SpawnHandler.ActorFactory;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A scripted piece of a level's pacing, played by a {@link SpawnDirector}. A wave schedules its spawns on the
+ * director's queue when it is played, so it costs nothing on the ticks in between.
+ *
+ * <p>Waves are built from bursts, formations and escalation curves, and combined with {@link #then(long, Wave)},
+ * {@link #together(Wave...)} and {@link #repeat(Wave, int, long)}. For example, three bursts of enemies five seconds
+ * apart, after which enemies keep coming twice as often:</p>
+ *
+ * <pre>{@code
+ * Wave.repeat(Wave.burst(this::spawnEnemyPlanes, 4), 3, 250)
+ *         .then(750, Wave.escalation(enemySpawner, ticks -> 2 * enemySpawnRule.spawnProbability(), 1, 1));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface Wave {
+
+    /**
+     * Schedules the wave's spawns on the director.
+     *
+     * @param director  The director playing the wave.
+     * @param startTick The tick the wave starts at.
+     */
+    void schedule(SpawnDirector director, long startTick);
+
+    /**
+     * Returns a wave that plays this wave, then the given wave a number of ticks after this one starts.
+     *
+     * @param gapTicks The number of ticks between the start of this wave and the start of the next.
+     * @param next     The next wave.
+     * @return The combined wave.
+     */
+    default Wave then(long gapTicks, Wave next) {
+        return (director, startTick) -> {
+            schedule(director, startTick);
+            next.schedule(director, startTick + gapTicks);
+        };
+    }
+
+    /**
+     * Returns a wave that spawns a number of actors at once, regardless of the level's caps.
+     *
+     * @param action Spawns the actors, such as a level's method placing them in its spawn area.
+     * @param count  The number of actors.
+     * @return The wave.
+     */
+    static Wave burst(SpawnAction action, int count) {
+        return (director, startTick) -> director.scheduleAt(startTick, () -> action.spawn(count));
+    }
+
+    /**
+     * Returns a wave that spawns actors at fixed offsets from an anchor, such as a V of enemy planes. Members whose
+     * position is taken are left out.
+     *
+     * @param spawnHandler The spawn handler placing the actors.
+     * @param actorFactory Creates an actor at each position.
+     * @param onSpawned    Told how many actors were placed, so the level can count them.
+     * @param anchorX      The X position of the anchor.
+     * @param anchorY      The Y position of the anchor.
+     * @param offsets      The offsets of the members from the anchor, as X and Y pairs.
+     * @return The wave.
+     * @see SpawnHandler#spawnFormation(ActorFactory, double, double, double...)
+     */
+    static Wave formation(SpawnHandler spawnHandler, ActorFactory actorFactory, IntConsumer onSpawned,
+                          double anchorX, double anchorY, double... offsets) {
+        if (offsets.length % 2 != 0) {
+            throw new IllegalArgumentException("Formation offsets must be X and Y pairs: " + offsets.length);
+        }
+        double[] memberOffsets = offsets.clone();
+        return (director, startTick) -> director.scheduleAt(startTick, () -> onSpawned.accept(
+                spawnHandler.spawnFormation(actorFactory, anchorX, anchorY, memberOffsets)));
+    }
+
+    /**
+     * Returns a wave that changes a spawner's probability along a curve, in steps.
+     *
+     * @param spawner   The spawner.
+     * @param curve     The probability for the number of ticks since the wave started.
+     * @param stepTicks The number of ticks between steps, at least {@code 1}.
+     * @param steps     The number of steps. The first is taken when the wave starts.
+     * @return The wave.
+     */
+    static Wave escalation(Spawner spawner, LongToDoubleFunction curve, long stepTicks, int steps) {
+        if (stepTicks < 1) {
+            throw new IllegalArgumentException("Escalation steps must be at least one tick apart: " + stepTicks);
+        }
+        return (director, startTick) -> {
+            for (int step = 0; step < steps; step++) {
+                long elapsed = step * stepTicks;
+                director.scheduleAt(startTick + elapsed,
+                        () -> spawner.setSpawnProbability(curve.applyAsDouble(elapsed)));
+            }
+        };
+    }
+
+    /**
+     * Returns a wave that plays the given waves at the same time.
+     *
+     * @param waves The waves.
+     * @return The combined wave.
+     */
+    static Wave together(Wave... waves) {
+        Wave[] parts = waves.clone();
+        return (director, startTick) -> {
+            for (Wave wave : parts) {
+                wave.schedule(director, startTick);
+            }
+        };
+    }
+
+    /**
+     * Returns a wave that plays the given wave a number of times.
+     *
+     * @param wave          The wave.
+     * @param times         The number of times to play it.
+     * @param intervalTicks The number of ticks between the starts of consecutive plays.
+     * @return The repeated wave.
+     */
+    static Wave repeat(Wave wave, int times, long intervalTicks) {
+        return (director, startTick) -> {
+            for (int i = 0; i < times; i++) {
+                wave.schedule(director, startTick + i * intervalTicks);
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.activityManagers.audio;
+
+import javafx.scene.media.AudioClip;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A {@link SoundOutput} that plays sound effects with JavaFX {@link AudioClip}s.
+ * <p>
+ * Every clip is loaded and decoded once, when the output is created. Playing a clip starts a new instance in the
+ * background without seeking or blocking the JavaFX application thread, and several instances of the same clip can
+ * overlap.
+ * </p>
+ */
+public class AudioClipOutput implements SoundOutput {
+
+    /** The preloaded clip of every sound effect. */
+    private final Map<SoundEffect, AudioClip> clips = new EnumMap<>(SoundEffect.class);
+
+    /**
+     * Constructs the output, loading the clip of every sound effect.
+     */
+    public AudioClipOutput() {
+        for (SoundEffect effect : SoundEffect.values()) {
+            clips.put(effect, new AudioClip(getClass().getResource(effect.getPath()).toExternalForm()));
+        }
+    }
+
+    /**
+     * Starts a new instance of the effect's clip at the given volume.
+     *
+     * @param effect The sound effect.
+     * @param volume The volume, from 0.0 to 1.0.
+     */
+    @Override
+    public void play(SoundEffect effect, double volume) {
+        clips.get(effect).play(volume);
+    }
+
+    /**
+     * Stops every playing instance of the effect's clip.
+     *
+     * @param effect The sound effect.
+     */
+    @Override
+    public void stop(SoundEffect effect) {
+        clips.get(effect).stop();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.activityManagers.audio;
+
+/**
+ * The sound effects of the game, with what the {@link SoundMixer} needs to know to schedule them.
+ * <p>
+ * The priority decides which sound gives way when every voice is busy; the length is how long a voice stays busy
+ * after the sound starts; the default rate limit is the shortest time between two plays of the same effect, so a
+ * stream of shots or coins does not turn into noise.
+ * </p>
+ */
+public enum SoundEffect {
+
+    /** The user fires a projectile. */
+    PROJECTILE_FIRED("fireProjectile1.wav", 125, 0, 60),
+
+    /** The user collects a coin. */
+    COIN_COLLECTED("collectCoins.wav", 1497, 1, 80),
+
+    /** The user loses a life. */
+    LIFE_LOST("loseLife.mp3", 836, 2, 0),
+
+    /** The level is won. */
+    LEVEL_WON("winGame.mp3", 7079, 3, 0),
+
+    /** The level is lost. */
+    LEVEL_LOST("loseGame1.wav", 3004, 3, 0);
+
+    /** The location of all audio files. */
+    private static final String AUDIO_LOCATION = "/com/example/demo/audios/";
+
+    /** The path of the audio file. */
+    private final String path;
+
+    /** The length of the sound, in milliseconds. */
+    private final long lengthMillis;
+
+    /** The priority of the sound; higher priorities may steal voices from lower ones. */
+    private final int priority;
+
+    /** The default shortest time between two plays, in milliseconds. */
+    private final long defaultMinIntervalMillis;
+
+    /**
+     * Constructs a sound effect.
+     *
+     * @param fileName                 The name of the audio file.
+     * @param lengthMillis             The length of the sound, in milliseconds.
+     * @param priority                 The priority of the sound.
+     * @param defaultMinIntervalMillis The default shortest time between two plays, in milliseconds.
+     */
+    SoundEffect(String fileName, long lengthMillis, int priority, long defaultMinIntervalMillis) {
+        this.path = AUDIO_LOCATION + fileName;
+        this.lengthMillis = lengthMillis;
+        this.priority = priority;
+        this.defaultMinIntervalMillis = defaultMinIntervalMillis;
+    }
+
+    /**
+     * Returns the resource path of the audio file.
+     *
+     * @return The path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the length of the sound.
+     *
+     * @return The length, in milliseconds.
+     */
+    public long getLengthMillis() {
+        return lengthMillis;
+    }
+
+    /**
+     * Returns the priority of the sound.
+     *
+     * @return The priority; higher values win voices.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the default shortest time between two plays of the sound.
+     *
+     * @return The interval, in milliseconds.
+     */
+    public long getDefaultMinIntervalMillis() {
+        return defaultMinIntervalMillis;
+    }
+}
@@ -0,0 +1,359 @@
+package com.example.demo.activityManagers.audio;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code SoundMixer} decides which sound effects are played, with a fixed number of voices shared by all effects.
+ * <p>
+ * A triggered effect is dropped if the same effect was already triggered in the current tick (so ten coins collected
+ * at once make one sound), or if it was played less than its rate limit ago. Otherwise it takes a free voice. When
+ * every voice is busy a voice is stolen:
+ * </p>
+ * <ol>
+ *     <li>the oldest voice playing the same effect, which restarts that effect and nothing else; or else</li>
+ *     <li>the oldest voice of the lowest priority, if that priority is not above the new effect's.</li>
+ * </ol>
+ * <p>
+ * If no voice can be stolen the new effect is dropped. Playing an effect never stops any other effect, except the one
+ * whose voice is stolen. A voice is busy for the length of its effect.
+ * </p>
+ * <p>
+ * The mixer only schedules; the sounds are played by a {@link SoundOutput}, which must not block.
+ * </p>
+ */
+public class SoundMixer {
+
+    /** The default number of voices. */
+    public static final int DEFAULT_VOICE_COUNT = 8;
+
+    /** Marks an effect that has never been played. */
+    private static final long NEVER = Long.MIN_VALUE;
+
+    /** Nanoseconds per millisecond. */
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /** The sound effects, cached to avoid copying the values array. */
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+
+    /** The output the sounds are played through. */
+    private final SoundOutput output;
+
+    /** The source of the current time, in nanoseconds. */
+    private final LongSupplier clock;
+
+    /** The source of the current game tick, used to merge effects triggered in the same tick. */
+    private final LongSupplier tickSource;
+
+    /** The effect each voice is playing, or {@code null} if the voice is free. */
+    private final SoundEffect[] voiceEffects;
+
+    /** When each voice started playing, in nanoseconds. */
+    private final long[] voiceStartNanos;
+
+    /** When each voice stops being busy, in nanoseconds. */
+    private final long[] voiceEndNanos;
+
+    /** The tick each effect was last played in, or {@link #NEVER}. */
+    private final long[] lastPlayTick = new long[EFFECTS.length];
+
+    /** When each effect was last played, in nanoseconds. */
+    private final long[] lastPlayNanos = new long[EFFECTS.length];
+
+    /** The shortest time between two plays of each effect, in nanoseconds. */
+    private final long[] minIntervalNanos = new long[EFFECTS.length];
+
+    /** The volume effects are played at, from 0.0 to 1.0. */
+    private double volume = 1.0;
+
+    /** Whether triggered effects are ignored. */
+    private boolean muted;
+
+    /** The number of effects played. */
+    private long playedCount;
+
+    /** The number of effects merged with the same effect in the same tick. */
+    private long coalescedCount;
+
+    /** The number of effects dropped by a rate limit. */
+    private long rateLimitedCount;
+
+    /** The number of voices stolen. */
+    private long stolenCount;
+
+    /** The number of effects dropped because no voice could be stolen. */
+    private long droppedCount;
+
+    /**
+     * Constructs a mixer with every effect at its default rate limit.
+     *
+     * @param output     The output the sounds are played through.
+     * @param voiceCount The number of effects that may play at once. Must be at least 1.
+     * @param clock      The source of the current time, in nanoseconds.
+     * @param tickSource The source of the current game tick.
+     */
+    public SoundMixer(SoundOutput output, int voiceCount, LongSupplier clock, LongSupplier tickSource) {
+        if (voiceCount < 1) {
+            throw new IllegalArgumentException("At least one voice is required: " + voiceCount);
+        }
+        this.output = output;
+        this.clock = clock;
+        this.tickSource = tickSource;
+        this.voiceEffects = new SoundEffect[voiceCount];
+        this.voiceStartNanos = new long[voiceCount];
+        this.voiceEndNanos = new long[voiceCount];
+        Arrays.fill(lastPlayTick, NEVER);
+        for (SoundEffect effect : EFFECTS) {
+            minIntervalNanos[effect.ordinal()] = effect.getDefaultMinIntervalMillis() * NANOS_PER_MILLI;
+        }
+    }
+
+    /**
+     * Triggers a sound effect. Returns straight away, whether or not the effect is played.
+     *
+     * @param effect The sound effect.
+     * @return {@code true} if the effect was started, {@code false} if it was muted, merged, rate limited or dropped.
+     */
+    public boolean trigger(SoundEffect effect) {
+        if (muted) {
+            return false;
+        }
+        int index = effect.ordinal();
+        long tick = tickSource.getAsLong();
+        long now = clock.getAsLong();
+        if (lastPlayTick[index] != NEVER) {
+            if (lastPlayTick[index] == tick) {
+                coalescedCount++;
+                return false;
+            }
+            if (now - lastPlayNanos[index] < minIntervalNanos[index]) {
+                rateLimitedCount++;
+                return false;
+            }
+        }
+
+        int voice = allocateVoice(effect, now);
+        if (voice < 0) {
+            droppedCount++;
+            return false;
+        }
+        voiceEffects[voice] = effect;
+        voiceStartNanos[voice] = now;
+        voiceEndNanos[voice] = now + effect.getLengthMillis() * NANOS_PER_MILLI;
+        lastPlayTick[index] = tick;
+        lastPlayNanos[index] = now;
+        playedCount++;
+        output.play(effect, volume);
+        return true;
+    }
+
+    /**
+     * Finds a voice for a new effect: a free one, or else one stolen according to the stealing policy.
+     *
+     * @param effect The effect to be played.
+     * @param now    The current time, in nanoseconds.
+     * @return The voice, or {@code -1} if every voice is busy with a higher-priority effect.
+     */
+    private int allocateVoice(SoundEffect effect, long now) {
+        for (int voice = 0; voice < voiceEffects.length; voice++) {
+            if (voiceEffects[voice] == null || voiceEndNanos[voice] <= now) {
+                voiceEffects[voice] = null;
+                return voice;
+            }
+        }
+
+        // Restarting the same effect affects nothing else
+        int victim = -1;
+        for (int voice = 0; voice < voiceEffects.length; voice++) {
+            if (voiceEffects[voice] == effect && (victim < 0 || voiceStartNanos[voice] < voiceStartNanos[victim])) {
+                victim = voice;
+            }
+        }
+
+        if (victim < 0) {
+            for (int voice = 0; voice < voiceEffects.length; voice++) {
+                if (victim < 0 || isBetterVictim(voice, victim)) {
+                    victim = voice;
+                }
+            }
+            if (voiceEffects[victim].getPriority() > effect.getPriority()) {
+                return -1;
+            }
+        }
+
+        stopEffect(voiceEffects[victim]);
+        stolenCount++;
+        return victim;
+    }
+
+    /**
+     * Checks whether a voice should be stolen before another: lower priority first, then the older one.
+     *
+     * @param voice   The voice to compare.
+     * @param current The best victim so far.
+     * @return {@code true} if {@code voice} is the better victim.
+     */
+    private boolean isBetterVictim(int voice, int current) {
+        int priority = voiceEffects[voice].getPriority();
+        int currentPriority = voiceEffects[current].getPriority();
+        return priority < currentPriority
+                || (priority == currentPriority && voiceStartNanos[voice] < voiceStartNanos[current]);
+    }
+
+    /**
+     * Stops every instance of an effect and frees the voices playing it. The output can only stop an effect as a
+     * whole, so all of its voices are freed together.
+     *
+     * @param effect The effect to stop.
+     */
+    private void stopEffect(SoundEffect effect) {
+        output.stop(effect);
+        for (int voice = 0; voice < voiceEffects.length; voice++) {
+            if (voiceEffects[voice] == effect) {
+                voiceEffects[voice] = null;
+            }
+        }
+    }
+
+    /**
+     * Stops every effect and frees every voice.
+     */
+    public void stopAll() {
+        for (SoundEffect effect : EFFECTS) {
+            output.stop(effect);
+        }
+        Arrays.fill(voiceEffects, null);
+    }
+
+    /**
+     * Returns the number of voices currently busy.
+     *
+     * @return The number of busy voices.
+     */
+    public int getActiveVoiceCount() {
+        long now = clock.getAsLong();
+        int active = 0;
+        for (int voice = 0; voice < voiceEffects.length; voice++) {
+            if (voiceEffects[voice] != null && voiceEndNanos[voice] > now) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Returns the number of voices.
+     *
+     * @return The voice count.
+     */
+    public int getVoiceCount() {
+        return voiceEffects.length;
+    }
+
+    /**
+     * Sets the shortest time between two plays of an effect. Triggers arriving sooner are dropped.
+     *
+     * @param effect            The sound effect.
+     * @param minIntervalMillis The interval, in milliseconds. Must not be negative; 0 removes the limit.
+     */
+    public void setRateLimit(SoundEffect effect, long minIntervalMillis) {
+        if (minIntervalMillis < 0) {
+            throw new IllegalArgumentException("Rate limit must not be negative: " + minIntervalMillis);
+        }
+        minIntervalNanos[effect.ordinal()] = minIntervalMillis * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the shortest time between two plays of an effect.
+     *
+     * @param effect The sound effect.
+     * @return The interval, in milliseconds.
+     */
+    public long getRateLimit(SoundEffect effect) {
+        return minIntervalNanos[effect.ordinal()] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Sets the volume effects are played at from now on. Values outside 0.0 to 1.0 are clamped.
+     *
+     * @param volume The volume.
+     */
+    public void setVolume(double volume) {
+        this.volume = Math.max(0.0, Math.min(1.0, volume));
+    }
+
+    /**
+     * Returns the volume effects are played at.
+     *
+     * @return The volume, from 0.0 to 1.0.
+     */
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * Mutes or unmutes the mixer. Muting stops every effect.
+     *
+     * @param muted {@code true} to ignore triggered effects.
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+        if (muted) {
+            stopAll();
+        }
+    }
+
+    /**
+     * Checks whether the mixer is muted.
+     *
+     * @return {@code true} if triggered effects are ignored.
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Returns the number of effects played.
+     *
+     * @return The played count.
+     */
+    public long getPlayedCount() {
+        return playedCount;
+    }
+
+    /**
+     * Returns the number of effects merged with the same effect triggered in the same tick.
+     *
+     * @return The coalesced count.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns the number of effects dropped by a rate limit.
+     *
+     * @return The rate limited count.
+     */
+    public long getRateLimitedCount() {
+        return rateLimitedCount;
+    }
+
+    /**
+     * Returns the number of voices stolen from a playing effect.
+     *
+     * @return The stolen count.
+     */
+    public long getStolenCount() {
+        return stolenCount;
+    }
+
+    /**
+     * Returns the number of effects dropped because every voice was busy with a higher-priority effect.
+     *
+     * @return The dropped count.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.activityManagers.audio;
+
+/**
+ * Plays and stops the sound effects scheduled by a {@link SoundMixer}.
+ * Both methods must return straight away; the sound itself plays in the background.
+ */
+public interface SoundOutput {
+
+    /**
+     * Starts a new instance of a sound effect, on top of any instances already playing.
+     *
+     * @param effect The sound effect.
+     * @param volume The volume, from 0.0 to 1.0.
+     */
+    void play(SoundEffect effect, double volume);
+
+    /**
+     * Stops every playing instance of a sound effect.
+     *
+     * @param effect The sound effect.
+     */
+    void stop(SoundEffect effect);
+}
@@ -0,0 +1,59 @@
+package com.example.demo.activityManagers.collision;
+
+/**
+ * The {@code BroadPhase} interface describes the first stage of collision detection.
+ * <p>
+ * A broad phase receives the axis-aligned bounding boxes of every active actor for the current frame and reports
+ * only the pairs of actors that are close enough to possibly collide. The {@link com.example.demo.activityManagers.CollisionHandler}
+ * then runs the exact intersection test and the collision response on those candidate pairs only, instead of on every
+ * possible pair of actors.
+ * </p>
+ * <p>
+ * Bounding boxes are passed as parallel primitive arrays indexed by the actor's position in the active actor list,
+ * so implementations never need to touch the JavaFX scene graph and do not allocate per frame once their internal
+ * buffers have grown to the working size.
+ * </p>
+ */
+public interface BroadPhase {
+
+    /**
+     * Callback receiving candidate pairs produced by a {@link BroadPhase}.
+     * Indices always refer to positions in the bounding box arrays passed to {@link #findCandidatePairs}.
+     */
+    @FunctionalInterface
+    interface PairConsumer {
+
+        /**
+         * Accepts one candidate pair. Each unordered pair is reported at most once per frame,
+         * with the lower index first.
+         *
+         * @param first  The index of the first actor of the pair.
+         * @param second The index of the second actor of the pair.
+         */
+        void accept(int first, int second);
+    }
+
+    /**
+     * Reports every pair of bounding boxes that may overlap.
+     * <p>
+     * Implementations may report pairs that do not actually overlap (false positives) but must never
+     * miss a pair that does overlap. Touching boxes count as overlapping, matching
+     * {@link javafx.geometry.Bounds#intersects(javafx.geometry.Bounds)}.
+     * </p>
+     *
+     * @param minX     The left edge of every bounding box.
+     * @param minY     The top edge of every bounding box.
+     * @param maxX     The right edge of every bounding box.
+     * @param maxY     The bottom edge of every bounding box.
+     * @param count    The number of valid entries in the arrays.
+     * @param consumer The callback receiving each candidate pair.
+     */
+    void findCandidatePairs(double[] minX, double[] minY, double[] maxX, double[] maxY, int count, PairConsumer consumer);
+
+    /**
+     * Returns a short human-readable name for this broad phase, used when reporting collision statistics.
+     *
+     * @return The name of the broad phase.
+     */
+    String getName();
+}
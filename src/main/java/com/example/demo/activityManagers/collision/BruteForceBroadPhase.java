@@ -0,0 +1,41 @@
+package com.example.demo.activityManagers.collision;
+
+/**
+ * The {@code BruteForceBroadPhase} reports every possible pair of actors as a candidate pair.
+ * <p>
+ * This reproduces the original nested-loop behaviour of the {@link com.example.demo.activityManagers.CollisionHandler}
+ * and is kept as a reference mode: running a level with it and comparing the results against the faster
+ * broad phases is the simplest way to check that no collision is being missed.
+ * </p>
+ */
+public class BruteForceBroadPhase implements BroadPhase {
+
+    /**
+     * Reports all {@code count * (count - 1) / 2} pairs.
+     *
+     * @param minX     The left edge of every bounding box.
+     * @param minY     The top edge of every bounding box.
+     * @param maxX     The right edge of every bounding box.
+     * @param maxY     The bottom edge of every bounding box.
+     * @param count    The number of valid entries in the arrays.
+     * @param consumer The callback receiving each candidate pair.
+     */
+    @Override
+    public void findCandidatePairs(double[] minX, double[] minY, double[] maxX, double[] maxY, int count, PairConsumer consumer) {
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                consumer.accept(i, j);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of this broad phase.
+     *
+     * @return {@code "brute-force"}.
+     */
+    @Override
+    public String getName() {
+        return "brute-force";
+    }
+}
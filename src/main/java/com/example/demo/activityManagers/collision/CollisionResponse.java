@@ -0,0 +1,23 @@
+package com.example.demo.activityManagers.collision;
+
+import com.example.demo.actors.GameEntity;
+
+/**
+ * The {@code CollisionResponse} interface describes what happens when two actors of given
+ * {@link com.example.demo.actors.CollisionCategory categories} intersect.
+ * <p>
+ * Responses are stored in a table indexed by the categories of both actors, so the collision handler
+ * looks up the response for a pair directly instead of working it out through {@code instanceof} checks.
+ * </p>
+ */
+@FunctionalInterface
+public interface CollisionResponse {
+
+    /**
+     * Applies the effect of a collision between two actors.
+     *
+     * @param first  The actor of the first category the response was registered for.
+     * @param second The actor of the second category the response was registered for.
+     */
+    void respond(GameEntity first, GameEntity second);
+}
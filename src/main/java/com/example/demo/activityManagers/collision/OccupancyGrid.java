@@ -0,0 +1,181 @@
+package com.example.demo.activityManagers.collision;
+
+import java.util.Arrays;
+
+/**
+ * The {@code OccupancyGrid} is a spatial index of the regions already taken up by actors.
+ * It answers "would this box overlap anything?" by looking only at the grid cells the box covers,
+ * instead of comparing it against every actor on screen.
+ * <p>
+ * Boxes are inserted one at a time, so a caller can add each region as soon as it is claimed and have
+ * later queries see it. As in {@link UniformGridBroadPhase}, the grid is stored as a hash table of cells and
+ * all buffers are plain arrays that are reused after {@link #clear()}.
+ * </p>
+ * <p>
+ * Boxes that only touch along an edge do not count as overlapping, so two actors may be placed side by side.
+ * </p>
+ */
+public class OccupancyGrid {
+
+    /** The number of hash buckets. Boxes in cells that hash to the same bucket are told apart by their bounds. */
+    private static final int BUCKET_COUNT = 256;
+
+    /** The edge length of a grid cell, in pixels. */
+    private final double cellSize;
+
+    /** The first cell entry of every hash bucket, or {@code -1} for an empty bucket. */
+    private final int[] bucketHead = new int[BUCKET_COUNT];
+
+    /** The box index stored in each cell entry. */
+    private int[] entryBox = new int[256];
+
+    /** The next cell entry in the same hash bucket, or {@code -1}. */
+    private int[] entryNext = new int[256];
+
+    /** The left edge of every inserted box. */
+    private double[] boxMinX = new double[64];
+
+    /** The top edge of every inserted box. */
+    private double[] boxMinY = new double[64];
+
+    /** The right edge of every inserted box. */
+    private double[] boxMaxX = new double[64];
+
+    /** The bottom edge of every inserted box. */
+    private double[] boxMaxY = new double[64];
+
+    /** The number of boxes inserted since the last {@link #clear()}. */
+    private int boxCount;
+
+    /** The number of cell entries in use. */
+    private int entryCount;
+
+    /**
+     * Constructs an occupancy grid using {@link UniformGridBroadPhase#DEFAULT_CELL_SIZE}.
+     */
+    public OccupancyGrid() {
+        this(UniformGridBroadPhase.DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructs an occupancy grid with the given cell size.
+     *
+     * @param cellSize The edge length of a grid cell, in pixels. Must be positive.
+     */
+    public OccupancyGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        Arrays.fill(bucketHead, -1);
+    }
+
+    /**
+     * Removes every box from the grid.
+     */
+    public void clear() {
+        Arrays.fill(bucketHead, -1);
+        boxCount = 0;
+        entryCount = 0;
+    }
+
+    /**
+     * Marks the given box as occupied.
+     *
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     */
+    public void insert(double minX, double minY, double maxX, double maxY) {
+        if (boxCount == boxMinX.length) {
+            int capacity = boxCount * 2;
+            boxMinX = Arrays.copyOf(boxMinX, capacity);
+            boxMinY = Arrays.copyOf(boxMinY, capacity);
+            boxMaxX = Arrays.copyOf(boxMaxX, capacity);
+            boxMaxY = Arrays.copyOf(boxMaxY, capacity);
+        }
+        int box = boxCount++;
+        boxMinX[box] = minX;
+        boxMinY[box] = minY;
+        boxMaxX[box] = maxX;
+        boxMaxY[box] = maxY;
+
+        int lastX = toCell(maxX);
+        int lastY = toCell(maxY);
+        for (int cellX = toCell(minX); cellX <= lastX; cellX++) {
+            for (int cellY = toCell(minY); cellY <= lastY; cellY++) {
+                if (entryCount == entryBox.length) {
+                    entryBox = Arrays.copyOf(entryBox, entryCount * 2);
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                }
+                int bucket = hash(cellX, cellY) & (BUCKET_COUNT - 1);
+                entryBox[entryCount] = box;
+                entryNext[entryCount] = bucketHead[bucket];
+                bucketHead[bucket] = entryCount;
+                entryCount++;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given box overlaps any box in the grid.
+     *
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @return {@code true} if the box overlaps an occupied region, {@code false} otherwise.
+     */
+    public boolean overlaps(double minX, double minY, double maxX, double maxY) {
+        if (boxCount == 0) {
+            return false;
+        }
+        int lastX = toCell(maxX);
+        int lastY = toCell(maxY);
+        for (int cellX = toCell(minX); cellX <= lastX; cellX++) {
+            for (int cellY = toCell(minY); cellY <= lastY; cellY++) {
+                int bucket = hash(cellX, cellY) & (BUCKET_COUNT - 1);
+                for (int p = bucketHead[bucket]; p != -1; p = entryNext[p]) {
+                    int box = entryBox[p];
+                    if (minX < boxMaxX[box] && boxMinX[box] < maxX
+                            && minY < boxMaxY[box] && boxMinY[box] < maxY) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of boxes inserted since the last {@link #clear()}.
+     *
+     * @return The number of occupied regions.
+     */
+    public int size() {
+        return boxCount;
+    }
+
+    /**
+     * Converts a world coordinate to a grid column or row.
+     *
+     * @param coordinate The world coordinate, in pixels.
+     * @return The index of the cell containing the coordinate.
+     */
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Hashes a cell position into a bucket index before masking.
+     *
+     * @param cellX The grid column.
+     * @param cellY The grid row.
+     * @return The hash of the cell.
+     */
+    private static int hash(int cellX, int cellY) {
+        int h = cellX * 73856093 ^ cellY * 19349663;
+        return h ^ (h >>> 16);
+    }
+}
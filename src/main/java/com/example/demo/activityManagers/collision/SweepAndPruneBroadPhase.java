@@ -0,0 +1,124 @@
+package com.example.demo.activityManagers.collision;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SweepAndPruneBroadPhase} finds candidate pairs by sorting bounding boxes along the X axis
+ * and sweeping over the sorted list.
+ * <p>
+ * Most actors in the side-scrolling levels move horizontally, so once the boxes are sorted by their left edge,
+ * every actor only needs to be compared with the actors whose left edge lies before its own right edge.
+ * Pairs that overlap on X are then pruned on the Y axis before being reported.
+ * </p>
+ * <p>
+ * The sorted order from the previous frame is reused as the starting point of the next sort. Between two frames
+ * actors only move a few pixels, so the order is almost sorted already and the insertion sort used here runs
+ * in close to linear time.
+ * </p>
+ */
+public class SweepAndPruneBroadPhase implements BroadPhase {
+
+    /** Actor indices sorted by the left edge of their bounding box, kept between frames. */
+    private int[] order = new int[64];
+
+    /** Scratch buffer marking which indices are already present in {@link #order}. */
+    private boolean[] present = new boolean[64];
+
+    /** The number of valid entries in {@link #order}. */
+    private int orderSize;
+
+    /**
+     * Sorts the bounding boxes along the X axis and reports every pair overlapping on both axes.
+     *
+     * @param minX     The left edge of every bounding box.
+     * @param minY     The top edge of every bounding box.
+     * @param maxX     The right edge of every bounding box.
+     * @param maxY     The bottom edge of every bounding box.
+     * @param count    The number of valid entries in the arrays.
+     * @param consumer The callback receiving each candidate pair.
+     */
+    @Override
+    public void findCandidatePairs(double[] minX, double[] minY, double[] maxX, double[] maxY, int count, PairConsumer consumer) {
+        rebuildOrder(count);
+        sortByMinX(minX);
+
+        for (int i = 0; i < orderSize; i++) {
+            int a = order[i];
+            double right = maxX[a];
+
+            for (int j = i + 1; j < orderSize; j++) {
+                int b = order[j];
+                if (minX[b] > right) {
+                    break; // Every following box starts further right, so none of them can overlap
+                }
+                if (minY[a] <= maxY[b] && minY[b] <= maxY[a]) {
+                    if (a < b) {
+                        consumer.accept(a, b);
+                    } else {
+                        consumer.accept(b, a);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Carries the previous frame's order over to the current frame.
+     * Indices that no longer exist are dropped and new indices are appended at the end.
+     *
+     * @param count The number of actors in the current frame.
+     */
+    private void rebuildOrder(int count) {
+        if (order.length < count) {
+            order = Arrays.copyOf(order, Math.max(count, order.length * 2));
+        }
+        if (present.length < count) {
+            present = new boolean[Math.max(count, present.length * 2)];
+        }
+        Arrays.fill(present, 0, count, false);
+
+        int size = 0;
+        for (int i = 0; i < orderSize; i++) {
+            int index = order[i];
+            if (index < count) {
+                order[size++] = index;
+                present[index] = true;
+            }
+        }
+        for (int index = 0; index < count; index++) {
+            if (!present[index]) {
+                order[size++] = index;
+            }
+        }
+        orderSize = size;
+    }
+
+    /**
+     * Insertion sort of {@link #order} by the left edge of each bounding box.
+     * Runs in near-linear time when the order is already almost sorted, which is the common case between frames.
+     *
+     * @param minX The left edge of every bounding box.
+     */
+    private void sortByMinX(double[] minX) {
+        for (int i = 1; i < orderSize; i++) {
+            int index = order[i];
+            double key = minX[index];
+            int j = i - 1;
+            while (j >= 0 && minX[order[j]] > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    /**
+     * Returns the name of this broad phase.
+     *
+     * @return {@code "sweep-and-prune"}.
+     */
+    @Override
+    public String getName() {
+        return "sweep-and-prune";
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.demo.activityManagers.collision;
+
+import java.util.Arrays;
+
+/**
+ * The {@code UniformGridBroadPhase} finds candidate pairs by dropping every bounding box into the cells
+ * of a uniform grid and pairing only the actors that share a cell.
+ * <p>
+ * This suits levels where actors approach from every direction (such as the rockets and magnets of Level 3),
+ * where sorting along a single axis prunes very little. The grid is stored as a hash table of cells, so actors
+ * that are slightly off-screen are handled without having to size the grid to the world.
+ * </p>
+ * <p>
+ * A pair sharing several cells is reported only from the cell holding the top-left corner of the overlap
+ * of their cell ranges, so every pair is reported exactly once. All buffers are plain arrays that are reused
+ * from one frame to the next.
+ * </p>
+ */
+public class UniformGridBroadPhase implements BroadPhase {
+
+    /** The default edge length of a grid cell, in pixels. Roughly the size of the larger sprites in the game. */
+    public static final double DEFAULT_CELL_SIZE = 128;
+
+    /** The edge length of a grid cell, in pixels. */
+    private final double cellSize;
+
+    /** The first cell entry of every hash bucket, or {@code -1} for an empty bucket. */
+    private int[] bucketHead = new int[256];
+
+    /** The actor index stored in each cell entry. */
+    private int[] entryActor = new int[256];
+
+    /** The next cell entry in the same hash bucket, or {@code -1}. */
+    private int[] entryNext = new int[256];
+
+    /** The grid column of each cell entry. */
+    private int[] entryCellX = new int[256];
+
+    /** The grid row of each cell entry. */
+    private int[] entryCellY = new int[256];
+
+    /** The first grid column covered by each actor. */
+    private int[] actorCellMinX = new int[64];
+
+    /** The first grid row covered by each actor. */
+    private int[] actorCellMinY = new int[64];
+
+    /**
+     * Constructs a uniform grid broad phase using {@link #DEFAULT_CELL_SIZE}.
+     */
+    public UniformGridBroadPhase() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructs a uniform grid broad phase with the given cell size.
+     *
+     * @param cellSize The edge length of a grid cell, in pixels. Must be positive.
+     */
+    public UniformGridBroadPhase(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Inserts every bounding box into the grid and reports the pairs of actors sharing a cell.
+     *
+     * @param minX     The left edge of every bounding box.
+     * @param minY     The top edge of every bounding box.
+     * @param maxX     The right edge of every bounding box.
+     * @param maxY     The bottom edge of every bounding box.
+     * @param count    The number of valid entries in the arrays.
+     * @param consumer The callback receiving each candidate pair.
+     */
+    @Override
+    public void findCandidatePairs(double[] minX, double[] minY, double[] maxX, double[] maxY, int count, PairConsumer consumer) {
+        int entryCount = insertAll(minX, minY, maxX, maxY, count);
+        if (entryCount == 0) {
+            return;
+        }
+
+        for (int bucket = 0; bucket < bucketHead.length; bucket++) {
+            for (int p = bucketHead[bucket]; p != -1; p = entryNext[p]) {
+                int cellX = entryCellX[p];
+                int cellY = entryCellY[p];
+                int a = entryActor[p];
+
+                for (int q = entryNext[p]; q != -1; q = entryNext[q]) {
+                    if (entryCellX[q] != cellX || entryCellY[q] != cellY) {
+                        continue; // Different cell hashed into the same bucket
+                    }
+                    int b = entryActor[q];
+                    // Only report the pair from the first cell both actors share
+                    if (Math.max(actorCellMinX[a], actorCellMinX[b]) == cellX
+                            && Math.max(actorCellMinY[a], actorCellMinY[b]) == cellY) {
+                        if (a < b) {
+                            consumer.accept(a, b);
+                        } else {
+                            consumer.accept(b, a);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the grid and inserts one cell entry per actor per covered cell.
+     *
+     * @param minX  The left edge of every bounding box.
+     * @param minY  The top edge of every bounding box.
+     * @param maxX  The right edge of every bounding box.
+     * @param maxY  The bottom edge of every bounding box.
+     * @param count The number of valid entries in the arrays.
+     * @return The number of cell entries inserted.
+     */
+    private int insertAll(double[] minX, double[] minY, double[] maxX, double[] maxY, int count) {
+        if (actorCellMinX.length < count) {
+            actorCellMinX = new int[Math.max(count, actorCellMinX.length * 2)];
+            actorCellMinY = new int[actorCellMinX.length];
+        }
+
+        // Size the buffers for the number of cell entries this frame needs
+        int required = 0;
+        for (int i = 0; i < count; i++) {
+            actorCellMinX[i] = toCell(minX[i]);
+            actorCellMinY[i] = toCell(minY[i]);
+            required += (toCell(maxX[i]) - actorCellMinX[i] + 1) * (toCell(maxY[i]) - actorCellMinY[i] + 1);
+        }
+        ensureEntryCapacity(required);
+
+        Arrays.fill(bucketHead, -1);
+        int mask = bucketHead.length - 1;
+        int entryCount = 0;
+        for (int i = 0; i < count; i++) {
+            int lastX = toCell(maxX[i]);
+            int lastY = toCell(maxY[i]);
+            for (int cellX = actorCellMinX[i]; cellX <= lastX; cellX++) {
+                for (int cellY = actorCellMinY[i]; cellY <= lastY; cellY++) {
+                    int bucket = hash(cellX, cellY) & mask;
+                    entryActor[entryCount] = i;
+                    entryCellX[entryCount] = cellX;
+                    entryCellY[entryCount] = cellY;
+                    entryNext[entryCount] = bucketHead[bucket];
+                    bucketHead[bucket] = entryCount;
+                    entryCount++;
+                }
+            }
+        }
+        return entryCount;
+    }
+
+    /**
+     * Grows the entry buffers and the hash table so they can hold the given number of cell entries.
+     * The table is kept at least twice as large as the number of entries to keep buckets short.
+     *
+     * @param required The number of cell entries needed this frame.
+     */
+    private void ensureEntryCapacity(int required) {
+        if (entryActor.length < required) {
+            int capacity = Math.max(required, entryActor.length * 2);
+            entryActor = new int[capacity];
+            entryNext = new int[capacity];
+            entryCellX = new int[capacity];
+            entryCellY = new int[capacity];
+        }
+        int tableSize = bucketHead.length;
+        while (tableSize < required * 2) {
+            tableSize <<= 1;
+        }
+        if (tableSize != bucketHead.length) {
+            bucketHead = new int[tableSize];
+        }
+    }
+
+    /**
+     * Converts a world coordinate to a grid column or row.
+     *
+     * @param coordinate The world coordinate, in pixels.
+     * @return The index of the cell containing the coordinate.
+     */
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Hashes a cell position into a bucket index before masking.
+     *
+     * @param cellX The grid column.
+     * @param cellY The grid row.
+     * @return The hash of the cell.
+     */
+    private static int hash(int cellX, int cellY) {
+        int h = cellX * 73856093 ^ cellY * 19349663;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the edge length of a grid cell.
+     *
+     * @return The cell size, in pixels.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns the name of this broad phase.
+     *
+     * @return {@code "uniform-grid"}.
+     */
+    @Override
+    public String getName() {
+        return "uniform-grid";
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.demo.activityManagers.events;
+
+import com.example.demo.actors.GameEntity;
+
+import java.util.Arrays;
+
+/**
+ * The GameEventBus carries gameplay events from where they happen, such as the collision handler's pair loop, to the
+ * parts of the game that react to them, such as the level's counts, the player's stats and the audio.
+ *
+ * <p>Publishing an event only writes it into a preallocated ring buffer, so it does not allocate and runs none of the
+ * reactions. The buffer is drained once per tick, and every event is handed to the listeners of its type in the order
+ * the events were published. The buffer doubles if a tick publishes more events than it holds, so no event is lost.</p>
+ *
+ * <p>Events published by a listener while the bus is being drained are delivered in the same drain.</p>
+ */
+public class GameEventBus {
+
+    /**
+     * The number of events the buffer holds before it has to grow.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The event types, so their ordinals can index the listeners.
+     */
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    /**
+     * The listeners of each event type, indexed by the type's ordinal.
+     */
+    private final GameEventListener[][] listeners = new GameEventListener[TYPES.length][0];
+
+    /**
+     * The types of the buffered events.
+     */
+    private GameEventType[] types;
+
+    /**
+     * The sources of the buffered events.
+     */
+    private GameEntity[] sources;
+
+    /**
+     * The index of the oldest buffered event.
+     */
+    private int head;
+
+    /**
+     * The number of buffered events.
+     */
+    private int size;
+
+    /**
+     * The number of events published so far.
+     */
+    private long publishedCount;
+
+    /**
+     * Constructs an event bus holding {@link #DEFAULT_CAPACITY} events before it has to grow.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an event bus holding the given number of events before it has to grow.
+     *
+     * @param capacity The number of events, rounded up to a power of two.
+     */
+    public GameEventBus(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The event buffer must hold at least one event: " + capacity);
+        }
+        int powerOfTwo = Integer.highestOneBit(capacity);
+        if (powerOfTwo < capacity) {
+            powerOfTwo <<= 1;
+        }
+        this.types = new GameEventType[powerOfTwo];
+        this.sources = new GameEntity[powerOfTwo];
+    }
+
+    /**
+     * Subscribes a listener to the given event types. Listeners of a type are called in the order they subscribed.
+     *
+     * @param listener   The listener.
+     * @param eventTypes The event types it is interested in.
+     */
+    public void subscribe(GameEventListener listener, GameEventType... eventTypes) {
+        for (GameEventType type : eventTypes) {
+            GameEventListener[] current = listeners[type.ordinal()];
+            GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = listener;
+            listeners[type.ordinal()] = updated;
+        }
+    }
+
+    /**
+     * Buffers an event until the bus is next drained.
+     *
+     * @param type   The type of the event.
+     * @param source The actor the event is about.
+     */
+    public void publish(GameEventType type, GameEntity source) {
+        if (size == types.length) {
+            grow();
+        }
+        int tail = (head + size) & (types.length - 1);
+        types[tail] = type;
+        sources[tail] = source;
+        size++;
+        publishedCount++;
+    }
+
+    /**
+     * Hands every buffered event to the listeners of its type, oldest first, and empties the buffer.
+     *
+     * @return The number of events delivered.
+     */
+    public int drain() {
+        int delivered = 0;
+        while (size > 0) {
+            GameEventType type = types[head];
+            GameEntity source = sources[head];
+            sources[head] = null; // Do not keep the actor alive from the buffer
+            head = (head + 1) & (types.length - 1);
+            size--;
+
+            GameEventListener[] typeListeners = listeners[type.ordinal()];
+            for (GameEventListener listener : typeListeners) {
+                listener.onGameEvent(type, source);
+            }
+            delivered++;
+        }
+        head = 0;
+        return delivered;
+    }
+
+    /**
+     * Discards the buffered events without delivering them.
+     */
+    public void clear() {
+        Arrays.fill(sources, null);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     *
+     * @return The number of buffered events.
+     */
+    public int getPendingCount() {
+        return size;
+    }
+
+    /**
+     * Returns the number of events the buffer holds before it has to grow.
+     *
+     * @return The capacity of the buffer.
+     */
+    public int getCapacity() {
+        return types.length;
+    }
+
+    /**
+     * Returns the number of events published so far.
+     *
+     * @return The number of published events.
+     */
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    /**
+     * Doubles the buffer, moving the buffered events to its start in order.
+     */
+    private void grow() {
+        int capacity = types.length;
+        GameEventType[] grownTypes = new GameEventType[capacity << 1];
+        GameEntity[] grownSources = new GameEntity[capacity << 1];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (capacity - 1);
+            grownTypes[i] = types[index];
+            grownSources[i] = sources[index];
+        }
+        types = grownTypes;
+        sources = grownSources;
+        head = 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.activityManagers.events;
+
+import com.example.demo.actors.GameEntity;
+
+/**
+ * Receives the events of the types it is subscribed to when a {@link GameEventBus} is drained.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Handles an event.
+     *
+     * @param type   The type of the event.
+     * @param source The actor the event is about, as described by the type.
+     */
+    void onGameEvent(GameEventType type, GameEntity source);
+}
@@ -0,0 +1,33 @@
+package com.example.demo.activityManagers.events;
+
+/**
+ * The kinds of gameplay events published on a {@link GameEventBus}. Each event carries the actor it is about, as
+ * described for each kind.
+ */
+public enum GameEventType {
+
+    /**
+     * An enemy was rammed or shot down by the user. The source is the enemy.
+     */
+    KILL,
+
+    /**
+     * The user collected a coin. The source is the user vehicle that collected it.
+     */
+    COIN_COLLECTED,
+
+    /**
+     * The user vehicle was hit and lost a life. The source is the user vehicle.
+     */
+    LIFE_LOST,
+
+    /**
+     * The user picked up a magnet. The source is the user vehicle that picked it up.
+     */
+    MAGNET_PICKED,
+
+    /**
+     * The user picked up a fuel token. The source is the user vehicle that picked it up.
+     */
+    FUEL_PICKED
+}
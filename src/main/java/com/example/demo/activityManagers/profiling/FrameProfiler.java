@@ -0,0 +1,324 @@
+package com.example.demo.activityManagers.profiling;
+
+import java.util.Locale;
+
+/**
+ * The {@code FrameProfiler} measures where the time of each simulation tick goes.
+ * <p>
+ * The hot paths of a tick are wrapped in named timing scopes:
+ * </p>
+ * <pre>
+ * long start = profiler.start();
+ * collisionHandler.checkCollisions(actors);
+ * profiler.stop(FrameProfiler.Phase.COLLISIONS, start);
+ * </pre>
+ * <p>
+ * A phase can be entered several times in one tick (every spawn call adds to {@link Phase#SPAWNING}); the time is
+ * summed until the {@link com.example.demo.controller.GameLoop} ends the tick, when each phase's total and the whole
+ * tick's time are recorded in a {@link LatencyHistogram}. Scopes are a pair of {@code long} timestamps rather than
+ * objects, so profiling never allocates. The profiler also counts rendered frames to report the frame rate.
+ * </p>
+ * <p>
+ * When a level is requested, {@link #markLevelRequested(String, long)} starts a time-to-first-frame measurement that
+ * ends at the next rendered frame. It covers building the level, swapping in its scene and starting the loop, and is
+ * printed once per level change.
+ * </p>
+ * <p>
+ * All methods are called from the JavaFX application thread. This class uses the Singleton pattern.
+ * </p>
+ */
+public class FrameProfiler {
+
+    /**
+     * The parts of a tick that are timed separately.
+     */
+    public enum Phase {
+        /** Updating the actors and moving the kinematic ones. */
+        ACTORS("actors"),
+        /** Adding and removing actors from the scene graph. */
+        SCENE("scene"),
+        /** Finding and handling collisions. */
+        COLLISIONS("collisions"),
+        /** Spawning new actors. */
+        SPAWNING("spawning"),
+        /** Updating the heads-up display. */
+        HUD("hud");
+
+        /**
+         * The name shown on the overlay.
+         */
+        private final String label;
+
+        /**
+         * Constructs a phase with the given display name.
+         *
+         * @param label The name shown on the overlay.
+         */
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the name shown on the overlay.
+         *
+         * @return The display name.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * The number of phases, cached to avoid copying the values array.
+     */
+    private static final int PHASE_COUNT = Phase.values().length;
+
+    /**
+     * The length of the window the frame rate is measured over, in nanoseconds.
+     */
+    private static final long FPS_WINDOW_NANOS = 1_000_000_000L;
+
+    /**
+     * Singleton instance of the profiler, volatile so the double-checked locking publishes it safely.
+     */
+    private static volatile FrameProfiler instance;
+
+    /**
+     * The time spent in each phase during the current tick.
+     */
+    private final long[] currentPhaseNanos = new long[PHASE_COUNT];
+
+    /**
+     * The time spent in each phase during the last completed tick.
+     */
+    private final long[] lastPhaseNanos = new long[PHASE_COUNT];
+
+    /**
+     * The per-tick time of each phase.
+     */
+    private final LatencyHistogram[] phaseHistograms = new LatencyHistogram[PHASE_COUNT];
+
+    /**
+     * The time of each whole tick.
+     */
+    private final LatencyHistogram tickHistogram = new LatencyHistogram();
+
+    /**
+     * The start of the current tick, or {@code -1} outside a tick.
+     */
+    private long tickStartNanos = -1;
+
+    /**
+     * The time of the last completed tick.
+     */
+    private long lastTickNanos;
+
+    /**
+     * The start of the current frame rate window, or {@code -1} before the first frame.
+     */
+    private long fpsWindowStartNanos = -1;
+
+    /**
+     * The number of frames rendered in the current window.
+     */
+    private int framesInWindow;
+
+    /**
+     * The frame rate measured over the last complete window.
+     */
+    private double framesPerSecond;
+
+    /**
+     * The level whose first frame is awaited, or {@code null} if no measurement is in progress.
+     */
+    private String requestedLevelName;
+
+    /**
+     * The time the awaited level was requested, or {@code -1} if no measurement is in progress.
+     */
+    private long levelRequestedNanos = -1;
+
+    /**
+     * The time from the last level request to its first rendered frame, or {@code -1} if none has been measured.
+     */
+    private long timeToFirstFrameNanos = -1;
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private FrameProfiler() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Retrieves the Singleton instance of {@link FrameProfiler}.
+     *
+     * @return The Singleton instance of {@link FrameProfiler}.
+     */
+    public static FrameProfiler getInstance() {
+        if (instance == null) {
+            synchronized (FrameProfiler.class) {
+                if (instance == null) {
+                    instance = new FrameProfiler();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Opens a timing scope.
+     *
+     * @return The start timestamp, to be passed to {@link #stop(Phase, long)}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Closes a timing scope, adding its duration to the phase's total for the current tick.
+     *
+     * @param phase      The phase the scope belongs to.
+     * @param startNanos The timestamp returned by {@link #start()}.
+     */
+    public void stop(Phase phase, long startNanos) {
+        currentPhaseNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Marks the start of a simulation tick.
+     */
+    public void beginTick() {
+        tickStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a simulation tick, recording its duration and the time spent in each phase.
+     * Does nothing if no tick was begun.
+     */
+    public void endTick() {
+        if (tickStartNanos < 0) {
+            return;
+        }
+        lastTickNanos = System.nanoTime() - tickStartNanos;
+        tickStartNanos = -1;
+        tickHistogram.record(lastTickNanos);
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseHistograms[i].record(currentPhaseNanos[i]);
+            lastPhaseNanos[i] = currentPhaseNanos[i];
+            currentPhaseNanos[i] = 0;
+        }
+    }
+
+    /**
+     * Counts a rendered frame towards the frame rate.
+     *
+     * @param nowNanos The timestamp of the frame, in nanoseconds.
+     */
+    public void recordFrame(long nowNanos) {
+        if (levelRequestedNanos >= 0) {
+            timeToFirstFrameNanos = nowNanos - levelRequestedNanos;
+            levelRequestedNanos = -1;
+            System.out.printf(Locale.ROOT, "%s: first frame after %.1f ms%n",
+                    requestedLevelName, timeToFirstFrameNanos / 1e6);
+        }
+        if (fpsWindowStartNanos < 0) {
+            fpsWindowStartNanos = nowNanos;
+            return;
+        }
+        framesInWindow++;
+        long elapsed = nowNanos - fpsWindowStartNanos;
+        if (elapsed >= FPS_WINDOW_NANOS) {
+            framesPerSecond = framesInWindow * 1e9 / elapsed;
+            framesInWindow = 0;
+            fpsWindowStartNanos = nowNanos;
+        }
+    }
+
+    /**
+     * Starts measuring the time until the next rendered frame, which will be the first frame of the requested level.
+     *
+     * @param levelName       The name of the level, used in the report.
+     * @param requestedNanos  The time the level was requested, from {@link System#nanoTime()}.
+     */
+    public void markLevelRequested(String levelName, long requestedNanos) {
+        requestedLevelName = levelName;
+        levelRequestedNanos = requestedNanos;
+    }
+
+    /**
+     * Returns the time from the last level request to its first rendered frame.
+     *
+     * @return The time, in nanoseconds, or {@code -1} if no level has rendered a frame yet.
+     */
+    public long getTimeToFirstFrameNanos() {
+        return timeToFirstFrameNanos;
+    }
+
+    /**
+     * Returns the histogram of the per-tick time spent in a phase.
+     *
+     * @param phase The phase.
+     * @return The phase's histogram.
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns the histogram of whole tick times.
+     *
+     * @return The tick histogram.
+     */
+    public LatencyHistogram getTickHistogram() {
+        return tickHistogram;
+    }
+
+    /**
+     * Returns the time spent in a phase during the last completed tick.
+     *
+     * @param phase The phase.
+     * @return The time, in nanoseconds.
+     */
+    public long getLastPhaseNanos(Phase phase) {
+        return lastPhaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the time of the last completed tick.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Returns the frame rate measured over the last complete second.
+     *
+     * @return The frames per second, or 0 before a full second has been rendered.
+     */
+    public double getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    /**
+     * Forgets every recorded measurement, e.g. when a new level starts.
+     * A time-to-first-frame measurement in progress is kept, as levels reset the profiler while they are being built.
+     */
+    public void reset() {
+        tickHistogram.reset();
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseHistograms[i].reset();
+            currentPhaseNanos[i] = 0;
+            lastPhaseNanos[i] = 0;
+        }
+        tickStartNanos = -1;
+        lastTickNanos = 0;
+        fpsWindowStartNanos = -1;
+        framesInWindow = 0;
+        framesPerSecond = 0;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.activityManagers.profiling;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of durations in nanoseconds, used by the {@link FrameProfiler} to report percentiles.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split into {@link #SUB_BUCKETS} equal buckets, so a
+ * percentile is reported within about 6% of the true value whatever its magnitude. The bucket array is allocated
+ * once, so recording a value never allocates and can be done every tick.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of bits of each value kept below its highest set bit.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets needed to cover every non-negative {@code long}.
+     */
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The number of values recorded in each bucket.
+     */
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    /**
+     * The number of values recorded.
+     */
+    private long totalCount;
+
+    /**
+     * The largest value recorded.
+     */
+    private long max;
+
+    /**
+     * The sum of all values recorded, used for the mean.
+     */
+    private long sum;
+
+    /**
+     * Records a duration. Negative values are counted as zero.
+     *
+     * @param nanos The duration, in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Returns the duration below which the given percentage of recorded values fall.
+     * The upper edge of the bucket is reported, but never more than the largest value recorded.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The duration in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return The maximum, in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the values recorded.
+     *
+     * @return The mean, in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Forgets every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    /**
+     * Finds the bucket a value is counted in.
+     *
+     * @param value The non-negative value.
+     * @return The bucket index.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the largest value counted in a bucket.
+     *
+     * @param index The bucket index.
+     * @return The upper edge of the bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
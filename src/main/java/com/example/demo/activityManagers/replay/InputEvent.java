@@ -0,0 +1,27 @@
+package com.example.demo.activityManagers.replay;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * A key press or release, stamped with the simulation tick it happened after.
+ *
+ * @param tick    The number of ticks the level had run when the key changed; the key takes effect before the next one.
+ * @param keyCode The key.
+ * @param pressed {@code true} if the key was pressed, {@code false} if it was released.
+ */
+public record InputEvent(long tick, KeyCode keyCode, boolean pressed) {
+
+    /**
+     * Checks the event.
+     *
+     * @throws IllegalArgumentException If the tick is negative or the key is missing.
+     */
+    public InputEvent {
+        if (tick < 0) {
+            throw new IllegalArgumentException("Tick must not be negative: " + tick);
+        }
+        if (keyCode == null) {
+            throw new IllegalArgumentException("Key must not be null.");
+        }
+    }
+}
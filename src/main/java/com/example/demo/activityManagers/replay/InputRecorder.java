@@ -0,0 +1,74 @@
+package com.example.demo.activityManagers.replay;
+
+import com.example.demo.activityManagers.InputHandler;
+import javafx.scene.input.KeyCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the live key events of a level, each stamped with the number of ticks the level had run when it happened.
+ * It is attached to the level's {@link InputHandler} as its {@link InputHandler.InputListener}.
+ */
+public class InputRecorder implements InputHandler.InputListener {
+
+    /**
+     * The number of the recorded level.
+     */
+    private final int levelNumber;
+
+    /**
+     * The seed of the level's random streams.
+     */
+    private final long seed;
+
+    /**
+     * The source of the total tick count, such as the game loop's.
+     */
+    private final LongSupplier tickCounter;
+
+    /**
+     * The total tick count when recording started, so events are stamped relative to the start of the level.
+     */
+    private final long startTick;
+
+    /**
+     * The events recorded so far.
+     */
+    private final List<InputEvent> events = new ArrayList<>();
+
+    /**
+     * Starts recording a level.
+     *
+     * @param levelNumber The number of the level.
+     * @param seed        The seed of the level's random streams.
+     * @param tickCounter The source of the total tick count; read now and for every event.
+     */
+    public InputRecorder(int levelNumber, long seed, LongSupplier tickCounter) {
+        this.levelNumber = levelNumber;
+        this.seed = seed;
+        this.tickCounter = tickCounter;
+        this.startTick = tickCounter.getAsLong();
+    }
+
+    /**
+     * Records a key event at the current tick.
+     *
+     * @param keyCode The key.
+     * @param pressed {@code true} if the key was pressed, {@code false} if it was released.
+     */
+    @Override
+    public void keyChanged(KeyCode keyCode, boolean pressed) {
+        events.add(new InputEvent(tickCounter.getAsLong() - startTick, keyCode, pressed));
+    }
+
+    /**
+     * Returns what has been recorded so far.
+     *
+     * @return The recording.
+     */
+    public InputRecording getRecording() {
+        return new InputRecording(levelNumber, seed, events);
+    }
+}
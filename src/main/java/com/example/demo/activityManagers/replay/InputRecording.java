@@ -0,0 +1,252 @@
+package com.example.demo.activityManagers.replay;
+
+import javafx.scene.input.KeyCode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recorded session of one level: the level's number, the seed of its
+ * {@link com.example.demo.activityManagers.RandomStreams}, and every key event in tick order.
+ * Together these are enough to play the level again tick for tick.
+ *
+ * <p>Recordings are stored in a compact binary form:</p>
+ * <pre>
+ * int    magic "CWRP"
+ * byte   format version
+ * int    level number
+ * long   seed
+ * short  number of distinct keys, then each key's name (modified UTF-8)
+ * int    number of events, then for each event:
+ *        varint ticks since the previous event, byte (key index &lt;&lt; 1 | 1 if released)
+ * </pre>
+ * <p>Keys are stored by name in a table rather than by ordinal, so a recording survives changes to {@link KeyCode}.
+ * A typical event takes two bytes.</p>
+ */
+public final class InputRecording {
+
+    /**
+     * The first four bytes of every recording, "CWRP".
+     */
+    private static final int MAGIC = 0x43575250;
+
+    /**
+     * The version of the format written.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The largest number of distinct keys a recording can hold, so a key index fits in the event byte.
+     */
+    private static final int MAX_KEYS = 128;
+
+    /**
+     * The number of the recorded level.
+     */
+    private final int levelNumber;
+
+    /**
+     * The seed the level's random streams were derived from.
+     */
+    private final long seed;
+
+    /**
+     * The key events, in tick order.
+     */
+    private final List<InputEvent> events;
+
+    /**
+     * Constructs a recording.
+     *
+     * @param levelNumber The number of the recorded level.
+     * @param seed        The seed the level's random streams were derived from.
+     * @param events      The key events, in tick order.
+     * @throws IllegalArgumentException If the events are not in tick order.
+     */
+    public InputRecording(int levelNumber, long seed, List<InputEvent> events) {
+        for (int i = 1; i < events.size(); i++) {
+            if (events.get(i).tick() < events.get(i - 1).tick()) {
+                throw new IllegalArgumentException("Events must be in tick order.");
+            }
+        }
+        this.levelNumber = levelNumber;
+        this.seed = seed;
+        this.events = List.copyOf(events);
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param path The file to read.
+     * @return The recording.
+     * @throws IOException If the file cannot be read or is not a valid recording.
+     */
+    public static InputRecording load(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a recording from a stream.
+     *
+     * @param in The stream to read from. It is not closed.
+     * @return The recording.
+     * @throws IOException If the stream cannot be read or does not hold a valid recording.
+     */
+    public static InputRecording read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input recording.");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input recording version: " + version);
+        }
+        int levelNumber = data.readInt();
+        long seed = data.readLong();
+
+        KeyCode[] keys = new KeyCode[data.readUnsignedShort()];
+        for (int i = 0; i < keys.length; i++) {
+            String name = data.readUTF();
+            try {
+                keys[i] = KeyCode.valueOf(name);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown key in input recording: " + name, e);
+            }
+        }
+
+        int eventCount = data.readInt();
+        List<InputEvent> events = new ArrayList<>(eventCount);
+        long tick = 0;
+        for (int i = 0; i < eventCount; i++) {
+            tick += readVarLong(data);
+            int packed = data.readUnsignedByte();
+            int keyIndex = packed >>> 1;
+            if (keyIndex >= keys.length) {
+                throw new IOException("Invalid key index in input recording: " + keyIndex);
+            }
+            events.add(new InputEvent(tick, keys[keyIndex], (packed & 1) == 0));
+        }
+        return new InputRecording(levelNumber, seed, events);
+    }
+
+    /**
+     * Writes the recording to a file, replacing it if it exists.
+     *
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes the recording to a stream.
+     *
+     * @param out The stream to write to. It is flushed but not closed.
+     * @throws IOException If the stream cannot be written.
+     * @throws IllegalStateException If the recording uses more distinct keys than the format can hold.
+     */
+    public void write(OutputStream out) throws IOException {
+        Map<KeyCode, Integer> keyIndices = new LinkedHashMap<>();
+        for (InputEvent event : events) {
+            keyIndices.putIfAbsent(event.keyCode(), keyIndices.size());
+        }
+        if (keyIndices.size() > MAX_KEYS) {
+            throw new IllegalStateException("Too many distinct keys to record: " + keyIndices.size());
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(levelNumber);
+        data.writeLong(seed);
+        data.writeShort(keyIndices.size());
+        for (KeyCode key : keyIndices.keySet()) {
+            data.writeUTF(key.name());
+        }
+        data.writeInt(events.size());
+        long previousTick = 0;
+        for (InputEvent event : events) {
+            writeVarLong(data, event.tick() - previousTick);
+            data.writeByte(keyIndices.get(event.keyCode()) << 1 | (event.pressed() ? 0 : 1));
+            previousTick = event.tick();
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes a non-negative number in seven-bit groups, lowest first, setting the top bit of every byte but the last.
+     *
+     * @param data  The stream to write to.
+     * @param value The number.
+     * @throws IOException If the stream cannot be written.
+     */
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarLong(DataOutputStream, long)}.
+     *
+     * @param data The stream to read from.
+     * @return The number.
+     * @throws IOException If the stream cannot be read or the number is malformed.
+     */
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed tick delta in input recording.");
+    }
+
+    /**
+     * Returns the number of the recorded level.
+     *
+     * @return The level number.
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Returns the seed the level's random streams were derived from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the key events, in tick order.
+     *
+     * @return An unmodifiable list of the events.
+     */
+    public List<InputEvent> getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.activityManagers.replay;
+
+import com.example.demo.activityManagers.InputHandler;
+import com.example.demo.actors.GameEntity;
+import com.example.demo.actors.Updatable;
+
+import java.util.List;
+
+/**
+ * Feeds a recorded session back through a level's {@link InputHandler} at the ticks it was recorded at.
+ *
+ * <p>The replay is added to the game loop after the level and the actor manager, so its {@link #update()} runs at the
+ * end of every tick. An event recorded after {@code n} ticks is dispatched at the end of tick {@code n}, which is the
+ * same point between ticks {@code n} and {@code n + 1} at which the live key event was handled. Events recorded
+ * before the first tick are dispatched by {@link #start()}.</p>
+ */
+public class InputReplay implements Updatable {
+
+    /**
+     * The events to dispatch, in tick order.
+     */
+    private final List<InputEvent> events;
+
+    /**
+     * The input handler the events are dispatched through.
+     */
+    private final InputHandler inputHandler;
+
+    /**
+     * The entity the events' actions are applied to.
+     */
+    private final GameEntity entity;
+
+    /**
+     * The index of the next event to dispatch.
+     */
+    private int nextEvent;
+
+    /**
+     * The number of ticks run since the replay started.
+     */
+    private long ticks;
+
+    /**
+     * Constructs a replay of a recording.
+     *
+     * @param recording    The recording to replay.
+     * @param inputHandler The input handler to dispatch the events through.
+     * @param entity       The entity the events' actions are applied to.
+     */
+    public InputReplay(InputRecording recording, InputHandler inputHandler, GameEntity entity) {
+        this.events = recording.getEvents();
+        this.inputHandler = inputHandler;
+        this.entity = entity;
+    }
+
+    /**
+     * Starts the replay, dispatching the events recorded before the first tick.
+     */
+    public void start() {
+        ticks = 0;
+        nextEvent = 0;
+        dispatchDueEvents();
+    }
+
+    /**
+     * Counts a tick and dispatches the events recorded after it.
+     */
+    @Override
+    public void update() {
+        ticks++;
+        dispatchDueEvents();
+    }
+
+    /**
+     * Checks whether every event has been dispatched.
+     *
+     * @return {@code true} if the replay has no events left.
+     */
+    public boolean isFinished() {
+        return nextEvent == events.size();
+    }
+
+    /**
+     * Dispatches every event recorded at or before the current tick.
+     */
+    private void dispatchDueEvents() {
+        while (nextEvent < events.size() && events.get(nextEvent).tick() <= ticks) {
+            InputEvent event = events.get(nextEvent++);
+            if (event.pressed()) {
+                inputHandler.press(event.keyCode(), entity);
+            } else {
+                inputHandler.release(event.keyCode(), entity);
+            }
+        }
+    }
+}
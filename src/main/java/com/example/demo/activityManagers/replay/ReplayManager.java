@@ -0,0 +1,200 @@
+package com.example.demo.activityManagers.replay;
+
+import com.example.demo.activityManagers.InputHandler;
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.activityManagers.RandomStreams;
+import com.example.demo.actors.GameEntity;
+import com.example.demo.controller.GameLoop;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The ReplayManager records the key input of every level played, or replays a recorded level, as configured by system
+ * properties. It follows the Singleton design pattern, like the other managers.
+ *
+ * <ul>
+ *     <li>{@value #RECORD_PROPERTY} names a directory. Each level played is recorded to {@code level<number>.replay}
+ *     there when the next level starts and when the game exits.</li>
+ *     <li>{@value #PLAY_PROPERTY} names a recording. The game starts straight at the recorded level, with the recorded
+ *     seed, and the recorded keys are fed in at the recorded ticks while the keyboard is ignored, so the level plays
+ *     out exactly as it did. This makes a recorded session a repeatable workload for performance and regression
+ *     checks.</li>
+ * </ul>
+ *
+ * <p>Only key input is recorded. A session in which the player spends coins to revive plays back the same way up to
+ * that point only.</p>
+ */
+public class ReplayManager {
+
+    /**
+     * The system property naming the directory that levels are recorded to.
+     */
+    public static final String RECORD_PROPERTY = "replay.record";
+
+    /**
+     * The system property naming the recording to replay.
+     */
+    public static final String PLAY_PROPERTY = "replay.play";
+
+    /**
+     * Singleton instance of ReplayManager, volatile so the double-checked locking publishes it safely.
+     */
+    private static volatile ReplayManager instance;
+
+    /**
+     * The directory levels are recorded to, or {@code null} if they are not recorded.
+     */
+    private final Path recordDirectory;
+
+    /**
+     * The recording to replay, or {@code null} if there is none.
+     */
+    private final InputRecording replay;
+
+    /**
+     * The number of the level being played, or {@code 0} before the first level.
+     */
+    private int levelNumber;
+
+    /**
+     * The seed of the level being played.
+     */
+    private long seed;
+
+    /**
+     * The recorder of the level being played, or {@code null} if it is not being recorded.
+     */
+    private InputRecorder recorder;
+
+    /**
+     * Private constructor for the ReplayManager class, following the Singleton pattern.
+     * Reads the configuration from the system properties.
+     */
+    private ReplayManager() {
+        String recordDirectoryName = System.getProperty(RECORD_PROPERTY);
+        this.recordDirectory = recordDirectoryName != null ? Path.of(recordDirectoryName) : null;
+        this.replay = loadReplay(System.getProperty(PLAY_PROPERTY));
+        if (recordDirectory != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::saveRecording, "replay-recorder"));
+        }
+    }
+
+    /**
+     * Retrieves the Singleton instance of {@link ReplayManager}.
+     *
+     * @return The Singleton instance of {@link ReplayManager}.
+     */
+    public static ReplayManager getInstance() {
+        if (instance == null) {
+            synchronized (ReplayManager.class) {
+                if (instance == null) {
+                    instance = new ReplayManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Loads the recording to replay. A recording that cannot be read is reported and the game is played normally.
+     *
+     * @param fileName The name of the recording, or {@code null} if none is configured.
+     * @return The recording, or {@code null} if there is none.
+     */
+    private static InputRecording loadReplay(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        try {
+            return InputRecording.load(Path.of(fileName));
+        } catch (IOException e) {
+            System.out.println("Could not load replay " + fileName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of the level to replay, so the game can start straight at it.
+     *
+     * @return The level number, or {@code 0} if there is nothing to replay.
+     */
+    public int getReplayLevelNumber() {
+        return replay != null ? replay.getLevelNumber() : 0;
+    }
+
+    /**
+     * Called before a level is built. Saves the recording of the previous level, if there is one.
+     *
+     * @param levelNumber The number of the level about to be built.
+     */
+    public void beginLevel(int levelNumber) {
+        saveRecording();
+        this.levelNumber = levelNumber;
+        this.recorder = null;
+    }
+
+    /**
+     * Creates the random streams of the level being built: from the recorded seed when the level is replayed,
+     * otherwise as configured for the level.
+     *
+     * @param definition The definition of the level.
+     * @return The level's random streams.
+     */
+    public RandomStreams createRandomStreams(LevelDefinition definition) {
+        RandomStreams randomStreams = isReplaying()
+                ? new RandomStreams(replay.getSeed())
+                : RandomStreams.forLevel(definition);
+        seed = randomStreams.getSeed();
+        return randomStreams;
+    }
+
+    /**
+     * Called when the level starts. Replays the recording through the level's input handler if the level is
+     * replayed, or starts recording its input if levels are recorded. The level's updatables must already be in the
+     * game loop.
+     *
+     * @param inputHandler The level's input handler.
+     * @param user         The entity the input is applied to.
+     */
+    public void attach(InputHandler inputHandler, GameEntity user) {
+        if (isReplaying()) {
+            inputHandler.setLiveInputEnabled(false);
+            InputReplay inputReplay = new InputReplay(replay, inputHandler, user);
+            GameLoop.getInstance().addUpdatable(inputReplay); // Runs after the level, at the end of every tick
+            inputReplay.start();
+        } else if (recordDirectory != null) {
+            GameLoop gameLoop = GameLoop.getInstance();
+            recorder = new InputRecorder(levelNumber, seed, gameLoop::getTickCount);
+            inputHandler.setInputListener(recorder);
+        }
+    }
+
+    /**
+     * Writes the recording of the current level, if it is being recorded. A recording that cannot be written is
+     * reported and otherwise ignored.
+     */
+    public synchronized void saveRecording() {
+        if (recorder == null) {
+            return;
+        }
+        Path file = recordDirectory.resolve("level" + levelNumber + ".replay");
+        try {
+            Files.createDirectories(recordDirectory);
+            recorder.getRecording().save(file);
+            System.out.println("Recorded level " + levelNumber + " to " + file);
+        } catch (IOException e) {
+            System.out.println("Could not record level " + levelNumber + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether the level being played is the one to replay.
+     *
+     * @return {@code true} if the level is replayed.
+     */
+    private boolean isReplaying() {
+        return replay != null && replay.getLevelNumber() == levelNumber;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.actors;
 
+import com.example.demo.activityManagers.ImageCache;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
@@ -11,6 +12,11 @@ import javafx.scene.image.ImageView;
  * Specific types of actors (such as enemies, collectibles, etc.) will extend this class and implement the required method {@code updatePosition()}
  * to handle specific behavior, such as movement or updates to their state.
  * <p>
+ * The simulated state of each actor (position, rotation and axis-aligned bounding box) lives in a plain
+ * {@link ActorBody}, which the movement methods of this class update. The JavaFX node only shows that state: it is
+ * copied to the image view once per rendered frame by {@link #interpolate(double)}, so game logic never reads or writes
+ * JavaFX properties and can run without the toolkit when the {@link ImageCache} is in headless mode.
+ * <p>
  * Example usage:
  * <pre>
  * public class Enemy extends ActiveActor {
@@ -29,8 +35,14 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/**
+	 * The simulated position, rotation and bounding box of the actor.
+	 */
+	private final ActorBody body;
+
 	/**
 	 * Constructor for creating a new active actor with an image, dimensions, and initial position.
+	 * In headless mode no image is loaded; the sprite's width is taken from the image file's header instead.
 	 *
 	 * @param imageName      The name of the image file to represent the actor (e.g., "enemy.png").
 	 * @param imageHeight    The height of the image in pixels.
@@ -38,11 +50,21 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos    The initial Y position of the actor in the game world.
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+		ImageCache imageCache = ImageCache.getInstance();
+		double aspectRatio;
+		if (imageCache.isHeadless()) {
+			aspectRatio = imageCache.getAspectRatio(IMAGE_LOCATION + imageName);
+		} else {
+			Image image = imageCache.getImage(IMAGE_LOCATION + imageName, 0, imageHeight);
+			this.setImage(image);
+			aspectRatio = image.getHeight() > 0 ? image.getWidth() / image.getHeight() : 1;
+		}
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
+
+		this.body = new ActorBody(imageHeight * aspectRatio, imageHeight, initialXPos, initialYPos);
 	}
 
 	/**
@@ -57,7 +79,7 @@ public abstract class ActiveActor extends ImageView {
 	 * @param horizontalMove The distance in pixels to move the actor horizontally.
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		body.moveHorizontally(horizontalMove);
 	}
 
 	/**
@@ -66,6 +88,147 @@ public abstract class ActiveActor extends ImageView {
 	 * @param verticalMove The distance in pixels to move the actor vertically.
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		body.moveVertically(verticalMove);
+	}
+
+	/**
+	 * Moves the actor to the given position, keeping the position it was placed at as its origin.
+	 * Used by actors that steer towards a target instead of moving by a fixed step.
+	 *
+	 * @param x The new X position.
+	 * @param y The new Y position.
+	 */
+	protected void moveTo(double x, double y) {
+		body.moveTo(x, y);
+	}
+
+	/**
+	 * Sets the translation of the actor from the position it was placed at.
+	 * Used by actors that clamp their position instead of moving by a fixed step.
+	 *
+	 * @param translateX The new X translation.
+	 * @param translateY The new Y translation.
+	 */
+	protected void setTranslation(double translateX, double translateY) {
+		body.setTranslation(translateX, translateY);
+	}
+
+	/**
+	 * Sets the position the actor is placed at, keeping its translation.
+	 *
+	 * @param layoutX The new X layout position.
+	 * @param layoutY The new Y layout position.
+	 */
+	protected void setLayoutPosition(double layoutX, double layoutY) {
+		body.setOrigin(layoutX, layoutY);
+	}
+
+	/**
+	 * Moves the actor back to a fresh state at the given position: no translation and no rotation.
+	 * Used when a pooled actor is reused, so it behaves as if it had just been constructed there.
+	 *
+	 * @param layoutX The new X layout position.
+	 * @param layoutY The new Y layout position.
+	 */
+	protected void respawnAt(double layoutX, double layoutY) {
+		body.respawnAt(layoutX, layoutY);
+	}
+
+	/**
+	 * Rotates the actor to the given angle around its centre.
+	 *
+	 * @param angle The rotation, in degrees.
+	 */
+	protected void setRotation(double angle) {
+		body.setRotation(angle);
+	}
+
+	/**
+	 * Records the current position as the start of a simulation tick.
+	 * Called by the game loop before every fixed step.
+	 */
+	public void savePreviousPosition() {
+		body.savePreviousPosition();
+	}
+
+	/**
+	 * Copies the actor's simulated state to its image view, drawing it part of the way between its position at the
+	 * start of the last tick and its current position.
+	 * The layout position, translation and rotation are copied as they are; the interpolation only changes the image's
+	 * render offset ({@link #setX(double)}/{@link #setY(double)}), so gameplay does not depend on the display rate.
+	 *
+	 * @param alpha How far into the next tick the frame is drawn, from 0 (previous position) to 1 (current position).
+	 */
+	public void interpolate(double alpha) {
+		this.setLayoutX(body.getOriginX());
+		this.setLayoutY(body.getOriginY());
+		this.setTranslateX(body.getTranslateX());
+		this.setTranslateY(body.getTranslateY());
+		this.setRotate(body.getRotation());
+		this.setX((body.getPreviousX() - body.getX()) * (1 - alpha));
+		this.setY((body.getPreviousY() - body.getY()) * (1 - alpha));
+	}
+
+	/**
+	 * Returns the simulated state of the actor.
+	 *
+	 * @return The actor's body.
+	 */
+	public ActorBody getBody() {
+		return body;
+	}
+
+	/**
+	 * Returns the X position of the unrotated sprite, i.e. where it was placed plus how far it has moved.
+	 *
+	 * @return The X position.
+	 */
+	public double getPositionX() {
+		return body.getX();
+	}
+
+	/**
+	 * Returns the Y position of the unrotated sprite, i.e. where it was placed plus how far it has moved.
+	 *
+	 * @return The Y position.
+	 */
+	public double getPositionY() {
+		return body.getY();
+	}
+
+	/**
+	 * Returns the left edge of the actor's bounding box in its parent.
+	 *
+	 * @return The minimum X coordinate.
+	 */
+	public double getMinX() {
+		return body.getMinX();
+	}
+
+	/**
+	 * Returns the top edge of the actor's bounding box in its parent.
+	 *
+	 * @return The minimum Y coordinate.
+	 */
+	public double getMinY() {
+		return body.getMinY();
+	}
+
+	/**
+	 * Returns the right edge of the actor's bounding box in its parent.
+	 *
+	 * @return The maximum X coordinate.
+	 */
+	public double getMaxX() {
+		return body.getMaxX();
+	}
+
+	/**
+	 * Returns the bottom edge of the actor's bounding box in its parent.
+	 *
+	 * @return The maximum Y coordinate.
+	 */
+	public double getMaxY() {
+		return body.getMaxY();
 	}
 }
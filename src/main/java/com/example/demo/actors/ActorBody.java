@@ -0,0 +1,462 @@
+package com.example.demo.actors;
+
+/**
+ * The {@code ActorBody} class holds the simulated state of an actor: where it is, how big it is, how it is rotated and
+ * the bounding box that follows from those.
+ * <p>
+ * A body is plain Java with no JavaFX types, so the game rules can move, rotate and collide actors without touching the
+ * scene graph. {@link ActiveActor} keeps one body per actor and copies it to its {@code ImageView} once per rendered
+ * frame. Because of this split, movement and collision logic can run, and be tested, without the JavaFX toolkit.
+ * </p>
+ * <p>
+ * The position is kept the same way JavaFX keeps it for a node: an origin (the layout position the actor was placed at)
+ * plus a translation (how far it has moved since). The position of the unrotated sprite is their sum.
+ * </p>
+ * <p>
+ * A body can also carry a constant velocity. Actors whose whole behaviour is moving at that velocity are kinematic
+ * (see {@link GameEntity#isKinematic()}), and their bodies are moved together by the movement system in
+ * {@link #integrate()} instead of each actor updating itself.
+ * </p>
+ * <p>
+ * While a body is attached to a {@link BodyBatch}, its translation, position and bounding box live in the batch's packed
+ * arrays so the whole batch can be advanced many lanes at a time. The getters read through to the batch and the
+ * mutators copy the state out, change it and copy it back, so callers see no difference.
+ * </p>
+ */
+public class ActorBody {
+
+    /**
+     * The width of the sprite before rotation.
+     */
+    private final double width;
+
+    /**
+     * The height of the sprite before rotation.
+     */
+    private final double height;
+
+    /**
+     * The position the actor was placed at, matching the node's layout position.
+     */
+    private double originX, originY;
+
+    /**
+     * How far the actor has moved from its origin, matching the node's translation.
+     */
+    private double translateX, translateY;
+
+    /**
+     * The position of the unrotated sprite, i.e. {@code origin + translation}.
+     */
+    private double x, y;
+
+    /**
+     * The current rotation, in degrees.
+     */
+    private double rotation;
+
+    /**
+     * The position at the start of the current simulation tick, used to interpolate rendering between ticks.
+     */
+    private double previousX, previousY;
+
+    /**
+     * The axis-aligned bounding box of the (possibly rotated) sprite.
+     */
+    private double minX, minY, maxX, maxY;
+
+    /**
+     * The distance the body moves every tick when it is integrated.
+     */
+    private double velocityX, velocityY;
+
+    /**
+     * The batch holding this body's moving state, or {@code null} if the state is held in this body's own fields.
+     */
+    BodyBatch batch;
+
+    /**
+     * The slot of this body in {@link #batch}.
+     */
+    int slot;
+
+    /**
+     * Constructs a body of the given size, placed at the given position with no translation or rotation.
+     *
+     * @param width  The width of the sprite.
+     * @param height The height of the sprite.
+     * @param x      The X position to place the body at.
+     * @param y      The Y position to place the body at.
+     */
+    public ActorBody(double width, double height, double x, double y) {
+        this.width = width;
+        this.height = height;
+        respawnAt(x, y);
+    }
+
+    /**
+     * Moves the body horizontally by the given distance.
+     *
+     * @param dx The distance to move, in pixels.
+     */
+    public void moveHorizontally(double dx) {
+        pull();
+        translateX += dx;
+        x += dx;
+        minX += dx;
+        maxX += dx;
+        push();
+    }
+
+    /**
+     * Moves the body vertically by the given distance.
+     *
+     * @param dy The distance to move, in pixels.
+     */
+    public void moveVertically(double dy) {
+        pull();
+        translateY += dy;
+        y += dy;
+        minY += dy;
+        maxY += dy;
+        push();
+    }
+
+    /**
+     * Moves the body by its velocity for one tick.
+     */
+    public void integrate() {
+        pull();
+        translateX += velocityX;
+        translateY += velocityY;
+        x += velocityX;
+        y += velocityY;
+        minX += velocityX;
+        maxX += velocityX;
+        minY += velocityY;
+        maxY += velocityY;
+        push();
+    }
+
+    /**
+     * Sets the distance the body moves every tick when it is integrated. The velocity is kept when the body respawns.
+     *
+     * @param velocityX The horizontal velocity, in pixels per tick.
+     * @param velocityY The vertical velocity, in pixels per tick.
+     */
+    public void setVelocity(double velocityX, double velocityY) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        if (batch != null) {
+            batch.velocityX[slot] = velocityX;
+            batch.velocityY[slot] = velocityY;
+        }
+    }
+
+    /**
+     * Moves the body to the given position by changing its translation; the origin is kept.
+     *
+     * @param x The new X position.
+     * @param y The new Y position.
+     */
+    public void moveTo(double x, double y) {
+        setTranslation(x - originX, y - originY);
+    }
+
+    /**
+     * Sets the translation of the body from its origin.
+     *
+     * @param translateX The new X translation.
+     * @param translateY The new Y translation.
+     */
+    public void setTranslation(double translateX, double translateY) {
+        pull();
+        this.translateX = translateX;
+        this.translateY = translateY;
+        x = originX + translateX;
+        y = originY + translateY;
+        updateBounds();
+        push();
+    }
+
+    /**
+     * Moves the origin of the body, keeping its translation. This is a jump rather than motion,
+     * so the previous position is moved along with it.
+     *
+     * @param originX The new X origin.
+     * @param originY The new Y origin.
+     */
+    public void setOrigin(double originX, double originY) {
+        pull();
+        this.originX = originX;
+        this.originY = originY;
+        x = originX + translateX;
+        y = originY + translateY;
+        previousX = x;
+        previousY = y;
+        updateBounds();
+        push();
+    }
+
+    /**
+     * Places the body at the given origin with no translation and no rotation, as if it had just been created there.
+     *
+     * @param x The new X origin.
+     * @param y The new Y origin.
+     */
+    public void respawnAt(double x, double y) {
+        originX = x;
+        originY = y;
+        translateX = 0;
+        translateY = 0;
+        rotation = 0;
+        this.x = x;
+        this.y = y;
+        previousX = x;
+        previousY = y;
+        updateBounds();
+        push();
+    }
+
+    /**
+     * Rotates the body to the given angle around its centre.
+     *
+     * @param angle The rotation, in degrees.
+     */
+    public void setRotation(double angle) {
+        if (angle != rotation) {
+            pull();
+            rotation = angle;
+            updateBounds();
+            push();
+        }
+    }
+
+    /**
+     * Records the current position as the start of a simulation tick.
+     */
+    public void savePreviousPosition() {
+        previousX = getX();
+        previousY = getY();
+    }
+
+    /**
+     * Checks whether this body's bounding box touches or overlaps another's.
+     *
+     * @param other The other body.
+     * @return {@code true} if the bounding boxes intersect, {@code false} otherwise.
+     */
+    public boolean intersects(ActorBody other) {
+        return getMinX() <= other.getMaxX() && other.getMinX() <= getMaxX()
+                && getMinY() <= other.getMaxY() && other.getMinY() <= getMaxY();
+    }
+
+    /**
+     * Copies the moving state out of the batch into this body's fields, if the body is attached to one.
+     */
+    void pull() {
+        if (batch != null) {
+            translateX = batch.translateX[slot];
+            translateY = batch.translateY[slot];
+            x = batch.x[slot];
+            y = batch.y[slot];
+            minX = batch.minX[slot];
+            minY = batch.minY[slot];
+            maxX = batch.maxX[slot];
+            maxY = batch.maxY[slot];
+        }
+    }
+
+    /**
+     * Copies the moving state from this body's fields into the batch, if the body is attached to one.
+     */
+    void push() {
+        if (batch != null) {
+            batch.translateX[slot] = translateX;
+            batch.translateY[slot] = translateY;
+            batch.x[slot] = x;
+            batch.y[slot] = y;
+            batch.minX[slot] = minX;
+            batch.minY[slot] = minY;
+            batch.maxX[slot] = maxX;
+            batch.maxY[slot] = maxY;
+            batch.velocityX[slot] = velocityX;
+            batch.velocityY[slot] = velocityY;
+        }
+    }
+
+    /**
+     * Recomputes the bounding box from the position, size and rotation.
+     * A rotated sprite is enclosed in the axis-aligned box around its rotated corners, as JavaFX does.
+     */
+    private void updateBounds() {
+        double boxWidth = width;
+        double boxHeight = height;
+        if (rotation != 0) {
+            double radians = Math.toRadians(rotation);
+            double cos = Math.abs(Math.cos(radians));
+            double sin = Math.abs(Math.sin(radians));
+            boxWidth = width * cos + height * sin;
+            boxHeight = width * sin + height * cos;
+        }
+        double centerX = x + width / 2;
+        double centerY = y + height / 2;
+        minX = centerX - boxWidth / 2;
+        minY = centerY - boxHeight / 2;
+        maxX = minX + boxWidth;
+        maxY = minY + boxHeight;
+    }
+
+    /**
+     * Returns the width of the sprite before rotation.
+     *
+     * @return The width.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the sprite before rotation.
+     *
+     * @return The height.
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the X origin of the body.
+     *
+     * @return The X origin.
+     */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+     * Returns the Y origin of the body.
+     *
+     * @return The Y origin.
+     */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Returns the X translation of the body from its origin.
+     *
+     * @return The X translation.
+     */
+    public double getTranslateX() {
+        return batch == null ? translateX : batch.translateX[slot];
+    }
+
+    /**
+     * Returns the Y translation of the body from its origin.
+     *
+     * @return The Y translation.
+     */
+    public double getTranslateY() {
+        return batch == null ? translateY : batch.translateY[slot];
+    }
+
+    /**
+     * Returns the X position of the unrotated sprite.
+     *
+     * @return The X position.
+     */
+    public double getX() {
+        return batch == null ? x : batch.x[slot];
+    }
+
+    /**
+     * Returns the Y position of the unrotated sprite.
+     *
+     * @return The Y position.
+     */
+    public double getY() {
+        return batch == null ? y : batch.y[slot];
+    }
+
+    /**
+     * Returns the rotation of the body.
+     *
+     * @return The rotation, in degrees.
+     */
+    public double getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Returns the X position at the start of the current tick.
+     *
+     * @return The previous X position.
+     */
+    public double getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * Returns the Y position at the start of the current tick.
+     *
+     * @return The previous Y position.
+     */
+    public double getPreviousY() {
+        return previousY;
+    }
+
+    /**
+     * Returns the horizontal velocity of the body.
+     *
+     * @return The horizontal velocity, in pixels per tick.
+     */
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Returns the vertical velocity of the body.
+     *
+     * @return The vertical velocity, in pixels per tick.
+     */
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Returns the left edge of the bounding box.
+     *
+     * @return The minimum X coordinate.
+     */
+    public double getMinX() {
+        return batch == null ? minX : batch.minX[slot];
+    }
+
+    /**
+     * Returns the top edge of the bounding box.
+     *
+     * @return The minimum Y coordinate.
+     */
+    public double getMinY() {
+        return batch == null ? minY : batch.minY[slot];
+    }
+
+    /**
+     * Returns the right edge of the bounding box.
+     *
+     * @return The maximum X coordinate.
+     */
+    public double getMaxX() {
+        return batch == null ? maxX : batch.maxX[slot];
+    }
+
+    /**
+     * Returns the bottom edge of the bounding box.
+     *
+     * @return The maximum Y coordinate.
+     */
+    public double getMaxY() {
+        return batch == null ? maxY : batch.maxY[slot];
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.demo.actors;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * The {@code ActorPool} class keeps released actors of one type so they can be reused instead of constructed again.
+ * <p>
+ * Creating an actor loads its sprite and builds a new JavaFX node, which is costly for short-lived actors such as
+ * projectiles and coins. A pool hands out a released instance when it has one (a hit) and only creates a new one when it
+ * is empty (a miss). The caller is responsible for resetting the actor it acquires before use.
+ * </p>
+ * <p>
+ * At most {@code capacity} released actors are kept; any beyond that are discarded and left to the garbage collector.
+ * </p>
+ *
+ * @param <T> The type of actor held by the pool.
+ */
+public class ActorPool<T extends GameEntity> {
+
+    /**
+     * The exact class of the actors in this pool. Only actors of this class are accepted back.
+     */
+    private final Class<T> type;
+
+    /**
+     * Creates a new actor when the pool is empty.
+     */
+    private final Supplier<T> factory;
+
+    /**
+     * The maximum number of released actors kept for reuse.
+     */
+    private final int capacity;
+
+    /**
+     * The released actors waiting to be reused.
+     */
+    private final ArrayDeque<T> free;
+
+    /**
+     * The number of acquisitions served by a released actor.
+     */
+    private long hits;
+
+    /**
+     * The number of acquisitions that had to create a new actor.
+     */
+    private long misses;
+
+    /**
+     * The number of released actors discarded because the pool was full.
+     */
+    private long discards;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param type     The exact class of the actors in the pool.
+     * @param factory  Creates a new actor when the pool is empty.
+     * @param capacity The maximum number of released actors to keep.
+     */
+    public ActorPool(Class<T> type, Supplier<T> factory, int capacity) {
+        this.type = type;
+        this.factory = factory;
+        this.capacity = capacity;
+        this.free = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Takes a released actor from the pool, or creates a new one if the pool is empty.
+     * The actor must be reset by the caller before it is used.
+     *
+     * @return An actor of the pool's type.
+     */
+    public T acquire() {
+        T actor = free.pollLast();
+        if (actor != null) {
+            hits++;
+            return actor;
+        }
+        misses++;
+        return factory.get();
+    }
+
+    /**
+     * Creates a new actor of the pool's type without taking it from or adding it to the pool, and without counting it
+     * as a miss. Used to build actors ahead of time, off the JavaFX application thread, and {@link #release} them into
+     * the pool later on that thread.
+     *
+     * @return A new actor of the pool's type.
+     */
+    public T createSpare() {
+        return factory.get();
+    }
+
+    /**
+     * Returns an actor to the pool if it belongs to it.
+     *
+     * @param actor The actor that is no longer in the game.
+     * @return {@code true} if the actor is of this pool's type, whether it was kept or discarded; {@code false} otherwise.
+     */
+    public boolean release(GameEntity actor) {
+        if (actor.getClass() != type) {
+            return false;
+        }
+        if (free.size() < capacity) {
+            free.addLast(type.cast(actor));
+        } else {
+            discards++;
+        }
+        return true;
+    }
+
+    /**
+     * Drops every released actor held by the pool. The counters are kept.
+     */
+    public void clear() {
+        free.clear();
+    }
+
+    /**
+     * Returns the exact class of the actors in this pool.
+     *
+     * @return The actor class.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of released actors currently waiting to be reused.
+     *
+     * @return The number of free actors.
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    /**
+     * Returns the number of acquisitions served by a released actor.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of acquisitions that had to create a new actor.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of released actors discarded because the pool was full.
+     *
+     * @return The discard count.
+     */
+    public long getDiscards() {
+        return discards;
+    }
+}
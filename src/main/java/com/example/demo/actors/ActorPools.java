@@ -0,0 +1,219 @@
+package com.example.demo.actors;
+
+import com.example.demo.actors.Planes.enemyPlanes.EnemyPlane;
+import com.example.demo.actors.Planes.enemyPlanes.EnemyRocket;
+import com.example.demo.actors.Projectiles.enemyProjectiles.BossProjectile;
+import com.example.demo.actors.Projectiles.enemyProjectiles.EnemyProjectile;
+import com.example.demo.actors.Projectiles.userProjectiles.UserProjectile;
+import com.example.demo.actors.additionalUnits.Coins;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code ActorPools} class holds the {@link ActorPool}s for the actors that are created and destroyed most often:
+ * projectiles, coins, enemy planes and enemy rockets.
+ * This class uses a Singleton design pattern so every level shares the same pools.
+ * <p>
+ * Actors are acquired through the typed {@code acquire} methods, which reset them to the requested state.
+ * They are handed back by the {@link com.example.demo.activityManagers.ActorManager} once it has actually removed them
+ * from the game, so an actor is never reused while it is still on screen.
+ * </p>
+ */
+public class ActorPools {
+
+    /**
+     * The maximum number of released actors kept per pool.
+     */
+    private static final int POOL_CAPACITY = 64;
+
+    /**
+     * Singleton instance of the ActorPools, volatile so it is safely published to the level preloader's thread.
+     */
+    private static volatile ActorPools instance;
+
+    /**
+     * The pool of projectiles fired by the user.
+     */
+    private final ActorPool<UserProjectile> userProjectiles =
+            new ActorPool<>(UserProjectile.class, () -> new UserProjectile(0, 0, 0), POOL_CAPACITY);
+
+    /**
+     * The pool of projectiles fired by enemy planes.
+     */
+    private final ActorPool<EnemyProjectile> enemyProjectiles =
+            new ActorPool<>(EnemyProjectile.class, () -> new EnemyProjectile(0, 0), POOL_CAPACITY);
+
+    /**
+     * The pool of projectiles fired by the boss.
+     */
+    private final ActorPool<BossProjectile> bossProjectiles =
+            new ActorPool<>(BossProjectile.class, () -> new BossProjectile(0), POOL_CAPACITY);
+
+    /**
+     * The pool of coins.
+     */
+    private final ActorPool<Coins> coins =
+            new ActorPool<>(Coins.class, () -> new Coins(0, 0, 0), POOL_CAPACITY);
+
+    /**
+     * The pool of enemy planes.
+     */
+    private final ActorPool<EnemyPlane> enemyPlanes =
+            new ActorPool<>(EnemyPlane.class, () -> new EnemyPlane(0, 0), POOL_CAPACITY);
+
+    /**
+     * The pool of enemy rockets.
+     */
+    private final ActorPool<EnemyRocket> enemyRockets =
+            new ActorPool<>(EnemyRocket.class, () -> new EnemyRocket(0, 0, 0), POOL_CAPACITY);
+
+    /**
+     * Every pool, in the order they are checked when an actor is released.
+     */
+    private final List<ActorPool<?>> pools =
+            List.of(userProjectiles, enemyProjectiles, coins, enemyPlanes, enemyRockets, bossProjectiles);
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private ActorPools() {}
+
+    /**
+     * Retrieves the Singleton instance of {@link ActorPools}.
+     *
+     * @return The Singleton instance of {@link ActorPools}.
+     */
+    public static ActorPools getInstance() {
+        if (instance == null) {
+            synchronized (ActorPools.class) {
+                if (instance == null) {
+                    instance = new ActorPools();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Acquires a user projectile fired from the given position at the given angle.
+     *
+     * @param x The X position to fire from.
+     * @param y The Y position to fire from.
+     * @param rotationAngle The rotation angle of the projectile (in degrees).
+     * @return A ready-to-use user projectile.
+     */
+    public UserProjectile acquireUserProjectile(double x, double y, int rotationAngle) {
+        UserProjectile projectile = userProjectiles.acquire();
+        projectile.reset(x, y, rotationAngle);
+        return projectile;
+    }
+
+    /**
+     * Acquires an enemy projectile fired from the given position.
+     *
+     * @param x The X position to fire from.
+     * @param y The Y position to fire from.
+     * @return A ready-to-use enemy projectile.
+     */
+    public EnemyProjectile acquireEnemyProjectile(double x, double y) {
+        EnemyProjectile projectile = enemyProjectiles.acquire();
+        projectile.reset(x, y);
+        return projectile;
+    }
+
+    /**
+     * Acquires a boss projectile fired at the given height.
+     *
+     * @param y The Y position to fire from.
+     * @return A ready-to-use boss projectile.
+     */
+    public BossProjectile acquireBossProjectile(double y) {
+        BossProjectile projectile = bossProjectiles.acquire();
+        projectile.reset(y);
+        return projectile;
+    }
+
+    /**
+     * Acquires a coin at the given position.
+     *
+     * @param x The X position of the coin.
+     * @param y The Y position of the coin.
+     * @param magnetRadius The radius within which the coin is attracted to the user.
+     * @return A ready-to-use coin.
+     */
+    public Coins acquireCoin(double x, double y, double magnetRadius) {
+        Coins coin = coins.acquire();
+        coin.reset(x, y, magnetRadius);
+        return coin;
+    }
+
+    /**
+     * Acquires an enemy plane at the given position with full health.
+     *
+     * @param x The X position of the plane.
+     * @param y The Y position of the plane.
+     * @param random The random stream that decides when the plane fires.
+     * @return A ready-to-use enemy plane.
+     */
+    public EnemyPlane acquireEnemyPlane(double x, double y, RandomGenerator random) {
+        EnemyPlane plane = enemyPlanes.acquire();
+        plane.reset(x, y, random);
+        return plane;
+    }
+
+    /**
+     * Acquires an enemy rocket launched from the given position in the given direction.
+     *
+     * @param x The X position of the rocket.
+     * @param y The Y position of the rocket.
+     * @param direction The direction the rocket will travel (0 = North, 1 = East, 2 = South, 3 = West).
+     * @return A ready-to-use enemy rocket.
+     */
+    public EnemyRocket acquireEnemyRocket(double x, double y, int direction) {
+        EnemyRocket rocket = enemyRockets.acquire();
+        rocket.reset(x, y, direction);
+        return rocket;
+    }
+
+    /**
+     * Hands an actor that has left the game back to its pool. Actors of a type that is not pooled are ignored.
+     *
+     * @param actor The actor that was removed from the game.
+     */
+    public void release(GameEntity actor) {
+        for (int i = 0, size = pools.size(); i < size; i++) {
+            if (pools.get(i).release(actor)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates spare actors for every pool without adding them to it. The actors can be built on a background thread,
+     * which loads their sprites, and handed to {@link #release(GameEntity)} on the JavaFX application thread, so the
+     * first spawns of a level are served from the pools.
+     *
+     * @param perPool The number of actors to create for each pool.
+     * @return The new actors, of every pooled type.
+     */
+    public List<GameEntity> createSpares(int perPool) {
+        List<GameEntity> spares = new ArrayList<>(perPool * pools.size());
+        for (ActorPool<?> pool : pools) {
+            for (int i = 0; i < perPool; i++) {
+                spares.add(pool.createSpare());
+            }
+        }
+        return spares;
+    }
+
+    /**
+     * Returns every pool, so their hit and miss counters can be reported.
+     *
+     * @return An unmodifiable list of the pools.
+     */
+    public List<ActorPool<?>> getPools() {
+        return pools;
+    }
+}
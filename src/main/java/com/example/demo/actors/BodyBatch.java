@@ -0,0 +1,191 @@
+package com.example.demo.actors;
+
+import com.example.demo.actors.kernels.MotionKernel;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BodyBatch} class stores the moving state of many {@link ActorBody} objects in packed arrays, one array per
+ * field, so a {@link MotionKernel} can advance all of them at once.
+ * <p>
+ * A body attached to the batch reads and writes its translation, position and bounding box through its slot in these
+ * arrays. The attached bodies always fill the first {@link #size()} slots: when one is detached, the last body is
+ * moved into its slot. Detaching copies the state back into the body, which then works on its own again.
+ * </p>
+ */
+public class BodyBatch {
+
+    /**
+     * The initial number of slots.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The kernel used to advance the arrays.
+     */
+    private final MotionKernel kernel;
+
+    /**
+     * The attached bodies, by slot.
+     */
+    private ActorBody[] bodies = new ActorBody[INITIAL_CAPACITY];
+
+    /**
+     * The number of attached bodies.
+     */
+    private int count;
+
+    /**
+     * The packed translation of every attached body.
+     */
+    double[] translateX = new double[INITIAL_CAPACITY], translateY = new double[INITIAL_CAPACITY];
+
+    /**
+     * The packed position of every attached body.
+     */
+    double[] x = new double[INITIAL_CAPACITY], y = new double[INITIAL_CAPACITY];
+
+    /**
+     * The packed bounding box of every attached body.
+     */
+    double[] minX = new double[INITIAL_CAPACITY], minY = new double[INITIAL_CAPACITY],
+            maxX = new double[INITIAL_CAPACITY], maxY = new double[INITIAL_CAPACITY];
+
+    /**
+     * The packed velocity of every attached body.
+     */
+    double[] velocityX = new double[INITIAL_CAPACITY], velocityY = new double[INITIAL_CAPACITY];
+
+    /**
+     * Constructs an empty batch advanced by the given kernel.
+     *
+     * @param kernel The kernel used to advance the packed arrays.
+     */
+    public BodyBatch(MotionKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * Attaches a body to the batch, moving its state into the packed arrays. Does nothing if it is already attached.
+     *
+     * @param body The body to attach.
+     * @throws IllegalStateException If the body is attached to another batch.
+     */
+    public void attach(ActorBody body) {
+        if (body.batch == this) {
+            return;
+        }
+        if (body.batch != null) {
+            throw new IllegalStateException("Body is already attached to another batch.");
+        }
+        if (count == bodies.length) {
+            grow();
+        }
+        bodies[count] = body;
+        body.batch = this;
+        body.slot = count++;
+        body.push();
+    }
+
+    /**
+     * Detaches a body from the batch, copying its state back into the body. Does nothing if it is not attached.
+     *
+     * @param body The body to detach.
+     */
+    public void detach(ActorBody body) {
+        if (body.batch != this) {
+            return;
+        }
+        body.pull();
+        int slot = body.slot;
+        body.batch = null;
+
+        int last = --count;
+        if (slot != last) {
+            ActorBody moved = bodies[last];
+            bodies[slot] = moved;
+            moved.slot = slot;
+            translateX[slot] = translateX[last];
+            translateY[slot] = translateY[last];
+            x[slot] = x[last];
+            y[slot] = y[last];
+            minX[slot] = minX[last];
+            minY[slot] = minY[last];
+            maxX[slot] = maxX[last];
+            maxY[slot] = maxY[last];
+            velocityX[slot] = velocityX[last];
+            velocityY[slot] = velocityY[last];
+        }
+        bodies[last] = null;
+    }
+
+    /**
+     * Moves every attached body by its velocity for one tick.
+     * Gives the same result as calling {@link ActorBody#integrate()} on each body.
+     */
+    public void advance() {
+        kernel.advance(translateX, velocityX, count);
+        kernel.advance(x, velocityX, count);
+        kernel.advance(minX, velocityX, count);
+        kernel.advance(maxX, velocityX, count);
+        kernel.advance(translateY, velocityY, count);
+        kernel.advance(y, velocityY, count);
+        kernel.advance(minY, velocityY, count);
+        kernel.advance(maxY, velocityY, count);
+    }
+
+    /**
+     * Returns the body in the given slot.
+     *
+     * @param slot The slot, from 0 to {@code size() - 1}.
+     * @return The body.
+     */
+    public ActorBody get(int slot) {
+        return bodies[slot];
+    }
+
+    /**
+     * Returns the number of attached bodies.
+     *
+     * @return The number of bodies.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Detaches every body from the batch.
+     */
+    public void clear() {
+        while (count > 0) {
+            detach(bodies[count - 1]);
+        }
+    }
+
+    /**
+     * Returns the kernel used to advance the arrays.
+     *
+     * @return The kernel.
+     */
+    public MotionKernel getKernel() {
+        return kernel;
+    }
+
+    /**
+     * Doubles the capacity of every array.
+     */
+    private void grow() {
+        int capacity = bodies.length * 2;
+        bodies = Arrays.copyOf(bodies, capacity);
+        translateX = Arrays.copyOf(translateX, capacity);
+        translateY = Arrays.copyOf(translateY, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+    }
+}
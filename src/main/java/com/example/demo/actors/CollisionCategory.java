@@ -0,0 +1,98 @@
+package com.example.demo.actors;
+
+/**
+ * The {@code CollisionCategory} enum lists the kinds of actors that take part in collision detection.
+ * <p>
+ * Every category owns one bit, and a collide-with mask holding the bits of the categories it can interact with.
+ * Both are worked out once when the class is loaded, so the {@link com.example.demo.activityManagers.CollisionHandler}
+ * can reject a pair that can never interact (two projectiles, two coins, a coin and an enemy, ...) with a single
+ * bitwise AND, before any bounds test or virtual call.
+ * </p>
+ * <p>
+ * The interaction rules are symmetric: if category A collides with category B, then B collides with A.
+ * </p>
+ */
+public enum CollisionCategory {
+
+    /** The player's vehicle (plane or tank). */
+    USER,
+
+    /** Projectiles fired by the player. */
+    USER_PROJECTILE,
+
+    /** Enemy planes, rockets and the boss. */
+    ENEMY,
+
+    /** Projectiles fired by enemies and the boss. */
+    ENEMY_PROJECTILE,
+
+    /** Collectible coins. */
+    COIN,
+
+    /** Collectible fuel tokens. */
+    FUEL,
+
+    /** Collectible magnets. */
+    MAGNET,
+
+    /** Indestructible obstacles. */
+    OBSTACLE,
+
+    /** The finish line of the fuel level. */
+    FINISH_LINE;
+
+    /** The bits of the categories this category can interact with. */
+    private int mask;
+
+    static {
+        allow(USER, ENEMY);
+        allow(USER, ENEMY_PROJECTILE);
+        allow(USER, OBSTACLE);
+        allow(USER, COIN);
+        allow(USER, FUEL);
+        allow(USER, MAGNET);
+        allow(USER_PROJECTILE, ENEMY);
+        allow(USER_PROJECTILE, OBSTACLE);
+        allow(FINISH_LINE, ENEMY);
+        allow(FINISH_LINE, ENEMY_PROJECTILE);
+    }
+
+    /**
+     * Marks two categories as able to interact with each other.
+     *
+     * @param first  The first category.
+     * @param second The second category.
+     */
+    private static void allow(CollisionCategory first, CollisionCategory second) {
+        first.mask |= second.getBit();
+        second.mask |= first.getBit();
+    }
+
+    /**
+     * Returns the bit identifying this category.
+     *
+     * @return {@code 1 << ordinal()}.
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Returns the bits of every category this category can interact with.
+     *
+     * @return The collide-with mask of this category.
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Checks whether this category can interact with another category.
+     *
+     * @param other The other category.
+     * @return {@code true} if actors of the two categories can collide, {@code false} otherwise.
+     */
+    public boolean collidesWith(CollisionCategory other) {
+        return (mask & other.getBit()) != 0;
+    }
+}
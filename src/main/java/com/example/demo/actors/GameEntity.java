@@ -9,6 +9,7 @@ package com.example.demo.actors;
  * that have behaviors for taking damage, updating positions, and being collectible.
  * <p>
  * The class also tracks the destruction state of the entity, which helps in handling collision and removal logic.
+ * Each entity also carries a {@link CollisionCategory}, used by the collision handler to filter and dispatch pairs.
  * <p>
  * Example Usage:
  * <pre>
@@ -37,6 +38,11 @@ package com.example.demo.actors;
  *     public boolean isCollectible() {
  *         return false;
  *     }
+ *
+ *     &#64;Override
+ *     protected CollisionCategory defineCollisionCategory() {
+ *         return CollisionCategory.ENEMY;
+ *     }
  * }
  * </pre>
  */
@@ -48,6 +54,18 @@ public abstract class GameEntity extends ActiveActor implements Collidable, Coll
 	 */
 	public boolean isDestroyed;
 
+	/**
+	 * The collision category of this entity, resolved once at construction so collision detection
+	 * can filter pairs by bitmask without any virtual call per pair.
+	 */
+	private final CollisionCategory collisionCategory;
+
+	/**
+	 * Whether this entity is kinematic, resolved once at construction so the actor manager can route it without a
+	 * virtual call every tick.
+	 */
+	private final boolean kinematic;
+
 	/**
 	 * Constructor to initialize a new game entity with the specified parameters.
 	 *
@@ -59,6 +77,20 @@ public abstract class GameEntity extends ActiveActor implements Collidable, Coll
 	public GameEntity(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		this.isDestroyed = false;
+		this.collisionCategory = defineCollisionCategory();
+		this.kinematic = defineKinematic();
+	}
+
+	/**
+	 * Prepares a pooled entity for reuse at the given position, clearing its destroyed flag.
+	 * Subclasses that are pooled call this from their own {@code reset} method before restoring their own state.
+	 *
+	 * @param initialXPos The X position to respawn at.
+	 * @param initialYPos The Y position to respawn at.
+	 */
+	protected void resetEntity(double initialXPos, double initialYPos) {
+		respawnAt(initialXPos, initialYPos);
+		this.isDestroyed = false;
 	}
 
 	/**
@@ -99,4 +131,55 @@ public abstract class GameEntity extends ActiveActor implements Collidable, Coll
 	 */
 	@Override
 	public abstract boolean isCollectible();
+
+	/**
+	 * Abstract method defining the collision category of the entity.
+	 * It is called once from the constructor, so implementations must return a constant and must not
+	 * depend on subclass fields.
+	 *
+	 * @return The {@link CollisionCategory} of the entity.
+	 */
+	protected abstract CollisionCategory defineCollisionCategory();
+
+	/**
+	 * Defines whether the actor is kinematic: its whole update is moving at its body's constant velocity.
+	 * Called once from the constructor, like {@link #defineCollisionCategory()}.
+	 *
+	 * @return {@code true} if the actor only moves at a constant velocity, {@code false} by default.
+	 */
+	protected boolean defineKinematic() {
+		return false;
+	}
+
+	/**
+	 * Checks whether the actor is kinematic. Kinematic actors are not updated one by one; the
+	 * {@link com.example.demo.activityManagers.ActorManager} moves all of their bodies in one batch loop instead.
+	 *
+	 * @return {@code true} if the actor only moves at a constant velocity, {@code false} otherwise.
+	 */
+	public boolean isKinematic() {
+		return kinematic;
+	}
+
+	/**
+	 * Returns the collision category of the entity, which carries its category bit and collide-with mask.
+	 *
+	 * @return The {@link CollisionCategory} resolved at construction.
+	 */
+	public CollisionCategory getCollisionCategory() {
+		return collisionCategory;
+	}
+
+	/**
+	 * Checks whether the bounding boxes of this entity and another entity intersect.
+	 * Uses the cached primitive bounds, so no {@link javafx.geometry.Bounds} object is created.
+	 * Touching edges count as an intersection, matching {@link javafx.geometry.Bounds#intersects(javafx.geometry.Bounds)}.
+	 *
+	 * @param other The other entity.
+	 * @return {@code true} if the bounding boxes intersect, {@code false} otherwise.
+	 */
+	public boolean intersects(GameEntity other) {
+		return getMinX() <= other.getMaxX() && other.getMinX() <= getMaxX()
+				&& getMinY() <= other.getMaxY() && other.getMinY() <= getMaxY();
+	}
 }
@@ -0,0 +1,40 @@
+package com.example.demo.actors;
+
+/**
+ * The {@code Interpolatable} interface is implemented by components whose rendering is smoothed between fixed
+ * simulation ticks of the game loop.
+ * <p>
+ * When the game loop runs its simulation at a fixed rate that is lower than the display's refresh rate, drawing each
+ * actor exactly where the last tick left it makes motion stutter. Instead, the loop records the state at the start of
+ * every tick, and on every rendered frame asks each {@code Interpolatable} to draw itself part of the way between the
+ * recorded state and the current one.
+ * <p>
+ * Example usage:
+ * <pre>
+ * public class Effects implements Updatable, Interpolatable {
+ *     &#64;Override
+ *     public void savePreviousState() {
+ *         // Remember where every effect is before it moves
+ *     }
+ *
+ *     &#64;Override
+ *     public void interpolate(double alpha) {
+ *         // Draw every effect between its previous and current position
+ *     }
+ * }
+ * </pre>
+ */
+public interface Interpolatable {
+
+    /**
+     * Records the current state as the start of a simulation tick. Called before every fixed step.
+     */
+    void savePreviousState();
+
+    /**
+     * Renders the state part of the way between the start of the last tick and now.
+     *
+     * @param alpha How far into the next tick the frame is drawn, from 0 to 1.
+     */
+    void interpolate(double alpha);
+}
@@ -32,6 +32,18 @@ public abstract class FighterPlane extends GameEntity {
 		this.health = health;
 	}
 
+	/**
+	 * Prepares a pooled plane for reuse at the given position with the given health.
+	 *
+	 * @param initialXPos The X position to respawn at
+	 * @param initialYPos The Y position to respawn at
+	 * @param health The health to restore
+	 */
+	protected void resetPlane(double initialXPos, double initialYPos, int health) {
+		resetEntity(initialXPos, initialYPos);
+		this.health = health;
+	}
+
 	/**
 	 * Abstract method to fire a projectile from the fighter plane. This method must be implemented by subclasses.
 	 *
@@ -58,7 +70,7 @@ public abstract class FighterPlane extends GameEntity {
 	 * @param angle The angle to rotate the plane to
 	 */
 	public void rotatePlane(int angle) {
-		this.setRotate(angle);
+		setRotation(angle);
 	}
 
 	/**
@@ -68,7 +80,7 @@ public abstract class FighterPlane extends GameEntity {
 	 * @return The adjusted x-coordinate for firing the projectile
 	 */
 	protected double getProjectileXPosition(double xPositionOffset) {
-		return getLayoutX() + getTranslateX() + xPositionOffset;
+		return getPositionX() + xPositionOffset;
 	}
 
 	/**
@@ -78,7 +90,7 @@ public abstract class FighterPlane extends GameEntity {
 	 * @return The adjusted y-coordinate for firing the projectile
 	 */
 	protected double getProjectileYPosition(double yPositionOffset) {
-		return getLayoutY() + getTranslateY() + yPositionOffset;
+		return getPositionY() + yPositionOffset;
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package com.example.demo.actors.Planes.enemyPlanes;
 
+import com.example.demo.actors.ActorPools;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.Projectiles.enemyProjectiles.BossProjectile;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.FighterPlane;
@@ -7,6 +9,7 @@ import com.example.demo.controller.AppStage;
 import com.example.demo.levels.Level2.LevelViewLevelTwo;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@code Boss} class represents the boss enemy plane in the game.
@@ -18,7 +21,7 @@ import java.util.*;
  * </p>
  * Example usage:
  * <pre>
- * Boss boss = new Boss(levelView);
+ * Boss boss = new Boss(levelView, randomStreams.enemies());
  * </pre>
  */
 public class Boss extends FighterPlane {
@@ -143,14 +146,27 @@ public class Boss extends FighterPlane {
 	 */
 	private final LevelViewLevelTwo levelView;
 
+	/**
+	 * The random stream that decides when the boss fires and shields.
+	 */
+	private final RandomGenerator random;
+
+	/**
+	 * The same stream as {@link #random}, viewed as a {@link Random} so it can shuffle the movement pattern.
+	 */
+	private final Random shuffleRandom;
+
 	/**
 	 * Constructor to create a new boss plane with the specified level view.
 	 * Initializes the boss's position, movement pattern, and shield status.
 	 *
 	 * @param levelView The view of the current game level.
+	 * @param random The random stream that decides how the boss moves, fires and shields.
 	 */
-	public Boss(LevelViewLevelTwo levelView) {
+	public Boss(LevelViewLevelTwo levelView, RandomGenerator random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		this.random = random;
+		this.shuffleRandom = Random.from(random);
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
@@ -167,14 +183,14 @@ public class Boss extends FighterPlane {
 	 */
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
+		double initialTranslateY = getBody().getTranslateY();
 		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
+		double currentPosition = getPositionY();
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
+			setTranslation(getBody().getTranslateX(), initialTranslateY);
 		}
 		// Synchronize the shield's position with the boss's position
-		levelView.updateShieldPosition(getLayoutX() + getTranslateX(), getLayoutY() + getTranslateY());
+		levelView.updateShieldPosition(getPositionX(), getPositionY());
 	}
 
 	/**
@@ -203,7 +219,7 @@ public class Boss extends FighterPlane {
 	 */
 	@Override
 	public GameEntity fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+		return bossFiresInCurrentFrame() ? ActorPools.getInstance().acquireBossProjectile(getProjectileInitialPosition()) : null;
 	}
 
 	/**
@@ -225,7 +241,7 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		Collections.shuffle(movePattern, shuffleRandom);
 	}
 
 	/**
@@ -234,12 +250,12 @@ public class Boss extends FighterPlane {
 	private void updateShield() {
 		if (isShielded) {
 			framesWithShieldActivated++;
-			if (framesWithShieldActivated >= MIN_SHIELD_DURATION + (int) (Math.random() * (MAX_SHIELD_DURATION - MIN_SHIELD_DURATION))) {
+			if (framesWithShieldActivated >= MIN_SHIELD_DURATION + (int) (random.nextDouble() * (MAX_SHIELD_DURATION - MIN_SHIELD_DURATION))) {
 				deactivateShield();
 			}
 		} else {
 			framesWithoutShieldActivated++;
-			if (framesWithoutShieldActivated >= MIN_NO_SHIELD_DURATION + (int) (Math.random() * (MAX_NO_SHIELD_DURATION - MIN_NO_SHIELD_DURATION))) {
+			if (framesWithoutShieldActivated >= MIN_NO_SHIELD_DURATION + (int) (random.nextDouble() * (MAX_NO_SHIELD_DURATION - MIN_NO_SHIELD_DURATION))) {
 				activateShield();
 			}
 		}
@@ -255,7 +271,7 @@ public class Boss extends FighterPlane {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			Collections.shuffle(movePattern, shuffleRandom);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -271,7 +287,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the boss fires a projectile, false otherwise.
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return random.nextDouble() < BOSS_FIRE_RATE;
 	}
 
 	/**
@@ -280,7 +296,7 @@ public class Boss extends FighterPlane {
 	 * @return The Y position at which the projectile is fired.
 	 */
 	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+		return getPositionY() + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
 	/**
@@ -312,4 +328,14 @@ public class Boss extends FighterPlane {
 	public boolean isCollectible() {
 		return false;
 	}
+
+	/**
+	 * Returns the collision category of the boss.
+	 *
+	 * @return {@link CollisionCategory#ENEMY}.
+	 */
+	@Override
+	protected CollisionCategory defineCollisionCategory() {
+		return CollisionCategory.ENEMY;
+	}
 }
@@ -1,9 +1,13 @@
 package com.example.demo.actors.Planes.enemyPlanes;
 
+import com.example.demo.actors.ActorPools;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
-import com.example.demo.actors.Projectiles.enemyProjectiles.EnemyProjectile;
 import com.example.demo.actors.Planes.FighterPlane;
 
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Represents an enemy plane that moves horizontally across the screen and fires projectiles.
  * This class extends the FighterPlane class, inheriting its properties and behaviors such as health, image,
@@ -33,6 +37,9 @@ public class EnemyPlane extends FighterPlane {
 	/** The fire rate of the enemy plane (i.e., the probability that the enemy fires a projectile each frame) */
 	private static final double FIRE_RATE = .01;
 
+	/** The random stream that decides when the plane fires; the level's enemy stream once the plane is spawned */
+	private RandomGenerator random = new SplittableRandom();
+
 	/**
 	 * Constructs an EnemyPlane instance at a specific position.
 	 *
@@ -42,6 +49,19 @@ public class EnemyPlane extends FighterPlane {
 	public EnemyPlane(double initialXPos, double initialYPos) {
 		// Calls the constructor of FighterPlane to initialize the parent class properties
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+		getBody().setVelocity(HORIZONTAL_VELOCITY, 0);
+	}
+
+	/**
+	 * Resets a pooled enemy plane so it can be spawned again at the given position with full health.
+	 *
+	 * @param initialXPos The x-position to spawn at
+	 * @param initialYPos The y-position to spawn at
+	 * @param random The random stream that decides when the plane fires
+	 */
+	public void reset(double initialXPos, double initialYPos, RandomGenerator random) {
+		resetPlane(initialXPos, initialYPos, INITIAL_HEALTH);
+		this.random = random;
 	}
 
 	/**
@@ -50,25 +70,25 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	@Override
 	public void updatePosition() {
-		// Moves the enemy plane horizontally based on the specified horizontal velocity
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		// Moves the enemy plane horizontally by its velocity
+		getBody().integrate();
 	}
 
 	/**
 	 * Fires a projectile from the enemy plane based on the fire rate.
-	 * If the random chance based on the fire rate is met, a new EnemyProjectile is created.
+	 * If the random chance based on the fire rate is met, a pooled EnemyProjectile is acquired.
 	 *
 	 * @return A new EnemyProjectile if the fire rate condition is met, otherwise null
 	 */
 	@Override
 	public GameEntity fireProjectile() {
 		// Checks if a random number is less than the fire rate, determining if the enemy fires a projectile
-		if (Math.random() < FIRE_RATE) {
+		if (random.nextDouble() < FIRE_RATE) {
 			// Calculates the x and y positions of the projectile relative to the enemy plane's position
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			// Returns a new EnemyProjectile with the calculated position
-			return new EnemyProjectile(projectileXPosition, projectileYPosition);
+			// Returns a pooled EnemyProjectile reset to the calculated position
+			return ActorPools.getInstance().acquireEnemyProjectile(projectileXPosition, projectileYPosition);
 		}
 		// If the fire rate condition is not met, no projectile is fired
 		return null;
@@ -116,4 +136,24 @@ public class EnemyPlane extends FighterPlane {
 		// Calls the parent class method to handle damage and health reduction
 		super.takeDamage();
 	}
+
+	/**
+	 * Returns the collision category of the enemy plane.
+	 *
+	 * @return {@link CollisionCategory#ENEMY}.
+	 */
+	@Override
+	protected CollisionCategory defineCollisionCategory() {
+		return CollisionCategory.ENEMY;
+	}
+
+	/**
+	 * The enemy plane only moves at a constant velocity, so it is moved by the movement system rather than updated itself.
+	 *
+	 * @return {@code true}.
+	 */
+	@Override
+	protected boolean defineKinematic() {
+		return true;
+	}
 }
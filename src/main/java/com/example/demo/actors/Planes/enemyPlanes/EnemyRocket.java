@@ -1,5 +1,6 @@
 package com.example.demo.actors.Planes.enemyPlanes;
 
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.FighterPlane;
 
@@ -41,7 +42,19 @@ public class EnemyRocket extends FighterPlane {
     public EnemyRocket(double initialXPos, double initialYPos, int direction) {
         // Initializes the base class (FighterPlane) with image, height, position, and health
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
-        this.direction = direction; // Sets the direction for the rocket's movement
+        launch(direction); // Sets the direction for the rocket's movement
+    }
+
+    /**
+     * Resets a pooled rocket so it can be launched again from the given position in the given direction.
+     *
+     * @param initialXPos The x-position to launch from
+     * @param initialYPos The y-position to launch from
+     * @param direction The direction the rocket will travel (0 = North, 1 = East, 2 = South, 3 = West)
+     */
+    public void reset(double initialXPos, double initialYPos, int direction) {
+        resetPlane(initialXPos, initialYPos, INITIAL_HEALTH);
+        launch(direction);
     }
 
     /**
@@ -64,38 +77,47 @@ public class EnemyRocket extends FighterPlane {
     }
 
     /**
-     * Updates the position of the enemy rocket based on its direction.
+     * Points the rocket in the given direction: rotates it to face that way and sets the velocity it moves at.
      * - North (0): Moves vertically upwards.
      * - East (1): Moves horizontally left.
      * - South (2): Moves vertically downwards.
      * - West (3): Moves horizontally left (from the opposite side).
      *
-     * The rocket rotates based on its movement direction before moving.
+     * @param direction The direction the rocket will travel (0 = North, 1 = East, 2 = South, 3 = West)
      */
-    @Override
-    public void updatePosition() {
+    private void launch(int direction) {
+        this.direction = direction;
         switch (direction) {
             case 0: // Launched from North
                 rotatePlane(90); // Rotate to face upwards
-                moveVertically(VERTICAL_VELOCITY); // Move upwards
+                getBody().setVelocity(0, VERTICAL_VELOCITY); // Move upwards
                 break;
             case 1: // Launched from East
                 rotatePlane(180); // Rotate to face left
-                moveHorizontally(HORIZONTAL_VELOCITY); // Move left
+                getBody().setVelocity(HORIZONTAL_VELOCITY, 0); // Move left
                 break;
             case 2: // Launched from South
                 rotatePlane(-90); // Rotate to face downwards
-                moveVertically(-VERTICAL_VELOCITY); // Move downwards
+                getBody().setVelocity(0, -VERTICAL_VELOCITY); // Move downwards
                 break;
             case 3: // Launched from West
                 rotatePlane(0); // Rotate to face right
-                moveHorizontally(-HORIZONTAL_VELOCITY); // Move left
+                getBody().setVelocity(-HORIZONTAL_VELOCITY, 0); // Move left
                 break;
             default:
+                getBody().setVelocity(0, 0);
                 break;
         }
     }
 
+    /**
+     * Updates the position of the enemy rocket by moving it at the velocity set for its direction.
+     */
+    @Override
+    public void updatePosition() {
+        getBody().integrate();
+    }
+
     /**
      * Updates the state of the enemy rocket, calling the updatePosition() method to move it.
      * This method is called every frame to ensure that the rocket moves in the correct direction.
@@ -126,4 +148,24 @@ public class EnemyRocket extends FighterPlane {
     public boolean isCollectible() {
         return false;
     }
+
+    /**
+     * Returns the collision category of the enemy rocket.
+     *
+     * @return {@link CollisionCategory#ENEMY}.
+     */
+    @Override
+    protected CollisionCategory defineCollisionCategory() {
+        return CollisionCategory.ENEMY;
+    }
+
+    /**
+     * The enemy rocket only moves at a constant velocity, so it is moved by the movement system rather than updated itself.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    protected boolean defineKinematic() {
+        return true;
+    }
 }
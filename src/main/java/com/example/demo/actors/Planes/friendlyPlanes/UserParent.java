@@ -1,9 +1,9 @@
 package com.example.demo.actors.Planes.friendlyPlanes;
 
 import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.FighterPlane;
-import javafx.animation.AnimationTimer;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
 import javafx.util.Duration;
@@ -20,11 +20,17 @@ public class UserParent extends FighterPlane {
     /** Indicates whether the collision cooldown is currently active */
     private boolean collisionCooldownActive = false;
 
-    /** Time when the collision cooldown was initiated, stored in nanoseconds */
-    private long lastCollisionTime = 0;
+    /** Number of ticks the collision cooldown has run for */
+    private int cooldownTicksElapsed = 0;
 
-    /** Duration of the collision cooldown (2 seconds in nanoseconds) */
-    private static final long COLLISION_COOLDOWN_DURATION = 2_000_000_000L;
+    /** Duration of the collision cooldown in ticks (2 seconds at the game loop's default tick rate) */
+    public static final int COLLISION_COOLDOWN_TICKS = 40;
+
+    /** Number of ticks at the start of the cooldown during which the plane blinks */
+    private static final int COOLDOWN_BLINK_TICKS = 24;
+
+    /** Number of ticks of one blink, fading out and back in */
+    private static final int COOLDOWN_BLINK_PERIOD = 8;
 
     /** The fuel capacity of the user plane */
     private int fuelCapacity;
@@ -92,11 +98,13 @@ public class UserParent extends FighterPlane {
     }
 
     /**
-     * The method is left empty in the base class, but it should be overridden by subclasses
-     * to implement specific update behavior.
+     * Counts a tick of the collision cooldown. Subclasses that override this method to implement
+     * specific update behavior call it first, so the cooldown lasts the same number of ticks however
+     * the game loop is driven.
      */
     @Override
     public void update() {
+        updateCooldown();
     }
 
     /**
@@ -159,34 +167,36 @@ public class UserParent extends FighterPlane {
     }
 
     /**
-     * Starts the collision cooldown by setting the active flag and initiating a fade transition.
-     * The plane will temporarily become invisible during the cooldown period.
+     * Starts the collision cooldown by setting the active flag. The cooldown lasts
+     * {@link #COLLISION_COOLDOWN_TICKS} ticks, counted in {@link #update()}, so whether a collision
+     * costs a life depends only on the ticks run and not on frame timing or pauses. The plane
+     * blinks during the first part of the cooldown.
      */
     public void startCooldown() {
         if (collisionCooldownActive) return;
 
         collisionCooldownActive = true;
-        lastCollisionTime = System.nanoTime();
-
-        // Reset any ongoing fade transition
-        setOpacity(1.0);
-
-        FadeTransition fadeTransition = new FadeTransition(Duration.millis(200), this);
-        fadeTransition.setFromValue(1.0);
-        fadeTransition.setToValue(0.0);
-        fadeTransition.setCycleCount(6);
-        fadeTransition.setAutoReverse(true);
-        fadeTransition.play();
+        cooldownTicksElapsed = 0;
+        setOpacity(1.0); // Reset any ongoing blink
+    }
 
-        new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (now - lastCollisionTime >= COLLISION_COOLDOWN_DURATION) {
-                    endCooldown();
-                    stop(); // Ensure this AnimationTimer stops
-                }
-            }
-        }.start();
+    /**
+     * Advances the collision cooldown by one tick, blinking the plane and ending the cooldown once
+     * {@link #COLLISION_COOLDOWN_TICKS} ticks have run.
+     */
+    protected void updateCooldown() {
+        if (!collisionCooldownActive) return;
+
+        cooldownTicksElapsed++;
+        if (cooldownTicksElapsed >= COLLISION_COOLDOWN_TICKS) {
+            endCooldown();
+        } else if (cooldownTicksElapsed < COOLDOWN_BLINK_TICKS) {
+            // Fade out over the first half of each blink and back in over the second half
+            int halfPeriod = COOLDOWN_BLINK_PERIOD / 2;
+            setOpacity(Math.abs(halfPeriod - cooldownTicksElapsed % COOLDOWN_BLINK_PERIOD) / (double) halfPeriod);
+        } else {
+            setOpacity(1.0);
+        }
     }
 
     /**
@@ -327,4 +337,14 @@ public class UserParent extends FighterPlane {
     public int getCoinsCollected() {
         return coinsCollected;
     }
+
+    /**
+     * Returns the collision category of the user vehicle.
+     *
+     * @return {@link CollisionCategory#USER}.
+     */
+    @Override
+    protected CollisionCategory defineCollisionCategory() {
+        return CollisionCategory.USER;
+    }
 }
@@ -1,7 +1,7 @@
 package com.example.demo.actors.Planes.friendlyPlanes;
 
+import com.example.demo.actors.ActorPools;
 import com.example.demo.actors.GameEntity;
-import com.example.demo.actors.Projectiles.userProjectiles.UserProjectile;
 import com.example.demo.controller.AppStage;
 
 /**
@@ -67,8 +67,7 @@ public class UserPlane extends UserParent {
 	 * This is useful when respawning or resetting the plane’s position in the game.
 	 */
 	public void resetPosition() {
-		setLayoutX(INITIAL_X_POSITION);
-		setLayoutY(INITIAL_Y_POSITION);
+		setLayoutPosition(INITIAL_X_POSITION, INITIAL_Y_POSITION);
 	}
 
 	/**
@@ -78,34 +77,35 @@ public class UserPlane extends UserParent {
 	@Override
 	public void updatePosition() {
 		if (isMoving()) {
-			double initialTranslateY = getTranslateY();
+			double initialTranslateY = getBody().getTranslateY();
 			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier);
-			double newPosition = getLayoutY() + getTranslateY();
+			double newPosition = getPositionY();
 			// Check if the plane exceeds the bounds and prevent further movement if so
 			if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
-				this.setTranslateY(initialTranslateY);
+				this.setTranslation(getBody().getTranslateX(), initialTranslateY);
 			}
 		}
 	}
 
 	/**
-	 * Updates the user plane's state by calling the `updatePosition` method.
-	 * This ensures the plane's movement and actions are updated every frame.
+	 * Updates the user plane's state by counting a tick of the collision cooldown and calling the
+	 * `updatePosition` method. This ensures the plane's movement and actions are updated every frame.
 	 */
 	@Override
 	public void update() {
+		super.update();
 		updatePosition();
 	}
 
 	/**
 	 * Fires a projectile from the user plane in the direction the plane is facing.
-	 * This returns a new instance of `UserProjectile`, taking into account the current firing position and angle.
+	 * This returns a pooled `UserProjectile`, taking into account the current firing position and angle.
 	 *
 	 * @return A new instance of `UserProjectile` fired from the user plane
 	 */
 	@Override
 	public GameEntity fireProjectile() {
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET), rotationAngle);
+		return ActorPools.getInstance().acquireUserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET), rotationAngle);
 	}
 
 	/**
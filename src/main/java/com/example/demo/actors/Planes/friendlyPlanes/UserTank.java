@@ -1,6 +1,6 @@
 package com.example.demo.actors.Planes.friendlyPlanes;
 
-import com.example.demo.actors.Projectiles.userProjectiles.UserProjectile;
+import com.example.demo.actors.ActorPools;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.controller.AppStage;
 
@@ -86,22 +86,23 @@ public class UserTank extends UserParent {
     }
 
     /**
-     * Updates the position of the user tank. This method is called each frame to ensure that
-     * the tank's position and state are kept in sync.
+     * Counts a tick of the collision cooldown and updates the position of the user tank. This method
+     * is called each frame to ensure that the tank's position and state are kept in sync.
      */
     @Override
     public void update() {
+        super.update();
         updatePosition();
     }
 
     /**
-     * Fires a projectile from the user tank, creating a new `UserProjectile` entity based on
+     * Fires a projectile from the user tank, acquiring a pooled `UserProjectile` entity based on
      * the current firing direction and position.
      *
      * @return A new instance of the `UserProjectile` class fired from the user tank
      */
     @Override
     public GameEntity fireProjectile() {
-        return new UserProjectile(PROJECTILE_X_POSITION, PROJECTILE_Y_POSITION, rotationAngle);
+        return ActorPools.getInstance().acquireUserProjectile(PROJECTILE_X_POSITION, PROJECTILE_Y_POSITION, rotationAngle);
     }
 }
@@ -41,7 +41,7 @@ public abstract class Projectile extends GameEntity {
 	 * @param angle The angle (in degrees) to rotate the projectile.
 	 */
 	public void rotateProjectile(int angle) {
-		this.setRotate(angle);
+		setRotation(angle);
 	}
 
 	/**
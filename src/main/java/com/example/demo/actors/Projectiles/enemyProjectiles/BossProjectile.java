@@ -1,5 +1,6 @@
 package com.example.demo.actors.Projectiles.enemyProjectiles;
 
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.Projectiles.Projectile;
 
 /**
@@ -45,6 +46,16 @@ public class BossProjectile extends Projectile {
 	 */
 	public BossProjectile(double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+		getBody().setVelocity(HORIZONTAL_VELOCITY, 0);
+	}
+
+	/**
+	 * Resets a pooled projectile so it can be fired again at the given height.
+	 *
+	 * @param initialYPos The Y position to fire from.
+	 */
+	public void reset(double initialYPos) {
+		resetEntity(INITIAL_X_POSITION, initialYPos);
 	}
 
 	/**
@@ -53,7 +64,7 @@ public class BossProjectile extends Projectile {
 	 */
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		getBody().integrate();
 	}
 
 	/**
@@ -93,4 +104,24 @@ public class BossProjectile extends Projectile {
 	public boolean isCollectible() {
 		return false;
 	}
+
+	/**
+	 * Returns the collision category of the boss projectile.
+	 *
+	 * @return {@link CollisionCategory#ENEMY_PROJECTILE}.
+	 */
+	@Override
+	protected CollisionCategory defineCollisionCategory() {
+		return CollisionCategory.ENEMY_PROJECTILE;
+	}
+
+	/**
+	 * The boss projectile only moves at a constant velocity, so it is moved by the movement system rather than updated itself.
+	 *
+	 * @return {@code true}.
+	 */
+	@Override
+	protected boolean defineKinematic() {
+		return true;
+	}
 }
@@ -1,5 +1,6 @@
 package com.example.demo.actors.Projectiles.enemyProjectiles;
 
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.Projectiles.Projectile;
 
 /**
@@ -34,6 +35,17 @@ public class EnemyProjectile extends Projectile {
 	 */
 	public EnemyProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);  // Initialize the projectile using the superclass constructor
+		getBody().setVelocity(HORIZONTAL_VELOCITY, 0);
+	}
+
+	/**
+	 * Resets a pooled projectile so it can be fired again from the given position.
+	 *
+	 * @param initialXPos The X position to fire from.
+	 * @param initialYPos The Y position to fire from.
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		resetEntity(initialXPos, initialYPos);
 	}
 
 	/**
@@ -42,7 +54,7 @@ public class EnemyProjectile extends Projectile {
 	 */
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);  // Move the projectile horizontally by the specified velocity
+		getBody().integrate();  // Move the projectile horizontally by its velocity
 	}
 
 	/**
@@ -82,4 +94,24 @@ public class EnemyProjectile extends Projectile {
 	public boolean isCollectible() {
 		return false;  // Enemy projectiles are not collectible, so return false
 	}
+
+	/**
+	 * Returns the collision category of the enemy projectile.
+	 *
+	 * @return {@link CollisionCategory#ENEMY_PROJECTILE}.
+	 */
+	@Override
+	protected CollisionCategory defineCollisionCategory() {
+		return CollisionCategory.ENEMY_PROJECTILE;
+	}
+
+	/**
+	 * The enemy projectile only moves at a constant velocity, so it is moved by the movement system rather than updated itself.
+	 *
+	 * @return {@code true}.
+	 */
+	@Override
+	protected boolean defineKinematic() {
+		return true;
+	}
 }
@@ -1,5 +1,6 @@
 package com.example.demo.actors.Projectiles.userProjectiles;
 
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.Projectiles.Projectile;
 
 /**
@@ -50,41 +51,59 @@ public class UserProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 
 		// Set the direction based on the input rotation angle
-		this.direction = rotationAngle;
+		aim(rotationAngle);
 	}
 
 	/**
-	 * Updates the position of the projectile based on its direction. The projectile will move in the specified direction
-	 * and apply a horizontal or vertical velocity accordingly.
-	 * <p>
-	 * The method rotates the projectile according to its direction and moves it either vertically or horizontally based on the angle.
-	 * </p>
+	 * Resets a pooled projectile so it can be fired again from the given position and angle.
+	 *
+	 * @param initialXPos The X position to fire from.
+	 * @param initialYPos The Y position to fire from.
+	 * @param rotationAngle The rotation angle of the projectile (in degrees).
 	 */
-	@Override
-	public void updatePosition() {
+	public void reset(double initialXPos, double initialYPos, int rotationAngle) {
+		resetEntity(initialXPos, initialYPos);
+		aim(rotationAngle);
+	}
+
+	/**
+	 * Points the projectile in the given direction: rotates it to face that way and sets the velocity it moves at.
+	 *
+	 * @param rotationAngle The rotation angle of the projectile (in degrees).
+	 */
+	private void aim(int rotationAngle) {
+		this.direction = rotationAngle;
 		// Rotate the projectile based on its direction
 		rotateProjectile(direction);
-
 		// Move the projectile based on the direction
 		switch (direction) {
 			case -90: // Shoot North
-				moveVertically(-VERTICAL_VELOCITY); // Move up (negative Y direction)
+				getBody().setVelocity(0, -VERTICAL_VELOCITY); // Move up (negative Y direction)
 				break;
 			case 0: // Shoot East
-				moveHorizontally(HORIZONTAL_VELOCITY); // Move right (positive X direction)
+				getBody().setVelocity(HORIZONTAL_VELOCITY, 0); // Move right (positive X direction)
 				break;
 			case 90: // Shoot South
-				moveVertically(VERTICAL_VELOCITY); // Move down (positive Y direction)
+				getBody().setVelocity(0, VERTICAL_VELOCITY); // Move down (positive Y direction)
 				break;
 			case 180: // Shoot West
-				moveHorizontally(-HORIZONTAL_VELOCITY); // Move left (negative X direction)
+				getBody().setVelocity(-HORIZONTAL_VELOCITY, 0); // Move left (negative X direction)
 				break;
 			default:
 				// If direction is invalid, no movement occurs
+				getBody().setVelocity(0, 0);
 				break;
 		}
 	}
 
+	/**
+	 * Updates the position of the projectile by moving it at the velocity set for its direction.
+	 */
+	@Override
+	public void updatePosition() {
+		getBody().integrate();
+	}
+
 	/**
 	 * Updates the projectile's state, including its position.
 	 * <p>
@@ -133,4 +152,24 @@ public class UserProjectile extends Projectile {
 	public void takeDamage() {
 		super.takeDamage(); // Call the parent class method to handle projectile destruction
 	}
+
+	/**
+	 * Returns the collision category of the user projectile.
+	 *
+	 * @return {@link CollisionCategory#USER_PROJECTILE}.
+	 */
+	@Override
+	protected CollisionCategory defineCollisionCategory() {
+		return CollisionCategory.USER_PROJECTILE;
+	}
+
+	/**
+	 * The user projectile only moves at a constant velocity, so it is moved by the movement system rather than updated itself.
+	 *
+	 * @return {@code true}.
+	 */
+	@Override
+	protected boolean defineKinematic() {
+		return true;
+	}
 }
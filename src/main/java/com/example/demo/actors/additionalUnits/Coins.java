@@ -1,6 +1,7 @@
 package com.example.demo.actors.additionalUnits;
 
 import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.friendlyPlanes.UserParent;
 import com.example.demo.actors.Planes.friendlyPlanes.UserPlane;
@@ -42,13 +43,15 @@ public class Coins extends GameEntity {
     private double userY;
 
     /** The radius within which the coin will be attracted to the user's vehicle */
-    private final double magnetRadius;
+    private double magnetRadius;
 
     /** Reference to the user's vehicle (either a plane or a tank) */
     private UserParent userVehicle;
 
     /**
      * Constructs a `Coins` instance at the specified position with a specified magnet radius.
+     * The user's vehicle is looked up by {@link #reset(double, double, double)} when the coin is acquired from its
+     * pool, so spare coins can be built off the JavaFX application thread.
      *
      * @param initialXPos The initial X-coordinate of the coin
      * @param initialYPos The initial Y-coordinate of the coin
@@ -58,6 +61,19 @@ public class Coins extends GameEntity {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
         this.magnetActivated = false;
         this.magnetRadius = magnetRadius;
+    }
+
+    /**
+     * Resets a pooled coin so it can be spawned again at the given position with the given magnet radius.
+     *
+     * @param initialXPos The X-coordinate to spawn at
+     * @param initialYPos The Y-coordinate to spawn at
+     * @param magnetRadius The radius within which the coin will be attracted to the user
+     */
+    public void reset(double initialXPos, double initialYPos, double magnetRadius) {
+        resetEntity(initialXPos, initialYPos);
+        this.magnetActivated = false;
+        this.magnetRadius = magnetRadius;
         this.userVehicle = ActorManager.getInstance().getUserVehicle();
     }
 
@@ -89,8 +105,8 @@ public class Coins extends GameEntity {
      */
     public void getUserPosition() {
         if (userVehicle != null) {
-            this.userX = userVehicle.getLayoutX() + userVehicle.getTranslateX();
-            this.userY = userVehicle.getLayoutY() + userVehicle.getTranslateY();
+            this.userX = userVehicle.getPositionX();
+            this.userY = userVehicle.getPositionY();
         }
     }
 
@@ -99,8 +115,8 @@ public class Coins extends GameEntity {
      * taking into account the current position and the desired direction.
      */
     public void moveTowards() {
-        double currentX = this.getLayoutX() + this.getTranslateX();
-        double currentY = this.getLayoutY() + this.getTranslateY();
+        double currentX = this.getPositionX();
+        double currentY = this.getPositionY();
 
         // Calculate the direction vector from the coin to the user
         double deltaX = userX - currentX;
@@ -118,8 +134,7 @@ public class Coins extends GameEntity {
             double stepY = directionY * SPEED;
 
             // Update the position of the coin incrementally
-            this.setTranslateX(currentX + stepX - this.getLayoutX());
-            this.setTranslateY(currentY + stepY - this.getLayoutY());
+            this.moveTo(currentX + stepX, currentY + stepY);
         }
     }
 
@@ -131,7 +146,7 @@ public class Coins extends GameEntity {
     public boolean isWithinMagnetRadius() {
         if (userVehicle instanceof UserPlane) {
             // For planes, return true if the coin is within the width of the screen
-            return (this.getLayoutX() + this.getTranslateX()) <= AppStage.getInstance().getPrimaryStage().getWidth();
+            return this.getPositionX() <= AppStage.getInstance().getPrimaryStage().getWidth();
         }
         return true; // For the user tank, all coins on screen are attracted
     }
@@ -172,4 +187,14 @@ public class Coins extends GameEntity {
     public void setMagnetActivated(boolean magnetActivated) {
         this.magnetActivated = magnetActivated;
     }
+
+    /**
+     * Returns the collision category of the coin.
+     *
+     * @return {@link CollisionCategory#COIN}.
+     */
+    @Override
+    protected CollisionCategory defineCollisionCategory() {
+        return CollisionCategory.COIN;
+    }
 }
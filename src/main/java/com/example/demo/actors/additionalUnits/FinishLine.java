@@ -1,5 +1,6 @@
 package com.example.demo.actors.additionalUnits;
 
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.FighterPlane;
 
@@ -79,4 +80,14 @@ public class FinishLine extends GameEntity {
     public boolean isCollectible() {
         return false;
     }
+
+    /**
+     * Returns the collision category of the finish line.
+     *
+     * @return {@link CollisionCategory#FINISH_LINE}.
+     */
+    @Override
+    protected CollisionCategory defineCollisionCategory() {
+        return CollisionCategory.FINISH_LINE;
+    }
 }
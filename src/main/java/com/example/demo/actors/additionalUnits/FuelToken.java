@@ -1,6 +1,7 @@
 package com.example.demo.actors.additionalUnits;
 
 import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 
 /**
@@ -79,4 +80,14 @@ public class FuelToken extends GameEntity {
     public boolean isCollectible() {
         return true;
     }
+
+    /**
+     * Returns the collision category of the fuel token.
+     *
+     * @return {@link CollisionCategory#FUEL}.
+     */
+    @Override
+    protected CollisionCategory defineCollisionCategory() {
+        return CollisionCategory.FUEL;
+    }
 }
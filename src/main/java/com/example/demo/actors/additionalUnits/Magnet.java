@@ -1,6 +1,7 @@
 package com.example.demo.actors.additionalUnits;
 
 import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 
 /**
@@ -101,4 +102,14 @@ public class Magnet extends GameEntity {
     public boolean isCollectible() {
         return true;
     }
+
+    /**
+     * Returns the collision category of the magnet.
+     *
+     * @return {@link CollisionCategory#MAGNET}.
+     */
+    @Override
+    protected CollisionCategory defineCollisionCategory() {
+        return CollisionCategory.MAGNET;
+    }
 }
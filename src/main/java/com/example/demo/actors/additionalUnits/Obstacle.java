@@ -1,6 +1,7 @@
 package com.example.demo.actors.additionalUnits;
 
 import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 
 /**
@@ -86,4 +87,14 @@ public class Obstacle extends GameEntity {
     public boolean isCollectible() {
         return false;
     }
+
+    /**
+     * Returns the collision category of the obstacle.
+     *
+     * @return {@link CollisionCategory#OBSTACLE}.
+     */
+    @Override
+    protected CollisionCategory defineCollisionCategory() {
+        return CollisionCategory.OBSTACLE;
+    }
 }
@@ -1,6 +1,6 @@
 package com.example.demo.actors.additionalUnits;
 
-import javafx.scene.image.Image;
+import com.example.demo.activityManagers.ImageCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -29,18 +29,18 @@ public class ShieldImage extends ImageView {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
 		// Load the shield image from the resources
-		this.setImage(new Image(getClass().getResource("/com/example/demo/images/shield.png").toExternalForm()));
+		this.setImage(ImageCache.getInstance().getImage("/com/example/demo/images/shield.png"));
 		this.setVisible(false); // Initially hide the shield
 		this.setFitHeight(SHIELD_SIZE);
 		this.setFitWidth(SHIELD_SIZE);
 	}
 
 	/**
-	 * Makes the shield visible by setting its visibility to true and bringing it to the front.
+	 * Makes the shield visible by setting its visibility to true. The shield is drawn in the level's effects layer,
+	 * which is in front of the actors, so it does not need to be brought to the front.
 	 */
 	public void showShield() {
 		this.setVisible(true);
-		this.toFront(); // Bring the shield to the front layer
 	}
 
 	/**
@@ -0,0 +1,28 @@
+package com.example.demo.actors.kernels;
+
+/**
+ * The {@code MotionKernel} interface is implemented by the loops that move many actor bodies at once, working
+ * directly on packed arrays of coordinates (see {@link com.example.demo.actors.BodyBatch}).
+ * <p>
+ * Every implementation must produce exactly the same results: {@link ScalarMotionKernel} is the reference, and the
+ * vector kernel loaded by {@link MotionKernels} computes the same values several lanes at a time.
+ * </p>
+ */
+public interface MotionKernel {
+
+    /**
+     * Adds each velocity to the matching position: {@code positions[i] += velocities[i]}.
+     *
+     * @param positions  The positions to advance.
+     * @param velocities The velocity of each element.
+     * @param count      The number of elements to advance.
+     */
+    void advance(double[] positions, double[] velocities, int count);
+
+    /**
+     * Returns a short name for the kernel, for benchmarks and diagnostics.
+     *
+     * @return The kernel's name.
+     */
+    String getName();
+}
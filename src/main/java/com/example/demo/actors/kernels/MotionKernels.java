@@ -0,0 +1,79 @@
+package com.example.demo.actors.kernels;
+
+import java.util.Optional;
+
+/**
+ * The {@code MotionKernels} class chooses the {@link MotionKernel} the game uses.
+ * <p>
+ * The vector kernel is opt-in: it is only compiled by the {@code vector} Maven profile, and used only when the JVM is
+ * started with both {@code --add-modules jdk.incubator.vector} and {@code -D}{@value #VECTOR_PROPERTY}{@code =true}.
+ * Otherwise, or if the vector module or kernel is missing, the scalar kernel is used. The module descriptor does not
+ * name the incubating module, so the normal build never depends on it.
+ * </p>
+ */
+public final class MotionKernels {
+
+    /**
+     * The system property that switches the vector kernel on.
+     */
+    public static final String VECTOR_PROPERTY = "com.example.demo.vectorKernel";
+
+    /**
+     * The name of the incubating module the vector kernel needs.
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * The class of the vector kernel, present only in builds made with the {@code vector} profile.
+     */
+    private static final String VECTOR_KERNEL_CLASS = "com.example.demo.actors.kernels.VectorMotionKernel";
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private MotionKernels() {}
+
+    /**
+     * Returns the kernel selected by the {@value #VECTOR_PROPERTY} system property.
+     *
+     * @return The vector kernel if it was requested and is available, or the scalar kernel.
+     */
+    public static MotionKernel select() {
+        if (Boolean.getBoolean(VECTOR_PROPERTY)) {
+            Optional<MotionKernel> vectorKernel = loadVectorKernel();
+            if (vectorKernel.isPresent()) {
+                return vectorKernel.get();
+            }
+        }
+        return new ScalarMotionKernel();
+    }
+
+    /**
+     * Checks whether the vector module has been added to the running JVM.
+     *
+     * @return {@code true} if the vector module is present, {@code false} otherwise.
+     */
+    public static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * Loads the vector kernel if both the vector module and the kernel's class are present. The kernel's class is
+     * only loaded once the module is known to be there, and this module is made to read it first.
+     *
+     * @return The vector kernel, or an empty optional if it cannot be used in this JVM or build.
+     */
+    public static Optional<MotionKernel> loadVectorKernel() {
+        Optional<Module> vectorModule = ModuleLayer.boot().findModule(VECTOR_MODULE);
+        if (vectorModule.isEmpty()) {
+            return Optional.empty();
+        }
+        MotionKernels.class.getModule().addReads(vectorModule.get());
+        try {
+            return Optional.of((MotionKernel) Class.forName(VECTOR_KERNEL_CLASS)
+                    .getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty(); // Built without the vector profile
+        }
+    }
+}
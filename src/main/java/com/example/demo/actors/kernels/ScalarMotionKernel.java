@@ -0,0 +1,28 @@
+package com.example.demo.actors.kernels;
+
+/**
+ * The {@code ScalarMotionKernel} processes one element at a time. It runs on any JVM and is the reference that other
+ * kernels must match exactly.
+ */
+public class ScalarMotionKernel implements MotionKernel {
+
+    /**
+     * Adds each velocity to its position, one element at a time.
+     */
+    @Override
+    public void advance(double[] positions, double[] velocities, int count) {
+        for (int i = 0; i < count; i++) {
+            positions[i] += velocities[i];
+        }
+    }
+
+    /**
+     * Returns the name of this kernel.
+     *
+     * @return {@code "scalar"}.
+     */
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
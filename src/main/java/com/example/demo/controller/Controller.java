@@ -2,31 +2,34 @@ package com.example.demo.controller;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 
+import com.example.demo.activityManagers.LevelDefinition;
 import com.example.demo.activityManagers.LevelManager;
+import com.example.demo.activityManagers.LevelPreloader;
+import com.example.demo.activityManagers.profiling.FrameProfiler;
+import com.example.demo.activityManagers.replay.ReplayManager;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
 import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelProvider;
 import com.example.demo.displays.StartScreen;
 
 /**
  * The {@code Controller} class manages the game's lifecycle and level transitions.
  * It is responsible for launching the game, handling level transitions, and displaying error messages when necessary.
  * <p>
- * This version generalizes the game's level handling by dynamically loading levels using reflection. It provides
- * flexibility for transitions and ensures a smoother user experience.
+ * This version generalizes the game's level handling by building levels through the {@link LevelProvider} services
+ * discovered by the {@code LevelManager}. It provides flexibility for transitions and ensures a smoother user experience.
  * </p>
  * With reference to the old Controller code,
  * 'implements Observer' has been modified to implements 'PropertyChangeListener'
  * since Observer was deprecated.
  *<p>
  * In the previous version of this class, the game only launched into {@code LevelOne} directly, with a fixed reference to
- * that level. The new version has been generalized to allow any level to be launched by dynamically loading the
- * level class using reflection. This provides flexibility and allows the game to easily transition between different levels.
+ * that level. The new version has been generalized to allow any level to be launched by building the
+ * level through its provider. This provides flexibility and allows the game to easily transition between different levels.
  * The class also shows a start screen before beginning the game, ensuring a smoother user experience.
  * </p>
  */
@@ -52,33 +55,37 @@ public class Controller implements PropertyChangeListener {
 	/**
 	 * Launches the game by displaying the start screen.
 	 * This method provides a start screen for the player before transitioning to the first level.
+	 * When a recorded session is being replayed, the game starts straight at the recorded level instead.
 	 *
 	 * @throws SecurityException If there is a security issue during the instantiation.
 	 * @throws IllegalArgumentException If the arguments for invoking methods are invalid.
 	 */
 	public void launchGame() throws SecurityException, IllegalArgumentException {
+		int replayLevelNumber = ReplayManager.getInstance().getReplayLevelNumber();
+		LevelProvider replayLevel = LevelManager.getInstance().getLevel(replayLevelNumber);
+		if (replayLevel != null) {
+			LevelManager.getInstance().setCurrentLevelNumber(replayLevelNumber);
+			goToLevel(replayLevel);
+			return;
+		}
 		StartScreen startScreen = new StartScreen(stage);
 		startScreen.show();
 	}
 
 	/**
-	 * Transitions to the specified level by dynamically loading the level class using reflection.
+	 * Transitions to the specified level by building it with its {@link LevelProvider}.
 	 * Initializes the level based on the stage's dimensions and starts the game loop for the new level.
+	 * The level's assets are normally already loaded by the {@link LevelPreloader} while the level's start screen was
+	 * shown. The time from here to the level's first rendered frame is measured by the {@link FrameProfiler}.
 	 *
-	 * @param className The fully qualified name of the level class to transition to.
-	 * @throws ClassNotFoundException    If the specified class cannot be found.
-	 * @throws NoSuchMethodException     If the specified class does not have a matching constructor.
-	 * @throws SecurityException         If there is a security issue during reflection.
-	 * @throws InstantiationException    If the class cannot be instantiated.
-	 * @throws IllegalAccessException    If the constructor is inaccessible.
-	 * @throws IllegalArgumentException  If the constructor arguments are invalid.
-	 * @throws InvocationTargetException If the constructor invocation fails or throws an exception.
+	 * @param level The provider of the level to transition to.
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		Class<?> myClass = Class.forName(className);
-		Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-		LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
+	private void goToLevel(LevelProvider level) {
+		FrameProfiler.getInstance().markLevelRequested("Level " + level.getLevelNumber(), System.nanoTime());
+		LevelPreloader.getInstance().awaitPreload(level.getLevelNumber());
+		ReplayManager.getInstance().beginLevel(level.getLevelNumber());
+		LevelDefinition definition = LevelManager.getInstance().getDefinition(level.getLevelNumber());
+		LevelParent myLevel = level.createLevel(definition, stage.getHeight(), stage.getWidth());
 		Scene scene = myLevel.initializeScene();
 		stage.setScene(scene);
 		myLevel.startGame();
@@ -108,11 +115,10 @@ public class Controller implements PropertyChangeListener {
 	@Override
 	public void propertyChange(PropertyChangeEvent evt) {
 		if ("nextLevel".equals(evt.getPropertyName())) { // Check if it's a level change event
-			String levelClassName = (String) evt.getNewValue();
+			LevelProvider level = (LevelProvider) evt.getNewValue();
 			try {
-				goToLevel(levelClassName); // Transition to the new level
-			} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-					 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+				goToLevel(level); // Transition to the new level
+			} catch (RuntimeException e) {
 				showError(e); // Show error if the level transition fails
 			}
 		}
@@ -1,6 +1,9 @@
 package com.example.demo.controller;
 
+import com.example.demo.activityManagers.profiling.FrameProfiler;
+import com.example.demo.actors.Interpolatable;
 import com.example.demo.actors.Updatable;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.util.Duration;
@@ -20,9 +23,30 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *
  * This design simplifies adding, updating, and pausing various game entities, ensuring that game logic remains
  * modular and manageable.
+ *
+ * The loop can run in two modes. In {@link Mode#TIMELINE} mode a {@link Timeline} calls {@code update()} every
+ * {@link #MILLISECOND_DELAY} milliseconds, as the game always has. In the default {@link Mode#FIXED_STEP} mode an
+ * {@link AnimationTimer} runs once per displayed frame and feeds the elapsed time into an accumulator, from which the
+ * simulation is advanced in fixed ticks of {@code 1 / tickRate} seconds. Gameplay therefore runs at the same rate on
+ * any display, and a slow frame is made up with extra ticks (up to {@link #getMaxCatchUpTicks()} per frame) instead of
+ * the game slowing down. Between ticks, {@link Interpolatable} updatables are asked to draw themselves part of the way
+ * to their next state, so motion stays smooth at 60 or 120 Hz.
+ *
+ * Updates only change the simulated state of the actors; in both modes it is copied to the scene graph once per
+ * rendered frame through {@link Interpolatable#interpolate(double)}.
  */
 public class GameLoop {
 
+    /**
+     * The ways the game loop can be driven.
+     */
+    public enum Mode {
+        /** A {@link Timeline} key frame runs one tick per {@link #MILLISECOND_DELAY} milliseconds. */
+        TIMELINE,
+        /** An {@link AnimationTimer} runs fixed ticks from an accumulator and interpolates rendering between them. */
+        FIXED_STEP
+    }
+
     /** Singleton instance of the game loop */
     private static GameLoop instance;
 
@@ -32,9 +56,45 @@ public class GameLoop {
     /** Delay between each frame in milliseconds */
     private static final int MILLISECOND_DELAY = 50;
 
+    /** The default simulation rate, in ticks per second. Matches the timeline's {@link #MILLISECOND_DELAY}. */
+    public static final double DEFAULT_TICK_RATE = 1000.0 / MILLISECOND_DELAY;
+
+    /** The default number of ticks that may be run in a single frame to catch up after a slow frame */
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
     /** List of entities that need updating every frame */
     private final List<Updatable> updatables = new CopyOnWriteArrayList<>();
 
+    /** The per-frame timer driving the loop in {@link Mode#FIXED_STEP} mode, created on first use */
+    private AnimationTimer frameTimer;
+
+    /** The mode the loop runs in */
+    private Mode mode = Mode.FIXED_STEP;
+
+    /** The length of one simulation tick, in nanoseconds */
+    private long tickNanos = Math.round(1_000_000_000L / DEFAULT_TICK_RATE);
+
+    /** The maximum number of ticks run in a single frame */
+    private int maxCatchUpTicks = DEFAULT_MAX_CATCH_UP_TICKS;
+
+    /** Simulation time that has elapsed but not yet been run as ticks, in nanoseconds */
+    private long accumulatorNanos;
+
+    /** The timestamp of the previous frame, or {@code -1} if the loop has just been started */
+    private long lastFrameNanos = -1;
+
+    /** Whether the loop is currently playing */
+    private boolean running;
+
+    /** The total number of ticks run */
+    private long tickCount;
+
+    /** The number of ticks skipped because a frame needed more than {@link #maxCatchUpTicks} */
+    private long droppedTicks;
+
+    /** The profiler that times every tick and counts rendered frames */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
     /**
      * Private constructor to prevent instantiation from outside the class.
      * Initializes the game loop timeline to ensure the loop is started only when needed.
@@ -64,12 +124,18 @@ public class GameLoop {
     public void initializeTimeline() {
         timeline = new Timeline();  // Create a new Timeline for the game loop
         timeline.setCycleCount(Timeline.INDEFINITE);  // Set the timeline to loop indefinitely
-        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> update());  // Define the update action
+        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> {
+            profiler.recordFrame(System.nanoTime());
+            update();
+            renderInterpolated(1);  // Copy the simulated state to the scene graph
+        });
         timeline.getKeyFrames().add(gameLoop);  // Add the KeyFrame to the timeline
     }
 
     /**
      * Gets the current game loop timeline.
+     * Only drives the game in {@link Mode#TIMELINE} mode; use {@link #play()}, {@link #pause()} and {@link #stop()}
+     * to control the loop in either mode.
      *
      * @return The Timeline controlling the game loop.
      */
@@ -77,6 +143,140 @@ public class GameLoop {
         return timeline;  // Return the game loop's timeline
     }
 
+    /**
+     * Starts or resumes the game loop.
+     */
+    public void play() {
+        running = true;
+        if (mode == Mode.TIMELINE) {
+            timeline.play();
+        } else {
+            lastFrameNanos = -1;  // Time spent paused is not simulated
+            getFrameTimer().start();
+        }
+    }
+
+    /**
+     * Pauses the game loop. Time that had accumulated towards the next tick is kept.
+     */
+    public void pause() {
+        running = false;
+        if (mode == Mode.TIMELINE) {
+            timeline.pause();
+        } else if (frameTimer != null) {
+            frameTimer.stop();
+        }
+    }
+
+    /**
+     * Stops the game loop and discards any accumulated time.
+     */
+    public void stop() {
+        running = false;
+        timeline.stop();
+        if (frameTimer != null) {
+            frameTimer.stop();
+        }
+        accumulatorNanos = 0;
+    }
+
+    /**
+     * Checks whether the game loop is currently playing.
+     *
+     * @return {@code true} if the loop is playing, {@code false} if it is paused or stopped.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sets the mode the loop runs in. A playing loop is switched over without losing its running state.
+     *
+     * @param mode The new mode.
+     */
+    public void setMode(Mode mode) {
+        if (mode == this.mode) {
+            return;
+        }
+        boolean wasRunning = running;
+        stop();
+        this.mode = mode;
+        renderInterpolated(1);  // Clear any render offsets left by interpolation
+        if (wasRunning) {
+            play();
+        }
+    }
+
+    /**
+     * Returns the mode the loop runs in.
+     *
+     * @return The current mode.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the simulation rate used in {@link Mode#FIXED_STEP} mode.
+     *
+     * @param ticksPerSecond The number of ticks per second. Must be positive.
+     */
+    public void setTickRate(double ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        tickNanos = Math.round(1_000_000_000L / ticksPerSecond);
+    }
+
+    /**
+     * Returns the simulation rate used in {@link Mode#FIXED_STEP} mode.
+     *
+     * @return The number of ticks per second.
+     */
+    public double getTickRate() {
+        return 1_000_000_000.0 / tickNanos;
+    }
+
+    /**
+     * Sets the maximum number of ticks run in a single frame. Any further backlog is dropped, so the game slows down
+     * briefly instead of freezing while it tries to catch up.
+     *
+     * @param maxCatchUpTicks The maximum ticks per frame. Must be at least 1.
+     */
+    public void setMaxCatchUpTicks(int maxCatchUpTicks) {
+        if (maxCatchUpTicks < 1) {
+            throw new IllegalArgumentException("At least one tick per frame is required: " + maxCatchUpTicks);
+        }
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * Returns the maximum number of ticks run in a single frame.
+     *
+     * @return The maximum ticks per frame.
+     */
+    public int getMaxCatchUpTicks() {
+        return maxCatchUpTicks;
+    }
+
+    /**
+     * Returns the total number of simulation ticks run.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the number of ticks skipped because a frame fell too far behind.
+     *
+     * @return The dropped tick count.
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
     /**
      * Adds an updatable entity to the game loop.
      * The entity will be updated on each tick of the game loop.
@@ -95,14 +295,93 @@ public class GameLoop {
         updatables.clear();  // Clear the list of updatable entities
     }
 
+    /**
+     * Returns the frame timer, creating it on first use.
+     *
+     * @return The frame timer.
+     */
+    private AnimationTimer getFrameTimer() {
+        if (frameTimer == null) {
+            frameTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    advance(now);
+                }
+            };
+        }
+        return frameTimer;
+    }
+
+    /**
+     * Runs as many fixed ticks as the time since the previous frame allows, then renders the interpolated state.
+     *
+     * @param now The timestamp of the current frame, in nanoseconds.
+     */
+    private void advance(long now) {
+        profiler.recordFrame(now);
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = now;
+            return;
+        }
+        accumulatorNanos += now - lastFrameNanos;
+        lastFrameNanos = now;
+
+        int ticks = 0;
+        while (accumulatorNanos >= tickNanos) {
+            if (ticks == maxCatchUpTicks) {
+                // Too far behind: drop the backlog instead of spiralling
+                droppedTicks += accumulatorNanos / tickNanos;
+                accumulatorNanos %= tickNanos;
+                break;
+            }
+            accumulatorNanos -= tickNanos;
+            ticks++;
+            tick();
+            if (!running) {
+                renderInterpolated(1);  // The tick paused or ended the level; show where it stopped
+                return;
+            }
+        }
+        renderInterpolated((double) accumulatorNanos / tickNanos);
+    }
+
+    /**
+     * Runs one fixed simulation tick, recording the previous state of interpolated updatables first.
+     */
+    private void tick() {
+        for (Updatable updatable : updatables) {
+            if (updatable instanceof Interpolatable interpolatable) {
+                interpolatable.savePreviousState();
+            }
+        }
+        update();
+    }
+
+    /**
+     * Asks every interpolated updatable to render itself part of the way into the next tick.
+     *
+     * @param alpha How far into the next tick the frame is drawn, from 0 to 1.
+     */
+    private void renderInterpolated(double alpha) {
+        for (Updatable updatable : updatables) {
+            if (updatable instanceof Interpolatable interpolatable) {
+                interpolatable.interpolate(alpha);
+            }
+        }
+    }
+
     /**
      * Calls the update method on each updatable entity in the list.
      * This method is executed every frame by the game loop and ensures that all updatable entities are updated.
+     * The whole tick is timed by the {@link FrameProfiler}.
      */
     private void update() {
+        tickCount++;
+        profiler.beginTick();
         // Iterate over all updatable entities and call their update method
         for (Updatable updatable : updatables) {
             updatable.update();  // Call the update method for each updatable entity
         }
+        profiler.endTick();
     }
 }
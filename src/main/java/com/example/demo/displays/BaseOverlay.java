@@ -1,5 +1,6 @@
 package com.example.demo.displays;
 
+import com.example.demo.activityManagers.ImageCache;
 import com.example.demo.controller.AppStage;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
@@ -16,8 +17,6 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 
-import java.util.Objects;
-
 /**
  * Represents a base overlay component that can be displayed on top of the main game scene.
  * <p>
@@ -169,7 +168,7 @@ public class BaseOverlay {
      */
     public void addScoreImage(String starImagePath) {
         if (starImagePath != null && !starImagePath.isEmpty()) {
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream(starImagePath)));
+            Image image = ImageCache.getInstance().getImage(starImagePath, 600, 0);
             ImageView imageView = new ImageView(image);
             imageView.setFitWidth(600); // Set fixed width
             imageView.setPreserveRatio(true); // Maintain aspect ratio
@@ -180,12 +179,12 @@ public class BaseOverlay {
     }
 
     /**
-     * Displays the overlay by adding it to the root container and making it visible.
+     * Displays the overlay by adding it to the root container and making it visible. Levels pass their overlay layer
+     * as the root, which is drawn over everything else, so the overlay does not need to be moved to the front.
      */
     public void show() {
         root.getChildren().add(overlay);
         overlay.setVisible(true);
-        overlay.toFront();
     }
 
     /**
@@ -1,11 +1,10 @@
 package com.example.demo.displays;
 
+import com.example.demo.activityManagers.ImageCache;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 /**
  * A factory class for creating image-based buttons.
  * Provides a static method to create buttons that display an image with
@@ -52,7 +51,7 @@ public class ButtonFactory {
         Button button = new Button();
 
         // Load the image from the given resource path
-        Image image = new Image(Objects.requireNonNull(ButtonFactory.class.getResourceAsStream(imagePath)));
+        Image image = ImageCache.getInstance().getImage(imagePath, width, height);
 
         // Create an ImageView to display the image on the button
         ImageView imageView = new ImageView(image);
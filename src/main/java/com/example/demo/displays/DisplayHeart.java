@@ -1,6 +1,6 @@
 package com.example.demo.displays;
 
-import javafx.scene.image.Image;
+import com.example.demo.activityManagers.ImageCache;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -15,6 +15,9 @@ import javafx.scene.layout.HBox;
  * - The new class eliminates the need for an explicit removal of hearts (previously done with {@code removeHeart()}) and simplifies
  *   the code flow by integrating all functionality in a single class.
  *
+ * The display is called every tick but only touches the scene graph when the health has changed. Heart nodes are
+ * created once and kept in the container; hearts above the current health are hidden rather than removed, so losing
+ * or regaining a life does not rebuild the row.
  */
 public class DisplayHeart {
 
@@ -43,6 +46,11 @@ public class DisplayHeart {
 	 */
 	private double containerYPosition;
 
+	/**
+	 * The number of hearts currently shown, or {@code -1} before the first update.
+	 */
+	private int displayedHearts = -1;
+
 	/**
 	 * Constructs a new {@code DisplayHeart} instance with a specific position on the screen and initializes the heart container.
 	 *
@@ -57,6 +65,14 @@ public class DisplayHeart {
 		syncHeartsWithUserHealth(heartsToDisplay); // Initialize the container with the given number of hearts
 	}
 
+	/**
+	 * Decodes the heart image at the size it is displayed at, so a display created later finds it in the
+	 * {@link ImageCache}. Safe to call from a background thread.
+	 */
+	public static void preloadImage() {
+		ImageCache.getInstance().preload(HEART_IMAGE_NAME, 0, HEART_HEIGHT);
+	}
+
 	/**
 	 * Initializes the container (HBox) that will hold the heart images. The container is positioned based on the X and Y
 	 * coordinates provided during the class instantiation.
@@ -69,27 +85,36 @@ public class DisplayHeart {
 
 	/**
 	 * Synchronizes the number of hearts displayed with the given user health.
-	 * This method clears the existing hearts and adds new hearts according to the current health status.
+	 * Does nothing if the health has not changed since the last call. Otherwise, heart nodes are added if there are
+	 * not enough yet, and each heart is shown or hidden according to the current health status.
 	 *
 	 * @param userHealth the current health of the user, determining the number of hearts to display.
 	 */
 	public void syncHeartsWithUserHealth(int userHealth) {
-		// Clear the existing hearts from the container
-		container.getChildren().clear();
+		int heartsToShow = Math.max(0, userHealth);
+		if (heartsToShow == displayedHearts) {
+			return; // Nothing changed, leave the scene graph alone
+		}
+
+		// Create the missing hearts once; they are reused from then on
+		while (container.getChildren().size() < heartsToShow) {
+			addHeart();
+		}
 
-		// Add hearts based on the user's health
-		for (int i = 0; i < userHealth; i++) {
-			addHeart(); // Adds each heart image to the container
+		// Show one heart per point of health and hide the rest
+		for (int i = 0, size = container.getChildren().size(); i < size; i++) {
+			container.getChildren().get(i).setVisible(i < heartsToShow);
 		}
+		displayedHearts = heartsToShow;
 	}
 
 	/**
-	 * Adds a single heart image to the container. The heart image is loaded from the specified path and its size is set
-	 * to a fixed height, maintaining its aspect ratio.
+	 * Adds a single heart image to the end of the container. The heart image is loaded from the specified path and its
+	 * size is set to a fixed height, maintaining its aspect ratio.
 	 */
 	public void addHeart() {
 		// Create a new ImageView for the heart
-		ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+		ImageView heart = new ImageView(ImageCache.getInstance().getImage(HEART_IMAGE_NAME, 0, HEART_HEIGHT));
 
 		// Set the properties for the heart image
 		heart.setFitHeight(HEART_HEIGHT);  // Set the height for each heart image
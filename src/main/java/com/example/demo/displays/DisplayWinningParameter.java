@@ -1,5 +1,6 @@
 package com.example.demo.displays;
 
+import com.example.demo.activityManagers.ImageCache;
 import com.example.demo.controller.AppStage;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -9,19 +10,23 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 
-import java.util.Objects;
-
 /**
  * A class responsible for displaying three winning parameters along with
  * associated images and values. The parameters are shown in a horizontally
  * aligned container with their respective images and values, making it easy
  * to visualize the winning statistics in the UI.
+ *
+ * The values are pushed every tick, but a text node is only changed when its value differs from the one shown, and the
+ * container is only re-centered when its width actually changes after layout.
  */
 public class DisplayWinningParameter {
 
     /** The vertical position from the top of the screen where the container is placed */
     private static final double DISPLAY_Y_POSITION = 25;
 
+    /** The width every parameter image is decoded and shown at */
+    private static final int IMAGE_WIDTH = 50;
+
     /** The value for the first parameter */
     private int value1;
 
@@ -98,6 +103,21 @@ public class DisplayWinningParameter {
 
         this.container.setTranslateY(DISPLAY_Y_POSITION); // Set the vertical position
         updatePosition(); // Center the container horizontally
+
+        // Re-center only when layout has changed the width, e.g. after a value gains a digit
+        this.container.widthProperty().addListener((observable, oldWidth, newWidth) -> updatePosition());
+    }
+
+    /**
+     * Decodes parameter images at the size they are displayed at, so a display created later finds them in the
+     * {@link ImageCache}. Safe to call from a background thread.
+     *
+     * @param imagePaths The paths to the image files.
+     */
+    public static void preloadImages(String... imagePaths) {
+        for (String imagePath : imagePaths) {
+            ImageCache.getInstance().preload(imagePath, IMAGE_WIDTH, 0);
+        }
     }
 
     /**
@@ -109,13 +129,13 @@ public class DisplayWinningParameter {
      */
     private ImageView createImageView(String imagePath) {
         // Load the image from the given path
-        Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream(imagePath)));
+        Image image = ImageCache.getInstance().getImage(imagePath, IMAGE_WIDTH, 0);
 
         // Create an ImageView object for the image
         ImageView imageView = new ImageView(image);
 
         // Set the width of the image to 50 while preserving its aspect ratio
-        imageView.setFitWidth(50);
+        imageView.setFitWidth(IMAGE_WIDTH);
         imageView.setPreserveRatio(true); // Ensure the aspect ratio is preserved
 
         return imageView;
@@ -145,39 +165,40 @@ public class DisplayWinningParameter {
 
     /**
      * Updates the value of the first parameter and refreshes the display to show the new value.
-     * This method also re-centers the container after the value is updated.
+     * Does nothing if the value has not changed.
      *
      * @param newValue The new value to set for the first parameter.
      */
     public void updateValue1(int newValue) {
-        value1 = newValue; // Set the new value
-        valueText1.setText(String.valueOf(value1)); // Update the displayed text for value1
-        updatePosition(); // Update the container position after the value change
+        if (newValue != value1) {
+            value1 = newValue; // Set the new value
+            valueText1.setText(String.valueOf(value1)); // Update the displayed text for value1
+        }
     }
 
     /**
      * Updates the value of the second parameter and refreshes the display to show the new value.
-     * This method also re-centers the container after the value is updated.
+     * Does nothing if the value has not changed.
      *
      * @param newValue The new value to set for the second parameter.
      */
     public void updateValue2(int newValue) {
-        value2 = newValue; // Set the new value
-        valueText2.setText(String.valueOf(value2)); // Update the displayed text for value2
-        updatePosition(); // Update the container position after the value change
+        if (newValue != value2) {
+            value2 = newValue; // Set the new value
+            valueText2.setText(String.valueOf(value2)); // Update the displayed text for value2
+        }
     }
 
     /**
      * Updates the value of the third parameter and refreshes the display to show the new value.
-     * This method also re-centers the container after the value is updated.
+     * Does nothing if the value has not changed.
      *
      * @param newValue The new value to set for the third parameter.
      */
     public void updateValue3(int newValue) {
-        if (valueText3 != null) { // Ensure the third parameter exists
+        if (valueText3 != null && newValue != value3) { // Ensure the third parameter exists
             value3 = newValue; // Set the new value
             valueText3.setText(String.valueOf(value3)); // Update the displayed text for value3
-            updatePosition(); // Update the container position after the value change
         }
     }
 
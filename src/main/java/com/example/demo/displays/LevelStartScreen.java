@@ -1,13 +1,15 @@
 package com.example.demo.displays;
 
 import com.example.demo.activityManagers.AudioHandler;
+import com.example.demo.activityManagers.ImageCache;
 import com.example.demo.activityManagers.LevelManager;
+import com.example.demo.activityManagers.LevelPreloader;
 import com.example.demo.controller.AppStage;
+import com.example.demo.levels.LevelProvider;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
@@ -16,8 +18,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
-import java.util.Objects;
-
 /**
  * A class that represents the start screen displayed when a level begins.
  * This screen includes the level's objective, instructions, and a prompt to
@@ -58,67 +58,39 @@ public class LevelStartScreen {
     }
 
     /**
-     * Retrieves the aim or objective of a specific level.
+     * Retrieves the aim or objective of a specific level from its {@link LevelProvider}.
      *
      * @param levelNumber the level number
      * @return the description of the level's objective
      */
     private String getLevelAim(int levelNumber) {
-        switch (levelNumber) {
-            case 1:
-                return "Kill 10 enemy planes while dodging enemy missiles. Remember that your bullets are limited!";
-            case 2:
-                return "Defeat the boss: x100 harder to kill!";
-            case 3:
-                return "The Enemy's friends have spotted you! Shoot them down from all 4 directions!";
-            case 4:
-                return "Plane is OUT OF FUEL! Collect fuel to survive until you reach the finish line!";
-            default:
-                return "Unknown level aim";
-        }
+        LevelProvider level = levelManager.getLevel(levelNumber);
+        return level != null ? level.getAim() : "Unknown level aim";
     }
 
     /**
-     * Retrieves the instructions for a specific level.
+     * Retrieves the instructions for a specific level from its {@link LevelProvider}.
      *
      * @param levelNumber the level number
      * @return the instructions for the level
      */
     private String getInstructions(int levelNumber) {
-        switch (levelNumber) {
-            case 1:
-                return "→ Use UP & DOWN arrow keys to move.\n" +
-                        "→ SPACE to shoot projectiles.\n" +
-                        "→ Avoid enemy missiles.\n" +
-                        "→ Remember to collect coins and the magnets!";
-            case 2:
-                return "→ Use UP & DOWN arrow keys to move.\n" +
-                        "→ SPACE to shoot projectiles.\n" +
-                        "→ Avoid direct hits from the boss's lasers.\n" +
-                        "→ Remember to collect coins and the magnets!";
-            case 3:
-                return "→ Use arrow keys to change direction.\n" +
-                        "→ SPACE to shoot projectiles.\n" +
-                        "→ Remember to collect coins and the magnets!";
-            case 4:
-                return "→ UP arrow key to move.\n" +
-                        "→ Plane automatically descends when UP key released.\n" +
-                        "→ SPACE to shoot projectiles.\n" +
-                        "→ Remember to collect coins and the magnets!";
-            default:
-                return "No instructions available for this level.";
-        }
+        LevelProvider level = levelManager.getLevel(levelNumber);
+        return level != null ? level.getInstructions() : "No instructions available for this level.";
     }
 
     /**
      * Displays the level start screen with animated effects and instructions.
      * The screen includes background images, level title, objectives,
      * instructions, and a start prompt.
+     * While it is shown, the level is preloaded in the background by the {@link LevelPreloader}.
      */
     public void show() {
+        LevelPreloader.getInstance().preload(levelNumber); // Load the level's assets while the player reads
+
         // Create a background for the screen
         StackPane rootPane = new StackPane();
-        ImageView backgroundImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/com/example/demo/images/background1.jpg"))));
+        ImageView backgroundImageView = new ImageView(ImageCache.getInstance().getImage("/com/example/demo/images/background1.jpg"));
         backgroundImageView.setFitWidth(stage.getWidth());
         backgroundImageView.setFitHeight(stage.getHeight());
         backgroundImageView.setPreserveRatio(false);
@@ -0,0 +1,154 @@
+package com.example.demo.displays;
+
+import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.activityManagers.CollisionHandler;
+import com.example.demo.activityManagers.profiling.FrameProfiler;
+import com.example.demo.activityManagers.profiling.LatencyHistogram;
+import com.example.demo.actors.CollisionCategory;
+import javafx.geometry.Insets;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Locale;
+
+/**
+ * A debug overlay showing the measurements of the {@link FrameProfiler}: the frame rate, the tick time, the
+ * p50/p99/max time of each phase of a tick, the number of actors of each collision category and the number of pairs
+ * the collision handler tested.
+ * <p>
+ * The overlay is hidden until toggled on. While it is shown, its text is rebuilt at most every
+ * {@link #REFRESH_INTERVAL_NANOS} nanoseconds, so formatting it does not show up in the measurements it displays.
+ * </p>
+ */
+public class ProfilerOverlay {
+
+    /** How often the text is rebuilt while the overlay is shown, in nanoseconds. */
+    private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+    /** Nanoseconds per millisecond, used to format durations. */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** The collision categories, cached to avoid copying the values array. */
+    private static final CollisionCategory[] CATEGORIES = CollisionCategory.values();
+
+    /** The profiler whose measurements are shown. */
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+    /** The text showing the measurements. */
+    private final Text text;
+
+    /** The container (VBox) holding the text on a translucent background. */
+    private final VBox container;
+
+    /** The buffer the text is built in, reused on every refresh. */
+    private final StringBuilder builder = new StringBuilder(512);
+
+    /** The time of the last refresh, or {@code -1} if the text has not been built since the overlay was shown. */
+    private long lastRefreshNanos = -1;
+
+    /**
+     * Constructs a hidden overlay at the given position.
+     *
+     * @param xPosition The X position of the overlay.
+     * @param yPosition The Y position of the overlay.
+     */
+    public ProfilerOverlay(double xPosition, double yPosition) {
+        this.text = new Text();
+        this.text.setFont(Font.font("Monospaced", 13));
+        this.text.setFill(Color.LIME);
+
+        this.container = new VBox(text);
+        this.container.setPadding(new Insets(8));
+        this.container.setBackground(new Background(new BackgroundFill(Color.rgb(0, 0, 0, 0.7), new CornerRadii(6), Insets.EMPTY)));
+        this.container.setLayoutX(xPosition);
+        this.container.setLayoutY(yPosition);
+        this.container.setMouseTransparent(true);
+        this.container.setVisible(false);
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown. Levels add the overlay to their HUD layer, which
+     * is drawn over the actors, so actors added to the scene later do not cover it.
+     */
+    public void toggle() {
+        container.setVisible(!container.isVisible());
+        lastRefreshNanos = -1;  // Rebuild straight away when shown
+    }
+
+    /**
+     * Checks whether the overlay is shown.
+     *
+     * @return {@code true} if the overlay is shown, {@code false} otherwise.
+     */
+    public boolean isVisible() {
+        return container.isVisible();
+    }
+
+    /**
+     * Rebuilds the text from the latest measurements, if the overlay is shown and the refresh interval has passed.
+     *
+     * @param actorManager     The actor manager to count actors in.
+     * @param collisionHandler The collision handler to read the pair counts from.
+     */
+    public void refresh(ActorManager actorManager, CollisionHandler collisionHandler) {
+        if (!container.isVisible()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastRefreshNanos >= 0 && now - lastRefreshNanos < REFRESH_INTERVAL_NANOS) {
+            return;
+        }
+        lastRefreshNanos = now;
+
+        builder.setLength(0);
+        builder.append(String.format(Locale.ROOT, "FPS %5.1f   tick %6.2f ms%n",
+                profiler.getFramesPerSecond(), profiler.getLastTickNanos() / NANOS_PER_MILLI));
+        builder.append(String.format(Locale.ROOT, "first frame %6.1f ms%n",
+                profiler.getTimeToFirstFrameNanos() / NANOS_PER_MILLI));
+        builder.append(String.format(Locale.ROOT, "%-11s %7s %7s %7s%n", "ms", "p50", "p99", "max"));
+        appendHistogram("tick", profiler.getTickHistogram());
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            appendHistogram(phase.getLabel(), profiler.getHistogram(phase));
+        }
+
+        builder.append(String.format(Locale.ROOT, "%nactors %d%n", actorManager.getActiveActors().size()));
+        for (CollisionCategory category : CATEGORIES) {
+            int count = actorManager.getActors(category).size();
+            if (count > 0) {
+                builder.append(String.format(Locale.ROOT, "  %-17s %4d%n", category.name().toLowerCase(Locale.ROOT), count));
+            }
+        }
+
+        builder.append(String.format(Locale.ROOT, "pairs tested %d of %d, hit %d",
+                collisionHandler.getLastCandidatePairCount(), collisionHandler.getLastBruteForcePairCount(),
+                collisionHandler.getLastIntersectingPairCount()));
+        text.setText(builder.toString());
+    }
+
+    /**
+     * Appends one row of percentiles to the text.
+     *
+     * @param label     The name of the row.
+     * @param histogram The histogram to read.
+     */
+    private void appendHistogram(String label, LatencyHistogram histogram) {
+        builder.append(String.format(Locale.ROOT, "%-11s %7.2f %7.2f %7.2f%n", label,
+                histogram.getPercentile(50) / NANOS_PER_MILLI,
+                histogram.getPercentile(99) / NANOS_PER_MILLI,
+                histogram.getMax() / NANOS_PER_MILLI));
+    }
+
+    /**
+     * Returns the container holding the overlay, to be added to the scene.
+     *
+     * @return The VBox container.
+     */
+    public VBox getContainer() {
+        return container;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.displays;
+
+import com.example.demo.actors.CollisionCategory;
+
+/**
+ * The fixed drawing layers of a level's scene, from back to front. Each layer is its own {@link javafx.scene.Group}
+ * in {@link SceneLayers}, so the order things are drawn in comes from the layer they are added to, never from
+ * {@code toFront()}.
+ *
+ * <p>Only {@link #OBSTACLES}, {@link #ACTORS} and {@link #PROJECTILES} hold actors and are managed by the
+ * {@link com.example.demo.activityManagers.ActorManager}. The other layers are left to the level.</p>
+ */
+public enum RenderLayer {
+
+    /** The level's background image. */
+    BACKGROUND,
+
+    /** Obstacles and the finish line, drawn behind everything that moves. */
+    OBSTACLES,
+
+    /** The user vehicle, enemies and collectibles. */
+    ACTORS,
+
+    /** Projectiles, drawn over the vehicles that fire them. */
+    PROJECTILES,
+
+    /** Visual effects over the actors, such as the boss's shield. */
+    EFFECTS,
+
+    /** The heads-up display: hearts, counters, the pause button and the profiler overlay. */
+    HUD,
+
+    /** Pause, win and loss overlays, drawn over everything. */
+    OVERLAY;
+
+    /**
+     * The layer of the actors of each collision category, indexed by {@link CollisionCategory#ordinal()}.
+     */
+    private static final RenderLayer[] CATEGORY_LAYERS = new RenderLayer[CollisionCategory.values().length];
+
+    static {
+        for (CollisionCategory category : CollisionCategory.values()) {
+            CATEGORY_LAYERS[category.ordinal()] = switch (category) {
+                case OBSTACLE, FINISH_LINE -> OBSTACLES;
+                case USER_PROJECTILE, ENEMY_PROJECTILE -> PROJECTILES;
+                default -> ACTORS;
+            };
+        }
+    }
+
+    /**
+     * Returns the layer actors of the given collision category are drawn in.
+     *
+     * @param category The collision category of an actor.
+     * @return {@link #OBSTACLES}, {@link #ACTORS} or {@link #PROJECTILES}.
+     */
+    public static RenderLayer forCategory(CollisionCategory category) {
+        return CATEGORY_LAYERS[category.ordinal()];
+    }
+
+    /**
+     * Checks whether the layer holds actors managed by the actor manager.
+     *
+     * @return {@code true} for {@link #OBSTACLES}, {@link #ACTORS} and {@link #PROJECTILES}.
+     */
+    public boolean holdsActors() {
+        return this == OBSTACLES || this == ACTORS || this == PROJECTILES;
+    }
+}
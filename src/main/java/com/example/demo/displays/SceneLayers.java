@@ -0,0 +1,53 @@
+package com.example.demo.displays;
+
+import javafx.scene.Group;
+
+/**
+ * The layer groups of a level's scene. One {@link Group} per {@link RenderLayer} is added to the root once, in layer
+ * order, and the root's children never change after that. Everything the level shows is added to the group of its
+ * layer, so a change to one layer, such as actors spawning, never touches the children of another.
+ */
+public class SceneLayers {
+
+    /**
+     * The root of the scene, holding the layer groups.
+     */
+    private final Group root;
+
+    /**
+     * The layer groups, indexed by {@link RenderLayer#ordinal()}.
+     */
+    private final Group[] layers = new Group[RenderLayer.values().length];
+
+    /**
+     * Creates the layer groups and adds them to the given root, back to front.
+     *
+     * @param root The root of the scene.
+     */
+    public SceneLayers(Group root) {
+        this.root = root;
+        for (RenderLayer layer : RenderLayer.values()) {
+            layers[layer.ordinal()] = new Group();
+        }
+        root.getChildren().addAll(layers);
+    }
+
+    /**
+     * Returns the group of the given layer.
+     *
+     * @param layer The layer.
+     * @return The layer's group.
+     */
+    public Group getLayer(RenderLayer layer) {
+        return layers[layer.ordinal()];
+    }
+
+    /**
+     * Returns the root of the scene, holding the layer groups.
+     *
+     * @return The root group.
+     */
+    public Group getRoot() {
+        return root;
+    }
+}
@@ -1,15 +1,13 @@
 package com.example.demo.displays;
 
+import com.example.demo.activityManagers.ImageCache;
 import com.example.demo.activityManagers.LevelManager;
 import javafx.scene.Group;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
-import java.util.Objects;
-
 /**
  * This class is responsible for displaying the start screen of the game.
  * It sets up the background, title, buttons for starting the game and quitting,
@@ -61,13 +59,13 @@ public class StartScreen {
      */
     public void show() {
         // Set up the background image
-        ImageView backgroundImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream(BACKGROUND_IMAGE))));
+        ImageView backgroundImageView = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE));
         backgroundImageView.setFitWidth(stage.getWidth());
         backgroundImageView.setFitHeight(stage.getHeight());
         backgroundImageView.setPreserveRatio(false);
 
         // Create an ImageView for the game title
-        ImageView titleImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/com/example/demo/images/gameTitle1.png"))));
+        ImageView titleImageView = new ImageView(ImageCache.getInstance().getImage("/com/example/demo/images/gameTitle1.png"));
         titleImageView.setFitWidth(400);
         titleImageView.setPreserveRatio(true);
         titleImageView.setLayoutX((stage.getWidth() - titleImageView.getFitWidth()) / 2); // Center the title
@@ -1,5 +1,6 @@
 package com.example.demo.displays;
 
+import com.example.demo.activityManagers.ImageCache;
 import com.example.demo.activityManagers.LevelScoreGenerator;
 import com.example.demo.activityManagers.LevelStateHandler;
 import com.example.demo.activityManagers.UserStatsManager;
@@ -21,8 +22,6 @@ import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
-import java.util.Objects;
-
 /**
  * This class is responsible for displaying the "You Win" screen when the player successfully completes the game.
  * It shows the player's total score, total kills, level-wise scores, and a confetti effect.
@@ -133,7 +132,7 @@ public class YouWinScreen {
         String starImagePath = scoreGenerator.getStarImagePath(score);
 
         // Create star image based on the score
-        Image starImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream(starImagePath)));
+        Image starImage = ImageCache.getInstance().getImage(starImagePath, 200, 0);
         ImageView starImageView = new ImageView(starImage);
         starImageView.setFitWidth(200); // Set the width for the star image
         starImageView.setPreserveRatio(true); // Maintain the aspect ratio of the star image
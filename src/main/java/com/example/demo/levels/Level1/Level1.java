@@ -1,9 +1,14 @@
 package com.example.demo.levels.Level1;
 
-import com.example.demo.actors.Planes.enemyPlanes.EnemyPlane;
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.activityManagers.SpawnArea;
+import com.example.demo.actors.ActorPools;
+import com.example.demo.displays.RenderLayer;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelView;
 
+import java.util.random.RandomGenerator;
+
 /**
  * The {@code Level1} class represents the first level of the game.
  * It extends the {@link LevelParent} class and provides specific functionality for Level 1, such as spawning enemies,
@@ -15,25 +20,30 @@ import com.example.demo.levels.LevelView;
 public class Level1 extends LevelParent {
 
 	/** Background image for Level 1 */
-	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level1Background.jpg";
+	static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level1Background.jpg";
 
 	/** Kill count required to win the level */
-	private static final int KILLS_TO_ADVANCE = 10;
+	private final int killsToAdvance;
 
-	/** Initial health for the player at the start of the level */
-	private static final int PLAYER_INITIAL_HEALTH = 5;
+	/** The area enemy planes are spawned in, along the right edge of the screen */
+	private final SpawnArea enemySpawnArea;
 
-	/** Initial bullet count for the player at the start of the level */
-	private static final int PLAYER_BULLET_COUNT = 50;
+	/** The random stream enemy planes decide when to fire with */
+	private final RandomGenerator enemyRandom;
 
 	/**
 	 * Constructor to initialize the first level with specified screen dimensions.
 	 *
 	 * @param screenHeight The height of the game screen.
 	 * @param screenWidth The width of the game screen.
+	 * @param definition The tunable numbers of the level, such as the kill target and enemy spawn rule.
 	 */
-	public Level1(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, PLAYER_BULLET_COUNT);
+	public Level1(double screenHeight, double screenWidth, LevelDefinition definition) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, definition);
+		this.killsToAdvance = definition.getInt("win.kills");
+		this.enemySpawnArea = new SpawnArea(screenWidth, screenWidth, 100, getEnemyMaximumYPosition());
+		this.enemyRandom = getRandomStreams().enemies();
+		spawnDirector.addSpawner(definition.getSpawnRule("enemy"), () -> currentNumberOfEnemies, this::spawnEnemyPlanes);
 		initializeLevel(this, getUser());  // Initialize the level and user
 	}
 
@@ -60,16 +70,16 @@ public class Level1 extends LevelParent {
 	}
 
 	/**
-	 * Spawns enemy units in the level. In Level 1, enemy planes are spawned based on certain conditions like spawn probability.
+	 * Spawns enemy planes in the level. In Level 1, the spawn director calls this with the number of planes due under
+	 * the level's enemy spawn rule.
+	 *
+	 * @param count The number of enemy planes to spawn.
 	 */
-	@Override
-	protected void spawnEnemyUnits() {
+	private void spawnEnemyPlanes(int count) {
 		currentNumberOfEnemies += spawnHandler.spawnActors(
-				() -> new EnemyPlane(screenWidth, 100 + (Math.random() * (getEnemyMaximumYPosition() - 100))),  // Supplier for new enemy planes
-				5,  // Maximum number of enemies to spawn at a time
-				0.20,  // Probability of spawning an enemy
-				currentNumberOfEnemies,  // Current number of enemies in the level
-				10  // Total maximum number of enemies allowed in the level
+				(x, y) -> ActorPools.getInstance().acquireEnemyPlane(x, y, enemyRandom),  // Factory for new enemy planes
+				enemySpawnArea,  // Where enemy planes may appear
+				count  // How many enemy planes are due
 		);
 	}
 
@@ -81,7 +91,8 @@ public class Level1 extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH, PLAYER_BULLET_COUNT, getUser().getCoinsCollected());
+		return new LevelView(getLayer(RenderLayer.HUD), getDefinition().getInt("player.health"), getDefinition().getInt("player.bullets"),
+				getUser().getCoinsCollected());
 	}
 
 	/**
@@ -90,18 +101,17 @@ public class Level1 extends LevelParent {
 	 * @return {@code true} if the player has killed the required number of enemies, {@code false} otherwise.
 	 */
 	private boolean userHasReachedKillTarget() {
-		return getUser().getInLevelKillCount() >= KILLS_TO_ADVANCE;  // Check if the player reached the kill target
+		return getUser().getInLevelKillCount() >= killsToAdvance;  // Check if the player reached the kill target
 	}
 
 	/**
-	 * Updates the state of the level. This includes handling the movement of enemies, generating enemy fire,
-	 * spawning new enemies, and updating the level view.
+	 * Updates the state of the level. This includes handling the movement of enemies, spawning new enemies,
+	 * generating enemy fire, and updating the level view.
 	 */
 	@Override
 	public void update() {
 		super.update();  // Call the parent update method to handle common updates
 		generateEnemyFire();  // Generate fire from enemy units
-		spawnEnemyUnits();  // Spawn more enemies based on the spawn conditions
 		updateLevelView();  // Update the level view to reflect the current status of the level (health, bullets, coins)
 	}
 }
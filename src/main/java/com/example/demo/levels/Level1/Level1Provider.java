@@ -0,0 +1,67 @@
+package com.example.demo.levels.Level1;
+
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelProvider;
+
+/**
+ * Provides {@link Level1}, the first level of the game, to the level manager.
+ */
+public class Level1Provider implements LevelProvider {
+
+    /**
+     * Returns the number of the level.
+     *
+     * @return 1
+     */
+    @Override
+    public int getLevelNumber() {
+        return 1;
+    }
+
+    /**
+     * Returns the objective of the level.
+     *
+     * @return The level's aim.
+     */
+    @Override
+    public String getAim() {
+        return "Kill 10 enemy planes while dodging enemy missiles. Remember that your bullets are limited!";
+    }
+
+    /**
+     * Returns the instructions for the level.
+     *
+     * @return The level's instructions.
+     */
+    @Override
+    public String getInstructions() {
+        return "→ Use UP & DOWN arrow keys to move.\n" +
+                "→ SPACE to shoot projectiles.\n" +
+                "→ Avoid enemy missiles.\n" +
+                "→ Remember to collect coins and the magnets!";
+    }
+
+    /**
+     * Returns the resource path of the level's background image.
+     *
+     * @return The path of the background image.
+     */
+    @Override
+    public String getBackgroundImageName() {
+        return Level1.BACKGROUND_IMAGE_NAME;
+    }
+
+    /**
+     * Builds a new instance of {@link Level1}.
+     *
+     * @param definition   The level's definition.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     * @return The new level.
+     */
+    @Override
+    public LevelParent createLevel(LevelDefinition definition, double screenHeight, double screenWidth) {
+        return new Level1(screenHeight, screenWidth, definition);
+    }
+}
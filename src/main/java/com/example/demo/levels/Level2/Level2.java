@@ -1,9 +1,14 @@
 package com.example.demo.levels.Level2;
 
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.enemyPlanes.Boss;
+import com.example.demo.displays.RenderLayer;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelView;
 
+import java.util.List;
+
 /**
  * The {@code Level2} class represents the second level of the game. It introduces a boss enemy with unique behavior and custom win/loss conditions.
  * This class extends {@link LevelParent} and overrides methods to implement specific gameplay features for this level,
@@ -12,13 +17,7 @@ import com.example.demo.levels.LevelView;
 public class Level2 extends LevelParent {
 
 	/** Background image for Level 2 */
-	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level2Background.jpg";
-
-	/** Initial health for the player in this level */
-	private static final int PLAYER_INITIAL_HEALTH = 5;
-
-	/** Initial bullet count for the player in this level */
-	private static final int PLAYER_BULLET_COUNT = 100;
+	static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level2Background.jpg";
 
 	/** The boss enemy specific to Level 2 */
 	private final Boss boss;
@@ -35,13 +34,14 @@ public class Level2 extends LevelParent {
 	 *
 	 * @param screenHeight The height of the screen for this level.
 	 * @param screenWidth The width of the screen for this level.
+	 * @param definition The tunable numbers of the level, such as the player's health and bullets.
 	 */
-	public Level2(double screenHeight, double screenWidth) {
+	public Level2(double screenHeight, double screenWidth, LevelDefinition definition) {
 		// Initialize the parent class with necessary parameters
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, PLAYER_BULLET_COUNT);
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, definition);
 
 		// Initialize the boss enemy and set its health
-		boss = new Boss(levelView);
+		boss = new Boss(levelView, getRandomStreams().enemies());
 		bossHealth = boss.getHealth();
 
 		// Initialize the level with the player
@@ -80,17 +80,18 @@ public class Level2 extends LevelParent {
 	}
 
 	/**
-	 * Generates enemy fire by iterating over active actors and checking if the actor is the boss.
+	 * Generates enemy fire by iterating over the active enemies and checking if the actor is the boss.
 	 * If it is the boss, it spawns projectiles fired by the boss.
 	 */
 	@Override
 	protected void generateEnemyFire() {
-		actorManager.getActiveActors().forEach(actor -> {
-			if (actor instanceof Boss) {  // Check if the actor is a boss
+		List<GameEntity> enemies = actorManager.getEnemies();
+		for (int i = 0, size = enemies.size(); i < size; i++) {
+			if (enemies.get(i) instanceof Boss boss) {  // Check if the actor is a boss
 				// Spawn projectiles fired by the boss
-				spawnEnemyProjectile(((Boss) actor).fireProjectile());
+				spawnEnemyProjectile(boss.fireProjectile());
 			}
-		});
+		}
 	}
 
 	/**
@@ -102,7 +103,9 @@ public class Level2 extends LevelParent {
 	@Override
 	protected LevelView instantiateLevelView() {
 		// Create a custom level view with player health, boss health, bullet count, and coins collected
-		levelView = new LevelViewLevelTwo(getRoot(), PLAYER_INITIAL_HEALTH, bossHealth, PLAYER_BULLET_COUNT, getUser().getCoinsCollected());
+		levelView = new LevelViewLevelTwo(getLayer(RenderLayer.HUD), getLayer(RenderLayer.EFFECTS),
+				getDefinition().getInt("player.health"), bossHealth, getDefinition().getInt("player.bullets"),
+				getUser().getCoinsCollected());
 		return levelView;
 	}
 
@@ -120,8 +123,8 @@ public class Level2 extends LevelParent {
 	}
 
 	/**
-	 * Updates the game state on each game tick. This includes updating the level, generating enemy fire, spawning enemy units,
-	 * and refreshing the level view. This method is called every frame of the game to ensure the game state remains current.
+	 * Updates the game state on each game tick. This includes updating the level, which spawns the boss, generating
+	 * enemy fire, and refreshing the level view. This method is called every frame of the game to ensure the game state remains current.
 	 */
 	@Override
 	public void update() {
@@ -130,9 +133,6 @@ public class Level2 extends LevelParent {
 		// Generate fire from enemy units (in this case, the boss)
 		generateEnemyFire();
 
-		// Spawn enemy units (the boss)
-		spawnEnemyUnits();
-
 		// Update the user interface with the latest data
 		updateLevelView();
 	}
@@ -0,0 +1,67 @@
+package com.example.demo.levels.Level2;
+
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelProvider;
+
+/**
+ * Provides {@link Level2}, the second level of the game, to the level manager.
+ */
+public class Level2Provider implements LevelProvider {
+
+    /**
+     * Returns the number of the level.
+     *
+     * @return 2
+     */
+    @Override
+    public int getLevelNumber() {
+        return 2;
+    }
+
+    /**
+     * Returns the objective of the level.
+     *
+     * @return The level's aim.
+     */
+    @Override
+    public String getAim() {
+        return "Defeat the boss: x100 harder to kill!";
+    }
+
+    /**
+     * Returns the instructions for the level.
+     *
+     * @return The level's instructions.
+     */
+    @Override
+    public String getInstructions() {
+        return "→ Use UP & DOWN arrow keys to move.\n" +
+                "→ SPACE to shoot projectiles.\n" +
+                "→ Avoid direct hits from the boss's lasers.\n" +
+                "→ Remember to collect coins and the magnets!";
+    }
+
+    /**
+     * Returns the resource path of the level's background image.
+     *
+     * @return The path of the background image.
+     */
+    @Override
+    public String getBackgroundImageName() {
+        return Level2.BACKGROUND_IMAGE_NAME;
+    }
+
+    /**
+     * Builds a new instance of {@link Level2}.
+     *
+     * @param definition   The level's definition.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     * @return The new level.
+     */
+    @Override
+    public LevelParent createLevel(LevelDefinition definition, double screenHeight, double screenWidth) {
+        return new Level2(screenHeight, screenWidth, definition);
+    }
+}
@@ -17,8 +17,8 @@ public class LevelViewLevelTwo extends LevelView {
 	/** The Y position for the shield's initial display. */
 	private static final int SHIELD_Y_POSITION = 500;
 
-	/** The root node of the scene where UI components will be added. */
-	private final Group root;
+	/** The group the shield is added to, the level's effects layer, drawn in front of the boss. */
+	private final Group effectsLayer;
 
 	/** The shield image object that represents the shield for the user. */
 	private final ShieldImage shieldImage;
@@ -27,15 +27,17 @@ public class LevelViewLevelTwo extends LevelView {
 	 * Constructor to initialize the LevelView for Level 2, including hearts, bullet count, and the boss health display.
 	 * It also initializes the shield image display and sets the position of the shield.
 	 *
-	 * @param root The root node of the scene where the UI components will be added.
+	 * @param root The group the UI components will be added to, the level's HUD layer.
+	 * @param effectsLayer The group the shield will be added to, the level's effects layer.
 	 * @param heartsToDisplay The number of hearts to display based on the player's health.
 	 * @param bossHealth The health of the boss that is displayed.
 	 * @param bulletCount The current bullet count to be displayed.
 	 * @param coinsCollected The current number of coins collected to be displayed.
 	 */
-	public LevelViewLevelTwo(Group root, int heartsToDisplay, int bossHealth, int bulletCount, int coinsCollected) {
+	public LevelViewLevelTwo(Group root, Group effectsLayer, int heartsToDisplay, int bossHealth, int bulletCount,
+			int coinsCollected) {
 		super(root, heartsToDisplay, bulletCount, coinsCollected); // Call the superclass constructor to initialize common UI components
-		this.root = root; // Initialize the root node
+		this.effectsLayer = effectsLayer; // Initialize the layer the shield is drawn in
 		this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION); // Initialize shield image
 		// Initialize the displayWinningParameter with boss health, ammo count, and coins collected
 		this.displayWinningParameter = new DisplayWinningParameter(
@@ -43,14 +45,14 @@ public class LevelViewLevelTwo extends LevelView {
 				"/com/example/demo/images/ammoCount.png", bulletCount, // Initialize ammo count display
 				"/com/example/demo/images/coin.png", coinsCollected // Initialize coins collected display
 		);
-		addImagesToRoot(); // Add shield image to the root node
+		addImagesToRoot(); // Add shield image to the effects layer
 	}
 
 	/**
-	 * Adds the shield image to the root node, making it visible in the scene.
+	 * Adds the shield image to the effects layer, making it part of the scene.
 	 */
 	private void addImagesToRoot() {
-		root.getChildren().addAll(shieldImage); // Add shield to the root
+		effectsLayer.getChildren().addAll(shieldImage); // Add shield to the effects layer
 	}
 
 	/**
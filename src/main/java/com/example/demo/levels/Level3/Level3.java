@@ -1,15 +1,22 @@
 package com.example.demo.levels.Level3;
 
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.activityManagers.SpawnArea;
+import com.example.demo.activityManagers.collision.BroadPhase;
+import com.example.demo.activityManagers.collision.UniformGridBroadPhase;
+import com.example.demo.actors.ActorPools;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.enemyPlanes.EnemyRocket;
 import com.example.demo.actors.Planes.friendlyPlanes.UserTank;
-import com.example.demo.actors.additionalUnits.Coins;
 import com.example.demo.actors.additionalUnits.Magnet;
+import com.example.demo.displays.RenderLayer;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelView;
 import javafx.scene.Scene;
 import javafx.scene.image.ImageView;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Represents Level 3 in the game, extending LevelParent to define specific gameplay mechanics.
  */
@@ -18,22 +25,7 @@ public class Level3 extends LevelParent {
     /**
      * The background image file path for Level 3.
      */
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level3Background.jpg";
-
-    /**
-     * The initial health of the player at the start of Level 3.
-     */
-    private static final int PLAYER_INITIAL_HEALTH = 5;
-
-    /**
-     * The initial bullet count of the player at the start of Level 3.
-     */
-    private static final int PLAYER_BULLET_COUNT = 70;
-
-    /**
-     * The time (in seconds) the player needs to survive in Level 3.
-     */
-    private static final int SURVIVAL_TIME_SECONDS = 45;
+    static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level3Background.jpg";
 
     /**
      * The user-controlled tank in Level 3.
@@ -60,28 +52,37 @@ public class Level3 extends LevelParent {
      */
     private int remainingTime;
 
+    /**
+     * The area coins are spawned in, along the whole right edge of the screen.
+     */
+    private final SpawnArea coinSpawnArea;
+
     /**
      * Constructs the Level3 object with the given screen dimensions.
      *
      * @param screenHeight the height of the screen
      * @param screenWidth  the width of the screen
+     * @param definition   the tunable numbers of the level, such as the survival time and rocket spawn rule
      */
-    public Level3(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, PLAYER_BULLET_COUNT);
-        this.user = new UserTank(PLAYER_INITIAL_HEALTH, PLAYER_BULLET_COUNT);
+    public Level3(double screenHeight, double screenWidth, LevelDefinition definition) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, definition);
+        this.user = new UserTank(definition.getInt("player.health"), definition.getInt("player.bullets"));
         this.background = getBackground();
-        this.remainingTime = SURVIVAL_TIME_SECONDS;
+        this.remainingTime = definition.getInt("win.survivalSeconds");
         this.magnetRadius = 500;
+        this.coinSpawnArea = new SpawnArea(screenWidth, screenWidth, 0, getEnemyMaximumYPosition());
+        // Rockets are not capped by how many are on screen, only by how often they are fired
+        spawnDirector.addSpawner(definition.getSpawnRule("rocket"), () -> 0, this::spawnEnemyRockets);
         initializeLevel(this, user);
     }
 
     /**
-     * Updates the game state by spawning enemies, updating the view, and checking game conditions.
+     * Updates the game state by updating the level, which spawns enemies, updating the view, and checking game
+     * conditions.
      */
     @Override
     public void update() {
         super.update();
-        spawnEnemyUnits();
         updateLevelView();
         updateSurvivalTimer();
         checkGameOverConditions();
@@ -107,6 +108,17 @@ public class Level3 extends LevelParent {
         return (remainingTime == 0); // Win condition specific to this level
     }
 
+    /**
+     * Rockets and magnets arrive from all four sides in this level, so sorting along a single axis
+     * prunes little. A uniform grid is used instead.
+     *
+     * @return A new {@link UniformGridBroadPhase}.
+     */
+    @Override
+    protected BroadPhase instantiateBroadPhase() {
+        return new UniformGridBroadPhase();
+    }
+
     /**
      * Instantiates and returns the level view for Level 3.
      *
@@ -114,7 +126,8 @@ public class Level3 extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewLevelThree(getRoot(), PLAYER_INITIAL_HEALTH, PLAYER_BULLET_COUNT, SURVIVAL_TIME_SECONDS, 0);
+        levelView = new LevelViewLevelThree(getLayer(RenderLayer.HUD), getDefinition().getInt("player.health"),
+                getDefinition().getInt("player.bullets"), getDefinition().getInt("win.survivalSeconds"), 0);
         return levelView;
     }
 
@@ -128,17 +141,21 @@ public class Level3 extends LevelParent {
     }
 
     /**
-     * Spawns enemy rockets at random directions and positions on the screen.
+     * Spawns enemy rockets at random directions and positions on the screen. Called by the spawn director with the
+     * number of rockets due.
+     *
+     * @param count the number of rockets to spawn
      */
-    @Override
-    protected void spawnEnemyUnits() {
-        if (Math.random() < 0.05) { // Adjust the probability of firing
-            int direction = (int) (Math.random() * 4); // 0: North, 1: East, 2: South, 3: West
+    private void spawnEnemyRockets(int count) {
+        RandomGenerator random = getRandomStreams().level();
+        ActorPools actorPools = ActorPools.getInstance();
+        for (int i = 0; i < count; i++) {
+            int direction = random.nextInt(4); // 0: North, 1: East, 2: South, 3: West
             GameEntity newEnemyRocket = switch (direction) {
-                case 0 -> new EnemyRocket(screenWidth / 2 - 50, 0, direction);
-                case 1 -> new EnemyRocket(screenWidth, screenHeight / 2 - 80, direction);
-                case 2 -> new EnemyRocket(screenWidth / 2 - 50, screenHeight, direction);
-                case 3 -> new EnemyRocket(0, screenHeight / 2 - 80, direction);
+                case 0 -> actorPools.acquireEnemyRocket(screenWidth / 2 - 50, 0, direction);
+                case 1 -> actorPools.acquireEnemyRocket(screenWidth, screenHeight / 2 - 80, direction);
+                case 2 -> actorPools.acquireEnemyRocket(screenWidth / 2 - 50, screenHeight, direction);
+                case 3 -> actorPools.acquireEnemyRocket(0, screenHeight / 2 - 80, direction);
                 default -> null; // Fallback
             };
             if (newEnemyRocket != null) {
@@ -148,11 +165,15 @@ public class Level3 extends LevelParent {
     }
 
     /**
-     * Spawns a magnet at a random position with a certain probability.
+     * Spawns magnets at one of the screen edges each. Called by the spawn director with the number of magnets due.
+     *
+     * @param count the number of magnets to spawn
      */
-    protected void spawnMagnet() {
-        if (Math.random() < 0.009) { // Adjust the probability of spawning
-            int direction = (int) (Math.random() * 4); // 0: North, 1: East, 2: South, 3: West
+    @Override
+    protected void spawnMagnets(int count) {
+        RandomGenerator random = getRandomStreams().level();
+        for (int i = 0; i < count; i++) {
+            int direction = random.nextInt(4); // 0: North, 1: East, 2: South, 3: West
             GameEntity newMagnet = switch (direction) {
                 case 0 -> new Magnet(screenWidth / 2 - 50, 0, direction);
                 case 1 -> new Magnet(screenWidth, screenHeight / 2 - 80, direction);
@@ -167,15 +188,17 @@ public class Level3 extends LevelParent {
     }
 
     /**
-     * Spawns coins at random positions with a defined spawn probability and max count.
+     * Spawns coins at random positions along the whole right edge. Called by the spawn director with the number of
+     * coins due.
+     *
+     * @param count the number of coins to spawn
      */
-    protected void spawnCoinUnits() {
+    @Override
+    protected void spawnCoinUnits(int count) {
         currentNumberOfCoins += spawnHandler.spawnActors(
-                () -> new Coins(screenWidth, Math.random() * getEnemyMaximumYPosition(), magnetRadius), // Supplier for new coins
-                10, // Maximum spawn at a time
-                0.15, // Spawn probability
-                currentNumberOfCoins, // Current count
-                20 // Total allowed
+                (x, y) -> ActorPools.getInstance().acquireCoin(x, y, magnetRadius), // Factory for new coins
+                coinSpawnArea, // Where coins may appear
+                count // How many coins are due
         );
     }
 
@@ -209,20 +232,16 @@ public class Level3 extends LevelParent {
     }
 
     /**
-     * Handles the situation when enemies or other entities penetrate the player's defenses.
+     * Adjusts the counts when enemies or other entities leave the screen. Rockets and magnets come in from all four
+     * sides, so they are despawned whichever edge they leave through.
      */
     @Override
-    protected void handleDefensesPenetration() {
-        for (GameEntity actor : actorManager.getActiveActors()) {
-            if (entityHasPenetratedDefenses(actor)) {
-                if (actor instanceof EnemyRocket) {
-                    currentNumberOfEnemies--;
-                }
-                if (actor instanceof Magnet) {
-                    currentNumberOfMagnets = 0;
-                }
-                actor.takeDamage();
-            }
+    protected void handleEntityDespawned(GameEntity actor) {
+        if (actor instanceof EnemyRocket) {
+            currentNumberOfEnemies--;
+        }
+        if (actor instanceof Magnet) {
+            currentNumberOfMagnets = 0;
         }
     }
 
@@ -257,12 +276,12 @@ public class Level3 extends LevelParent {
     protected void checkGameOverConditions() {
         // Check if the user has lost
         if (hasLevelBeenLost()) {
-            overlayHandler.showRedeemLife(getRoot(), user);
+            overlayHandler.showRedeemLife(getLayer(RenderLayer.OVERLAY), user);
         }
 
         // Check if the user has won
         if (hasLevelBeenWon()) {
-            overlayHandler.handleLevelCompletion(getRoot(), user);
+            overlayHandler.handleLevelCompletion(getLayer(RenderLayer.OVERLAY), user);
         }
     }
 }
@@ -0,0 +1,66 @@
+package com.example.demo.levels.Level3;
+
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelProvider;
+
+/**
+ * Provides {@link Level3}, the third level of the game, to the level manager.
+ */
+public class Level3Provider implements LevelProvider {
+
+    /**
+     * Returns the number of the level.
+     *
+     * @return 3
+     */
+    @Override
+    public int getLevelNumber() {
+        return 3;
+    }
+
+    /**
+     * Returns the objective of the level.
+     *
+     * @return The level's aim.
+     */
+    @Override
+    public String getAim() {
+        return "The Enemy's friends have spotted you! Shoot them down from all 4 directions!";
+    }
+
+    /**
+     * Returns the instructions for the level.
+     *
+     * @return The level's instructions.
+     */
+    @Override
+    public String getInstructions() {
+        return "→ Use arrow keys to change direction.\n" +
+                "→ SPACE to shoot projectiles.\n" +
+                "→ Remember to collect coins and the magnets!";
+    }
+
+    /**
+     * Returns the resource path of the level's background image.
+     *
+     * @return The path of the background image.
+     */
+    @Override
+    public String getBackgroundImageName() {
+        return Level3.BACKGROUND_IMAGE_NAME;
+    }
+
+    /**
+     * Builds a new instance of {@link Level3}.
+     *
+     * @param definition   The level's definition.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     * @return The new level.
+     */
+    @Override
+    public LevelParent createLevel(LevelDefinition definition, double screenHeight, double screenWidth) {
+        return new Level3(screenHeight, screenWidth, definition);
+    }
+}
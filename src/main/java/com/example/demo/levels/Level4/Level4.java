@@ -1,9 +1,15 @@
 package com.example.demo.levels.Level4;
 
+import com.example.demo.activityManagers.DespawnHandler;
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.activityManagers.SpawnArea;
+import com.example.demo.actors.ActorPools;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.enemyPlanes.EnemyRocket;
 import com.example.demo.actors.Planes.friendlyPlanes.UserPlane;
 import com.example.demo.actors.additionalUnits.*;
+import com.example.demo.displays.RenderLayer;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelView;
 import javafx.scene.Scene;
@@ -16,22 +22,22 @@ import javafx.scene.image.ImageView;
 public class Level4 extends LevelParent {
 
     /** The background image for level 4. */
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level4Background.jpg";
+    static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/level4Background.jpg";
 
-    /** The initial health of the player at the start of the level. */
-    private static final int PLAYER_INITIAL_HEALTH = 5;
+    /** The dimensions of obstacles. */
+    private static double OBSTACLE_DIMENSIONS = Obstacle.getDimensions();
 
-    /** The amount of time the player must survive in seconds. */
-    private static final int SURVIVAL_TIME_SECONDS = 45;
+    /** The area enemy rockets are spawned in, along the right edge of the upper half of the screen. */
+    private final SpawnArea enemySpawnArea;
 
-    /** The fuel capacity of the player at the start of the level. */
-    private static final int PLAYER_FUEL_CAPACITY = 8;
+    /** The area fuel tokens are spawned in, across the upper half of the screen. */
+    private final SpawnArea fuelSpawnArea;
 
-    /** The initial bullet count for the player at the start of the level. */
-    private static final int PLAYER_BULLET_COUNT = 100;
+    /** The area obstacles are spawned in, a single position in the bottom-right corner. */
+    private final SpawnArea obstacleSpawnArea;
 
-    /** The dimensions of obstacles. */
-    private static double OBSTACLE_DIMENSIONS = Obstacle.getDimensions();
+    /** The number of seconds left on the survival timer when the finish line appears. */
+    private final int finishLineSecondsLeft;
 
     /** The UserPlane instance representing the player's aircraft. */
     private final UserPlane user;
@@ -62,22 +68,39 @@ public class Level4 extends LevelParent {
      *
      * @param screenHeight The height of the screen for the game.
      * @param screenWidth The width of the screen for the game.
+     * @param definition The tunable numbers of the level, such as the fuel capacity and survival time.
      */
-    public Level4(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, PLAYER_BULLET_COUNT);
+    public Level4(double screenHeight, double screenWidth, LevelDefinition definition) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, definition);
         this.user = getUser();
-        user.setFuelCapacity(PLAYER_FUEL_CAPACITY);
+        user.setFuelCapacity(definition.getInt("player.fuel"));
         this.background = getBackground();
 
-        this.remainingTime = SURVIVAL_TIME_SECONDS;
+        double upperHalfMaximumY = getEnemyMaximumYPosition() / 2;
+        this.enemySpawnArea = new SpawnArea(screenWidth, screenWidth, 50, upperHalfMaximumY);
+        this.fuelSpawnArea = new SpawnArea(0, screenWidth / 0.75, 50, upperHalfMaximumY);
+        // Fuel tokens may be spawned up to a third of a screen to the right, and must fly in before they count as gone
+        despawnHandler.setMargin(CollisionCategory.FUEL, screenWidth / 0.75 - screenWidth + DespawnHandler.DEFAULT_MARGIN);
+        this.obstacleSpawnArea = new SpawnArea(screenWidth - OBSTACLE_DIMENSIONS, screenWidth - OBSTACLE_DIMENSIONS,
+                screenHeight - OBSTACLE_DIMENSIONS, screenHeight - OBSTACLE_DIMENSIONS);
+
+        spawnDirector.addSpawner(definition.getSpawnRule("enemy"), () -> currentNumberOfEnemies,
+                this::spawnEnemyRockets);
+        spawnDirector.addSpawner(definition.getSpawnRule("fuel"), () -> currentNumberOfFuelTokens,
+                this::spawnFuelUnits);
+        spawnDirector.addSpawner(definition.getSpawnRule("obstacle"), () -> currentNumberOfObstacles,
+                this::spawnObstacleUnits);
+
+        this.remainingTime = definition.getInt("win.survivalSeconds");
+        this.finishLineSecondsLeft = definition.getInt("finishLine.secondsLeft");
         this.isFinishLineSpawned = false;
 
         initializeLevel(this, user);
     }
 
     /**
-     * Updates the state of the level. This method spawns enemies, fuel tokens, obstacles,
-     * and the finish line while updating the survival timer.
+     * Updates the state of the level. This method spawns the finish line while updating the survival timer; enemies,
+     * fuel tokens and obstacles are spawned by the spawn director as the level updates.
      */
     @Override
     public void update() {
@@ -85,15 +108,11 @@ public class Level4 extends LevelParent {
         updateLevelView();
         updateSurvivalTimer();
 
-        // If 7 seconds are left, spawn the finish line
-        if (remainingTime == 7 && !isFinishLineSpawned) {
+        // When the finish line is due, spawn it
+        if (remainingTime == finishLineSecondsLeft && !isFinishLineSpawned) {
             spawnFinishLine();
             isFinishLineSpawned = true; // Set the flag to prevent further spawns
-        } else {
-            spawnEnemyUnits();
-            spawnFuelUnits();
         }
-        spawnObstacleUnits();
     }
 
     /**
@@ -137,7 +156,8 @@ public class Level4 extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewLevelFour(getRoot(), PLAYER_INITIAL_HEALTH, PLAYER_FUEL_CAPACITY, PLAYER_BULLET_COUNT, getUser().getCoinsCollected());
+        levelView = new LevelViewLevelFour(getLayer(RenderLayer.HUD), getDefinition().getInt("player.health"),
+                getDefinition().getInt("player.fuel"), getDefinition().getInt("player.bullets"), getUser().getCoinsCollected());
         return levelView;
     }
 
@@ -151,42 +171,41 @@ public class Level4 extends LevelParent {
     }
 
     /**
-     * Spawns enemy units in the level. This method controls the spawning of enemy rockets.
+     * Spawns enemy rockets in the level. Called by the spawn director with the number of rockets due.
+     *
+     * @param count The number of rockets to spawn.
      */
-    @Override
-    protected void spawnEnemyUnits() {
+    protected void spawnEnemyRockets(int count) {
         currentNumberOfEnemies += spawnHandler.spawnActors(
-                () -> new EnemyRocket(screenWidth, (100 + (Math.random() * (getEnemyMaximumYPosition() - 100)))/2, 1), // Supplier for new enemies
-                5, // Maximum spawn at a time
-                0.03, // Spawn probability
-                currentNumberOfEnemies, // Current count
-                5 // Total allowed
+                (x, y) -> ActorPools.getInstance().acquireEnemyRocket(x, y, 1), // Factory for new enemies
+                enemySpawnArea, // Where enemies may appear
+                count // How many enemies are due
         );
     }
 
     /**
-     * Spawns fuel tokens in the level.
+     * Spawns fuel tokens in the level. Called by the spawn director with the number of fuel tokens due.
+     *
+     * @param count The number of fuel tokens to spawn.
      */
-    protected void spawnFuelUnits() {
+    protected void spawnFuelUnits(int count) {
         currentNumberOfFuelTokens += spawnHandler.spawnActors(
-                () -> new FuelToken(screenWidth / 0.75 * Math.random(), (100 + (Math.random() * (getEnemyMaximumYPosition() - 100)))/2), // Supplier for new enemies
-                4, // Maximum spawn at a time
-                0.2, // Spawn probability
-                currentNumberOfFuelTokens, // Current count
-                10 // Total allowed
+                FuelToken::new, // Factory for new fuel tokens
+                fuelSpawnArea, // Where fuel tokens may appear
+                count // How many fuel tokens are due
         );
     }
 
     /**
-     * Spawns obstacles in the level.
+     * Spawns obstacles in the level. Called by the spawn director with the number of obstacles due.
+     *
+     * @param count The number of obstacles to spawn.
      */
-    protected void spawnObstacleUnits() {
+    protected void spawnObstacleUnits(int count) {
         currentNumberOfObstacles += spawnHandler.spawnActors(
-                () -> new Obstacle(screenWidth - OBSTACLE_DIMENSIONS, screenHeight - OBSTACLE_DIMENSIONS), // Supplier for new enemies
-                5, // Maximum spawn at a time
-                0.06, // Spawn probability
-                currentNumberOfObstacles, // Current count
-                10 // Total allowed
+                Obstacle::new, // Factory for new obstacles
+                obstacleSpawnArea, // Where obstacles may appear
+                count // How many obstacles are due
         );
     }
 
@@ -199,34 +218,28 @@ public class Level4 extends LevelParent {
     }
 
     /**
-     * Handles the penetration of defenses by actors (e.g., coins, enemy rockets, fuel tokens, obstacles, magnets).
-     * If an actor penetrates defenses, appropriate actions are taken.
+     * Adjusts the counts when actors (e.g., coins, enemy rockets, fuel tokens, obstacles, magnets) leave the screen
+     * and are despawned.
      */
     @Override
-    protected void handleDefensesPenetration() {
-        for (GameEntity actor : actorManager.getActiveActors()) {
-            if (entityHasPenetratedDefenses(actor)) {
-                if (actor instanceof Coins) {
-                    currentNumberOfCoins--;
-                }
-                else if (actor instanceof EnemyRocket) {
-                    if (currentNumberOfEnemies > 0) {
-                        currentNumberOfEnemies--;
-                    }
-                }
-                else if (actor instanceof FuelToken) {
-                    currentNumberOfFuelTokens--;
-                }
-                else if (actor instanceof Obstacle) {
-                    currentNumberOfObstacles--;
-                    actorManager.removeActor(actor);
-                }
-                else if (actor instanceof Magnet) {
-                    currentNumberOfMagnets--;
-                }
-                actor.takeDamage();
+    protected void handleEntityDespawned(GameEntity actor) {
+        if (actor instanceof Coins) {
+            currentNumberOfCoins--;
+        }
+        else if (actor instanceof EnemyRocket) {
+            if (currentNumberOfEnemies > 0) {
+                currentNumberOfEnemies--;
             }
         }
+        else if (actor instanceof FuelToken) {
+            currentNumberOfFuelTokens--;
+        }
+        else if (actor instanceof Obstacle) {
+            currentNumberOfObstacles--;
+        }
+        else if (actor instanceof Magnet) {
+            currentNumberOfMagnets--;
+        }
     }
 
     /**
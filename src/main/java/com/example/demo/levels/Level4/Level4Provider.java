@@ -0,0 +1,67 @@
+package com.example.demo.levels.Level4;
+
+import com.example.demo.activityManagers.LevelDefinition;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelProvider;
+
+/**
+ * Provides {@link Level4}, the fourth level of the game, to the level manager.
+ */
+public class Level4Provider implements LevelProvider {
+
+    /**
+     * Returns the number of the level.
+     *
+     * @return 4
+     */
+    @Override
+    public int getLevelNumber() {
+        return 4;
+    }
+
+    /**
+     * Returns the objective of the level.
+     *
+     * @return The level's aim.
+     */
+    @Override
+    public String getAim() {
+        return "Plane is OUT OF FUEL! Collect fuel to survive until you reach the finish line!";
+    }
+
+    /**
+     * Returns the instructions for the level.
+     *
+     * @return The level's instructions.
+     */
+    @Override
+    public String getInstructions() {
+        return "→ UP arrow key to move.\n" +
+                "→ Plane automatically descends when UP key released.\n" +
+                "→ SPACE to shoot projectiles.\n" +
+                "→ Remember to collect coins and the magnets!";
+    }
+
+    /**
+     * Returns the resource path of the level's background image.
+     *
+     * @return The path of the background image.
+     */
+    @Override
+    public String getBackgroundImageName() {
+        return Level4.BACKGROUND_IMAGE_NAME;
+    }
+
+    /**
+     * Builds a new instance of {@link Level4}.
+     *
+     * @param definition   The level's definition.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     * @return The new level.
+     */
+    @Override
+    public LevelParent createLevel(LevelDefinition definition, double screenHeight, double screenWidth) {
+        return new Level4(screenHeight, screenWidth, definition);
+    }
+}
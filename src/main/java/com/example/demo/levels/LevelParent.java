@@ -1,9 +1,18 @@
 package com.example.demo.levels;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import com.example.demo.activityManagers.*;
 import com.example.demo.activityManagers.UserStatsManager;
+import com.example.demo.activityManagers.collision.BroadPhase;
+import com.example.demo.activityManagers.collision.SweepAndPruneBroadPhase;
+import com.example.demo.activityManagers.events.GameEventBus;
+import com.example.demo.activityManagers.events.GameEventType;
+import com.example.demo.activityManagers.profiling.FrameProfiler;
+import com.example.demo.activityManagers.replay.ReplayManager;
+import com.example.demo.actors.ActorPools;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.Planes.friendlyPlanes.UserParent;
 import com.example.demo.actors.Updatable;
 import com.example.demo.actors.GameEntity;
@@ -12,9 +21,13 @@ import com.example.demo.actors.Planes.friendlyPlanes.UserPlane;
 import com.example.demo.actors.additionalUnits.Coins;
 import com.example.demo.actors.additionalUnits.Magnet;
 import com.example.demo.controller.GameLoop;
+import com.example.demo.displays.ProfilerOverlay;
+import com.example.demo.displays.RenderLayer;
+import com.example.demo.displays.SceneLayers;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.*;
+import javafx.scene.input.KeyCode;
 
 
 /**
@@ -33,6 +46,9 @@ public abstract class LevelParent implements Updatable {
 	/** Constant used to adjust the maximum Y position for enemies */
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 
+	/** The key that shows and hides the profiler overlay */
+	private static final KeyCode PROFILER_TOGGLE_KEY = KeyCode.F3;
+
 	/** The height of the screen for this level */
 	protected final double screenHeight;
 
@@ -45,6 +61,9 @@ public abstract class LevelParent implements Updatable {
 	/** The root node of the scene for rendering the game elements */
 	private final Group root;
 
+	/** The layer groups of the scene, one per {@link RenderLayer}, from the background to the overlays */
+	private final SceneLayers sceneLayers;
+
 	/** The user plane controlled by the player */
 	public final UserPlane user;
 
@@ -63,12 +82,36 @@ public abstract class LevelParent implements Updatable {
 	/** The collision handler for detecting and handling collisions */
 	public final CollisionHandler collisionHandler;
 
+	/** The bus collisions publish kills, pickups and lost lives on, drained once per update */
+	private final GameEventBus eventBus = new GameEventBus();
+
 	/** The level manager, handling level progression */
 	public final LevelManager levelManager;
 
 	/** The spawn handler for spawning game entities like enemies */
 	protected SpawnHandler spawnHandler;
 
+	/** The spawn director deciding when coins, magnets and the subclasses' units spawn */
+	protected final SpawnDirector spawnDirector;
+
+	/** The despawn handler removing actors that have left the screen in any direction */
+	public final DespawnHandler despawnHandler;
+
+	/** Callback passed to the despawn handler, kept in a field so no lambda is allocated per frame */
+	private final Consumer<GameEntity> despawnListener = this::handleEntityDespawned;
+
+	/** The area coins are spawned in, along the right edge of the screen */
+	private final SpawnArea coinSpawnArea;
+
+	/** The area magnets are spawned in, along the right edge of the screen */
+	private final SpawnArea magnetSpawnArea;
+
+	/** The tunable numbers of this level, read from its definition file */
+	private final LevelDefinition definition;
+
+	/** The random streams every random decision in this level is drawn from */
+	private final RandomStreams randomStreams;
+
 	/** The user stats manager that tracks player statistics like health and score */
 	public final UserStatsManager userStatsManager;
 
@@ -105,21 +148,28 @@ public abstract class LevelParent implements Updatable {
 	/** The frame count used to track the magnet effect's duration */
 	public int frameCount;
 
+	/** The debug overlay showing the frame profiler's measurements, toggled with {@link #PROFILER_TOGGLE_KEY} */
+	private final ProfilerOverlay profilerOverlay;
+
 	/**
 	 * Constructor for the {@code LevelParent} class.
 	 * Initializes the level with the given parameters and sets up various game handlers and managers.
+	 * The player's initial health and bullet count, and the coin and magnet spawn rules, are read from the definition,
+	 * which also seeds the level's {@link RandomStreams} unless the level is being replayed.
 	 *
 	 * @param backgroundImageName The background image for the level.
 	 * @param screenHeight The height of the screen.
 	 * @param screenWidth The width of the screen.
-	 * @param playerInitialHealth The initial health of the player.
-	 * @param playerBulletCount The initial bullet count for the player.
+	 * @param definition The tunable numbers of the level.
 	 */
-	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, int playerBulletCount) {
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, LevelDefinition definition) {
+		this.definition = definition;
+		this.randomStreams = ReplayManager.getInstance().createRandomStreams(definition);
 		this.root = new Group();
+		this.sceneLayers = new SceneLayers(root);
 		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.user = new UserPlane(playerInitialHealth, playerBulletCount);
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.user = new UserPlane(definition.getInt("player.health"), definition.getInt("player.bullets"));
+		this.background = new ImageView(ImageCache.getInstance().getImage(backgroundImageName));
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
 		this.levelView = instantiateLevelView();
 		this.currentNumberOfEnemies = 0;
@@ -128,29 +178,42 @@ public abstract class LevelParent implements Updatable {
 		this.magnetismActivated = false;
 		this.magnetRadius = 300;
 		this.frameCount = 0;
+		this.profilerOverlay = new ProfilerOverlay(5, 130);
 
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 
 		this.levelStateHandler = new LevelStateHandler();
-		this.collisionHandler = new CollisionHandler(this);
+		this.collisionHandler = new CollisionHandler(eventBus);
+		this.collisionHandler.setBroadPhase(instantiateBroadPhase());
 		this.actorManager = ActorManager.getInstance();
 		this.levelManager = LevelManager.getInstance();
-		this.spawnHandler = new SpawnHandler(actorManager, screenWidth, screenHeight);
+		this.spawnHandler = new SpawnHandler(actorManager, screenWidth, screenHeight, randomStreams.spawning());
+		this.spawnDirector = new SpawnDirector(randomStreams.spawning());
+		spawnDirector.addSpawner(definition.getSpawnRule("coin"), () -> currentNumberOfCoins, this::spawnCoinUnits);
+		spawnDirector.addSpawner(definition.getSpawnRule("magnet"), () -> currentNumberOfMagnets, this::spawnMagnets)
+				.onlyWhile(() -> !magnetismActivated);
+		this.despawnHandler = new DespawnHandler(actorManager, screenWidth, screenHeight);
+		this.coinSpawnArea = new SpawnArea(screenWidth, screenWidth, 100, enemyMaximumYPosition);
+		this.magnetSpawnArea = new SpawnArea(screenWidth, screenWidth, 100, enemyMaximumYPosition);
 		this.userStatsManager = UserStatsManager.getInstance();
 		this.inputHandler = new InputHandler();
 		this.overlayHandler = OverlayHandler.getInstance();
 		this.audioHandler = AudioHandler.getInstance();
+		eventBus.subscribe(this::handleGameEvent, GameEventType.KILL, GameEventType.COIN_COLLECTED,
+				GameEventType.MAGNET_PICKED, GameEventType.FUEL_PICKED);
+		audioHandler.subscribeTo(eventBus);
 
-		levelView.pauseButton.setOnAction(event -> overlayHandler.handleLevelPaused(root, user));
+		levelView.pauseButton.setOnAction(event -> overlayHandler.handleLevelPaused(getLayer(RenderLayer.OVERLAY), user));
 		initializeActorManager();
 	}
 
 	/**
-	 * Abstract method to spawn enemy units in the level.
-	 * This method should be implemented by subclasses to define how enemies are spawned.
+	 * Spawns enemy units that are not left to the {@link #spawnDirector}, such as a boss. Called on every update;
+	 * does nothing by default, as most levels add their enemies to the spawn director in their constructor.
 	 */
-	protected abstract void spawnEnemyUnits();
+	protected void spawnEnemyUnits() {
+	}
 
 	/**
 	 * Abstract method to instantiate the {@link LevelView} for this level.
@@ -160,31 +223,47 @@ public abstract class LevelParent implements Updatable {
 	 */
 	protected abstract LevelView instantiateLevelView();
 
+	/**
+	 * Creates the {@link BroadPhase} used by the collision handler of this level.
+	 * Most levels scroll horizontally, which suits sweep-and-prune along the X axis;
+	 * levels with actors arriving from every direction can override this to use a uniform grid.
+	 *
+	 * @return A new {@link BroadPhase} for this level.
+	 */
+	protected BroadPhase instantiateBroadPhase() {
+		return new SweepAndPruneBroadPhase();
+	}
+
 	/**
 	 * Initializes the scene by setting up the background, input handlers, and displaying the UI components.
+	 * The profiler overlay is added hidden; {@link #PROFILER_TOGGLE_KEY} shows and hides it in every level.
 	 *
 	 * @return The initialized scene for the level.
 	 */
 	public Scene initializeScene() {
 		setupBackground();
 		setUpInputHandler();
+		inputHandler.addKeyAction(PROFILER_TOGGLE_KEY, entity -> profilerOverlay.toggle(), null);
 		levelView.showUIComponents();
+		getLayer(RenderLayer.HUD).getChildren().add(profilerOverlay.getContainer());
 		return scene;
 	}
 
 	/**
-	 * Sets up the root in actorManager class
+	 * Sets up the scene layers actors are drawn in, in the actorManager class
 	 */
 	private void initializeActorManager() {
-		actorManager.setRoot(root);
+		actorManager.setSceneLayers(sceneLayers);
 	}
 
 	/**
-	 * Starts the game by playing the game loop.
+	 * Starts the game by playing the game loop. If the level is being recorded or replayed, the
+	 * {@link ReplayManager} attaches to its input first.
 	 */
 	public void startGame() {
 		background.requestFocus();
-		GameLoop.getInstance().getTimeline().play();
+		ReplayManager.getInstance().attach(inputHandler, user);
+		GameLoop.getInstance().play();
 	}
 
 	/**
@@ -195,12 +274,12 @@ public abstract class LevelParent implements Updatable {
 		if (!user.isCollisionCooldownActive()) {
 			checkCollisions();
 		}
-		spawnCoinUnits();
+		eventBus.drain();
+		spawnDirector.update();
+		spawnEnemyUnits();
 		checkGameOverConditions();
 		handleDefensesPenetration();
-		if (!magnetismActivated) {
-			spawnMagnet();
-		}
+		profilerOverlay.refresh(actorManager, collisionHandler);
 	}
 
 	/**
@@ -210,7 +289,7 @@ public abstract class LevelParent implements Updatable {
 		background.setFocusTraversable(true);
 		background.setFitHeight(screenHeight);
 		background.setFitWidth(screenWidth);
-		root.getChildren().add(background);
+		getLayer(RenderLayer.BACKGROUND).getChildren().add(background);
 	}
 
 	/**
@@ -255,23 +334,24 @@ public abstract class LevelParent implements Updatable {
 	 * Generates enemy fire by creating projectiles for each enemy plane.
 	 */
 	protected void generateEnemyFire() {
-		actorManager.getActiveActors().forEach(actor -> {
-			if (actor instanceof EnemyPlane) {
-				spawnEnemyProjectile(((EnemyPlane) actor).fireProjectile());
+		List<GameEntity> enemies = actorManager.getEnemies();
+		for (int i = 0, size = enemies.size(); i < size; i++) {
+			if (enemies.get(i) instanceof EnemyPlane enemyPlane) {
+				spawnEnemyProjectile(enemyPlane.fireProjectile());
 			}
-		});
+		}
 	}
 
 	/**
-	 * Spawns coin units in the level.
+	 * Spawns coin units in the level. Called by the {@link #spawnDirector} with the number of coins due.
+	 *
+	 * @param count The number of coins to spawn.
 	 */
-	protected void spawnCoinUnits() {
+	protected void spawnCoinUnits(int count) {
 		currentNumberOfCoins += spawnHandler.spawnActors(
-				() -> new Coins(screenWidth, 100 + (Math.random() * (getEnemyMaximumYPosition() - 100)), magnetRadius), // Supplier for new coins
-				5, // Maximum spawn at a time
-				0.15, // Spawn probability
-				currentNumberOfCoins, // Current count
-				20 // Total allowed
+				(x, y) -> ActorPools.getInstance().acquireCoin(x, y, magnetRadius), // Factory for new coins
+				coinSpawnArea, // Where coins may appear
+				count // How many coins are due
 		);
 	}
 
@@ -287,34 +367,71 @@ public abstract class LevelParent implements Updatable {
 	}
 
 	/**
-	 * Spawns magnet units in the level.
+	 * Spawns magnet units in the level. Called by the {@link #spawnDirector} with the number of magnets due, while
+	 * no magnet is active.
+	 *
+	 * @param count The number of magnets to spawn.
 	 */
-	protected void spawnMagnet() {
+	protected void spawnMagnets(int count) {
 		currentNumberOfMagnets += spawnHandler.spawnActors(
-				() -> new Magnet(screenWidth, 100 + (Math.random() * (getEnemyMaximumYPosition() - 100)), 1), // Supplier for new magnets
-				1, // Maximum spawn at a time
-				1, // Spawn probability
-				currentNumberOfMagnets, // Current count
-				2 // Total allowed
+				(x, y) -> new Magnet(x, y, 1), // Factory for new magnets
+				magnetSpawnArea, // Where magnets may appear
+				count // How many magnets are due
 		);
 	}
 
 	/**
-	 * Handles the penetration of defenses by game entities, adjusting counts and dealing damage where appropriate.
+	 * Handles the penetration of defenses by game entities: every actor that has left the screen, in any direction,
+	 * is despawned by the {@link DespawnHandler} after {@link #handleEntityDespawned(GameEntity)} has adjusted the counts.
 	 */
 	protected void handleDefensesPenetration() {
-		for (GameEntity actor : actorManager.getActiveActors()) {
-			if (entityHasPenetratedDefenses(actor)) {
-				if (actor instanceof Coins) {
-					currentNumberOfCoins--;
-				}
-				if (actor instanceof EnemyPlane) {
+		despawnHandler.despawnOutsideWorld(actorManager.getActiveActors(), despawnListener);
+	}
+
+	/**
+	 * Adjusts the level's counts for an actor that is about to be despawned for leaving the screen.
+	 * Levels that track other kinds of actors override this.
+	 *
+	 * @param actor The actor being despawned.
+	 */
+	protected void handleEntityDespawned(GameEntity actor) {
+		if (actor instanceof Coins) {
+			currentNumberOfCoins--;
+		}
+		if (actor instanceof EnemyPlane) {
+			currentNumberOfEnemies--;
+		}
+		if (actor instanceof Magnet) {
+			currentNumberOfMagnets = 0;
+		}
+	}
+
+	/**
+	 * Applies a gameplay event drained from the level's {@link GameEventBus}: kills and collected coins update the
+	 * player's stats and the level's counts, fuel tokens refill the user's fuel and magnets start the magnet effect.
+	 * Lost lives and collected coins are also heard through the {@link AudioHandler}, which subscribes separately.
+	 *
+	 * @param type The type of the event.
+	 * @param source The actor the event is about.
+	 */
+	private void handleGameEvent(GameEventType type, GameEntity source) {
+		switch (type) {
+			case KILL -> {
+				actorManager.getUserVehicle().incrementKillCount();
+				// Decrease the number of enemies if applicable
+				if (currentNumberOfEnemies > 0) {
 					currentNumberOfEnemies--;
 				}
-				if (actor instanceof Magnet) {
-					currentNumberOfMagnets = 0;
+			}
+			case COIN_COLLECTED -> {
+				((UserParent) source).incrementCoinsCollected();
+				if (currentNumberOfCoins > 0) {
+					currentNumberOfCoins--;
 				}
-				actor.takeDamage();
+			}
+			case FUEL_PICKED -> ((UserParent) source).incrementFuelLeft();
+			case MAGNET_PICKED -> activateMagnet();
+			default -> {
 			}
 		}
 	}
@@ -328,13 +445,13 @@ public abstract class LevelParent implements Updatable {
 	}
 
 	/**
-	 * Checks if a game entity has penetrated the defenses (i.e., gone beyond the screen boundaries).
+	 * Checks if a game entity has penetrated the defenses (i.e., gone beyond the screen boundaries on either axis).
 	 *
 	 * @param actor The game entity to check.
 	 * @return {@code true} if the entity has penetrated defenses, {@code false} otherwise.
 	 */
 	protected boolean entityHasPenetratedDefenses(GameEntity actor) {
-		return (((Math.abs(actor.getTranslateX()) > (screenWidth))));
+		return despawnHandler.isOutsideWorld(actor);
 	}
 
 	/**
@@ -355,6 +472,17 @@ public abstract class LevelParent implements Updatable {
 		return root;
 	}
 
+	/**
+	 * Gets the group of one layer of the scene. Nodes are drawn in front of every node of the layers before theirs,
+	 * so the head-up display goes in {@link RenderLayer#HUD} and overlays in {@link RenderLayer#OVERLAY}.
+	 *
+	 * @param layer The layer.
+	 * @return The layer's group.
+	 */
+	protected Group getLayer(RenderLayer layer) {
+		return sceneLayers.getLayer(layer);
+	}
+
 	/**
 	 * Gets the Imageview of the Background set.
 	 *
@@ -364,6 +492,36 @@ public abstract class LevelParent implements Updatable {
 		return background;
 	}
 
+	/**
+	 * Gets the tunable numbers of the level. Available from the start of construction, so it can be used by
+	 * {@link #instantiateLevelView()}.
+	 *
+	 * @return The level's definition.
+	 */
+	protected LevelDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Gets the bus the level's gameplay events are published on, so subclasses and other systems can subscribe.
+	 * Events are delivered once per update, right after collisions are checked.
+	 *
+	 * @return The level's event bus.
+	 */
+	public GameEventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Gets the random streams of the level. Level rules and the enemies they spawn must draw from these rather than
+	 * {@code Math.random()}, so that a seed replays the level exactly.
+	 *
+	 * @return The level's random streams.
+	 */
+	protected RandomStreams getRandomStreams() {
+		return randomStreams;
+	}
+
 	/**
 	 * Gets the maximum enemy Position on the Y AXIS.
 	 *
@@ -391,6 +549,7 @@ public abstract class LevelParent implements Updatable {
 	protected void initializeLevel(LevelParent level, UserParent user) {
 		actorManager.clearLevel();
 		actorManager.addActor(user);
+		FrameProfiler.getInstance().reset();
 		GameLoop.getInstance().clearUpdatable();
 		GameLoop.getInstance().addUpdatable(level);
 		GameLoop.getInstance().addUpdatable(actorManager);
@@ -403,12 +562,12 @@ public abstract class LevelParent implements Updatable {
 	protected void checkGameOverConditions() {
 		// Check if the user has lost
 		if (hasLevelBeenLost()) {
-			overlayHandler.showRedeemLife(root, user);
+			overlayHandler.showRedeemLife(getLayer(RenderLayer.OVERLAY), user);
 		}
 
 		// Check if the user has won
 		if (hasLevelBeenWon()) {
-			overlayHandler.handleLevelCompletion(root, user);
+			overlayHandler.handleLevelCompletion(getLayer(RenderLayer.OVERLAY), user);
 		}
 	}
 
@@ -437,12 +596,7 @@ public abstract class LevelParent implements Updatable {
 		magnetismActivated = true;
 		user.initiateMagnetActivated();
 
-		actorManager.getActiveActors().stream()
-				.filter(actor -> actor instanceof Coins) // Process all Coins
-				.map(actor -> (Coins) actor)
-				.forEach(coinInactive -> {
-					coinInactive.setMagnetActivated(true); // Ensure the magnet is activated for all coins
-				});
+		setMagnetActivatedOnCoins(true); // Ensure the magnet is activated for all coins
 
 		// Check if 7 frames have passed (140 * 50ms = 50000ms)
 		if (frameCount >= 140) {
@@ -455,14 +609,21 @@ public abstract class LevelParent implements Updatable {
 	 * Deactivates the magnet effect, stopping coins from being attracted to the player.
 	 */
 	public void deactivateMagnet() {
-		actorManager.getActiveActors().stream()
-				.filter(actor -> actor instanceof Coins) // Filter for coin instances
-				.map(actor -> (Coins) actor) // Cast to Coins
-				.forEach(coinActive -> {
-					coinActive.setMagnetActivated(false);
-				});
+		setMagnetActivatedOnCoins(false);
 		user.endMagnetActivated();
 		magnetismActivated = false; // Deactivate the magnet after 5 seconds
 		currentNumberOfMagnets = 0;
 	}
+
+	/**
+	 * Switches the magnet's pull on or off for every active coin.
+	 *
+	 * @param activated {@code true} to pull coins towards the user, {@code false} to release them.
+	 */
+	private void setMagnetActivatedOnCoins(boolean activated) {
+		List<GameEntity> coins = actorManager.getActors(CollisionCategory.COIN);
+		for (int i = 0, size = coins.size(); i < size; i++) {
+			((Coins) coins.get(i)).setMagnetActivated(activated);
+		}
+	}
 }
@@ -0,0 +1,66 @@
+package com.example.demo.levels;
+
+import com.example.demo.activityManagers.LevelDefinition;
+
+/**
+ * A service that describes one level of the game and builds it.
+ * <p>
+ * Providers are discovered with {@link java.util.ServiceLoader} when the
+ * {@link com.example.demo.activityManagers.LevelManager} is created: the levels of this module are declared with
+ * {@code provides} in {@code module-info.java} (and in {@code META-INF/services} for the class path), and a level pack
+ * on the module path can add more the same way. The level manager orders the levels by {@link #getLevelNumber()}, and
+ * the level start screen shows each level's aim and instructions, so neither needs to know the levels in advance.
+ * </p>
+ */
+public interface LevelProvider {
+
+    /**
+     * Returns the number of the level, which sets its place in the game, starting from 1.
+     *
+     * @return The level number.
+     */
+    int getLevelNumber();
+
+    /**
+     * Returns the objective of the level, shown on its start screen.
+     *
+     * @return The level's aim.
+     */
+    String getAim();
+
+    /**
+     * Returns the instructions for the level, shown on its start screen.
+     *
+     * @return The level's instructions, one per line.
+     */
+    String getInstructions();
+
+    /**
+     * Returns the resource path of the level's background image, so it can be loaded before the level is built.
+     *
+     * @return The path of the background image.
+     */
+    String getBackgroundImageName();
+
+    /**
+     * Returns the resource path of the level's definition file, which holds its tunable numbers: the player's starting
+     * health and bullets, its spawn rules and its win condition.
+     * By default this is {@code /com/example/demo/levels/level<number>.properties}.
+     *
+     * @return The path of the definition file.
+     * @see LevelDefinition
+     */
+    default String getDefinitionName() {
+        return "/com/example/demo/levels/level" + getLevelNumber() + ".properties";
+    }
+
+    /**
+     * Builds a new instance of the level. Called on the JavaFX application thread.
+     *
+     * @param definition   The level's definition, parsed from {@link #getDefinitionName()}.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     * @return The new level.
+     */
+    LevelParent createLevel(LevelDefinition definition, double screenHeight, double screenWidth);
+}
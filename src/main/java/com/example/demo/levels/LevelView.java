@@ -1,5 +1,7 @@
 package com.example.demo.levels;
 
+import com.example.demo.activityManagers.ImageCache;
+import com.example.demo.activityManagers.profiling.FrameProfiler;
 import com.example.demo.controller.AppStage;
 import com.example.demo.displays.DisplayHeart;
 import com.example.demo.displays.DisplayWinningParameter;
@@ -20,7 +22,22 @@ public class LevelView {
 	/** The Y position for displaying the heart icons on the screen. */
 	private static final double HEART_DISPLAY_Y_POSITION = 25;
 
-	/** The root node of the scene where UI components are added. */
+	/** The image shown on the pause button. */
+	private static final String PAUSE_BUTTON_IMAGE = "/com/example/demo/images/pauseButton.png";
+
+	/** The size of the pause button. */
+	private static final double PAUSE_BUTTON_SIZE = 100;
+
+	/** Every image the level views show next to a winning parameter, across all levels. */
+	private static final String[] PARAMETER_IMAGES = {
+			"/com/example/demo/images/killCount.png",
+			"/com/example/demo/images/ammoCount.png",
+			"/com/example/demo/images/coin.png",
+			"/com/example/demo/images/fuelIcon.png",
+			"/com/example/demo/images/fuelTimer.png"
+	};
+
+	/** The group UI components are added to, the level's HUD layer. */
 	private final Group root;
 
 	/** The display component for showing the player's health as hearts. */
@@ -32,11 +49,14 @@ public class LevelView {
 	/** The pause button for pausing the game. */
 	public Button pauseButton;
 
+	/** The profiler timing the HUD updates. */
+	private final FrameProfiler profiler = FrameProfiler.getInstance();
+
 	/**
 	 * Constructor to initialize the LevelView with necessary components such as heart display,
 	 * winning parameters display, and a pause button.
 	 *
-	 * @param root The root node of the scene where the UI components will be added.
+	 * @param root The group the UI components will be added to, the level's HUD layer.
 	 * @param heartsToDisplay The number of hearts to display based on the player's health.
 	 * @param bulletCount The current bullet count to be displayed.
 	 * @param coinsCollected The current number of coins collected to be displayed.
@@ -48,7 +68,17 @@ public class LevelView {
 				"/com/example/demo/images/killCount.png", 0, // Initialize kill count display
 				"/com/example/demo/images/ammoCount.png", bulletCount, // Initialize ammo count display
 				"/com/example/demo/images/coin.png", coinsCollected); // Initialize coins collected display
-		this.pauseButton = ButtonFactory.createImageButton(("/com/example/demo/images/pauseButton.png"), 100, 100); // Initialize the pause button
+		this.pauseButton = ButtonFactory.createImageButton(PAUSE_BUTTON_IMAGE, PAUSE_BUTTON_SIZE, PAUSE_BUTTON_SIZE); // Initialize the pause button
+	}
+
+	/**
+	 * Decodes every image used by the heads-up display of any level, at the size it is shown at, so building a level
+	 * view only reads from the image cache. Safe to call from a background thread.
+	 */
+	public static void preloadImages() {
+		DisplayHeart.preloadImage();
+		DisplayWinningParameter.preloadImages(PARAMETER_IMAGES);
+		ImageCache.getInstance().preload(PAUSE_BUTTON_IMAGE, PAUSE_BUTTON_SIZE, PAUSE_BUTTON_SIZE);
 	}
 
 	/**
@@ -57,7 +87,9 @@ public class LevelView {
 	 * @param userHealth The current health of the user.
 	 */
 	public void updateHeartDisplay(int userHealth) {
+		long start = profiler.start();
 		heartDisplay.syncHeartsWithUserHealth(userHealth); // Update hearts based on current health
+		profiler.stop(FrameProfiler.Phase.HUD, start);
 	}
 
 	/**
@@ -68,9 +100,11 @@ public class LevelView {
 	 * @param parameterValue3 The value to display for the third parameter (e.g., coins collected).
 	 */
 	public void updateWinningParameterDisplay(int parameterValue1, int parameterValue2, int parameterValue3) {
+		long start = profiler.start();
 		displayWinningParameter.updateValue1(parameterValue1); // Update the first parameter value (e.g., kills)
 		displayWinningParameter.updateValue2(parameterValue2); // Update the second parameter value (e.g., ammo)
 		displayWinningParameter.updateValue3(parameterValue3); // Update the third parameter value (e.g., coins)
+		profiler.stop(FrameProfiler.Phase.HUD, start);
 	}
 
 	/**
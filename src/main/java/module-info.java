@@ -14,10 +14,16 @@ module com.example.demo {
     opens com.example.demo.levels to javafx.fxml;
     opens com.example.demo.levels.Level1 to javafx.fxml;
     opens com.example.demo.activityManagers to javafx.fxml;
+    opens com.example.demo.activityManagers.audio to javafx.fxml;
+    opens com.example.demo.activityManagers.collision to javafx.fxml;
+    opens com.example.demo.activityManagers.events to javafx.fxml;
+    opens com.example.demo.activityManagers.profiling to javafx.fxml;
+    opens com.example.demo.activityManagers.replay to javafx.fxml;
     opens com.example.demo.levels.Level2 to javafx.fxml;
     opens com.example.demo.levels.Level3 to javafx.fxml;
     opens com.example.demo.levels.Level4 to javafx.fxml;
     opens com.example.demo.actors to javafx.fxml;
+    opens com.example.demo.actors.kernels to javafx.fxml;
     opens com.example.demo.actors.Planes to javafx.fxml;
     opens com.example.demo.actors.Planes.enemyPlanes to javafx.fxml;
     opens com.example.demo.actors.Planes.friendlyPlanes to javafx.fxml;
@@ -30,4 +36,12 @@ module com.example.demo {
 //    opens com.example.demo.functionalClasses to javafx.fxml;
     opens com.example.demo.controller to javafx.fxml;
     exports com.example.demo;
+    exports com.example.demo.levels;
+
+    uses com.example.demo.levels.LevelProvider;
+    provides com.example.demo.levels.LevelProvider with
+            com.example.demo.levels.Level1.Level1Provider,
+            com.example.demo.levels.Level2.Level2Provider,
+            com.example.demo.levels.Level3.Level3Provider,
+            com.example.demo.levels.Level4.Level4Provider;
 }
\ No newline at end of file
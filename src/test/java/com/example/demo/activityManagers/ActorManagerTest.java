@@ -0,0 +1,113 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.CollisionCategory;
+import com.example.demo.actors.Planes.enemyPlanes.EnemyPlane;
+import com.example.demo.actors.Projectiles.enemyProjectiles.EnemyProjectile;
+import com.example.demo.displays.RenderLayer;
+import com.example.demo.displays.SceneLayers;
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorManagerTest {
+
+    private ActorManager actorManager;
+
+    @BeforeEach
+    void setUp() {
+        ImageCache.getInstance().setHeadless(true);
+        actorManager = ActorManager.getInstance();
+        actorManager.clearLevel();
+        actorManager.setRoot(new Group());
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorManager.clearLevel();
+        ImageCache.getInstance().setHeadless(false);
+    }
+
+    @Test
+    void testRegistriesFollowCommittedActors() {
+        EnemyPlane enemy = new EnemyPlane(100, 100);
+        EnemyProjectile projectile = new EnemyProjectile(200, 100);
+        actorManager.addActor(enemy);
+        actorManager.addActor(projectile);
+
+        assertTrue(actorManager.getEnemies().isEmpty(), "Actors should only be registered once they are committed.");
+
+        actorManager.update();
+
+        assertEquals(1, actorManager.getEnemies().size(), "The enemy should be registered as an enemy.");
+        assertSame(enemy, actorManager.getEnemies().get(0), "The enemy registry should hold the enemy.");
+        assertEquals(1, actorManager.getEnemyProjectiles().size(), "The projectile should be registered separately.");
+        assertTrue(actorManager.getCollectibles().isEmpty(), "Neither actor is collectible.");
+        assertNull(actorManager.getUserVehicle(), "No user vehicle has been added.");
+
+        actorManager.removeActor(enemy);
+        actorManager.update();
+
+        assertTrue(actorManager.getActors(CollisionCategory.ENEMY).isEmpty(), "A removed enemy should be unregistered.");
+        assertEquals(1, actorManager.getEnemyProjectiles().size(), "Other registries should be unaffected.");
+    }
+
+    @Test
+    void testActorsAreDrawnInTheLayerOfTheirCategory() {
+        SceneLayers layers = new SceneLayers(new Group());
+        Rectangle hudNode = new Rectangle(10, 10);
+        layers.getLayer(RenderLayer.HUD).getChildren().add(hudNode);
+        actorManager.setSceneLayers(layers);
+        EnemyPlane enemy = new EnemyPlane(100, 100);
+        EnemyProjectile projectile = new EnemyProjectile(200, 100);
+        actorManager.addActor(enemy);
+        actorManager.addActor(projectile);
+
+        actorManager.update();
+
+        assertTrue(layers.getLayer(RenderLayer.ACTORS).getChildren().contains(enemy),
+                "The enemy should be drawn in the actor layer.");
+        assertTrue(layers.getLayer(RenderLayer.PROJECTILES).getChildren().contains(projectile),
+                "The projectile should be drawn in the projectile layer.");
+        assertEquals(RenderLayer.values().length, layers.getRoot().getChildren().size(),
+                "The root should only hold the layer groups.");
+
+        actorManager.removeActor(projectile);
+        actorManager.update();
+        actorManager.clearLevel();
+
+        assertTrue(layers.getLayer(RenderLayer.PROJECTILES).getChildren().isEmpty(),
+                "A removed projectile should leave its layer.");
+        assertTrue(layers.getLayer(RenderLayer.ACTORS).getChildren().isEmpty(),
+                "Clearing the level should empty the actor layers.");
+        assertEquals(1, layers.getLayer(RenderLayer.HUD).getChildren().size(),
+                "The HUD layer should be left out of actor bookkeeping.");
+    }
+
+    @Test
+    void testKinematicActorsAreMovedByTheMovementSystem() {
+        EnemyPlane enemy = new EnemyPlane(100, 100);
+        EnemyProjectile projectile = new EnemyProjectile(200, 100);
+        actorManager.addActor(enemy);
+        actorManager.addActor(projectile);
+        actorManager.update();
+
+        actorManager.update();
+        actorManager.update();
+
+        assertTrue(enemy.isKinematic(), "Enemy planes only move at a constant velocity.");
+        assertEquals(100 - 6 * 2, enemy.getPositionX(), "The enemy should move 6 pixels per update once active.");
+        assertEquals(200 - 10 * 2, projectile.getPositionX(), "The projectile should move 10 pixels per update once active.");
+        assertEquals(enemy.getPositionX(), enemy.getMinX(), "The bounds should move with the body.");
+    }
+
+    @Test
+    void testRegistryViewsAreReadOnly() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> actorManager.getEnemies().add(new EnemyPlane(0, 0)),
+                "Registries should only change through the actor manager.");
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.demo.activityManagers;
 
+import com.example.demo.activityManagers.events.GameEventBus;
+import com.example.demo.actors.CollisionCategory;
 import com.example.demo.actors.GameEntity;
 import com.example.demo.actors.Planes.enemyPlanes.EnemyPlane;
 import com.example.demo.actors.Planes.friendlyPlanes.UserPlane;
 import com.example.demo.actors.additionalUnits.Coins;
-import com.example.demo.levels.LevelParent;
-import javafx.geometry.Bounds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,42 +19,32 @@ import static org.powermock.api.mockito.PowerMockito.mock;
 class CollisionHandlerTest {
 
     private CollisionHandler collisionHandler;
-    private LevelParent mockLevelParent;
     private UserPlane mockUserPlane;
     private Coins mockCoin;
     private ActorManager actorManager;
 
     @BeforeEach
     void setUp() {
-        mockLevelParent = mock(LevelParent.class);
-        collisionHandler = new CollisionHandler(mockLevelParent);
+        collisionHandler = new CollisionHandler(new GameEventBus());
         actorManager = ActorManager.getInstance(); // Mock ActorManager
         mockUserPlane = mock(UserPlane.class); // Simulate the user's plane
         mockCoin = mock(Coins.class); // Simulate a collectible coin
 
         actorManager = ActorManager.getInstance();
-        // Mock the actorManager within mockLevelParent
+        // Mock the user vehicle returned by the actorManager
         when(actorManager.getUserVehicle()).thenReturn(mockUserPlane);
-
-        // Mock the behavior of the user vehicle in LevelParent
-        when(mockUserPlane.getBoundsInParent()).thenReturn(mock(Bounds.class));
-        when(mockCoin.getBoundsInParent()).thenReturn(mock(Bounds.class));
     }
 
 
     @Test
     void testCheckCollisionsWithCollectible() {
         // Arrange
-        Bounds mockUserBounds = mock(Bounds.class);
-        Bounds mockCoinBounds = mock(Bounds.class);
-
-        // Mock intersection logic
-        when(mockUserBounds.intersects(mockCoinBounds)).thenReturn(true);
-        when(mockUserPlane.getBoundsInParent()).thenReturn(mockUserBounds);
-        when(mockCoin.getBoundsInParent()).thenReturn(mockCoinBounds);
+        // Mock overlapping bounding boxes
+        stubBounds(mockUserPlane, 0, 0, 50, 50);
+        stubBounds(mockCoin, 25, 25, 75, 75);
 
-        when(mockUserPlane.isCollectible()).thenReturn(false);
-        when(mockCoin.isCollectible()).thenReturn(true);
+        when(mockUserPlane.getCollisionCategory()).thenReturn(CollisionCategory.USER);
+        when(mockCoin.getCollisionCategory()).thenReturn(CollisionCategory.COIN);
 
         List<GameEntity> activeActors = new ArrayList<>();
         activeActors.add(mockUserPlane);
@@ -72,16 +62,12 @@ class CollisionHandlerTest {
         // Arrange
         EnemyPlane mockEnemyPlane = mock(EnemyPlane.class);
 
-        Bounds mockUserBounds = mock(Bounds.class);
-        Bounds mockEnemyBounds = mock(Bounds.class);
-
-        // Mock intersection logic
-        when(mockUserBounds.intersects(mockEnemyBounds)).thenReturn(true);
-        when(mockUserPlane.getBoundsInParent()).thenReturn(mockUserBounds);
-        when(mockEnemyPlane.getBoundsInParent()).thenReturn(mockEnemyBounds);
+        // Mock overlapping bounding boxes
+        stubBounds(mockUserPlane, 0, 0, 50, 50);
+        stubBounds(mockEnemyPlane, 25, 25, 75, 75);
 
-        when(mockUserPlane.isFriendly()).thenReturn(true);
-        when(mockEnemyPlane.isFriendly()).thenReturn(false);
+        when(mockUserPlane.getCollisionCategory()).thenReturn(CollisionCategory.USER);
+        when(mockEnemyPlane.getCollisionCategory()).thenReturn(CollisionCategory.ENEMY);
 
         List<GameEntity> activeActors = new ArrayList<>();
         activeActors.add(mockUserPlane);
@@ -94,4 +80,14 @@ class CollisionHandlerTest {
         verify(mockUserPlane, times(1)).takeDamage(); // Verify the user's plane took damage
         verify(mockEnemyPlane, times(1)).takeDamage(); // Verify the enemy plane took damage
     }
+
+    /**
+     * Stubs the cached bounding box of a mocked entity.
+     */
+    private void stubBounds(GameEntity entity, double minX, double minY, double maxX, double maxY) {
+        when(entity.getMinX()).thenReturn(minX);
+        when(entity.getMinY()).thenReturn(minY);
+        when(entity.getMaxX()).thenReturn(maxX);
+        when(entity.getMaxY()).thenReturn(maxY);
+    }
 }
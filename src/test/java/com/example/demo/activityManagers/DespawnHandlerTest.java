@@ -0,0 +1,120 @@
+package com.example.demo.activityManagers;
+
+import com.example.demo.actors.ActorPools;
+import com.example.demo.actors.CollisionCategory;
+import com.example.demo.actors.GameEntity;
+import com.example.demo.actors.Projectiles.enemyProjectiles.EnemyProjectile;
+import com.example.demo.actors.additionalUnits.Magnet;
+import javafx.scene.Group;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DespawnHandlerTest {
+
+    private static final double SCREEN_WIDTH = 1300;
+
+    private static final double SCREEN_HEIGHT = 750;
+
+    private ActorManager actorManager;
+
+    private DespawnHandler despawnHandler;
+
+    private int despawnCallbacks;
+
+    @BeforeEach
+    void setUp() {
+        ImageCache.getInstance().setHeadless(true);
+        actorManager = ActorManager.getInstance();
+        actorManager.clearLevel();
+        actorManager.setRoot(new Group());
+        despawnHandler = new DespawnHandler(actorManager, SCREEN_WIDTH, SCREEN_HEIGHT);
+        despawnCallbacks = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorManager.clearLevel();
+        ImageCache.getInstance().setHeadless(false);
+    }
+
+    @Test
+    void testActorsAreOutsideBeyondAnyEdge() {
+        assertFalse(despawnHandler.isOutsideWorld(new EnemyProjectile(600, 300)), "An actor on screen should stay.");
+        assertFalse(despawnHandler.isOutsideWorld(new EnemyProjectile(SCREEN_WIDTH, 300)), "An actor spawned at the edge should stay.");
+        assertTrue(despawnHandler.isOutsideWorld(new EnemyProjectile(-200, 300)), "An actor past the left edge should go.");
+        assertTrue(despawnHandler.isOutsideWorld(new EnemyProjectile(SCREEN_WIDTH + 100, 300)), "An actor past the right edge should go.");
+        assertTrue(despawnHandler.isOutsideWorld(new EnemyProjectile(600, -200)), "An actor above the screen should go.");
+        assertTrue(despawnHandler.isOutsideWorld(new EnemyProjectile(600, SCREEN_HEIGHT + 100)), "An actor below the screen should go.");
+    }
+
+    @Test
+    void testMarginsArePerCategory() {
+        EnemyProjectile projectile = new EnemyProjectile(SCREEN_WIDTH + 100, 300);
+        despawnHandler.setMargin(CollisionCategory.ENEMY_PROJECTILE, 200);
+
+        assertFalse(despawnHandler.isOutsideWorld(projectile), "A wider margin should keep the actor.");
+        assertEquals(DespawnHandler.DEFAULT_MARGIN, despawnHandler.getMargin(CollisionCategory.ENEMY), "Other categories should keep the default.");
+        assertEquals(Double.POSITIVE_INFINITY, despawnHandler.getMargin(CollisionCategory.USER), "The user should never be despawned.");
+        assertThrows(IllegalArgumentException.class, () -> despawnHandler.setMargin(CollisionCategory.COIN, -1));
+    }
+
+    @Test
+    void testDespawnRemovesAndCountsActors() {
+        actorManager.addActor(new EnemyProjectile(600, 300));
+        actorManager.addActor(new EnemyProjectile(600, -200));
+        actorManager.addActor(new Magnet(600, SCREEN_HEIGHT + 100, 0));
+        actorManager.update();
+
+        int despawned = despawnHandler.despawnOutsideWorld(actorManager.getActiveActors(), actor -> despawnCallbacks++);
+        actorManager.update();
+
+        assertEquals(2, despawned, "Both actors outside should be despawned.");
+        assertEquals(2, despawnCallbacks, "The level should be told about each despawned actor.");
+        assertEquals(1, actorManager.getActiveActors().size(), "Only the actor on screen should remain.");
+        assertEquals(1, despawnHandler.getDespawnCount(CollisionCategory.ENEMY_PROJECTILE), "Despawns should be counted per category.");
+        assertEquals(1, despawnHandler.getDespawnCount(CollisionCategory.MAGNET), "Despawns should be counted per category.");
+        assertEquals(2, despawnHandler.getTotalDespawnCount(), "The total should cover every category.");
+    }
+
+    @Test
+    void testActorCountStaysBoundedWithActorsLeavingInEveryDirection() {
+        Random random = new Random(45);
+        ActorPools actorPools = ActorPools.getInstance();
+        int maxActors = 0;
+
+        // 45 seconds at 20 ticks per second, spawning rockets and magnets from all four sides as Level3 does
+        for (int tick = 0; tick < 900; tick++) {
+            if (random.nextDouble() < 0.05) {
+                int direction = random.nextInt(4);
+                actorManager.addActor(switch (direction) {
+                    case 0 -> actorPools.acquireEnemyRocket(SCREEN_WIDTH / 2 - 50, 0, direction);
+                    case 1 -> actorPools.acquireEnemyRocket(SCREEN_WIDTH, SCREEN_HEIGHT / 2 - 80, direction);
+                    case 2 -> actorPools.acquireEnemyRocket(SCREEN_WIDTH / 2 - 50, SCREEN_HEIGHT, direction);
+                    default -> actorPools.acquireEnemyRocket(0, SCREEN_HEIGHT / 2 - 80, direction);
+                });
+            }
+            if (random.nextDouble() < 0.05) {
+                int direction = random.nextInt(4);
+                GameEntity magnet = switch (direction) {
+                    case 0 -> new Magnet(SCREEN_WIDTH / 2 - 50, 0, direction);
+                    case 1 -> new Magnet(SCREEN_WIDTH, SCREEN_HEIGHT / 2 - 80, direction);
+                    case 2 -> new Magnet(SCREEN_WIDTH / 2 - 50, SCREEN_HEIGHT, direction);
+                    default -> new Magnet(0, SCREEN_HEIGHT / 2 - 80, direction);
+                };
+                actorManager.addActor(magnet);
+            }
+            despawnHandler.despawnOutsideWorld(actorManager.getActiveActors(), actor -> despawnCallbacks++);
+            actorManager.update();
+            maxActors = Math.max(maxActors, actorManager.getActiveActors().size());
+        }
+
+        assertTrue(maxActors < 40, "The number of actors should stay bounded, but reached " + maxActors + ".");
+        assertTrue(despawnHandler.getDespawnCount(CollisionCategory.ENEMY) > 0, "Rockets should be despawned.");
+        assertTrue(despawnHandler.getDespawnCount(CollisionCategory.MAGNET) > 0, "Magnets should be despawned.");
+    }
+}
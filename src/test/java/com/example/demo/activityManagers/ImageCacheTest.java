@@ -0,0 +1,178 @@
+package com.example.demo.activityManagers;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageCacheTest {
+
+    private static final int LARGE_SIDE = 512; // 512 x 512 x 4 bytes is exactly ImageCache.LARGE_IMAGE_BYTES
+
+    private ImageCache imageCache;
+    private List<String> decoded;
+
+    @BeforeEach
+    void setUp() {
+        decoded = new ArrayList<>();
+        imageCache = new ImageCache((path, requestedWidth, requestedHeight) -> {
+            decoded.add(path);
+            int width = requestedWidth > 0 ? (int) requestedWidth : LARGE_SIDE;
+            int height = requestedHeight > 0 ? (int) requestedHeight : width;
+            return new WritableImage(width, height);
+        });
+    }
+
+    @Test
+    void testImagesAreKeyedByPathAndSize() {
+        Image first = imageCache.getImage("/sprite.png", 40, 40);
+
+        assertSame(first, imageCache.getImage("/sprite.png", 40, 40), "The same path and size should share an image.");
+        assertNotSame(first, imageCache.getImage("/sprite.png", 80, 80), "Another size should be decoded separately.");
+        assertNotSame(first, imageCache.getImage("/other.png", 40, 40), "Another path should be decoded separately.");
+
+        assertEquals(1, imageCache.getHits(), "Only the repeated request should be a hit.");
+        assertEquals(3, imageCache.getMisses(), "Every new path and size should be a miss.");
+        assertEquals(3, decoded.size(), "Each miss should decode exactly once.");
+        assertEquals(3, imageCache.size(), "Every decoded image should be cached.");
+        assertEquals((40 * 40 + 80 * 80 + 40 * 40) * 4L, imageCache.getDecodedBytes(),
+                "The decoded size should count four bytes per pixel.");
+    }
+
+    @Test
+    void testLeastRecentlyUsedLargeImagesAreEvictedOverBudget() {
+        imageCache.setBudgetBytes(3 * ImageCache.LARGE_IMAGE_BYTES + 16 * 16 * 4);
+        imageCache.getImage("/icon.png", 16, 16);
+        imageCache.getImage("/background1.png");
+        imageCache.getImage("/background2.png");
+        imageCache.getImage("/background3.png");
+        imageCache.getImage("/background1.png"); // Now the most recently used background
+
+        imageCache.getImage("/background4.png");
+
+        assertEquals(1, imageCache.getEvictions(), "One large image should be evicted to get back within budget.");
+        assertEquals(4, imageCache.size(), "The small icon and three backgrounds should remain.");
+        assertTrue(imageCache.getDecodedBytes() <= imageCache.getBudgetBytes(), "The cache should be within budget.");
+
+        decoded.clear();
+        imageCache.getImage("/icon.png", 16, 16);
+        imageCache.getImage("/background1.png");
+        imageCache.getImage("/background3.png");
+        assertTrue(decoded.isEmpty(), "The small icon and recently used backgrounds should not be evicted.");
+        imageCache.getImage("/background2.png");
+        assertEquals(List.of("/background2.png"), decoded, "The least recently used background should be evicted.");
+    }
+
+    @Test
+    void testLoweringTheBudgetEvictsImmediately() {
+        imageCache.getImage("/background1.png");
+        imageCache.getImage("/background2.png");
+
+        imageCache.setBudgetBytes(ImageCache.LARGE_IMAGE_BYTES);
+
+        assertEquals(1, imageCache.getEvictions(), "Lowering the budget should evict down to it.");
+        assertEquals(ImageCache.LARGE_IMAGE_BYTES, imageCache.getDecodedBytes(), "One background should remain.");
+    }
+
+    @Test
+    void testClearResetsImagesAndCounters() {
+        imageCache.setBudgetBytes(ImageCache.LARGE_IMAGE_BYTES);
+        imageCache.getImage("/background1.png");
+        imageCache.getImage("/background1.png");
+        imageCache.getImage("/background2.png");
+
+        imageCache.clear();
+
+        assertEquals(0, imageCache.size(), "No image should be cached after clearing.");
+        assertEquals(0, imageCache.getDecodedBytes(), "No decoded bytes should be counted after clearing.");
+        assertEquals(0, imageCache.getHits(), "Clearing should reset the hit count.");
+        assertEquals(0, imageCache.getMisses(), "Clearing should reset the miss count.");
+        assertEquals(0, imageCache.getEvictions(), "Clearing should reset the eviction count.");
+    }
+
+    @Test
+    void testLookupsDoNotWaitForADecodeInProgress() throws Exception {
+        CountDownLatch decodeStarted = new CountDownLatch(1);
+        CountDownLatch finishDecode = new CountDownLatch(1);
+        ImageCache slowCache = new ImageCache((path, requestedWidth, requestedHeight) -> {
+            if (path.equals("/background.jpg")) {
+                decodeStarted.countDown();
+                awaitLatch(finishDecode);
+            }
+            return new WritableImage(16, 16);
+        });
+        Image icon = slowCache.getImage("/icon.png", 16, 16);
+        ExecutorService preloader = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Image> background =
+                    CompletableFuture.supplyAsync(() -> slowCache.getImage("/background.jpg"), preloader);
+            assertTrue(decodeStarted.await(5, TimeUnit.SECONDS), "The background decode should have started.");
+
+            assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+                assertSame(icon, slowCache.getImage("/icon.png", 16, 16), "A cached image should be returned.");
+                slowCache.getImage("/other.png", 16, 16);
+            }, "Lookups should not wait for another image being decoded.");
+
+            finishDecode.countDown();
+            assertNotNull(background.get(5, TimeUnit.SECONDS), "The background decode should finish.");
+            assertEquals(3, slowCache.size(), "Every decoded image should be cached.");
+        } finally {
+            finishDecode.countDown();
+            preloader.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentRequestsDecodeAnImageOnce() throws Exception {
+        CountDownLatch decodeStarted = new CountDownLatch(1);
+        CountDownLatch finishDecode = new CountDownLatch(1);
+        AtomicInteger decodes = new AtomicInteger();
+        ImageCache slowCache = new ImageCache((path, requestedWidth, requestedHeight) -> {
+            decodes.incrementAndGet();
+            decodeStarted.countDown();
+            awaitLatch(finishDecode);
+            return new WritableImage(16, 16);
+        });
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Image> first =
+                    CompletableFuture.supplyAsync(() -> slowCache.getImage("/background.jpg"), threads);
+            assertTrue(decodeStarted.await(5, TimeUnit.SECONDS), "The first decode should have started.");
+            CompletableFuture<Image> second =
+                    CompletableFuture.supplyAsync(() -> slowCache.getImage("/background.jpg"), threads);
+
+            finishDecode.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS),
+                    "Both requests should get the same image.");
+            assertEquals(1, decodes.get(), "The image should only be decoded once.");
+            assertEquals(1, slowCache.getMisses(), "Only the first request should be a miss.");
+        } finally {
+            finishDecode.countDown();
+            threads.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for a latch inside a decoder, which cannot throw checked exceptions.
+     */
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
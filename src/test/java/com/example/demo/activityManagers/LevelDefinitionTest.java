@@ -0,0 +1,107 @@
+package com.example.demo.activityManagers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelDefinitionTest {
+
+    private Properties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new Properties();
+        properties.setProperty("player.health", "5");
+        properties.setProperty("spawn.enemy", "5, 0.20, 10");
+    }
+
+    @Test
+    void testParseValuesAndSpawnRules() {
+        LevelDefinition definition = LevelDefinition.parse("test", properties);
+
+        assertEquals(5, definition.getInt("player.health"), "Whole-number values should be parsed.");
+        assertEquals(new SpawnRule(5, 0.20, 10), definition.getSpawnRule("enemy"),
+                "Spawn rules should be parsed from their three parts.");
+    }
+
+    @Test
+    void testUnlimitedTotal() {
+        properties.setProperty("spawn.rocket", "1, 0.05, unlimited");
+
+        LevelDefinition definition = LevelDefinition.parse("test", properties);
+
+        assertEquals(SpawnRule.UNLIMITED, definition.getSpawnRule("rocket").maxTotal(),
+                "A rule without a maximum total should never reach its cap.");
+    }
+
+    @Test
+    void testInvalidProbabilityIsRejected() {
+        properties.setProperty("spawn.enemy", "5, 1.5, 10");
+
+        assertThrows(IllegalArgumentException.class, () -> LevelDefinition.parse("test", properties),
+                "A spawn probability above 1 should be rejected.");
+    }
+
+    @Test
+    void testNegativeValueIsRejected() {
+        properties.setProperty("player.health", "-1");
+
+        assertThrows(IllegalArgumentException.class, () -> LevelDefinition.parse("test", properties),
+                "A negative value should be rejected.");
+    }
+
+    @Test
+    void testValuesAreTypedByKey() {
+        properties.setProperty("enemy.fireRate", "0.35");
+        properties.setProperty("boss.offset", "-40");
+
+        LevelDefinition definition = LevelDefinition.parse("test", properties);
+
+        assertEquals(0.35, definition.getDouble("enemy.fireRate"), "Other keys may hold decimal numbers.");
+        assertEquals(-40, definition.getLong("boss.offset"), "Other keys may hold negative numbers.");
+        assertEquals(5.0, definition.getDouble("player.health"), "Whole numbers should also read as decimals.");
+        assertThrows(IllegalArgumentException.class, () -> definition.getInt("enemy.fireRate"),
+                "A decimal value should not be read as a whole number.");
+    }
+
+    @Test
+    void testNonNumericValueIsRejected() {
+        properties.setProperty("enemy.fireRate", "fast");
+
+        assertThrows(IllegalArgumentException.class, () -> LevelDefinition.parse("test", properties),
+                "A value that is not a number should be rejected.");
+    }
+
+    @Test
+    void testMalformedSpawnRuleIsRejected() {
+        properties.setProperty("spawn.enemy", "5, 0.20");
+
+        assertThrows(IllegalArgumentException.class, () -> LevelDefinition.parse("test", properties),
+                "A spawn rule without a maximum total should be rejected.");
+    }
+
+    @Test
+    void testMissingEntriesAreReported() {
+        LevelDefinition definition = LevelDefinition.parse("test", properties);
+
+        assertThrows(IllegalArgumentException.class, () -> definition.getInt("win.kills"),
+                "Reading a missing value should fail.");
+        assertThrows(IllegalArgumentException.class, () -> definition.getSpawnRule("coin"),
+                "Reading a missing spawn rule should fail.");
+    }
+
+    @Test
+    void testBuiltInDefinitionsAreValid() {
+        LevelManager levelManager = LevelManager.getInstance();
+
+        for (int levelNumber = 1; levelNumber <= levelManager.getLastLevelNumber(); levelNumber++) {
+            LevelDefinition definition = levelManager.getDefinition(levelNumber);
+            assertNotNull(definition, "Level " + levelNumber + " should have a definition.");
+            assertTrue(definition.getInt("player.health") > 0, "Level " + levelNumber + " should give the player health.");
+            assertNotNull(definition.getSpawnRule("coin"), "Level " + levelNumber + " should spawn coins.");
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.demo.activityManagers;
 
+import com.example.demo.levels.Level1.Level1Provider;
+import com.example.demo.levels.Level2.Level2Provider;
+import com.example.demo.levels.Level4.Level4Provider;
+import com.example.demo.levels.LevelProvider;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +26,11 @@ class LevelManagerTest {
         levelManager.setCurrentLevelNumber(1); // Reset to the first level before each test
     }
 
+    @AfterEach
+    void tearDown() {
+        levelManager.setCurrentLevelNumber(1); // Leave the shared instance at the first level for other tests
+    }
+
     @Test
     void testSingletonInstance() {
         LevelManager instance1 = LevelManager.getInstance();
@@ -40,28 +51,57 @@ class LevelManagerTest {
 
     @Test
     void testIncrementBeyondLastLevel() {
-        levelManager.setCurrentLevelNumber(LevelManager.TOTAL_LEVELS_PLUS1 - 1);
+        levelManager.setCurrentLevelNumber(levelManager.getLastLevelNumber());
         levelManager.incrementCurrentLevelNumber();
-        assertEquals(LevelManager.TOTAL_LEVELS_PLUS1 - 1, levelManager.getCurrentLevelNumber(),
+        assertEquals(levelManager.getLastLevelNumber(), levelManager.getCurrentLevelNumber(),
                 "Current level should not exceed the last level.");
     }
 
     @Test
-    void testGetNextLevelName() {
-        assertEquals("com.example.demo.levels.Level1.Level1", levelManager.getNextLevelName(),
-                "Next level name should match the expected format.");
+    void testLevelsAreDiscovered() {
+        assertEquals(4, levelManager.getLevelCount(), "All four levels should be discovered.");
+        assertEquals(4, levelManager.getLastLevelNumber(), "The last level should be level 4.");
+        for (int levelNumber = 1; levelNumber <= 4; levelNumber++) {
+            assertEquals(levelNumber, levelManager.getLevel(levelNumber).getLevelNumber(),
+                    "Level " + levelNumber + " should be provided under its own number.");
+        }
+    }
+
+    @Test
+    void testGetNextLevel() {
+        assertSame(Level1Provider.class, levelManager.getNextLevel().getClass(),
+                "The next level should be the first level's provider.");
+    }
+
+    @Test
+    void testGetNextLevelAtLastLevel() {
+        levelManager.setCurrentLevelNumber(levelManager.getLastLevelNumber());
+        assertSame(Level4Provider.class, levelManager.getNextLevel().getClass(),
+                "The next level should be the last level at the last level.");
+    }
+
+    @Test
+    void testIncrementSkipsGapsInLevelNumbers() {
+        LevelManager pack = new LevelManager(List.of(new Level4Provider(), new Level2Provider()));
+
+        assertEquals(2, pack.getCurrentLevelNumber(), "The game should start at the lowest level number.");
+        pack.incrementCurrentLevelNumber();
+        assertEquals(4, pack.getCurrentLevelNumber(), "The missing level 3 should be skipped.");
+        assertSame(Level4Provider.class, pack.getNextLevel().getClass(), "The next level should exist.");
+        assertTrue(pack.isLastLevel(), "Level 4 should be the last level of the pack.");
     }
 
     @Test
-    void testGetNextLevelNameAtLastLevel() {
-        levelManager.setCurrentLevelNumber(LevelManager.TOTAL_LEVELS_PLUS1 - 1);
-        assertEquals("com.example.demo.levels.Level4.Level4", levelManager.getNextLevelName(),
-                "Next level name should be the last level name at the last level.");
+    void testDuplicateLevelNumbersAreRejected() {
+        List<LevelProvider> providers = List.of(new Level1Provider(), new Level1Provider());
+
+        assertThrows(IllegalStateException.class, () -> new LevelManager(providers),
+                "Two providers of the same level should be rejected.");
     }
 
     @Test
     void testIsLastLevel() {
-        levelManager.setCurrentLevelNumber(LevelManager.TOTAL_LEVELS_PLUS1 - 1);
+        levelManager.setCurrentLevelNumber(levelManager.getLastLevelNumber());
         assertTrue(levelManager.isLastLevel(), "Should return true for the last level.");
         levelManager.setCurrentLevelNumber(1);
         assertFalse(levelManager.isLastLevel(), "Should return false for levels other than the last.");
@@ -69,17 +109,17 @@ class LevelManagerTest {
 
     @Test
     void testGoToNextLevel() {
-        AtomicReference<String> nextLevelName = new AtomicReference<>();
+        AtomicReference<LevelProvider> nextLevel = new AtomicReference<>();
         levelManager.addLevelChangeListener(evt -> {
             if ("nextLevel".equals(evt.getPropertyName())) {
-                nextLevelName.set((String) evt.getNewValue());
+                nextLevel.set((LevelProvider) evt.getNewValue());
             }
         });
 
         levelManager.goToNextLevel();
 
-        assertEquals("com.example.demo.levels.Level1.Level1", nextLevelName.get(),
-                "The next level name should be fired correctly as a property change event.");
+        assertEquals(1, nextLevel.get().getLevelNumber(),
+                "The next level should be fired correctly as a property change event.");
     }
 
 
@@ -0,0 +1,50 @@
+package com.example.demo.activityManagers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelPreloaderTest {
+
+    private LevelPreloader levelPreloader;
+
+    @BeforeEach
+    void setUp() {
+        ImageCache.getInstance().setHeadless(true);
+        levelPreloader = LevelPreloader.getInstance();
+    }
+
+    @Test
+    void testPreloadIsFinishedWhenLevelStarts() {
+        levelPreloader.preload(1);
+        levelPreloader.awaitPreload(1);
+
+        assertTrue(levelPreloader.getLastPreloadNanos() >= 0, "The preload time should be recorded.");
+    }
+
+    @Test
+    void testPreloadOfAnotherLevelIsNotUsed() {
+        levelPreloader.preload(2);
+        levelPreloader.awaitPreload(2);
+        long lastPreloadNanos = levelPreloader.getLastPreloadNanos();
+
+        levelPreloader.preload(1);
+        levelPreloader.awaitPreload(3);
+
+        assertEquals(lastPreloadNanos, levelPreloader.getLastPreloadNanos(),
+                "A level without a preload should not use another level's preload.");
+
+        // Preloads run one at a time, in order, so finishing a new one also drains the unused one
+        levelPreloader.preload(1);
+        levelPreloader.awaitPreload(1);
+    }
+
+    @Test
+    void testUnknownLevelIsIgnored() {
+        assertDoesNotThrow(() -> {
+            levelPreloader.preload(99);
+            levelPreloader.awaitPreload(99);
+        }, "Preloading a level that does not exist should do nothing.");
+    }
+}
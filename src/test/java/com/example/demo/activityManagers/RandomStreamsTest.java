@@ -0,0 +1,85 @@
+package com.example.demo.activityManagers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomStreamsTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(RandomStreams.SEED_PROPERTY);
+    }
+
+    @Test
+    void testSameSeedGivesSameStreams() {
+        RandomStreams first = new RandomStreams(42);
+        RandomStreams second = new RandomStreams(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.spawning().nextDouble(), second.spawning().nextDouble(),
+                    "The spawning streams of the same seed should match.");
+            assertEquals(first.enemies().nextDouble(), second.enemies().nextDouble(),
+                    "The enemy streams of the same seed should match.");
+        }
+    }
+
+    @Test
+    void testStreamsAreIndependent() {
+        RandomStreams first = new RandomStreams(42);
+        RandomStreams second = new RandomStreams(42);
+
+        // Drawing from one stream must not shift another
+        for (int i = 0; i < 10; i++) {
+            first.spawning().nextDouble();
+        }
+
+        assertEquals(first.enemies().nextLong(), second.enemies().nextLong(),
+                "Drawing from the spawning stream should not change the enemy stream.");
+    }
+
+    @Test
+    void testSpawnAreaPositionsAreReproducible() {
+        SpawnArea spawnArea = new SpawnArea(0, 800, 100, 500);
+        RandomGenerator first = new RandomStreams(7).spawning();
+        RandomGenerator second = new RandomStreams(7).spawning();
+
+        for (int i = 0; i < 20; i++) {
+            double x = spawnArea.nextX(first);
+            assertEquals(x, spawnArea.nextX(second), "The same seed should give the same X positions.");
+            assertTrue(x >= 0 && x <= 800, "X positions should stay within the area.");
+        }
+    }
+
+    @Test
+    void testSeedIsReadFromConfiguration() {
+        Properties properties = new Properties();
+        properties.setProperty(RandomStreams.SEED_KEY, "123");
+        LevelDefinition definition = LevelDefinition.parse("test", properties);
+
+        assertEquals(123, RandomStreams.forLevel(definition).getSeed(),
+                "The seed should be taken from the level definition.");
+
+        System.setProperty(RandomStreams.SEED_PROPERTY, "456");
+        assertEquals(456, RandomStreams.forLevel(definition).getSeed(),
+                "The system property should take precedence over the level definition.");
+    }
+
+    @Test
+    void testAnyLongSeedCanBeConfigured() {
+        Properties properties = new Properties();
+        properties.setProperty(RandomStreams.SEED_KEY, String.valueOf(Long.MIN_VALUE + 1));
+        LevelDefinition definition = LevelDefinition.parse("test", properties);
+
+        assertEquals(Long.MIN_VALUE + 1, RandomStreams.forLevel(definition).getSeed(),
+                "A negative seed beyond the int range, as printed for random runs, should be accepted.");
+
+        properties.setProperty(RandomStreams.SEED_KEY, "0.5");
+        assertThrows(IllegalArgumentException.class, () -> LevelDefinition.parse("test", properties),
+                "A seed that is not a whole number should be rejected.");
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.activityManagers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpawnDirectorTest {
+
+    private SpawnDirector director;
+    private int alive;
+    private int spawned;
+
+    @BeforeEach
+    void setUp() {
+        director = new SpawnDirector(new SplittableRandom(7));
+        alive = 0;
+        spawned = 0;
+    }
+
+    @Test
+    void testSpawnerFillsFreeSlotsUpToTheCap() {
+        director.addSpawner(new SpawnRule(3, 1.0, 5), () -> alive, count -> {
+            alive += count;
+            spawned += count;
+        });
+
+        director.update();
+        assertEquals(3, alive, "With a probability of one, every free slot should be filled on the first tick.");
+
+        for (int tick = 0; tick < 10; tick++) {
+            director.update();
+        }
+        assertEquals(3, spawned, "Nothing should spawn while every slot is taken.");
+
+        alive = 1;
+        director.update();
+        assertEquals(3, alive, "Freed slots should be filled again.");
+    }
+
+    @Test
+    void testSpawnRateMatchesRollingEveryTick() {
+        director.addSpawner(new SpawnRule(1, 0.05, SpawnRule.UNLIMITED), () -> 0, count -> spawned += count);
+        int ticks = 200_000;
+
+        for (int tick = 0; tick < ticks; tick++) {
+            director.update();
+        }
+
+        assertEquals(0.05 * ticks, spawned, 0.05 * ticks * 0.05,
+                "A free slot should spawn with the rule's probability on each tick.");
+        assertTrue(director.getFiredEventCount() <= spawned + 1,
+                "The director should only run an event when something spawns.");
+    }
+
+    @Test
+    void testSameSeedSpawnsOnTheSameTicks() {
+        List<Long> first = spawnTicks(new SpawnDirector(new SplittableRandom(42)));
+        List<Long> second = spawnTicks(new SpawnDirector(new SplittableRandom(42)));
+
+        assertFalse(first.isEmpty(), "Something should have spawned.");
+        assertEquals(first, second, "The same seed should spawn on the same ticks.");
+    }
+
+    @Test
+    void testSpawnerPausesWhileItsConditionDoesNotHold() {
+        boolean[] paused = {true};
+        director.addSpawner(new SpawnRule(2, 1.0, 2), () -> alive, count -> alive += count)
+                .onlyWhile(() -> !paused[0]);
+
+        director.update();
+        assertEquals(0, alive, "Nothing should spawn while the spawner is paused.");
+
+        paused[0] = false;
+        director.update();
+        assertEquals(2, alive, "The spawner should resume once its condition holds.");
+    }
+
+    @Test
+    void testComposedWavesRunInOrder() {
+        List<String> log = new ArrayList<>();
+        Wave wave = Wave.repeat(Wave.burst(count -> log.add(director.getTick() + " burst " + count), 4), 2, 5)
+                .then(3, Wave.burst(count -> log.add(director.getTick() + " extra " + count), 1));
+
+        director.play(wave, 2);
+        for (int tick = 0; tick < 10; tick++) {
+            director.update();
+        }
+
+        assertEquals(List.of("2 burst 4", "5 extra 1", "7 burst 4"), log,
+                "Each burst should run at its own tick, in order.");
+        assertEquals(0, director.getScheduledEventCount(), "Every wave event should have run.");
+    }
+
+    @Test
+    void testEscalationChangesTheSpawnProbability() {
+        SpawnDirector.Spawner spawner = director.addSpawner(new SpawnRule(1, 0.0, 1), () -> alive,
+                count -> alive += count);
+
+        director.play(Wave.escalation(spawner, ticks -> ticks / 10.0, 5, 3), 1);
+        for (int tick = 0; tick < 6; tick++) {
+            director.update();
+        }
+
+        assertEquals(0.5, spawner.getSpawnProbability(), 1e-9, "The probability should follow the curve.");
+        for (int tick = 0; tick < 200; tick++) {
+            director.update();
+        }
+        assertEquals(1, alive, "A spawner that could not spawn should start once its probability rises.");
+    }
+
+    private List<Long> spawnTicks(SpawnDirector spawnDirector) {
+        List<Long> ticks = new ArrayList<>();
+        spawnDirector.addSpawner(new SpawnRule(5, 0.02, 5), () -> 0, count -> ticks.add(spawnDirector.getTick()));
+        for (int tick = 0; tick < 1_000; tick++) {
+            spawnDirector.update();
+        }
+        return ticks;
+    }
+}
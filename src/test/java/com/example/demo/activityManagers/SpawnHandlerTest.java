@@ -1,12 +1,15 @@
 package com.example.demo.activityManagers;
 
+import com.example.demo.actors.ActorPools;
 import com.example.demo.actors.GameEntity;
+import com.example.demo.actors.Planes.enemyPlanes.EnemyPlane;
 import com.example.demo.actors.Planes.friendlyPlanes.UserPlane;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -100,4 +103,28 @@ class SpawnHandlerTest {
         // Verify that the actor was added the expected number of times
         verify(actorManagerMock, times(10)).addActor(mockActor);
     }
+
+    @Test
+    void testRejectedFormationMembersReturnToTheirPool() {
+        ImageCache.getInstance().setHeadless(true);
+        try {
+            ActorPools pools = ActorPools.getInstance();
+            SplittableRandom random = new SplittableRandom(3);
+            List<GameEntity> created = new ArrayList<>();
+
+            // Both members share a position, so the second one is rejected
+            int spawnedCount = spawnHandler.spawnFormation((x, y) -> {
+                EnemyPlane enemy = pools.acquireEnemyPlane(x, y, random);
+                created.add(enemy);
+                return enemy;
+            }, 400, 300, 0, 0, 0, 0);
+
+            assertEquals(1, spawnedCount, "Only the first member should be spawned.");
+            assertEquals(1, spawnHandler.getRejectedPlacements(), "The overlapping member should be rejected.");
+            assertSame(created.get(1), pools.acquireEnemyPlane(0, 0, random),
+                    "The rejected member should be handed back to its pool.");
+        } finally {
+            ImageCache.getInstance().setHeadless(false);
+        }
+    }
 }
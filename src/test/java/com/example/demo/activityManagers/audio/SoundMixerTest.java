@@ -0,0 +1,150 @@
+package com.example.demo.activityManagers.audio;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundMixerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final List<SoundEffect> played = new ArrayList<>();
+
+    private final List<SoundEffect> stopped = new ArrayList<>();
+
+    private long now;
+
+    private long tick;
+
+    private SoundMixer mixer;
+
+    @BeforeEach
+    void setUp() {
+        played.clear();
+        stopped.clear();
+        now = 1_000 * MILLIS;
+        tick = 0;
+        SoundOutput output = new SoundOutput() {
+            @Override
+            public void play(SoundEffect effect, double volume) {
+                played.add(effect);
+            }
+
+            @Override
+            public void stop(SoundEffect effect) {
+                stopped.add(effect);
+            }
+        };
+        mixer = new SoundMixer(output, 3, () -> now, () -> tick);
+        for (SoundEffect effect : SoundEffect.values()) {
+            mixer.setRateLimit(effect, 0);
+        }
+    }
+
+    @Test
+    void testIdenticalEffectsInOneTickAreCoalesced() {
+        assertTrue(mixer.trigger(SoundEffect.COIN_COLLECTED), "The first coin should play.");
+        assertFalse(mixer.trigger(SoundEffect.COIN_COLLECTED), "A second coin in the same tick should be merged.");
+        assertTrue(mixer.trigger(SoundEffect.PROJECTILE_FIRED), "A different effect in the same tick should play.");
+
+        tick++;
+        assertTrue(mixer.trigger(SoundEffect.COIN_COLLECTED), "A coin in the next tick should play.");
+        assertEquals(1, mixer.getCoalescedCount(), "One trigger should have been merged.");
+    }
+
+    @Test
+    void testRateLimitDropsTriggersThatComeTooSoon() {
+        mixer.setRateLimit(SoundEffect.PROJECTILE_FIRED, 60);
+
+        assertTrue(mixer.trigger(SoundEffect.PROJECTILE_FIRED), "The first shot should play.");
+        tick++;
+        now += 50 * MILLIS;
+        assertFalse(mixer.trigger(SoundEffect.PROJECTILE_FIRED), "A shot 50 ms later should be rate limited.");
+        tick++;
+        now += 50 * MILLIS;
+        assertTrue(mixer.trigger(SoundEffect.PROJECTILE_FIRED), "A shot 100 ms after the first should play.");
+        assertEquals(1, mixer.getRateLimitedCount(), "One shot should have been rate limited.");
+    }
+
+    @Test
+    void testPlayingNeverStopsUnrelatedSounds() {
+        mixer.trigger(SoundEffect.LIFE_LOST);
+        tick++;
+        mixer.trigger(SoundEffect.COIN_COLLECTED);
+        tick++;
+        mixer.trigger(SoundEffect.PROJECTILE_FIRED);
+
+        assertEquals(List.of(SoundEffect.LIFE_LOST, SoundEffect.COIN_COLLECTED, SoundEffect.PROJECTILE_FIRED), played,
+                "All three effects should play.");
+        assertTrue(stopped.isEmpty(), "No effect should be stopped while voices are free.");
+        assertEquals(3, mixer.getActiveVoiceCount(), "Each effect should hold a voice.");
+    }
+
+    @Test
+    void testFullMixerStealsFromTheSameEffectFirst() {
+        mixer.trigger(SoundEffect.COIN_COLLECTED);
+        tick++;
+        mixer.trigger(SoundEffect.PROJECTILE_FIRED);
+        tick++;
+        mixer.trigger(SoundEffect.COIN_COLLECTED);
+        tick++;
+
+        assertTrue(mixer.trigger(SoundEffect.PROJECTILE_FIRED), "A shot should steal a voice.");
+        assertEquals(List.of(SoundEffect.PROJECTILE_FIRED), stopped, "Only the earlier shot should be stopped.");
+        assertEquals(1, mixer.getStolenCount(), "One voice should have been stolen.");
+    }
+
+    @Test
+    void testLowerPriorityEffectIsDroppedWhenVoicesHoldHigherPriorities() {
+        mixer.trigger(SoundEffect.LIFE_LOST);
+        tick++;
+        mixer.trigger(SoundEffect.LEVEL_LOST);
+        tick++;
+        mixer.trigger(SoundEffect.LEVEL_WON);
+        tick++;
+
+        assertFalse(mixer.trigger(SoundEffect.COIN_COLLECTED), "A coin should not interrupt more important sounds.");
+        assertTrue(stopped.isEmpty(), "Nothing should be stopped for a dropped effect.");
+        assertEquals(1, mixer.getDroppedCount(), "The coin should be counted as dropped.");
+    }
+
+    @Test
+    void testHigherPriorityEffectStealsTheLowestPriorityVoice() {
+        mixer.trigger(SoundEffect.COIN_COLLECTED);
+        tick++;
+        mixer.trigger(SoundEffect.LIFE_LOST);
+        tick++;
+        mixer.trigger(SoundEffect.LEVEL_LOST);
+        tick++;
+
+        assertTrue(mixer.trigger(SoundEffect.LEVEL_WON), "The win sound should steal a voice.");
+        assertEquals(List.of(SoundEffect.COIN_COLLECTED), stopped, "The coin, the least important sound, should give way.");
+    }
+
+    @Test
+    void testVoicesAreFreedWhenTheirEffectEnds() {
+        mixer.trigger(SoundEffect.PROJECTILE_FIRED);
+        tick++;
+        mixer.trigger(SoundEffect.LIFE_LOST);
+        tick++;
+        mixer.trigger(SoundEffect.LEVEL_LOST);
+        tick++;
+        now += SoundEffect.PROJECTILE_FIRED.getLengthMillis() * MILLIS;
+
+        assertEquals(2, mixer.getActiveVoiceCount(), "The finished shot should free its voice.");
+        assertTrue(mixer.trigger(SoundEffect.COIN_COLLECTED), "A coin should take the free voice.");
+        assertTrue(stopped.isEmpty(), "No sound should be stolen while a voice is free.");
+    }
+
+    @Test
+    void testMutedMixerPlaysNothing() {
+        mixer.setMuted(true);
+
+        assertFalse(mixer.trigger(SoundEffect.LEVEL_WON), "A muted mixer should not play.");
+        assertTrue(played.isEmpty(), "Nothing should reach the output.");
+    }
+}
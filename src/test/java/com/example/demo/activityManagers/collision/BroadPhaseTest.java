@@ -0,0 +1,103 @@
+package com.example.demo.activityManagers.collision;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadPhaseTest {
+
+    private static final int ACTOR_COUNT = 300;
+
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+
+    @BeforeEach
+    void setUp() {
+        // Scatter sprite-sized boxes over a screen-sized area, including a few slightly off-screen
+        Random random = new Random(42);
+        minX = new double[ACTOR_COUNT];
+        minY = new double[ACTOR_COUNT];
+        maxX = new double[ACTOR_COUNT];
+        maxY = new double[ACTOR_COUNT];
+        for (int i = 0; i < ACTOR_COUNT; i++) {
+            minX[i] = random.nextDouble() * 1600 - 100;
+            minY[i] = random.nextDouble() * 900 - 50;
+            maxX[i] = minX[i] + 15 + random.nextDouble() * 120;
+            maxY[i] = minY[i] + 15 + random.nextDouble() * 80;
+        }
+    }
+
+    @Test
+    void testSweepAndPruneMatchesBruteForce() {
+        assertEquals(intersectingPairs(new BruteForceBroadPhase()), intersectingPairs(new SweepAndPruneBroadPhase()),
+                "Sweep-and-prune should find exactly the intersecting pairs found by brute force.");
+    }
+
+    @Test
+    void testUniformGridMatchesBruteForce() {
+        assertEquals(intersectingPairs(new BruteForceBroadPhase()), intersectingPairs(new UniformGridBroadPhase()),
+                "The uniform grid should find exactly the intersecting pairs found by brute force.");
+    }
+
+    @Test
+    void testSweepAndPruneAfterMovement() {
+        SweepAndPruneBroadPhase sweepAndPrune = new SweepAndPruneBroadPhase();
+        intersectingPairs(sweepAndPrune);
+
+        // Move every box left, as the scrolling actors do, and check the reused order is still correct
+        for (int i = 0; i < ACTOR_COUNT; i++) {
+            minX[i] -= 10 + (i % 7);
+            maxX[i] -= 10 + (i % 7);
+        }
+        assertEquals(intersectingPairs(new BruteForceBroadPhase()), intersectingPairs(sweepAndPrune),
+                "Sweep-and-prune should stay correct when reusing the previous frame's order.");
+    }
+
+    @Test
+    void testCandidatePairsAreReducedAndUnique() {
+        Set<Long> seen = new HashSet<>();
+        int[] reported = new int[1];
+        new UniformGridBroadPhase().findCandidatePairs(minX, minY, maxX, maxY, ACTOR_COUNT, (first, second) -> {
+            assertTrue(first < second, "Pairs should be reported with the lower index first.");
+            assertTrue(seen.add(((long) first << 32) | second), "Each pair should be reported only once.");
+            reported[0]++;
+        });
+
+        int bruteForcePairs = ACTOR_COUNT * (ACTOR_COUNT - 1) / 2;
+        assertTrue(reported[0] < bruteForcePairs / 10, "The grid should test far fewer pairs than brute force.");
+    }
+
+    @Test
+    void testTouchingBoxesAreReported() {
+        double[] left = {0, 10};
+        double[] top = {0, 0};
+        double[] right = {10, 20};
+        double[] bottom = {10, 10};
+
+        int[] reported = new int[1];
+        new SweepAndPruneBroadPhase().findCandidatePairs(left, top, right, bottom, 2, (first, second) -> reported[0]++);
+        assertEquals(1, reported[0], "Boxes sharing an edge should be reported, matching Bounds#intersects.");
+    }
+
+    /**
+     * Runs a broad phase and keeps only the candidate pairs that really intersect,
+     * which is what the collision handler does before handling a pair.
+     */
+    private Set<Long> intersectingPairs(BroadPhase broadPhase) {
+        Set<Long> pairs = new HashSet<>();
+        broadPhase.findCandidatePairs(minX, minY, maxX, maxY, ACTOR_COUNT, (first, second) -> {
+            if (minX[first] <= maxX[second] && minX[second] <= maxX[first]
+                    && minY[first] <= maxY[second] && minY[second] <= maxY[first]) {
+                pairs.add(((long) first << 32) | second);
+            }
+        });
+        return pairs;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.activityManagers.collision;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyGridTest {
+
+    private OccupancyGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new OccupancyGrid();
+    }
+
+    @Test
+    void testOverlapsMatchesLinearScan() {
+        // Insert sprite-sized boxes, including some spanning several cells and some off-screen
+        Random random = new Random(7);
+        int count = 200;
+        double[][] boxes = new double[count][];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 1600 - 100;
+            double y = random.nextDouble() * 900 - 50;
+            boxes[i] = new double[] {x, y, x + 15 + random.nextDouble() * 200, y + 15 + random.nextDouble() * 100};
+            grid.insert(boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3]);
+        }
+
+        for (int q = 0; q < 500; q++) {
+            double x = random.nextDouble() * 1600 - 100;
+            double y = random.nextDouble() * 900 - 50;
+            double[] query = {x, y, x + 50, y + 50};
+            boolean expected = false;
+            for (double[] box : boxes) {
+                expected |= query[0] < box[2] && box[0] < query[2] && query[1] < box[3] && box[1] < query[3];
+            }
+            assertEquals(expected, grid.overlaps(query[0], query[1], query[2], query[3]),
+                    "The grid should agree with a linear scan for query " + q + ".");
+        }
+    }
+
+    @Test
+    void testTouchingBoxesDoNotOverlap() {
+        grid.insert(0, 0, 50, 50);
+
+        assertFalse(grid.overlaps(50, 0, 100, 50), "A box sharing an edge should be free to place.");
+        assertTrue(grid.overlaps(49, 0, 100, 50), "A box crossing the edge should overlap.");
+    }
+
+    @Test
+    void testClearRemovesAllBoxes() {
+        grid.insert(0, 0, 50, 50);
+        grid.clear();
+
+        assertEquals(0, grid.size(), "The grid should be empty after clearing.");
+        assertFalse(grid.overlaps(0, 0, 50, 50), "Cleared regions should be free again.");
+    }
+}
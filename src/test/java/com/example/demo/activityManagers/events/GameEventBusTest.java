@@ -0,0 +1,81 @@
+package com.example.demo.activityManagers.events;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    private GameEventBus eventBus;
+    private List<GameEventType> received;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new GameEventBus(4);
+        received = new ArrayList<>();
+    }
+
+    @Test
+    void testEventsAreDeliveredOnDrainInOrder() {
+        eventBus.subscribe((type, source) -> received.add(type), GameEventType.KILL, GameEventType.COIN_COLLECTED);
+
+        eventBus.publish(GameEventType.KILL, null);
+        eventBus.publish(GameEventType.COIN_COLLECTED, null);
+        eventBus.publish(GameEventType.KILL, null);
+
+        assertTrue(received.isEmpty(), "Publishing should not run any listener.");
+        assertEquals(3, eventBus.drain(), "Every buffered event should be delivered.");
+        assertEquals(List.of(GameEventType.KILL, GameEventType.COIN_COLLECTED, GameEventType.KILL), received,
+                "Events should be delivered in the order they were published.");
+        assertEquals(0, eventBus.getPendingCount(), "The buffer should be empty after a drain.");
+    }
+
+    @Test
+    void testListenersOnlyReceiveTheirTypes() {
+        List<GameEventType> audio = new ArrayList<>();
+        eventBus.subscribe((type, source) -> received.add(type), GameEventType.KILL);
+        eventBus.subscribe((type, source) -> audio.add(type), GameEventType.LIFE_LOST);
+
+        eventBus.publish(GameEventType.LIFE_LOST, null);
+        eventBus.publish(GameEventType.MAGNET_PICKED, null);
+        eventBus.drain();
+
+        assertTrue(received.isEmpty(), "A listener should not receive types it did not subscribe to.");
+        assertEquals(List.of(GameEventType.LIFE_LOST), audio, "A listener should receive the types it subscribed to.");
+    }
+
+    @Test
+    void testBufferGrowsWithoutLosingEvents() {
+        eventBus.subscribe((type, source) -> received.add(type), GameEventType.values());
+        eventBus.publish(GameEventType.FUEL_PICKED, null);
+        eventBus.drain(); // Moves the head away from the start of the buffer
+
+        for (int i = 0; i < 10; i++) {
+            eventBus.publish(i % 2 == 0 ? GameEventType.KILL : GameEventType.COIN_COLLECTED, null);
+        }
+        received.clear();
+
+        assertEquals(16, eventBus.getCapacity(), "The buffer should double until the events fit.");
+        assertEquals(10, eventBus.drain(), "No event should be lost when the buffer grows.");
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i % 2 == 0 ? GameEventType.KILL : GameEventType.COIN_COLLECTED, received.get(i),
+                    "Events should keep their order when the buffer grows.");
+        }
+    }
+
+    @Test
+    void testEventsPublishedWhileDrainingAreDeliveredInTheSameDrain() {
+        eventBus.subscribe((type, source) -> eventBus.publish(GameEventType.COIN_COLLECTED, source),
+                GameEventType.KILL);
+        eventBus.subscribe((type, source) -> received.add(type), GameEventType.COIN_COLLECTED);
+
+        eventBus.publish(GameEventType.KILL, null);
+
+        assertEquals(2, eventBus.drain(), "The follow-up event should be delivered in the same drain.");
+        assertEquals(List.of(GameEventType.COIN_COLLECTED), received, "The follow-up event should be delivered.");
+    }
+}
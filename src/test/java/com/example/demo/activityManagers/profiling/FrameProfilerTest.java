@@ -0,0 +1,75 @@
+package com.example.demo.activityManagers.profiling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = FrameProfiler.getInstance();
+        profiler.reset();
+    }
+
+    @Test
+    void testScopesAreSummedPerTick() {
+        profiler.beginTick();
+        profiler.stop(FrameProfiler.Phase.SPAWNING, System.nanoTime() - 2_000_000);
+        profiler.stop(FrameProfiler.Phase.SPAWNING, System.nanoTime() - 3_000_000);
+        profiler.endTick();
+
+        assertTrue(profiler.getLastPhaseNanos(FrameProfiler.Phase.SPAWNING) >= 5_000_000,
+                "Both spawn scopes should count towards the tick.");
+        assertEquals(1, profiler.getHistogram(FrameProfiler.Phase.SPAWNING).getCount(),
+                "The phase should be recorded once per tick.");
+        assertEquals(0, profiler.getLastPhaseNanos(FrameProfiler.Phase.COLLISIONS),
+                "A phase that did not run should record zero.");
+        assertEquals(1, profiler.getTickHistogram().getCount(), "The tick should be recorded.");
+    }
+
+    @Test
+    void testPhaseTotalsStartOverEveryTick() {
+        profiler.beginTick();
+        profiler.stop(FrameProfiler.Phase.HUD, System.nanoTime() - 4_000_000);
+        profiler.endTick();
+        profiler.beginTick();
+        profiler.endTick();
+
+        assertTrue(profiler.getLastPhaseNanos(FrameProfiler.Phase.HUD) < 4_000_000,
+                "The second tick should not include the first tick's time.");
+        assertTrue(profiler.getHistogram(FrameProfiler.Phase.HUD).getMax() >= 4_000_000,
+                "The histogram should keep the first tick's time.");
+    }
+
+    @Test
+    void testEndTickWithoutBeginIsIgnored() {
+        profiler.endTick();
+
+        assertEquals(0, profiler.getTickHistogram().getCount(), "No tick should be recorded.");
+    }
+
+    @Test
+    void testFramesPerSecondIsMeasuredOverOneSecond() {
+        long start = 1_000_000_000L;
+        for (int frame = 0; frame <= 60; frame++) {
+            profiler.recordFrame(start + frame * 1_000_000_000L / 60);
+        }
+
+        assertEquals(60, profiler.getFramesPerSecond(), 0.5, "Sixty frames a second should be reported as 60 FPS.");
+    }
+
+    @Test
+    void testTimeToFirstFrameIsMeasuredOnce() {
+        profiler.markLevelRequested("TestLevel", 2_000_000_000L);
+        profiler.reset(); // Levels reset the profiler while they are being built
+        profiler.recordFrame(2_040_000_000L);
+        profiler.recordFrame(2_056_000_000L);
+
+        assertEquals(40_000_000L, profiler.getTimeToFirstFrameNanos(),
+                "Only the first frame after the request should end the measurement.");
+    }
+}
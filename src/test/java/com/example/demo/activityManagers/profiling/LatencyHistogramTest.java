@@ -0,0 +1,67 @@
+package com.example.demo.activityManagers.profiling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void testEmptyHistogramReportsZero() {
+        assertEquals(0, histogram.getPercentile(50), "An empty histogram should report zero.");
+        assertEquals(0, histogram.getMax(), "An empty histogram should have no maximum.");
+        assertEquals(0, histogram.getCount(), "An empty histogram should have no values.");
+    }
+
+    @Test
+    void testPercentilesAreWithinBucketPrecision() {
+        Random random = new Random(7);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + (long) (random.nextDouble() * random.nextDouble() * 20_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{50, 90, 99}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = histogram.getPercentile(percentile);
+            assertTrue(reported >= exact, "p" + percentile + " should not be under the true value.");
+            assertTrue(reported <= exact * 1.07, "p" + percentile + " should be within the bucket precision.");
+        }
+        assertEquals(values[values.length - 1], histogram.getMax(), "The maximum should be exact.");
+        assertEquals(values[values.length - 1], histogram.getPercentile(100), "p100 should be the maximum.");
+    }
+
+    @Test
+    void testBucketsCoverEveryValue() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1_000_003, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value, "The bucket of " + value + " should contain it.");
+            if (index > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < value, "The previous bucket should end below " + value + ".");
+            }
+        }
+    }
+
+    @Test
+    void testResetForgetsValues() {
+        histogram.record(5_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount(), "Reset should forget every value.");
+        assertEquals(0, histogram.getPercentile(99), "Reset should clear the buckets.");
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.activityManagers.replay;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRecordingTest {
+
+    private InputRecording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new InputRecording(3, -1234567890123L, List.of(
+                new InputEvent(0, KeyCode.UP, true),
+                new InputEvent(4, KeyCode.UP, false),
+                new InputEvent(4, KeyCode.SPACE, true),
+                new InputEvent(100_000, KeyCode.LEFT, true)));
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.write(out);
+
+        InputRecording read = InputRecording.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(3, read.getLevelNumber(), "The level number should survive a round trip.");
+        assertEquals(-1234567890123L, read.getSeed(), "The seed should survive a round trip.");
+        assertEquals(recording.getEvents(), read.getEvents(), "The events should survive a round trip.");
+    }
+
+    @Test
+    void testEventsAreCompact() throws IOException {
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        new InputRecording(1, 0, List.of()).write(empty);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new InputRecording(1, 0, List.of(
+                new InputEvent(1, KeyCode.UP, true),
+                new InputEvent(20, KeyCode.UP, false))).write(out);
+
+        int keyTableSize = 2 + "UP".length();
+        assertEquals(empty.size() + keyTableSize + 2 * 2, out.size(),
+                "An event a short time after the previous one should take two bytes.");
+    }
+
+    @Test
+    void testEventsOutOfOrderAreRejected() {
+        List<InputEvent> events = List.of(new InputEvent(5, KeyCode.UP, true), new InputEvent(4, KeyCode.UP, false));
+
+        assertThrows(IllegalArgumentException.class, () -> new InputRecording(1, 0, events),
+                "Events must be in tick order.");
+    }
+
+    @Test
+    void testOtherDataIsRejected() {
+        byte[] notARecording = "not a recording".getBytes();
+
+        assertThrows(IOException.class, () -> InputRecording.read(new ByteArrayInputStream(notARecording)),
+                "Data without the recording header should be rejected.");
+    }
+}
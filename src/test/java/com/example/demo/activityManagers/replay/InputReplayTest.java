@@ -0,0 +1,76 @@
+package com.example.demo.activityManagers.replay;
+
+import com.example.demo.activityManagers.InputHandler;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputReplayTest {
+
+    private InputHandler inputHandler;
+    private AtomicLong tickCount;
+    private List<String> actions;
+
+    @BeforeEach
+    void setUp() {
+        inputHandler = new InputHandler();
+        tickCount = new AtomicLong(100); // The game loop has already run other levels
+        actions = new ArrayList<>();
+        inputHandler.addKeyAction(KeyCode.UP,
+                entity -> actions.add(tickCount.get() + " up pressed"),
+                entity -> actions.add(tickCount.get() + " up released"));
+        inputHandler.addKeyAction(KeyCode.SPACE, entity -> actions.add(tickCount.get() + " fire"), null);
+    }
+
+    @Test
+    void testRecorderStampsEventsRelativeToTheLevel() {
+        InputRecorder recorder = new InputRecorder(2, 42, tickCount::get);
+        recorder.keyChanged(KeyCode.UP, true);
+        tickCount.addAndGet(3);
+        recorder.keyChanged(KeyCode.UP, false);
+
+        InputRecording recording = recorder.getRecording();
+
+        assertEquals(2, recording.getLevelNumber(), "The recording should name its level.");
+        assertEquals(42, recording.getSeed(), "The recording should keep the level's seed.");
+        assertEquals(List.of(new InputEvent(0, KeyCode.UP, true), new InputEvent(3, KeyCode.UP, false)),
+                recording.getEvents(), "Events should be stamped with the ticks since the level started.");
+    }
+
+    @Test
+    void testReplayDispatchesEventsAtTheirTicks() {
+        InputRecording recording = new InputRecording(1, 0, List.of(
+                new InputEvent(0, KeyCode.UP, true),
+                new InputEvent(2, KeyCode.UP, false),
+                new InputEvent(2, KeyCode.SPACE, true)));
+        InputReplay replay = new InputReplay(recording, inputHandler, null);
+
+        replay.start();
+        for (int tick = 1; tick <= 3; tick++) {
+            tickCount.incrementAndGet();
+            replay.update();
+        }
+
+        assertEquals(List.of("100 up pressed", "102 up released", "102 fire"), actions,
+                "Each event should be dispatched after the number of ticks it was recorded at.");
+        assertTrue(replay.isFinished(), "Every event should have been dispatched.");
+    }
+
+    @Test
+    void testLiveInputIsIgnoredWhileDisabled() {
+        List<KeyCode> recorded = new ArrayList<>();
+        inputHandler.setInputListener((keyCode, pressed) -> recorded.add(keyCode));
+        inputHandler.setLiveInputEnabled(false);
+
+        inputHandler.press(KeyCode.SPACE, null);
+
+        assertEquals(List.of("100 fire"), actions, "Replayed input should still trigger actions.");
+        assertTrue(recorded.isEmpty(), "Replayed input should not be recorded as live input.");
+    }
+}
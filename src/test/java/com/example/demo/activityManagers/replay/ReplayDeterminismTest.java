@@ -0,0 +1,151 @@
+package com.example.demo.activityManagers.replay;
+
+import com.example.demo.activityManagers.ActorManager;
+import com.example.demo.activityManagers.CollisionHandler;
+import com.example.demo.activityManagers.DespawnHandler;
+import com.example.demo.activityManagers.ImageCache;
+import com.example.demo.activityManagers.InputHandler;
+import com.example.demo.activityManagers.RandomStreams;
+import com.example.demo.activityManagers.SpawnDirector;
+import com.example.demo.activityManagers.SpawnRule;
+import com.example.demo.activityManagers.events.GameEventBus;
+import com.example.demo.actors.Planes.friendlyPlanes.UserParent;
+import com.example.demo.actors.Projectiles.enemyProjectiles.EnemyProjectile;
+import javafx.scene.Group;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayDeterminismTest {
+
+    private static final int INITIAL_HEALTH = 50;
+    private static final int TICKS = 600;
+
+    private ActorManager actorManager;
+
+    @BeforeEach
+    void setUp() {
+        ImageCache.getInstance().setHeadless(true);
+        actorManager = ActorManager.getInstance();
+        actorManager.clearLevel();
+        actorManager.setRoot(new Group());
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorManager.clearLevel();
+        ImageCache.getInstance().setHeadless(false);
+    }
+
+    @Test
+    void testReplayingARecordingTwiceEndsInTheSameState() {
+        List<InputEvent> events = new ArrayList<>();
+        for (int tick = 10; tick < TICKS; tick += 40) {
+            KeyCode key = (tick / 40) % 2 == 0 ? KeyCode.UP : KeyCode.DOWN;
+            events.add(new InputEvent(tick, key, true));
+            events.add(new InputEvent(tick + 15, key, false));
+        }
+        InputRecording recording = new InputRecording(1, 42, events);
+
+        String first = replay(recording);
+        actorManager.clearLevel();
+        String second = replay(recording);
+
+        assertEquals(first, second, "Replaying the same recording should end in the same state.");
+    }
+
+    @Test
+    void testCollisionCooldownLastsAFixedNumberOfTicks() {
+        TestVehicle user = new TestVehicle();
+
+        user.takeDamage();
+        user.takeDamage(); // Ignored during the cooldown
+        for (int tick = 1; tick < UserParent.COLLISION_COOLDOWN_TICKS; tick++) {
+            user.update();
+        }
+
+        assertEquals(INITIAL_HEALTH - 1, user.getHealth(), "Damage during the cooldown should be ignored.");
+        assertTrue(user.isCollisionCooldownActive(), "The cooldown should still be active a tick before it ends.");
+
+        user.update();
+
+        assertFalse(user.isCollisionCooldownActive(), "The cooldown should end after its number of ticks.");
+        assertEquals(1.0, user.getOpacity(), "The plane should be fully visible once the cooldown ends.");
+    }
+
+    /**
+     * Plays a recording against a stream of enemy projectiles, ticking the way a level does, and describes the state
+     * it ends in.
+     */
+    private String replay(InputRecording recording) {
+        TestVehicle user = new TestVehicle();
+        actorManager.addActor(user);
+
+        GameEventBus eventBus = new GameEventBus();
+        CollisionHandler collisionHandler = new CollisionHandler(eventBus);
+        DespawnHandler despawnHandler = new DespawnHandler(actorManager, 800, 600);
+        RandomStreams randomStreams = new RandomStreams(recording.getSeed());
+        RandomGenerator lanes = randomStreams.enemies();
+        SpawnDirector spawnDirector = new SpawnDirector(randomStreams.spawning());
+        spawnDirector.addSpawner(new SpawnRule(4, 0.3, SpawnRule.UNLIMITED),
+                () -> actorManager.getEnemyProjectiles().size(), count -> {
+                    for (int i = 0; i < count; i++) {
+                        actorManager.addActor(new EnemyProjectile(400, lanes.nextDouble(150, 450)));
+                    }
+                });
+
+        InputHandler inputHandler = new InputHandler();
+        inputHandler.setupInputHandlers(user, () -> user.setDirection(-1), () -> user.setDirection(0),
+                () -> user.setDirection(1), () -> user.setDirection(0),
+                null, null, null, null, null);
+        InputReplay replay = new InputReplay(recording, inputHandler, user);
+
+        replay.start();
+        for (int tick = 1; tick <= TICKS; tick++) {
+            actorManager.update();
+            if (!user.isCollisionCooldownActive()) {
+                collisionHandler.checkCollisions(actorManager.getActiveActors());
+            }
+            eventBus.drain();
+            despawnHandler.despawnOutsideWorld(actorManager.getEnemyProjectiles(), actor -> { });
+            spawnDirector.update();
+            replay.update();
+        }
+
+        assertTrue(user.getHealth() < INITIAL_HEALTH, "The session should have cost the user some lives.");
+        return "health=" + user.getHealth()
+                + " y=" + user.getPositionY()
+                + " cooldown=" + user.isCollisionCooldownActive()
+                + " events=" + eventBus.getPublishedCount()
+                + " projectiles=" + actorManager.getEnemyProjectiles().size();
+    }
+
+    /**
+     * A user vehicle that moves up and down, like the user plane, without needing the game's stage.
+     */
+    private static final class TestVehicle extends UserParent {
+
+        private int direction;
+
+        TestVehicle() {
+            super("userplane.png", 80, 80, 300, INITIAL_HEALTH, 0);
+        }
+
+        void setDirection(int direction) {
+            this.direction = direction;
+        }
+
+        @Override
+        public void update() {
+            super.update();
+            moveVertically(8 * direction);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.actors;
+
+import com.example.demo.activityManagers.ImageCache;
+import com.example.demo.actors.Projectiles.enemyProjectiles.EnemyProjectile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorBodyTest {
+
+    private ActorBody body;
+
+    @BeforeEach
+    void setUp() {
+        body = new ActorBody(40, 20, 100, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ImageCache.getInstance().setHeadless(false);
+    }
+
+    @Test
+    void testMovesKeepBoundsInStep() {
+        body.moveHorizontally(-10);
+        body.moveVertically(5);
+
+        assertEquals(90, body.getX(), "The X position should include the horizontal move.");
+        assertEquals(-10, body.getTranslateX(), "The move should be recorded as translation from the origin.");
+        assertEquals(90, body.getMinX(), "The left edge should follow the position.");
+        assertEquals(130, body.getMaxX(), "The right edge should follow the position.");
+        assertEquals(55, body.getMinY(), "The top edge should follow the position.");
+        assertEquals(75, body.getMaxY(), "The bottom edge should follow the position.");
+    }
+
+    @Test
+    void testRotationEnclosesRotatedSprite() {
+        body.setRotation(90);
+
+        assertEquals(110, body.getMinX(), 1e-9, "A quarter turn should swap width and height around the centre.");
+        assertEquals(130, body.getMaxX(), 1e-9, "A quarter turn should swap width and height around the centre.");
+        assertEquals(40, body.getMinY(), 1e-9, "A quarter turn should swap width and height around the centre.");
+        assertEquals(80, body.getMaxY(), 1e-9, "A quarter turn should swap width and height around the centre.");
+    }
+
+    @Test
+    void testMoveToKeepsOriginAndRespawnResets() {
+        body.savePreviousPosition();
+        body.moveTo(200, 60);
+
+        assertEquals(100, body.getOriginX(), "Moving should not change the origin.");
+        assertEquals(100, body.getTranslateX(), "Moving should be expressed as translation.");
+        assertEquals(100, body.getPreviousX(), "The previous position should be the start of the tick.");
+
+        body.setRotation(45);
+        body.respawnAt(0, 0);
+
+        assertEquals(0, body.getTranslateX(), "Respawning should clear the translation.");
+        assertEquals(0, body.getRotation(), "Respawning should clear the rotation.");
+        assertEquals(0, body.getPreviousX(), "Respawning is a jump and should not be interpolated.");
+        assertEquals(40, body.getMaxX(), "The bounds should be rebuilt at the new origin.");
+    }
+
+    @Test
+    void testTouchingBodiesIntersect() {
+        assertTrue(body.intersects(new ActorBody(10, 10, 140, 50)), "Bodies sharing an edge should intersect.");
+        assertFalse(body.intersects(new ActorBody(10, 10, 141, 50)), "Separate bodies should not intersect.");
+    }
+
+    @Test
+    void testHeadlessActorSimulatesWithoutImage() {
+        ImageCache.getInstance().setHeadless(true);
+        EnemyProjectile projectile = new EnemyProjectile(500, 100);
+
+        for (int i = 0; i < 1000; i++) {
+            projectile.update();
+        }
+
+        assertNull(projectile.getImage(), "No image should be decoded in headless mode.");
+        assertTrue(projectile.getBody().getWidth() > 0, "The sprite width should be read from the image header.");
+        assertEquals(500 - 10 * 1000, projectile.getPositionX(), "The projectile should move 10 pixels per tick.");
+        assertEquals(0, projectile.getTranslateX(), "Updates should not touch the scene graph until it is rendered.");
+    }
+}
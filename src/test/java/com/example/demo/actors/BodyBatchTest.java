@@ -0,0 +1,77 @@
+package com.example.demo.actors;
+
+import com.example.demo.actors.kernels.ScalarMotionKernel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BodyBatchTest {
+
+    private BodyBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        batch = new BodyBatch(new ScalarMotionKernel());
+    }
+
+    @Test
+    void testAdvanceMatchesIntegrate() {
+        ActorBody attached = new ActorBody(30, 10, 400, 200);
+        ActorBody reference = new ActorBody(30, 10, 400, 200);
+        attached.setVelocity(-6, 2);
+        reference.setVelocity(-6, 2);
+        attached.setRotation(90);
+        reference.setRotation(90);
+        batch.attach(attached);
+
+        for (int i = 0; i < 50; i++) {
+            batch.advance();
+            reference.integrate();
+        }
+
+        assertEquals(reference.getX(), attached.getX(), "The position should match integrating the body.");
+        assertEquals(reference.getTranslateY(), attached.getTranslateY(), "The translation should match.");
+        assertEquals(reference.getMinX(), attached.getMinX(), "The bounds should match.");
+        assertEquals(reference.getMaxY(), attached.getMaxY(), "The bounds should match.");
+    }
+
+    @Test
+    void testDetachKeepsStateAndCompactsSlots() {
+        ActorBody first = new ActorBody(10, 10, 0, 0);
+        ActorBody second = new ActorBody(10, 10, 100, 0);
+        first.setVelocity(1, 0);
+        second.setVelocity(0, 1);
+        batch.attach(first);
+        batch.attach(second);
+        batch.advance();
+
+        batch.detach(first);
+        batch.advance();
+
+        assertEquals(1, batch.size(), "Only one body should remain.");
+        assertSame(second, batch.get(0), "The last body should move into the freed slot.");
+        assertEquals(1, first.getX(), "A detached body should keep the state it had in the batch.");
+        assertEquals(2, second.getY(), "The remaining body should keep moving.");
+
+        first.moveHorizontally(5);
+        assertEquals(6, first.getMaxX() - 10, "A detached body should work on its own fields again.");
+    }
+
+    @Test
+    void testMutatorsWriteThroughToBatch() {
+        ActorBody body = new ActorBody(10, 10, 0, 0);
+        ActorBody reference = new ActorBody(10, 10, 0, 0);
+        batch.attach(body);
+
+        body.moveTo(50, 60);
+        body.setVelocity(3, -2);
+        reference.moveTo(50, 60);
+        reference.setVelocity(3, -2);
+        batch.advance();
+        reference.integrate();
+
+        assertEquals(reference.getMinX(), body.getMinX(), "The batch should advance the moved bounds.");
+        assertEquals(reference.getMaxY(), body.getMaxY(), "The batch should advance the moved bounds.");
+    }
+}
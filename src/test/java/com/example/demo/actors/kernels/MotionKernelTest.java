@@ -0,0 +1,62 @@
+package com.example.demo.actors.kernels;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MotionKernelTest {
+
+    private static final int COUNT = 1027; // Not a multiple of any vector width, so the scalar tail is exercised
+
+    private double[] positions, velocities;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(13);
+        positions = new double[COUNT];
+        velocities = new double[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            positions[i] = random.nextDouble() * 2000 - 200;
+            velocities[i] = random.nextInt(31) - 15;
+        }
+    }
+
+    @Test
+    void testScalarKernelAddsVelocities() {
+        double[] advanced = positions.clone();
+
+        new ScalarMotionKernel().advance(advanced, velocities, COUNT - 1);
+
+        for (int i = 0; i < COUNT - 1; i++) {
+            assertEquals(positions[i] + velocities[i], advanced[i], "Position " + i + " should move by its velocity.");
+        }
+        assertEquals(positions[COUNT - 1], advanced[COUNT - 1], "Elements past the count should not move.");
+    }
+
+    @Test
+    void testScalarKernelIsTheDefault() {
+        assertEquals("scalar", MotionKernels.select().getName(),
+                "The scalar kernel should be used unless the vector kernel is switched on.");
+    }
+
+    @Test
+    void testVectorKernelMatchesScalarKernel() {
+        Optional<MotionKernel> vectorKernel = MotionKernels.loadVectorKernel();
+        assumeTrue(vectorKernel.isPresent(), "Build with -Pvector to test the vector kernel.");
+        MotionKernel scalar = new ScalarMotionKernel();
+        MotionKernel vector = vectorKernel.get();
+
+        double[] scalarPositions = positions.clone();
+        double[] vectorPositions = positions.clone();
+        for (int tick = 0; tick < 100; tick++) {
+            scalar.advance(scalarPositions, velocities, COUNT);
+            vector.advance(vectorPositions, velocities, COUNT);
+        }
+        assertArrayEquals(scalarPositions, vectorPositions, "Both kernels should advance positions identically.");
+    }
+}
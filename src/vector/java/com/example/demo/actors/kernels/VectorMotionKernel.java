@@ -0,0 +1,47 @@
+package com.example.demo.actors.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@code VectorMotionKernel} processes as many elements per instruction as the CPU's preferred vector width allows,
+ * using the incubating {@code jdk.incubator.vector} API. Elements left over after the last full vector are processed
+ * one at a time, exactly as {@link ScalarMotionKernel} does, so both kernels give identical results.
+ * <p>
+ * This class lives in its own source folder and is only compiled by the {@code vector} Maven profile, which adds the
+ * incubating module to the build. The JVM must be started with {@code --add-modules jdk.incubator.vector};
+ * {@link MotionKernels} only loads this kernel when the module is present.
+ * </p>
+ */
+public class VectorMotionKernel implements MotionKernel {
+
+    /**
+     * The vector shape used by every loop: the widest the CPU handles natively.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Adds the velocities to the positions a full vector of lanes at a time, then finishes the tail one by one.
+     */
+    @Override
+    public void advance(double[] positions, double[] velocities, int count) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            DoubleVector position = DoubleVector.fromArray(SPECIES, positions, i);
+            position.add(DoubleVector.fromArray(SPECIES, velocities, i)).intoArray(positions, i);
+        }
+        for (; i < count; i++) {
+            positions[i] += velocities[i];
+        }
+    }
+
+    /**
+     * Returns the name of this kernel.
+     *
+     * @return {@code "vector"}.
+     */
+    @Override
+    public String getName() {
+        return "vector";
+    }
+}